@@ -0,0 +1,60 @@
+package org.infinispan.benchmarks;
+
+import java.util.UUID;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.remoting.transport.jgroups.JGroupsTransport;
+
+/**
+ * Creates the cache managers used by the benchmarks.
+ *
+ * @since 14.0
+ */
+final class BenchmarkCaches {
+   static final String CACHE_NAME = "benchmark";
+
+   private BenchmarkCaches() {
+   }
+
+   /**
+    * Starts a non-clustered cache manager with a single cache named {@link #CACHE_NAME}.
+    */
+   static EmbeddedCacheManager startLocal(ConfigurationBuilder builder) {
+      GlobalConfigurationBuilder global = new GlobalConfigurationBuilder().nonClusteredDefault();
+      global.cacheContainer().statistics(false);
+      return start(global, builder);
+   }
+
+   /**
+    * Starts a single node cluster, for the benchmarks of components only used by clustered caches.
+    * <p>
+    * The node uses a unique cluster name, so it doesn't join other clusters. The benchmarks should also set the
+    * {@code jgroups.bind.address} system property to the loopback address.
+    */
+   static EmbeddedCacheManager startClustered(ConfigurationBuilder builder) {
+      GlobalConfigurationBuilder global = GlobalConfigurationBuilder.defaultClusteredBuilder();
+      global.cacheContainer().statistics(false);
+      global.transport().clusterName("benchmark-" + UUID.randomUUID())
+            .addProperty(JGroupsTransport.CONFIGURATION_FILE, "default-configs/default-jgroups-tcp.xml");
+      return start(global, builder);
+   }
+
+   static <T> T component(Cache<?, ?> cache, Class<T> componentType) {
+      return cache.getAdvancedCache().getComponentRegistry().getComponent(componentType);
+   }
+
+   static <T> T component(Cache<?, ?> cache, Class<T> componentType, String name) {
+      return cache.getAdvancedCache().getComponentRegistry().getComponent(componentType, name);
+   }
+
+   private static EmbeddedCacheManager start(GlobalConfigurationBuilder global, ConfigurationBuilder builder) {
+      EmbeddedCacheManager cacheManager = new DefaultCacheManager(global.build());
+      cacheManager.defineConfiguration(CACHE_NAME, builder.build());
+      cacheManager.getCache(CACHE_NAME);
+      return cacheManager;
+   }
+}
@@ -0,0 +1,99 @@
+package org.infinispan.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Cache#get(Object)} and {@link Cache#put(Object, Object)} on local caches, from the simple cache
+ * without interceptors to a cache with statistics and invocation batching.
+ *
+ * @since 14.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch"})
+public class CacheBenchmark {
+
+   public enum CacheType {
+      /** {@code SimpleCacheImpl}, without an interceptor chain */
+      SIMPLE,
+      /** {@code CacheImpl} with the default interceptors */
+      LOCAL,
+      /** {@code CacheImpl} with statistics and invocation batching enabled */
+      LOCAL_FULL
+   }
+
+   @Param
+   CacheType cacheType;
+
+   @Param("100000")
+   int keySpace;
+
+   private EmbeddedCacheManager cacheManager;
+   private Cache<String, String> cache;
+   private String[] keys;
+
+   @Setup
+   public void setup() {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      switch (cacheType) {
+         case SIMPLE:
+            builder.simpleCache(true);
+            break;
+         case LOCAL_FULL:
+            builder.statistics().enable();
+            builder.invocationBatching().enable();
+            break;
+      }
+      cacheManager = BenchmarkCaches.startLocal(builder);
+      cache = cacheManager.getCache(BenchmarkCaches.CACHE_NAME);
+      keys = new String[keySpace];
+      for (int i = 0; i < keySpace; i++) {
+         keys[i] = "key-" + i;
+         cache.put(keys[i], "value-" + i);
+      }
+   }
+
+   @TearDown
+   public void tearDown() {
+      cacheManager.stop();
+   }
+
+   @Benchmark
+   public String get() {
+      return cache.get(randomKey());
+   }
+
+   @Benchmark
+   public String getMissing() {
+      return cache.get("missing");
+   }
+
+   @Benchmark
+   public String put() {
+      return cache.put(randomKey(), "new-value");
+   }
+
+   private String randomKey() {
+      return keys[ThreadLocalRandom.current().nextInt(keySpace)];
+   }
+}
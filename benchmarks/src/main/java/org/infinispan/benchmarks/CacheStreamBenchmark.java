@@ -0,0 +1,79 @@
+package org.infinispan.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.infinispan.Cache;
+import org.infinispan.CacheStream;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CacheStream} operations on a local cache, sequential and parallel.
+ *
+ * @since 14.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch"})
+public class CacheStreamBenchmark {
+
+   @Param({"false", "true"})
+   boolean parallel;
+
+   @Param("100000")
+   int entries;
+
+   private EmbeddedCacheManager cacheManager;
+   private Cache<Integer, Integer> cache;
+
+   @Setup
+   public void setup() {
+      cacheManager = BenchmarkCaches.startLocal(new ConfigurationBuilder());
+      cache = cacheManager.getCache(BenchmarkCaches.CACHE_NAME);
+      for (int i = 0; i < entries; i++) {
+         cache.put(i, i);
+      }
+   }
+
+   @TearDown
+   public void tearDown() {
+      cacheManager.stop();
+   }
+
+   @Benchmark
+   public long count() {
+      return stream().filter(v -> (v & 1) == 0).count();
+   }
+
+   @Benchmark
+   public long sum() {
+      return stream().mapToLong(Integer::longValue).sum();
+   }
+
+   @Benchmark
+   public List<Integer> collect() {
+      return stream().filter(v -> v % 100 == 0).collect(Collectors.toList());
+   }
+
+   private CacheStream<Integer> stream() {
+      CacheStream<Integer> stream = cache.values().stream();
+      return parallel ? stream.parallel() : stream;
+   }
+}
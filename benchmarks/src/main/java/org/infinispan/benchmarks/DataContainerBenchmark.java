@@ -0,0 +1,106 @@
+package org.infinispan.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.commons.marshall.WrappedByteArray;
+import org.infinispan.commons.marshall.WrappedBytes;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.StorageType;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.container.impl.InternalDataContainer;
+import org.infinispan.distribution.ch.KeyPartitioner;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.infinispan.metadata.Metadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the data containers used by local caches ({@code DefaultDataContainer} and {@code OffHeapDataContainer})
+ * and by clustered caches ({@code DefaultSegmentedDataContainer} with heap or off-heap segments).
+ * <p>
+ * The clustered containers are created by a distributed cache on a single node cluster.
+ *
+ * @since 14.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch", "-Djgroups.bind.address=127.0.0.1",
+      "-Djava.net.preferIPv4Stack=true"})
+public class DataContainerBenchmark {
+
+   @Param({"HEAP", "OFF_HEAP"})
+   StorageType storage;
+
+   @Param({"LOCAL", "DIST_SYNC"})
+   CacheMode cacheMode;
+
+   @Param("100000")
+   int keySpace;
+
+   private EmbeddedCacheManager cacheManager;
+   private InternalDataContainer<WrappedBytes, WrappedBytes> container;
+   private WrappedBytes[] keys;
+   private int[] segments;
+   private WrappedBytes value;
+   private Metadata metadata;
+
+   @Setup
+   @SuppressWarnings("unchecked")
+   public void setup() {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.clustering().cacheMode(cacheMode);
+      builder.memory().storage(storage);
+      cacheManager = cacheMode.isClustered() ? BenchmarkCaches.startClustered(builder) : BenchmarkCaches.startLocal(builder);
+      Cache<?, ?> cache = cacheManager.getCache(BenchmarkCaches.CACHE_NAME);
+      container = BenchmarkCaches.component(cache, InternalDataContainer.class);
+      KeyPartitioner keyPartitioner = BenchmarkCaches.component(cache, KeyPartitioner.class);
+      metadata = new EmbeddedMetadata.Builder().build();
+      value = bytes("value");
+      keys = new WrappedBytes[keySpace];
+      segments = new int[keySpace];
+      for (int i = 0; i < keySpace; i++) {
+         keys[i] = bytes("key-" + i);
+         segments[i] = keyPartitioner.getSegment(keys[i]);
+         container.put(segments[i], keys[i], value, metadata, null, -1, -1);
+      }
+   }
+
+   @TearDown
+   public void tearDown() {
+      cacheManager.stop();
+   }
+
+   @Benchmark
+   public InternalCacheEntry<WrappedBytes, WrappedBytes> peek() {
+      int i = ThreadLocalRandom.current().nextInt(keySpace);
+      return container.peek(segments[i], keys[i]);
+   }
+
+   @Benchmark
+   public void put() {
+      int i = ThreadLocalRandom.current().nextInt(keySpace);
+      container.put(segments[i], keys[i], value, metadata, null, -1, -1);
+   }
+
+   private static WrappedBytes bytes(String s) {
+      return new WrappedByteArray(s.getBytes(StandardCharsets.UTF_8));
+   }
+}
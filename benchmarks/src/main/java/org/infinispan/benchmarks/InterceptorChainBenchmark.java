@@ -0,0 +1,103 @@
+package org.infinispan.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.CommandsFactory;
+import org.infinispan.commands.read.GetKeyValueCommand;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.context.InvocationContextFactory;
+import org.infinispan.distribution.ch.KeyPartitioner;
+import org.infinispan.interceptors.AsyncInterceptorChain;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.infinispan.metadata.Metadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the invocation of commands through the {@link AsyncInterceptorChain} of a local cache, without the
+ * overhead of the {@link Cache} API (key and value conversion, flags and context creation are included).
+ *
+ * @since 14.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch"})
+public class InterceptorChainBenchmark {
+
+   @Param({"false", "true"})
+   boolean statistics;
+
+   @Param("100000")
+   int keySpace;
+
+   private EmbeddedCacheManager cacheManager;
+   private AsyncInterceptorChain chain;
+   private CommandsFactory commandsFactory;
+   private InvocationContextFactory contextFactory;
+   private KeyPartitioner keyPartitioner;
+   private Metadata metadata;
+   private String[] keys;
+
+   @Setup
+   public void setup() {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.statistics().enabled(statistics);
+      cacheManager = BenchmarkCaches.startLocal(builder);
+      Cache<String, String> cache = cacheManager.getCache(BenchmarkCaches.CACHE_NAME);
+      chain = BenchmarkCaches.component(cache, AsyncInterceptorChain.class);
+      commandsFactory = BenchmarkCaches.component(cache, CommandsFactory.class);
+      contextFactory = BenchmarkCaches.component(cache, InvocationContextFactory.class);
+      keyPartitioner = BenchmarkCaches.component(cache, KeyPartitioner.class);
+      metadata = new EmbeddedMetadata.Builder().build();
+      keys = new String[keySpace];
+      for (int i = 0; i < keySpace; i++) {
+         keys[i] = "key-" + i;
+         cache.put(keys[i], "value-" + i);
+      }
+   }
+
+   @TearDown
+   public void tearDown() {
+      cacheManager.stop();
+   }
+
+   @Benchmark
+   public Object invokeGet() {
+      String key = randomKey();
+      GetKeyValueCommand command = commandsFactory.buildGetKeyValueCommand(key, keyPartitioner.getSegment(key), 0);
+      InvocationContext ctx = contextFactory.createInvocationContext(false, 1);
+      return chain.invoke(ctx, command);
+   }
+
+   @Benchmark
+   public Object invokePut() {
+      String key = randomKey();
+      PutKeyValueCommand command =
+            commandsFactory.buildPutKeyValueCommand(key, "new-value", keyPartitioner.getSegment(key), metadata, 0);
+      InvocationContext ctx = contextFactory.createInvocationContext(true, 1);
+      ctx.setLockOwner(command.getKeyLockOwner());
+      return chain.invoke(ctx, command);
+   }
+
+   private String randomKey() {
+      return keys[ThreadLocalRandom.current().nextInt(keySpace)];
+   }
+}
@@ -0,0 +1,78 @@
+package org.infinispan.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.util.concurrent.locks.LockManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures acquiring and releasing a key lock with the {@code DefaultLockManager}, with per-entry locks and with lock
+ * striping.
+ * <p>
+ * Run with several threads ({@code -t}) and a small key space to measure contention.
+ *
+ * @since 14.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch"})
+public class LockManagerBenchmark {
+
+   @Param({"false", "true"})
+   boolean striping;
+
+   @Param("1000")
+   int keySpace;
+
+   private EmbeddedCacheManager cacheManager;
+   private LockManager lockManager;
+   private String[] keys;
+
+   @State(Scope.Thread)
+   public static class LockOwner {
+      final Object owner = new Object();
+   }
+
+   @Setup
+   public void setup() {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.locking().useLockStriping(striping);
+      cacheManager = BenchmarkCaches.startLocal(builder);
+      Cache<?, ?> cache = cacheManager.getCache(BenchmarkCaches.CACHE_NAME);
+      lockManager = BenchmarkCaches.component(cache, LockManager.class);
+      keys = new String[keySpace];
+      for (int i = 0; i < keySpace; i++) {
+         keys[i] = "key-" + i;
+      }
+   }
+
+   @TearDown
+   public void tearDown() {
+      cacheManager.stop();
+   }
+
+   @Benchmark
+   public void lockAndUnlock(LockOwner lockOwner) throws InterruptedException {
+      String key = keys[ThreadLocalRandom.current().nextInt(keySpace)];
+      lockManager.lock(key, lockOwner.owner, 10, TimeUnit.SECONDS).lock();
+      lockManager.unlock(key, lockOwner.owner);
+   }
+}
@@ -0,0 +1,96 @@
+package org.infinispan.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.CommandsFactory;
+import org.infinispan.commands.remote.SingleRpcCommand;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commons.marshall.Marshaller;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.marshall.persistence.PersistenceMarshaller;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.infinispan.metadata.Metadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the marshalling of a replicated write command with the {@code GlobalMarshaller}, and of entry metadata
+ * with the ProtoStream based persistence marshaller.
+ * <p>
+ * The command is created by a replicated cache on a single node cluster, so that it contains a cluster address.
+ *
+ * @since 14.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch", "-Djgroups.bind.address=127.0.0.1",
+      "-Djava.net.preferIPv4Stack=true"})
+public class MarshallingBenchmark {
+
+   private EmbeddedCacheManager cacheManager;
+   private Marshaller globalMarshaller;
+   private Marshaller persistenceMarshaller;
+   private SingleRpcCommand command;
+   private byte[] commandBytes;
+   private Metadata metadata;
+   private byte[] metadataBytes;
+
+   @Setup
+   public void setup() throws Exception {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.clustering().cacheMode(CacheMode.REPL_SYNC);
+      cacheManager = BenchmarkCaches.startClustered(builder);
+      Cache<?, ?> cache = cacheManager.getCache(BenchmarkCaches.CACHE_NAME);
+      globalMarshaller = cache.getAdvancedCache().getComponentRegistry().getInternalMarshaller();
+      persistenceMarshaller = BenchmarkCaches.component(cache, PersistenceMarshaller.class,
+                                                        KnownComponentNames.PERSISTENCE_MARSHALLER);
+      CommandsFactory commandsFactory = BenchmarkCaches.component(cache, CommandsFactory.class);
+
+      metadata = new EmbeddedMetadata.Builder().lifespan(1, TimeUnit.HOURS).maxIdle(10, TimeUnit.MINUTES).build();
+      PutKeyValueCommand put = commandsFactory.buildPutKeyValueCommand("key", "value", 0, metadata, 0);
+      command = commandsFactory.buildSingleRpcCommand(put);
+      commandBytes = globalMarshaller.objectToByteBuffer(command);
+      metadataBytes = persistenceMarshaller.objectToByteBuffer(metadata);
+   }
+
+   @TearDown
+   public void tearDown() {
+      cacheManager.stop();
+   }
+
+   @Benchmark
+   public byte[] marshallCommand() throws Exception {
+      return globalMarshaller.objectToByteBuffer(command);
+   }
+
+   @Benchmark
+   public Object unmarshallCommand() throws Exception {
+      return globalMarshaller.objectFromByteBuffer(commandBytes);
+   }
+
+   @Benchmark
+   public byte[] marshallMetadata() throws Exception {
+      return persistenceMarshaller.objectToByteBuffer(metadata);
+   }
+
+   @Benchmark
+   public Object unmarshallMetadata() throws Exception {
+      return persistenceMarshaller.objectFromByteBuffer(metadataBytes);
+   }
+}
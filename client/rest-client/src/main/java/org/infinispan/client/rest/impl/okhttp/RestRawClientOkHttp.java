@@ -43,7 +43,7 @@ public CompletionStage<RestResponse> postForm(String url, Map<String, String> he
    public CompletionStage<RestResponse> post(String url, String body, String bodyMediaType) {
       Request.Builder builder = new Request.Builder();
       builder.url(restClient.getBaseURL() + url);
-      builder.post(RequestBody.create(MediaType.parse(bodyMediaType), body));
+      builder.post(RequestBody.create(bodyMediaType == null ? null : MediaType.parse(bodyMediaType), body));
       return restClient.execute(builder);
    }
 
@@ -61,7 +61,7 @@ public CompletionStage<RestResponse> post(String url, Map<String, String> header
       Request.Builder builder = new Request.Builder();
       builder.url(restClient.getBaseURL() + url);
       headers.forEach(builder::header);
-      builder.post(RequestBody.create(MediaType.parse(bodyMediaType), body));
+      builder.post(RequestBody.create(bodyMediaType == null ? null : MediaType.parse(bodyMediaType), body));
       return restClient.execute(builder);
    }
 
@@ -139,4 +139,8 @@ public interface ProtoStreamTypeIds {
    int SPRING_NULL_VALUE = SPRING_LOWER_BOUND;
    int SPRING_SESSION = SPRING_LOWER_BOUND + 1;
    int SPRING_SESSION_ATTRIBUTE = SPRING_LOWER_BOUND + 2;
+
+   // RESP 6000 -> 6099
+   int RESP_LOWER_BOUND = 6000;
+   int RESP_COLLECTION_VALUE = RESP_LOWER_BOUND;
 }
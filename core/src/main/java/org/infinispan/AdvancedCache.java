@@ -646,6 +646,19 @@ default CompletableFuture<CacheEntry<K, V>> getCacheEntryAsync(Object key) {
     */
    Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys);
 
+   /**
+    * Asynchronous version of {@link #getAllCacheEntries(Set)}.
+    *
+    * @param keys The keys whose associated values are to be returned.
+    * @return A future with a map of entries that were found for the given keys. Keys not found in the cache are not
+    * present in the map.
+    * @throws NullPointerException if keys is null or if keys contains a null
+    * @since 14.0
+    */
+   default CompletableFuture<Map<K, CacheEntry<K, V>>> getAllCacheEntriesAsync(Set<?> keys) {
+      return CompletableFuture.completedFuture(getAllCacheEntries(keys));
+   }
+
    /**
     * Executes an equivalent of {@link Map#putAll(Map)}, returning previous values of the modified entries.
     *
@@ -61,6 +61,7 @@
 import org.infinispan.commons.dataconversion.MediaType;
 import org.infinispan.commons.dataconversion.Wrapper;
 import org.infinispan.commons.marshall.StreamingMarshaller;
+import org.infinispan.commons.time.TimeService;
 import org.infinispan.commons.util.EnumUtil;
 import org.infinispan.commons.util.InfinispanCollections;
 import org.infinispan.commons.util.Version;
@@ -92,6 +93,7 @@
 import org.infinispan.factories.impl.ComponentRef;
 import org.infinispan.factories.scopes.Scope;
 import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.functional.impl.FunctionalNotifier;
 import org.infinispan.functional.impl.Params;
 import org.infinispan.interceptors.AsyncInterceptorChain;
 import org.infinispan.jmx.annotations.DataType;
@@ -170,6 +172,8 @@
    @Inject StateTransferManager stateTransferManager;
    @Inject InvocationHelper invocationHelper;
    @Inject StorageConfigurationManager storageConfigurationManager;
+   @Inject FunctionalNotifier<K, V> functionalNotifier;
+   @Inject TimeService timeService;
    // TODO Remove after all ISPN-11584 is fixed and the AdvancedCache methods are implemented in EncoderCache
    @Inject ComponentRef<AdvancedCache> encoderCache;
 
@@ -178,6 +182,7 @@
    private volatile boolean stopping = false;
    private boolean transactional;
    private boolean batchingEnabled;
+   private LocalFastPath<K, V> fastPath;
    private final ContextBuilder nonTxContextBuilder = this::nonTxContextBuilder;
    private final ContextBuilder defaultBuilder = i -> invocationHelper.createInvocationContextWithImplicitTransaction(i, false);
 
@@ -194,6 +199,10 @@ public void preStart() {
       defaultMetadata = Configurations.newDefaultMetadata(config);
       transactional = config.transaction().transactionMode().isTransactional();
       batchingEnabled = config.invocationBatching().enabled();
+      if (LocalFastPath.isSupported(config)) {
+         fastPath = new LocalFastPath<>(config, componentRegistry, invoker, dataContainer, keyPartitioner, lockManager,
+               expirationManager, notifier, functionalNotifier, timeService);
+      }
    }
 
    private void assertKeyNotNull(Object key) {
@@ -221,6 +230,11 @@ private void assertFunctionNotNull(Object function) {
 
    @Override
    public final V put(K key, V value) {
+      LocalFastPath<K, V> fastPath = this.fastPath;
+      if (fastPath != null && fastPath.isEnabled()) {
+         assertKeyValueNotNull(key, value);
+         return fastPath.put(key, value, defaultMetadata);
+      }
       return put(key, value, defaultMetadata);
    }
 
@@ -532,6 +546,11 @@ public final boolean containsValue(Object value) {
 
    @Override
    public final V get(Object key) {
+      LocalFastPath<K, V> fastPath = this.fastPath;
+      if (fastPath != null && fastPath.isEnabled()) {
+         assertKeyNotNull(key);
+         return fastPath.get(key);
+      }
       return get(key, EnumUtil.EMPTY_BIT_SET, invocationContextFactory.createInvocationContext(false, 1));
    }
 
@@ -610,6 +629,21 @@ public final Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys,
       return map;
    }
 
+   @Override
+   public CompletableFuture<Map<K, CacheEntry<K, V>>> getAllCacheEntriesAsync(Set<?> keys) {
+      return getAllCacheEntriesAsync(keys, EnumUtil.EMPTY_BIT_SET,
+            invocationContextFactory.createInvocationContext(false, keys.size()));
+   }
+
+   final CompletableFuture<Map<K, CacheEntry<K, V>>> getAllCacheEntriesAsync(Set<?> keys,
+                                                                            long explicitFlags, InvocationContext ctx) {
+      GetAllCommand command = commandsFactory.buildGetAllCommand(keys, explicitFlags, true);
+      return invocationHelper.<Map<K, CacheEntry<K, V>>>invokeAsync(ctx, command).thenApply(map -> {
+         map.entrySet().removeIf(entry -> entry.getValue() == null);
+         return map;
+      });
+   }
+
    @Override
    public Map<K, V> getGroup(String groupName) {
       return getGroup(groupName, EnumUtil.EMPTY_BIT_SET);
@@ -532,6 +532,11 @@ public Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys) {
       return cacheImplementation.getAllCacheEntries(keys, flags, readContext(keys.size()));
    }
 
+   @Override
+   public CompletableFuture<Map<K, CacheEntry<K, V>>> getAllCacheEntriesAsync(Set<?> keys) {
+      return cacheImplementation.getAllCacheEntriesAsync(keys, flags, readContext(keys.size()));
+   }
+
    @Override
    public V put(K key, V value) {
       return put(key, value, cacheImplementation.defaultMetadata);
@@ -398,6 +398,11 @@ public Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys) {
       return decodeEntryMapForRead(returned);
    }
 
+   @Override
+   public CompletableFuture<Map<K, CacheEntry<K, V>>> getAllCacheEntriesAsync(Set<?> keys) {
+      return cache.getAllCacheEntriesAsync(encodeKeysForWrite(keys)).thenApply(this::decodeEntryMapForRead);
+   }
+
    @Override
    public Map<K, V> getGroup(String groupName) {
       Map<K, V> ret = cache.getGroup(groupName);
@@ -0,0 +1,199 @@
+package org.infinispan.cache.impl;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.infinispan.commons.CacheException;
+import org.infinispan.commons.time.TimeService;
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.container.impl.InternalDataContainer;
+import org.infinispan.distribution.ch.KeyPartitioner;
+import org.infinispan.expiration.impl.InternalExpirationManager;
+import org.infinispan.factories.ComponentRegistry;
+import org.infinispan.functional.impl.FunctionalNotifier;
+import org.infinispan.interceptors.AsyncInterceptor;
+import org.infinispan.interceptors.AsyncInterceptorChain;
+import org.infinispan.interceptors.impl.CacheMgmtInterceptor;
+import org.infinispan.interceptors.impl.CallInterceptor;
+import org.infinispan.interceptors.impl.EntryWrappingInterceptor;
+import org.infinispan.interceptors.impl.InvocationContextInterceptor;
+import org.infinispan.interceptors.impl.VersionInterceptor;
+import org.infinispan.interceptors.locking.NonTransactionalLockingInterceptor;
+import org.infinispan.lifecycle.ComponentStatus;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.notifications.cachelistener.CacheNotifier;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryExpired;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryVisited;
+import org.infinispan.util.concurrent.CompletionStages;
+import org.infinispan.util.concurrent.locks.LockManager;
+
+/**
+ * Executes {@link CacheImpl#get(Object)} and {@link CacheImpl#put(Object, Object)} directly on the {@link
+ * InternalDataContainer}, without creating a command, an invocation context or invocation stages.
+ * <p>
+ * The fast path is only created for local, non-transactional caches without stores, security, indexing or invocation
+ * batching. It is used while the interceptor chain contains only the interceptors installed for such a cache and no
+ * listener is registered, otherwise the operations are invoked through the interceptor chain.
+ * <p>
+ * The statistics and the expiration are handled as the interceptors would. A put still acquires the lock of the key,
+ * so that it cannot interleave with a conditional write invoked through the interceptor chain.
+ *
+ * @since 14.0
+ */
+final class LocalFastPath<K, V> {
+   private static final Set<Class<?>> SUPPORTED_INTERCEPTORS = new HashSet<>(Arrays.asList(
+         InvocationContextInterceptor.class, VersionInterceptor.class, CacheMgmtInterceptor.class,
+         NonTransactionalLockingInterceptor.class, EntryWrappingInterceptor.class, CallInterceptor.class));
+
+   private final ComponentRegistry componentRegistry;
+   private final AsyncInterceptorChain interceptorChain;
+   private final InternalDataContainer<K, V> dataContainer;
+   private final KeyPartitioner keyPartitioner;
+   private final LockManager lockManager;
+   private final InternalExpirationManager<K, V> expirationManager;
+   private final CacheNotifier<K, V> notifier;
+   private final FunctionalNotifier<K, V> functionalNotifier;
+   private final TimeService timeService;
+   private final long lockTimeout;
+   private final boolean returnValues;
+
+   private volatile ChainState chainState;
+
+   LocalFastPath(Configuration configuration, ComponentRegistry componentRegistry,
+                 AsyncInterceptorChain interceptorChain, InternalDataContainer<K, V> dataContainer,
+                 KeyPartitioner keyPartitioner, LockManager lockManager,
+                 InternalExpirationManager<K, V> expirationManager, CacheNotifier<K, V> notifier,
+                 FunctionalNotifier<K, V> functionalNotifier, TimeService timeService) {
+      this.componentRegistry = componentRegistry;
+      this.interceptorChain = interceptorChain;
+      this.dataContainer = dataContainer;
+      this.keyPartitioner = keyPartitioner;
+      this.lockManager = lockManager;
+      this.expirationManager = expirationManager;
+      this.notifier = notifier;
+      this.functionalNotifier = functionalNotifier;
+      this.timeService = timeService;
+      this.lockTimeout = configuration.locking().lockAcquisitionTimeout();
+      this.returnValues = !configuration.unsafe().unreliableReturnValues();
+   }
+
+   /**
+    * @return {@code true} if the configuration allows the fast path.
+    */
+   static boolean isSupported(Configuration configuration) {
+      return !configuration.clustering().cacheMode().isClustered() &&
+            !configuration.transaction().transactionMode().isTransactional() &&
+            !configuration.persistence().usingStores() &&
+            !configuration.security().authorization().enabled() &&
+            !configuration.indexing().enabled() &&
+            !configuration.invocationBatching().enabled();
+   }
+
+   /**
+    * @return {@code true} if the next operation can use the fast path.
+    */
+   boolean isEnabled() {
+      return componentRegistry.getStatus() == ComponentStatus.RUNNING && chainState().supported && !hasListeners();
+   }
+
+   V get(Object key) {
+      CacheMgmtInterceptor statistics = statistics();
+      long start = statistics != null ? timeService.time() : 0;
+      InternalCacheEntry<K, V> entry = readEntry(keyPartitioner.getSegment(key), key, false);
+      V value = entry != null ? entry.getValue() : null;
+      if (statistics != null) {
+         statistics.addDataRead(value != null, timeService.timeDuration(start, NANOSECONDS));
+      }
+      return value;
+   }
+
+   V put(K key, V value, Metadata metadata) {
+      CacheMgmtInterceptor statistics = statistics();
+      long start = statistics != null ? timeService.time() : 0;
+      // non-transactional lock owners are commands, so the thread cannot be the owner of another lock
+      Object lockOwner = Thread.currentThread();
+      V previousValue = null;
+      try {
+         lockManager.lock(key, lockOwner, lockTimeout, MILLISECONDS).lock();
+         int segment = keyPartitioner.getSegment(key);
+         // an expired entry is removed, so the new entry doesn't inherit its timestamps
+         InternalCacheEntry<K, V> previous = readEntry(segment, key, true);
+         if (returnValues && previous != null) {
+            previousValue = previous.getValue();
+         }
+         dataContainer.put(segment, key, value, metadata, null, -1, -1);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new CacheException(e);
+      } finally {
+         lockManager.unlock(key, lockOwner);
+      }
+      if (statistics != null) {
+         statistics.addDataWrite(timeService.timeDuration(start, NANOSECONDS));
+      }
+      return previousValue;
+   }
+
+   /**
+    * Reads the entry like {@link org.infinispan.container.impl.EntryFactory} does, removing it if expired or updating
+    * its last access time.
+    */
+   private InternalCacheEntry<K, V> readEntry(int segment, Object key, boolean hasLock) {
+      InternalCacheEntry<K, V> entry = dataContainer.peek(segment, key);
+      if (entry != null && entry.canExpire() &&
+            CompletionStages.join(expirationManager.handlePossibleExpiration(entry, segment, hasLock))) {
+         return null;
+      }
+      return entry;
+   }
+
+   private CacheMgmtInterceptor statistics() {
+      CacheMgmtInterceptor statistics = chainState().statistics;
+      return statistics != null && statistics.getStatisticsEnabled() ? statistics : null;
+   }
+
+   private boolean hasListeners() {
+      return notifier.hasListener(CacheEntryCreated.class) || notifier.hasListener(CacheEntryModified.class) ||
+            notifier.hasListener(CacheEntryVisited.class) || notifier.hasListener(CacheEntryExpired.class) ||
+            functionalNotifier.hasListeners();
+   }
+
+   private ChainState chainState() {
+      // the interceptor list is replaced every time the chain is modified
+      List<AsyncInterceptor> interceptors = interceptorChain.getInterceptors();
+      ChainState state = chainState;
+      if (state == null || state.interceptors != interceptors) {
+         state = new ChainState(interceptors);
+         chainState = state;
+      }
+      return state;
+   }
+
+   private static final class ChainState {
+      final List<AsyncInterceptor> interceptors;
+      final boolean supported;
+      final CacheMgmtInterceptor statistics;
+
+      ChainState(List<AsyncInterceptor> interceptors) {
+         this.interceptors = interceptors;
+         boolean supported = true;
+         CacheMgmtInterceptor statistics = null;
+         for (AsyncInterceptor interceptor : interceptors) {
+            supported &= SUPPORTED_INTERCEPTORS.contains(interceptor.getClass());
+            if (interceptor.getClass() == CacheMgmtInterceptor.class) {
+               statistics = (CacheMgmtInterceptor) interceptor;
+            }
+         }
+         this.supported = supported;
+         this.statistics = statistics;
+      }
+   }
+}
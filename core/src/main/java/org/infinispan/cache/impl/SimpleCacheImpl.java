@@ -269,6 +269,11 @@ public CompletableFuture<CacheEntry<K, V>> getCacheEntryAsync(Object key) {
       return CompletableFuture.completedFuture(getCacheEntry(key));
    }
 
+   @Override
+   public CompletableFuture<Map<K, CacheEntry<K, V>>> getAllCacheEntriesAsync(Set<?> keys) {
+      return CompletableFuture.completedFuture(getAllCacheEntries(keys));
+   }
+
    @Override
    public Map<K, CacheEntry<K, V>> getAllCacheEntries(Set<?> keys) {
       Map<K, CacheEntry<K, V>> map = new HashMap<>(keys.size());
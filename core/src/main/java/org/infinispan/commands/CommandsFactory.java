@@ -54,6 +54,8 @@
 import org.infinispan.commands.remote.recovery.GetInDoubtTransactionsCommand;
 import org.infinispan.commands.remote.recovery.GetInDoubtTxInfoCommand;
 import org.infinispan.commands.remote.recovery.TxCompletionNotificationCommand;
+import org.infinispan.commands.statetransfer.ConflictResolutionGetEntriesCommand;
+import org.infinispan.commands.statetransfer.ConflictResolutionGetHashTreesCommand;
 import org.infinispan.commands.statetransfer.ConflictResolutionStartCommand;
 import org.infinispan.commands.statetransfer.ScatteredStateConfirmRevokedCommand;
 import org.infinispan.commands.statetransfer.ScatteredStateGetKeysCommand;
@@ -451,6 +453,10 @@ default SingleRpcCommand buildSingleRpcCommand(ReplicableCommand call) {
 
    ConflictResolutionStartCommand buildConflictResolutionStartCommand(int topologyId, IntSet segments);
 
+   ConflictResolutionGetHashTreesCommand buildConflictResolutionGetHashTreesCommand(int topologyId, IntSet segments);
+
+   ConflictResolutionGetEntriesCommand buildConflictResolutionGetEntriesCommand(int topologyId, IntSet segments, long leafMask);
+
    StateTransferCancelCommand buildStateTransferCancelCommand(int topologyId, IntSet segments);
 
    StateTransferGetListenersCommand buildStateTransferGetListenersCommand(int topologyId);
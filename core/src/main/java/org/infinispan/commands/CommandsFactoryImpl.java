@@ -55,6 +55,8 @@
 import org.infinispan.commands.remote.recovery.GetInDoubtTransactionsCommand;
 import org.infinispan.commands.remote.recovery.GetInDoubtTxInfoCommand;
 import org.infinispan.commands.remote.recovery.TxCompletionNotificationCommand;
+import org.infinispan.commands.statetransfer.ConflictResolutionGetEntriesCommand;
+import org.infinispan.commands.statetransfer.ConflictResolutionGetHashTreesCommand;
 import org.infinispan.commands.statetransfer.ConflictResolutionStartCommand;
 import org.infinispan.commands.statetransfer.ScatteredStateConfirmRevokedCommand;
 import org.infinispan.commands.statetransfer.ScatteredStateGetKeysCommand;
@@ -356,6 +358,16 @@ public ConflictResolutionStartCommand buildConflictResolutionStartCommand(int to
       return new ConflictResolutionStartCommand(cacheName, topologyId, segments);
    }
 
+   @Override
+   public ConflictResolutionGetHashTreesCommand buildConflictResolutionGetHashTreesCommand(int topologyId, IntSet segments) {
+      return new ConflictResolutionGetHashTreesCommand(cacheName, topologyId, segments);
+   }
+
+   @Override
+   public ConflictResolutionGetEntriesCommand buildConflictResolutionGetEntriesCommand(int topologyId, IntSet segments, long leafMask) {
+      return new ConflictResolutionGetEntriesCommand(cacheName, topologyId, segments, leafMask);
+   }
+
    @Override
    public ScatteredStateConfirmRevokedCommand buildScatteredStateConfirmRevokeCommand(int topologyId, IntSet segments) {
       return new ScatteredStateConfirmRevokedCommand(cacheName, topologyId, segments);
@@ -785,6 +797,6 @@ public IracTombstonePrimaryCheckCommand buildIracTombstonePrimaryCheckCommand(in
 
    @Override
    public IracPutManyCommand buildIracPutManyCommand(int capacity) {
-      return new IracPutManyCommand(cacheName, capacity);
+      return new IracPutManyCommand(cacheName, capacity, configuration.sites().compressUpdates() ? marshaller : null);
    }
 }
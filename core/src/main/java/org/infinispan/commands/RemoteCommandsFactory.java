@@ -42,6 +42,8 @@
 import org.infinispan.commands.remote.recovery.GetInDoubtTransactionsCommand;
 import org.infinispan.commands.remote.recovery.GetInDoubtTxInfoCommand;
 import org.infinispan.commands.remote.recovery.TxCompletionNotificationCommand;
+import org.infinispan.commands.statetransfer.ConflictResolutionGetEntriesCommand;
+import org.infinispan.commands.statetransfer.ConflictResolutionGetHashTreesCommand;
 import org.infinispan.commands.statetransfer.ConflictResolutionStartCommand;
 import org.infinispan.commands.statetransfer.ScatteredStateConfirmRevokedCommand;
 import org.infinispan.commands.statetransfer.ScatteredStateGetKeysCommand;
@@ -86,11 +88,13 @@
 import org.infinispan.commands.write.RemoveExpiredCommand;
 import org.infinispan.commands.write.ReplaceCommand;
 import org.infinispan.commons.CacheException;
+import org.infinispan.commons.marshall.StreamingMarshaller;
 import org.infinispan.expiration.impl.TouchCommand;
 import org.infinispan.factories.GlobalComponentRegistry;
 import org.infinispan.factories.KnownComponentNames;
 import org.infinispan.factories.annotations.ComponentName;
 import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.impl.ComponentRef;
 import org.infinispan.factories.scopes.Scope;
 import org.infinispan.factories.scopes.Scopes;
 import org.infinispan.manager.EmbeddedCacheManager;
@@ -137,6 +141,9 @@ public class RemoteCommandsFactory {
    @Inject GlobalComponentRegistry globalComponentRegistry;
    @Inject @ComponentName(KnownComponentNames.MODULE_COMMAND_FACTORIES)
    Map<Byte,ModuleCommandFactory> commandFactories;
+   // A reference, because the marshaller depends on this factory
+   @Inject @ComponentName(KnownComponentNames.INTERNAL_MARSHALLER)
+   ComponentRef<StreamingMarshaller> internalMarshaller;
 
    /**
     * Creates an un-initialized command.  Un-initialized in the sense that parameters will be set, but any components
@@ -328,6 +335,12 @@ public CacheRpcCommand fromStream(byte id, byte type, ByteString cacheName) {
             case ClusteredGetCommand.COMMAND_ID:
                command = new ClusteredGetCommand(cacheName);
                break;
+            case ConflictResolutionGetEntriesCommand.COMMAND_ID:
+               command = new ConflictResolutionGetEntriesCommand(cacheName);
+               break;
+            case ConflictResolutionGetHashTreesCommand.COMMAND_ID:
+               command = new ConflictResolutionGetHashTreesCommand(cacheName);
+               break;
             case ConflictResolutionStartCommand.COMMAND_ID:
                command = new ConflictResolutionStartCommand(cacheName);
                break;
@@ -497,7 +510,10 @@ public CacheRpcCommand fromStream(byte id, byte type, ByteString cacheName) {
                command = new IracTombstonePrimaryCheckCommand(cacheName);
                break;
             case IracPutManyCommand.COMMAND_ID:
-               command = new IracPutManyCommand(cacheName);
+               command = new IracPutManyCommand(cacheName, null);
+               break;
+            case IracPutManyCommand.COMPRESSED_COMMAND_ID:
+               command = new IracPutManyCommand(cacheName, internalMarshaller.wired());
                break;
             default:
                throw new CacheException("Unknown command id " + id + "!");
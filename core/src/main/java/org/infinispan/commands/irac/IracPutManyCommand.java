@@ -4,12 +4,20 @@
 import static org.infinispan.commons.marshall.MarshallUtil.unmarshallCollection;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
-
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+import org.infinispan.commons.io.LazyByteArrayOutputStream;
+import org.infinispan.commons.marshall.MarshallUtil;
+import org.infinispan.commons.marshall.Marshaller;
 import org.infinispan.commons.util.IntSet;
 import org.infinispan.commons.util.IntSets;
 import org.infinispan.commons.util.Util;
@@ -30,6 +38,11 @@
  * <p>
  * The element order in {@code updateList} is important because the reply will be a {@link IntSet} with the position of
  * the failed keys.
+ * <p>
+ * If compression is enabled, the updates are marshalled and deflated as a single payload, which is inflated when the
+ * command is read in the remote site. The compressed commands have their own {@link #COMPRESSED_COMMAND_ID}, so the
+ * format of the uncompressed commands is the same as in the previous versions, and only the sites that enable
+ * compression must be able to read the compressed ones.
  *
  * @since 14.0
  */
@@ -38,24 +51,41 @@ public class IracPutManyCommand extends IracUpdateKeyCommand<IntSet> {
    private static final Log log = LogFactory.getLog(IracPutManyCommand.class);
 
    public static final byte COMMAND_ID = 48;
+   public static final byte COMPRESSED_COMMAND_ID = 125;
 
    private static final byte WRITE = 0;
    private static final byte REMOVE = 1;
    private static final byte EXPIRE = 2;
 
+   private final Marshaller marshaller;
+   private boolean compress;
    private List<Update> updateList;
 
    @SuppressWarnings("unused")
    public IracPutManyCommand() {
-      super(COMMAND_ID, null);
+      this(null, null);
    }
 
-   public IracPutManyCommand(ByteString cacheName) {
+   /**
+    * @param marshaller the marshaller used to read the compressed updates, or {@code null} if they are uncompressed.
+    */
+   public IracPutManyCommand(ByteString cacheName, Marshaller marshaller) {
       super(COMMAND_ID, cacheName);
+      this.marshaller = marshaller;
+      compress = marshaller != null;
    }
 
    public IracPutManyCommand(ByteString cacheName, int maxCapacity) {
+      this(cacheName, maxCapacity, null);
+   }
+
+   /**
+    * @param marshaller the marshaller used to compress the updates, or {@code null} to send them uncompressed.
+    */
+   public IracPutManyCommand(ByteString cacheName, int maxCapacity, Marshaller marshaller) {
       super(COMMAND_ID, cacheName);
+      this.marshaller = marshaller;
+      compress = marshaller != null;
       updateList = new ArrayList<>(maxCapacity);
    }
 
@@ -78,17 +108,28 @@ public CompletionStage<IntSet> executeOperation(BackupReceiver receiver) {
 
    @Override
    public byte getCommandId() {
-      return COMMAND_ID;
+      return compress ? COMPRESSED_COMMAND_ID : COMMAND_ID;
    }
 
    @Override
    public void writeTo(ObjectOutput output) throws IOException {
-      marshallCollection(updateList, output, IracPutManyCommand::writeUpdateTo);
+      if (compress) {
+         byte[] payload = marshallUpdates();
+         output.writeInt(payload.length);
+         MarshallUtil.marshallByteArray(deflate(payload), output);
+      } else {
+         marshallCollection(updateList, output, IracPutManyCommand::writeUpdateTo);
+      }
    }
 
    @Override
    public void readFrom(ObjectInput input) throws IOException, ClassNotFoundException {
-      updateList = unmarshallCollection(input, ArrayList::new, IracPutManyCommand::readUpdateFrom);
+      if (compress) {
+         int length = input.readInt();
+         updateList = unmarshallUpdates(inflate(MarshallUtil.unmarshallByteArray(input), length));
+      } else {
+         updateList = unmarshallCollection(input, ArrayList::new, IracPutManyCommand::readUpdateFrom);
+      }
    }
 
    @Override
@@ -96,6 +137,7 @@ public String toString() {
       return "IracPutManyCommand{" +
             "cacheName=" + cacheName +
             ", originSite='" + originSite + '\'' +
+            ", compress=" + compress +
             ", updateList=" + Util.toStr(updateList) +
             '}';
    }
@@ -112,6 +154,76 @@ public void addExpire(Object key, IracMetadata tombstone) {
       updateList.add(new Expire(key, tombstone));
    }
 
+   private byte[] marshallUpdates() throws IOException {
+      List<Object> objects = new ArrayList<>(updateList.size() * 5);
+      for (Update update : updateList) {
+         objects.add(update.getType());
+         update.addTo(objects);
+      }
+      try {
+         return marshaller.objectToByteBuffer(objects.toArray());
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new InterruptedIOException();
+      }
+   }
+
+   private List<Update> unmarshallUpdates(byte[] payload) throws IOException, ClassNotFoundException {
+      Object[] objects = (Object[]) marshaller.objectFromByteBuffer(payload);
+      List<Update> updates = new ArrayList<>();
+      int i = 0;
+      while (i < objects.length) {
+         byte type = (Byte) objects[i++];
+         Object key = objects[i++];
+         IracMetadata iracMetadata = (IracMetadata) objects[i++];
+         switch (type) {
+            case WRITE:
+               updates.add(new Write(key, iracMetadata, objects[i++], (Metadata) objects[i++]));
+               break;
+            case REMOVE:
+               updates.add(new Remove(key, iracMetadata));
+               break;
+            case EXPIRE:
+               updates.add(new Expire(key, iracMetadata));
+               break;
+            default:
+               throw new IllegalStateException();
+         }
+      }
+      return updates;
+   }
+
+   private static byte[] deflate(byte[] bytes) throws IOException {
+      LazyByteArrayOutputStream out = new LazyByteArrayOutputStream(Math.max(bytes.length / 2, 64));
+      Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+      try (DeflaterOutputStream stream = new DeflaterOutputStream(out, deflater)) {
+         stream.write(bytes);
+      } finally {
+         deflater.end();
+      }
+      return out.getTrimmedBuffer();
+   }
+
+   private static byte[] inflate(byte[] bytes, int length) throws IOException {
+      byte[] result = new byte[length];
+      Inflater inflater = new Inflater();
+      try {
+         inflater.setInput(bytes);
+         int read = 0;
+         while (read < length && !inflater.finished()) {
+            read += inflater.inflate(result, read, length - read);
+         }
+         if (read != length) {
+            throw new IOException("Expected " + length + " bytes but inflated " + read);
+         }
+      } catch (DataFormatException e) {
+         throw new IOException(e);
+      } finally {
+         inflater.end();
+      }
+      return result;
+   }
+
    private static void writeUpdateTo(ObjectOutput output, Update update) throws IOException {
       output.writeByte(update.getType());
       update.writeTo(output);
@@ -135,6 +247,8 @@ private interface Update {
       CompletionStage<Void> execute(BackupReceiver backupReceiver);
 
       void writeTo(ObjectOutput output) throws IOException;
+
+      void addTo(List<Object> objects);
    }
 
    private static class Remove implements Update {
@@ -163,6 +277,12 @@ public void writeTo(ObjectOutput output) throws IOException {
          IracMetadata.writeTo(output, iracMetadata);
       }
 
+      @Override
+      public void addTo(List<Object> objects) {
+         objects.add(key);
+         objects.add(iracMetadata);
+      }
+
       @Override
       public String toString() {
          return "Remove{" +
@@ -225,6 +345,13 @@ public void writeTo(ObjectOutput output) throws IOException {
          output.writeObject(metadata);
       }
 
+      @Override
+      public void addTo(List<Object> objects) {
+         super.addTo(objects);
+         objects.add(value);
+         objects.add(metadata);
+      }
+
       @Override
       public String toString() {
          return "Write{" +
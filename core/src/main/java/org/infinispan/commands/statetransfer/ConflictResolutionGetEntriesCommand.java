@@ -0,0 +1,81 @@
+package org.infinispan.commands.statetransfer;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.infinispan.commons.util.IntSet;
+import org.infinispan.conflict.impl.SegmentHashTree;
+import org.infinispan.container.entries.InternalCacheEntry;
+import org.infinispan.container.impl.InternalDataContainer;
+import org.infinispan.factories.ComponentRegistry;
+import org.infinispan.util.ByteString;
+
+/**
+ * Retrieve the entries of a segment which are assigned to the given leaves of its {@link SegmentHashTree}, so that
+ * conflict resolution only transfers the entries of the leaves that differ between replicas.
+ *
+ * @since 14.0
+ */
+public class ConflictResolutionGetEntriesCommand extends AbstractStateTransferCommand {
+
+   public static final byte COMMAND_ID = 123;
+
+   private long leafMask;
+
+   // For command id uniqueness test only
+   public ConflictResolutionGetEntriesCommand() {
+      this(null);
+   }
+
+   public ConflictResolutionGetEntriesCommand(ByteString cacheName) {
+      super(COMMAND_ID, cacheName);
+   }
+
+   public ConflictResolutionGetEntriesCommand(ByteString cacheName, int topologyId, IntSet segments, long leafMask) {
+      super(COMMAND_ID, cacheName, topologyId, segments);
+      this.leafMask = leafMask;
+   }
+
+   @Override
+   public CompletionStage<List<InternalCacheEntry<Object, Object>>> invokeAsync(ComponentRegistry registry) throws Throwable {
+      InternalDataContainer<Object, Object> dataContainer = registry.getInternalDataContainer().running();
+      List<InternalCacheEntry<Object, Object>> entries = new ArrayList<>();
+      dataContainer.forEach(segments, ice -> {
+         if (SegmentHashTree.isInLeaves(ice.getKey(), leafMask)) {
+            entries.add(ice);
+         }
+      });
+      return CompletableFuture.completedFuture(entries);
+   }
+
+   public long getLeafMask() {
+      return leafMask;
+   }
+
+   @Override
+   public void writeTo(ObjectOutput output) throws IOException {
+      super.writeTo(output);
+      output.writeLong(leafMask);
+   }
+
+   @Override
+   public void readFrom(ObjectInput input) throws IOException, ClassNotFoundException {
+      super.readFrom(input);
+      leafMask = input.readLong();
+   }
+
+   @Override
+   public String toString() {
+      return "ConflictResolutionGetEntriesCommand{" +
+            "topologyId=" + topologyId +
+            ", segments=" + segments +
+            ", leafMask=" + Long.toHexString(leafMask) +
+            ", cacheName=" + cacheName +
+            '}';
+   }
+}
@@ -0,0 +1,60 @@
+package org.infinispan.commands.statetransfer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.infinispan.commons.util.IntSet;
+import org.infinispan.conflict.impl.SegmentHashTree;
+import org.infinispan.container.impl.InternalDataContainer;
+import org.infinispan.factories.ComponentRegistry;
+import org.infinispan.util.ByteString;
+
+/**
+ * Retrieve the leaves of the {@link SegmentHashTree} of the requested segments, so that conflict resolution can
+ * compare the replicas of a segment without transferring its entries.
+ * <p>
+ * Segments without a hash tree are omitted from the returned map.
+ *
+ * @since 14.0
+ */
+public class ConflictResolutionGetHashTreesCommand extends AbstractStateTransferCommand {
+
+   public static final byte COMMAND_ID = 113;
+
+   // For command id uniqueness test only
+   public ConflictResolutionGetHashTreesCommand() {
+      this(null);
+   }
+
+   public ConflictResolutionGetHashTreesCommand(ByteString cacheName) {
+      super(COMMAND_ID, cacheName);
+   }
+
+   public ConflictResolutionGetHashTreesCommand(ByteString cacheName, int topologyId, IntSet segments) {
+      super(COMMAND_ID, cacheName, topologyId, segments);
+   }
+
+   @Override
+   public CompletionStage<Map<Integer, long[]>> invokeAsync(ComponentRegistry registry) throws Throwable {
+      InternalDataContainer<?, ?> dataContainer = registry.getInternalDataContainer().running();
+      Map<Integer, long[]> hashTrees = new HashMap<>();
+      segments.forEach((int segment) -> {
+         SegmentHashTree hashTree = dataContainer.getHashTree(segment);
+         if (hashTree != null) {
+            hashTrees.put(segment, hashTree.leaves());
+         }
+      });
+      return CompletableFuture.completedFuture(hashTrees);
+   }
+
+   @Override
+   public String toString() {
+      return "ConflictResolutionGetHashTreesCommand{" +
+            "topologyId=" + topologyId +
+            ", segments=" + segments +
+            ", cacheName=" + cacheName +
+            '}';
+   }
+}
@@ -23,9 +23,10 @@ public class ClusteringConfiguration extends ConfigurationElement<ClusteringConf
    public static final AttributeDefinition<Integer> INVALIDATION_BATCH_SIZE = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.INVALIDATION_BATCH_SIZE,  128).immutable().build();
    public static final AttributeDefinition<BiasAcquisition> BIAS_ACQUISITION = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.BIAS_ACQUISITION, BiasAcquisition.ON_WRITE).immutable().build();
    public static final AttributeDefinition<Long> BIAS_LIFESPAN = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.BIAS_LIFESPAN, TimeUnit.MINUTES.toMillis(5)).immutable().build();
+   public static final AttributeDefinition<RemoteReadPolicy> REMOTE_READ_POLICY = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.REMOTE_READ_POLICY, RemoteReadPolicy.PRIMARY).immutable().build();
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(ClusteringConfiguration.class, CACHE_MODE, REMOTE_TIMEOUT, INVALIDATION_BATCH_SIZE, BIAS_ACQUISITION, BIAS_LIFESPAN);
+      return new AttributeSet(ClusteringConfiguration.class, CACHE_MODE, REMOTE_TIMEOUT, INVALIDATION_BATCH_SIZE, BIAS_ACQUISITION, BIAS_LIFESPAN, REMOTE_READ_POLICY);
    }
 
    private final Attribute<CacheMode> cacheMode;
@@ -72,6 +73,13 @@ public void remoteTimeout(long timeoutMillis) {
       remoteTimeout.set(timeoutMillis);
    }
 
+   /**
+    * Specifies which owner is contacted first when reading a key that is not owned by the local node.
+    */
+   public RemoteReadPolicy remoteReadPolicy() {
+      return attributes.attribute(REMOTE_READ_POLICY).get();
+   }
+
    /**
     * Configures cluster's behaviour in the presence of partitions or node failures.
     */
@@ -4,6 +4,7 @@
 import static org.infinispan.configuration.cache.ClusteringConfiguration.BIAS_LIFESPAN;
 import static org.infinispan.configuration.cache.ClusteringConfiguration.CACHE_MODE;
 import static org.infinispan.configuration.cache.ClusteringConfiguration.INVALIDATION_BATCH_SIZE;
+import static org.infinispan.configuration.cache.ClusteringConfiguration.REMOTE_READ_POLICY;
 import static org.infinispan.configuration.cache.ClusteringConfiguration.REMOTE_TIMEOUT;
 import static org.infinispan.util.logging.Log.CONFIG;
 
@@ -67,6 +68,15 @@ public ClusteringConfigurationBuilder remoteTimeout(long l, TimeUnit unit) {
       return remoteTimeout(unit.toMillis(l));
    }
 
+   /**
+    * Specifies which owner is contacted first when reading a key that is not owned by the local node. Defaults to
+    * {@link RemoteReadPolicy#PRIMARY}.
+    */
+   public ClusteringConfigurationBuilder remoteReadPolicy(RemoteReadPolicy remoteReadPolicy) {
+      attributes.attribute(REMOTE_READ_POLICY).set(remoteReadPolicy);
+      return this;
+   }
+
    /**
     * For scattered cache, the threshold after which batched invalidations are sent
     */
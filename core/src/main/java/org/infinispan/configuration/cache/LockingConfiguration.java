@@ -20,15 +20,17 @@ public class LockingConfiguration extends ConfigurationElement<LockingConfigurat
    public static final AttributeDefinition<IsolationLevel> ISOLATION_LEVEL  = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.ISOLATION, IsolationLevel.REPEATABLE_READ).immutable().build();
    public static final AttributeDefinition<Long> LOCK_ACQUISITION_TIMEOUT  = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.ACQUIRE_TIMEOUT, TimeUnit.SECONDS.toMillis(10)).build();
    public static final AttributeDefinition<Boolean> USE_LOCK_STRIPING = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.STRIPING, false).immutable().build();
+   public static final AttributeDefinition<Boolean> USE_LOCK_POOLING = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.POOLING, false).immutable().build();
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(LockingConfiguration.class, CONCURRENCY_LEVEL, ISOLATION_LEVEL, LOCK_ACQUISITION_TIMEOUT, USE_LOCK_STRIPING);
+      return new AttributeSet(LockingConfiguration.class, CONCURRENCY_LEVEL, ISOLATION_LEVEL, LOCK_ACQUISITION_TIMEOUT, USE_LOCK_STRIPING, USE_LOCK_POOLING);
    }
 
    private final Attribute<Integer> concurrencyLevel;
    private final Attribute<IsolationLevel> isolationLevel;
    private final Attribute<Long> lockAcquisitionTimeout;
    private final Attribute<Boolean> useLockStriping;
+   private final Attribute<Boolean> useLockPooling;
 
    LockingConfiguration(AttributeSet attributes) {
       super(Element.LOCKING, attributes);
@@ -36,6 +38,7 @@ static AttributeSet attributeDefinitionSet() {
       isolationLevel = attributes.attribute(ISOLATION_LEVEL);
       lockAcquisitionTimeout = attributes.attribute(LOCK_ACQUISITION_TIMEOUT);
       useLockStriping = attributes.attribute(USE_LOCK_STRIPING);
+      useLockPooling = attributes.attribute(USE_LOCK_POOLING);
    }
 
    /**
@@ -77,4 +80,12 @@ public LockingConfiguration lockAcquisitionTimeout(long timeout) {
    public boolean useLockStriping() {
       return useLockStriping.get();
    }
+
+   /**
+    * If true, and lock striping is disabled, the per entry locks are recycled through a pool of up to
+    * {@link #concurrencyLevel()} locks and the lock contention statistics are collected.
+    */
+   public boolean useLockPooling() {
+      return useLockPooling.get();
+   }
 }
@@ -3,6 +3,7 @@
 import static org.infinispan.configuration.cache.LockingConfiguration.CONCURRENCY_LEVEL;
 import static org.infinispan.configuration.cache.LockingConfiguration.ISOLATION_LEVEL;
 import static org.infinispan.configuration.cache.LockingConfiguration.LOCK_ACQUISITION_TIMEOUT;
+import static org.infinispan.configuration.cache.LockingConfiguration.USE_LOCK_POOLING;
 import static org.infinispan.configuration.cache.LockingConfiguration.USE_LOCK_STRIPING;
 
 import java.util.concurrent.TimeUnit;
@@ -78,6 +79,15 @@ public LockingConfigurationBuilder useLockStriping(boolean b) {
       return this;
    }
 
+   /**
+    * If true, and lock striping is disabled, the per entry locks are recycled through a pool of up to
+    * {@link #concurrencyLevel(int)} locks and the lock contention statistics are collected.
+    */
+   public LockingConfigurationBuilder useLockPooling(boolean b) {
+      attributes.attribute(USE_LOCK_POOLING).set(b);
+      return this;
+   }
+
    @Override
    public void validate() {
       Attribute<IsolationLevel> isolationLevel = attributes.attribute(ISOLATION_LEVEL);
@@ -21,10 +21,12 @@ public class PartitionHandlingConfiguration extends ConfigurationElement<Partiti
          .immutable().build();
    public static final AttributeDefinition<EntryMergePolicy> MERGE_POLICY = AttributeDefinition.builder(Attribute.MERGE_POLICY, MergePolicy.NONE, EntryMergePolicy.class)
          .immutable().build();
+   public static final AttributeDefinition<Boolean> HASH_TREES = AttributeDefinition.builder(Attribute.HASH_TREES, false)
+         .immutable().build();
 
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(PartitionHandlingConfiguration.class, WHEN_SPLIT, MERGE_POLICY);
+      return new AttributeSet(PartitionHandlingConfiguration.class, WHEN_SPLIT, MERGE_POLICY, HASH_TREES);
    }
 
    public PartitionHandlingConfiguration(AttributeSet attributes) {
@@ -39,6 +41,14 @@ public EntryMergePolicy mergePolicy() {
       return attributes.attribute(MERGE_POLICY).get();
    }
 
+   /**
+    * Whether each node maintains a hash tree per segment, so that conflict resolution only transfers the entries
+    * of the segments whose replicas have diverged.
+    */
+   public boolean hashTrees() {
+      return attributes.attribute(HASH_TREES).get();
+   }
+
    public boolean resolveConflictsOnMerge() {
       EntryMergePolicy policy = mergePolicy();
       if (policy == MergePolicy.NONE)
@@ -1,5 +1,6 @@
 package org.infinispan.configuration.cache;
 
+import static org.infinispan.configuration.cache.PartitionHandlingConfiguration.HASH_TREES;
 import static org.infinispan.configuration.cache.PartitionHandlingConfiguration.MERGE_POLICY;
 import static org.infinispan.configuration.cache.PartitionHandlingConfiguration.WHEN_SPLIT;
 import static org.infinispan.util.logging.Log.CONFIG;
@@ -38,6 +39,16 @@ public PartitionHandlingConfigurationBuilder mergePolicy(EntryMergePolicy mergeP
       return this;
    }
 
+   /**
+    * Enables the incremental maintenance of a hash tree for each segment, which allows conflict resolution to compare
+    * the replicas of a segment without transferring all of their entries. Hash trees are not maintained for caches
+    * with eviction or L1 enabled.
+    */
+   public PartitionHandlingConfigurationBuilder hashTrees(boolean hashTrees) {
+      attributes.attribute(HASH_TREES).set(hashTrees);
+      return this;
+   }
+
    @Override
    public void validate() {
       if (attributes.attribute(WHEN_SPLIT).get() != PartitionHandling.ALLOW_READ_WRITES && clustering().cacheMode().isInvalidation())
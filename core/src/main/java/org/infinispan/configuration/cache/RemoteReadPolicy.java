@@ -0,0 +1,20 @@
+package org.infinispan.configuration.cache;
+
+/**
+ * Specifies which owner is contacted first when reading a key that is not owned by the local node.
+ *
+ * @since 14.0
+ */
+public enum RemoteReadPolicy {
+   /**
+    * The read is sent to the primary owner first. The backup owners are only contacted if the primary owner does not
+    * reply in time.
+    */
+   PRIMARY,
+   /**
+    * The read is sent to the owner nearest to the local node first. Owners in the same machine, rack and site as the
+    * local node are preferred, in this order, and owners at the same distance are ordered by their observed response
+    * time. The other owners, including the primary owner, are contacted if the nearest owner does not reply in time.
+    */
+   NEAREST,
+}
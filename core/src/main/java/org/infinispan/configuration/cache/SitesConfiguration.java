@@ -36,9 +36,16 @@ public class SitesConfiguration extends ConfigurationElement<SitesConfiguration>
          .validator(greaterThanZero(org.infinispan.configuration.parsing.Attribute.TOMBSTONE_MAP_SIZE))
          .immutable()
          .build();
+   public static final AttributeDefinition<Integer> MAX_IN_FLIGHT_BATCHES = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.MAX_IN_FLIGHT_BATCHES, 1)
+         .validator(greaterThanZero(org.infinispan.configuration.parsing.Attribute.MAX_IN_FLIGHT_BATCHES))
+         .immutable()
+         .build();
+   public static final AttributeDefinition<Boolean> COMPRESS_UPDATES = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.COMPRESS_UPDATES, false)
+         .immutable()
+         .build();
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(SitesConfiguration.class, MERGE_POLICY, MAX_CLEANUP_DELAY, TOMBSTONE_MAP_SIZE);
+      return new AttributeSet(SitesConfiguration.class, MERGE_POLICY, MAX_CLEANUP_DELAY, TOMBSTONE_MAP_SIZE, MAX_IN_FLIGHT_BATCHES, COMPRESS_UPDATES);
    }
 
    private final BackupForConfiguration backupFor;
@@ -173,6 +180,20 @@ public int tombstoneMapSize() {
       return attributes.attribute(TOMBSTONE_MAP_SIZE).get();
    }
 
+   /**
+    * @return The maximum number of batches of updates that can be sent concurrently to the remote sites.
+    */
+   public int maxInFlightBatches() {
+      return attributes.attribute(MAX_IN_FLIGHT_BATCHES).get();
+   }
+
+   /**
+    * @return {@code true} if the batches of updates sent to the remote sites are compressed.
+    */
+   public boolean compressUpdates() {
+      return attributes.attribute(COMPRESS_UPDATES).get();
+   }
+
    @SuppressWarnings("rawtypes")
    private static class MergePolicyAttributeCopier implements AttributeCopier<XSiteEntryMergePolicy> {
 
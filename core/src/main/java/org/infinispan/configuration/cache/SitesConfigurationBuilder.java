@@ -108,6 +108,33 @@ public SitesConfigurationBuilder tombstoneMapSize(int value) {
       return this;
    }
 
+   /**
+    * Sets the maximum number of batches of updates that can be sent concurrently to the remote sites.
+    * <p>
+    * The keys are split between the batches by segment, so that the updates to the same key are always sent in order.
+    *
+    * @param value The maximum number of concurrent batches.
+    * @return {@code this}.
+    */
+   public SitesConfigurationBuilder maxInFlightBatches(int value) {
+      attributes.attribute(SitesConfiguration.MAX_IN_FLIGHT_BATCHES).set(value);
+      return this;
+   }
+
+   /**
+    * Enables or disables the compression of the batches of updates sent to the remote sites.
+    * <p>
+    * The compressed batches can only be read by the nodes of version 14.0 or later, so it must not be enabled while a
+    * remote site still runs an older version.
+    *
+    * @param enabled {@code true} to compress the batches.
+    * @return {@code this}.
+    */
+   public SitesConfigurationBuilder compressUpdates(boolean enabled) {
+      attributes.attribute(SitesConfiguration.COMPRESS_UPDATES).set(enabled);
+      return this;
+   }
+
    @Override
    public void validate() {
       backupForBuilder.validate();
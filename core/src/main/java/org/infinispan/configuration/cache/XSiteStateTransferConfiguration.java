@@ -18,15 +18,19 @@ public class XSiteStateTransferConfiguration extends ConfigurationElement<XSiteS
    public static final long DEFAULT_TIMEOUT = TimeUnit.MINUTES.toMillis(20);
    public static final int DEFAULT_MAX_RETRIES = 30;
    public static final long DEFAULT_WAIT_TIME = TimeUnit.SECONDS.toMillis(2);
+   public static final long DEFAULT_MAX_CHUNK_BYTES = 0;
+   public static final int DEFAULT_CONCURRENT_SEGMENTS = 1;
 
    public static final AttributeDefinition<Integer> CHUNK_SIZE = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.CHUNK_SIZE, DEFAULT_CHUNK_SIZE).immutable().build();
    public static final AttributeDefinition<Long> TIMEOUT = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.TIMEOUT, DEFAULT_TIMEOUT).build();
    public static final AttributeDefinition<Integer> MAX_RETRIES = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.MAX_RETRIES, DEFAULT_MAX_RETRIES).build();
    public static final AttributeDefinition<Long> WAIT_TIME = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.WAIT_TIME, DEFAULT_WAIT_TIME).build();
    public static final AttributeDefinition<XSiteStateTransferMode> MODE = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.MODE, XSiteStateTransferMode.MANUAL).build();
+   public static final AttributeDefinition<Long> MAX_CHUNK_BYTES = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.MAX_CHUNK_BYTES, DEFAULT_MAX_CHUNK_BYTES).immutable().build();
+   public static final AttributeDefinition<Integer> CONCURRENT_SEGMENTS = AttributeDefinition.builder(org.infinispan.configuration.parsing.Attribute.CONCURRENT_SEGMENTS, DEFAULT_CONCURRENT_SEGMENTS).immutable().build();
 
    static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(XSiteStateTransferConfiguration.class, CHUNK_SIZE, TIMEOUT, MAX_RETRIES, WAIT_TIME, MODE);
+      return new AttributeSet(XSiteStateTransferConfiguration.class, CHUNK_SIZE, TIMEOUT, MAX_RETRIES, WAIT_TIME, MODE, MAX_CHUNK_BYTES, CONCURRENT_SEGMENTS);
    }
 
    public XSiteStateTransferConfiguration(AttributeSet attributes) {
@@ -52,4 +56,12 @@ public long waitTime() {
    public XSiteStateTransferMode mode() {
       return attributes.attribute(MODE).get();
    }
+
+   public long maxChunkBytes() {
+      return attributes.attribute(MAX_CHUNK_BYTES).get();
+   }
+
+   public int concurrentSegments() {
+      return attributes.attribute(CONCURRENT_SEGMENTS).get();
+   }
 }
@@ -1,6 +1,8 @@
 package org.infinispan.configuration.cache;
 
 import static org.infinispan.configuration.cache.XSiteStateTransferConfiguration.CHUNK_SIZE;
+import static org.infinispan.configuration.cache.XSiteStateTransferConfiguration.CONCURRENT_SEGMENTS;
+import static org.infinispan.configuration.cache.XSiteStateTransferConfiguration.MAX_CHUNK_BYTES;
 import static org.infinispan.configuration.cache.XSiteStateTransferConfiguration.MAX_RETRIES;
 import static org.infinispan.configuration.cache.XSiteStateTransferConfiguration.MODE;
 import static org.infinispan.configuration.cache.XSiteStateTransferConfiguration.TIMEOUT;
@@ -41,6 +43,12 @@ public void validate() {
       if (attributes.attribute(WAIT_TIME).get() <= 0) {
          throw CONFIG.invalidXSiteStateTransferWaitTime();
       }
+      if (attributes.attribute(MAX_CHUNK_BYTES).get() < 0) {
+         throw CONFIG.invalidXSiteStateTransferMaxChunkBytes();
+      }
+      if (attributes.attribute(CONCURRENT_SEGMENTS).get() <= 0) {
+         throw CONFIG.invalidXSiteStateTransferConcurrentSegments();
+      }
       XSiteStateTransferMode mode = attributes.attribute(MODE).get();
       if (mode == null) {
          throw CONFIG.invalidXSiteStateTransferMode();
@@ -102,6 +110,26 @@ public final XSiteStateTransferConfigurationBuilder mode(XSiteStateTransferMode
       return this;
    }
 
+   /**
+    * If &gt; 0, a state chunk is sent as soon as the size of its keys and values reaches {@code maxChunkBytes}, even if
+    * it has less than {@link #chunkSize(int)} entries. The size is exact when keys and values are stored in binary form
+    * and estimated otherwise. Defaults to 0, meaning that chunks are only bounded by the number of entries.
+    */
+   public final XSiteStateTransferConfigurationBuilder maxChunkBytes(long maxChunkBytes) {
+      attributes.attribute(MAX_CHUNK_BYTES).set(maxChunkBytes);
+      return this;
+   }
+
+   /**
+    * The number of segments each node sends concurrently to the backup site. Segments are pushed and acknowledged
+    * independently so that, when a state transfer fails or is interrupted, restarting it skips the segments already
+    * applied by the backup site. Defaults to 1.
+    */
+   public final XSiteStateTransferConfigurationBuilder concurrentSegments(int concurrentSegments) {
+      attributes.attribute(CONCURRENT_SEGMENTS).set(concurrentSegments);
+      return this;
+   }
+
    public final BackupConfigurationBuilder backup() {
       return backupConfigurationBuilder;
    }
@@ -78,6 +78,11 @@ public ThreadPoolConfigurationBuilder nonBlockingThreadPool() {
       return globalConfig.nonBlockingThreadPool();
    }
 
+   @Override
+   public ThreadPoolConfigurationBuilder streamThreadPool() {
+      return globalConfig.streamThreadPool();
+   }
+
    @Override
    public GlobalSecurityConfigurationBuilder security() {
       return globalConfig.security();
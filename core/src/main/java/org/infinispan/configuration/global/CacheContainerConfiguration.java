@@ -23,11 +23,12 @@ class CacheContainerConfiguration {
    static final AttributeDefinition<String> STATE_TRANSFER_EXECUTOR = AttributeDefinition.builder("stateTransferExecutor", "state-transfer-pool", String.class).immutable().build();
    static final AttributeDefinition<String> NON_BLOCKING_EXECUTOR = AttributeDefinition.builder("nonBlockingExecutor", "non-blocking-pool", String.class).immutable().build();
    static final AttributeDefinition<String> BLOCKING_EXECUTOR = AttributeDefinition.builder("blockingExecutor", "blocking-pool", String.class).immutable().build();
+   static final AttributeDefinition<String> STREAM_EXECUTOR = AttributeDefinition.builder("streamExecutor", "stream-pool", String.class).immutable().build();
 
    public static AttributeSet attributeDefinitionSet() {
       return new AttributeSet(CacheContainerConfiguration.class, NAME, STATISTICS, ZERO_CAPACITY_NODE, DEFAULT_CACHE,
             ASYNC_EXECUTOR, LISTENER_EXECUTOR, EXPIRATION_EXECUTOR, PERSISTENCE_EXECUTOR, STATE_TRANSFER_EXECUTOR,
-            NON_BLOCKING_EXECUTOR, BLOCKING_EXECUTOR);
+            NON_BLOCKING_EXECUTOR, BLOCKING_EXECUTOR, STREAM_EXECUTOR);
    }
 
    private final Attribute<String> defaultCache;
@@ -157,6 +158,10 @@ public String blockingExecutor() {
       return attributes.attribute(BLOCKING_EXECUTOR).get();
    }
 
+   public String streamExecutor() {
+      return attributes.attribute(STREAM_EXECUTOR).get();
+   }
+
    public GlobalStateConfiguration globalState() {
       return globalState;
    }
@@ -203,6 +208,10 @@ public ThreadPoolConfiguration blockingThreadPool() {
       return threads.blockingThreadPool();
    }
 
+   public ThreadPoolConfiguration streamThreadPool() {
+      return threads.streamThreadPool();
+   }
+
    @Override
    public String toString() {
       return "CacheContainerConfiguration{" +
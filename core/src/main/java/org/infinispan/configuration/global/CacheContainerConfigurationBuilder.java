@@ -10,6 +10,7 @@
 import static org.infinispan.configuration.global.CacheContainerConfiguration.PERSISTENCE_EXECUTOR;
 import static org.infinispan.configuration.global.CacheContainerConfiguration.STATE_TRANSFER_EXECUTOR;
 import static org.infinispan.configuration.global.CacheContainerConfiguration.STATISTICS;
+import static org.infinispan.configuration.global.CacheContainerConfiguration.STREAM_EXECUTOR;
 import static org.infinispan.configuration.global.CacheContainerConfiguration.ZERO_CAPACITY_NODE;
 
 import java.util.ArrayList;
@@ -133,6 +134,11 @@ public ThreadPoolConfigurationBuilder blockingThreadPool() {
       return threads.blockingThreadPool();
    }
 
+   @Override
+   public ThreadPoolConfigurationBuilder streamThreadPool() {
+      return threads.streamThreadPool();
+   }
+
    @Override
    public GlobalSecurityConfigurationBuilder security() {
       return security;
@@ -223,6 +229,11 @@ public CacheContainerConfigurationBuilder blockingExecutor(String name) {
       return this;
    }
 
+   public CacheContainerConfigurationBuilder streamExecutor(String name) {
+      attributes.attribute(STREAM_EXECUTOR).set(name);
+      return this;
+   }
+
    public void validate() {
       List<RuntimeException> validationExceptions = new ArrayList<>();
       Arrays.asList(
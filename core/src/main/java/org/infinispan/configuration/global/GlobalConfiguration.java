@@ -111,6 +111,10 @@ public ThreadPoolConfiguration blockingThreadPool() {
       return cacheContainerConfiguration.blockingThreadPool();
    }
 
+   public ThreadPoolConfiguration streamThreadPool() {
+      return cacheContainerConfiguration.streamThreadPool();
+   }
+
    public GlobalMetricsConfiguration metrics() {
       return cacheContainerConfiguration.metrics();
    }
@@ -163,6 +167,10 @@ public String nonBlockingThreadPoolName() {
       return cacheContainer().nonBlockingExecutor();
    }
 
+   public String streamThreadPoolName() {
+      return cacheContainer().streamExecutor();
+   }
+
    public String listenerThreadPoolName() {
       return cacheContainer().listenerExecutor();
    }
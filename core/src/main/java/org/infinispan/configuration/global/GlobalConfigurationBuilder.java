@@ -127,6 +127,11 @@ public ThreadPoolConfigurationBuilder nonBlockingThreadPool() {
       return cacheContainerConfiguration.nonBlockingThreadPool();
    }
 
+   @Override
+   public ThreadPoolConfigurationBuilder streamThreadPool() {
+      return cacheContainerConfiguration.streamThreadPool();
+   }
+
    public GlobalConfigurationBuilder asyncThreadPoolName(String name) {
       cacheContainer().asyncExecutor(name);
       return this;
@@ -166,6 +171,11 @@ public GlobalConfigurationBuilder blockingThreadPoolName(String name) {
       return this;
    }
 
+   public GlobalConfigurationBuilder streamThreadPoolName(String name) {
+      cacheContainer().streamExecutor(name);
+      return this;
+   }
+
    @Override
    public GlobalSecurityConfigurationBuilder security() {
       return cacheContainerConfiguration.security();
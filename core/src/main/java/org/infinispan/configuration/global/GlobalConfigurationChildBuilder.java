@@ -70,6 +70,11 @@ default GlobalJmxConfigurationBuilder globalJmxStatistics() {
     */
    ThreadPoolConfigurationBuilder blockingThreadPool();
 
+   /**
+    * Configuration for the thread pool used by the parallel local streams
+    */
+   ThreadPoolConfigurationBuilder streamThreadPool();
+
    /**
     * Security-related configuration
     */
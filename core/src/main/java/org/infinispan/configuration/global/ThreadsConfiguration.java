@@ -18,6 +18,7 @@ public class ThreadsConfiguration {
    private final ThreadPoolConfiguration transportThreadPool;
    private final ThreadPoolConfiguration nonBlockingThreadPool;
    private final ThreadPoolConfiguration blockingThreadPool;
+   private final ThreadPoolConfiguration streamThreadPool;
 
    ThreadsConfiguration(List<ThreadFactoryConfiguration> threadFactories,
                         List<BoundedThreadPoolConfiguration> boundedThreadPools,
@@ -31,7 +32,8 @@ public class ThreadsConfiguration {
                         ThreadPoolConfiguration stateTransferThreadPool,
                         ThreadPoolConfiguration transportThreadPool,
                         ThreadPoolConfiguration nonBlockingThreadPool,
-                        ThreadPoolConfiguration blockingThreadPool) {
+                        ThreadPoolConfiguration blockingThreadPool,
+                        ThreadPoolConfiguration streamThreadPool) {
       this.asyncThreadPool = asyncThreadPool;
       this.expirationThreadPool = expirationThreadPool;
       this.listenerThreadPool = listenerThreadPool;
@@ -41,6 +43,7 @@ public class ThreadsConfiguration {
       this.transportThreadPool = transportThreadPool;
       this.nonBlockingThreadPool = nonBlockingThreadPool;
       this.blockingThreadPool = blockingThreadPool;
+      this.streamThreadPool = streamThreadPool;
       this.threadFactories.addAll(threadFactories);
       this.boundedThreadPools.addAll(boundedThreadPools);
       this.cachedThreadPools.addAll(cachedThreadPools);
@@ -92,6 +95,10 @@ public ThreadPoolConfiguration blockingThreadPool() {
       return blockingThreadPool;
    }
 
+   public ThreadPoolConfiguration streamThreadPool() {
+      return streamThreadPool;
+   }
+
    public List<ThreadFactoryConfiguration> threadFactories() {
       return threadFactories;
    }
@@ -122,6 +129,7 @@ public String toString() {
             ", remoteThreadPool=" + remoteThreadPool +
             ", stateTransferThreadPool=" + stateTransferThreadPool +
             ", transportThreadPool=" + transportThreadPool +
+            ", streamThreadPool=" + streamThreadPool +
             '}';
    }
 }
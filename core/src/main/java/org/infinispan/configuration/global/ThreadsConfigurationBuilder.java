@@ -19,6 +19,7 @@ public class ThreadsConfigurationBuilder extends AbstractGlobalConfigurationBuil
    private final ThreadPoolConfigurationBuilder transportThreadPool;
    private final ThreadPoolConfigurationBuilder nonBlockingThreadPool;
    private final ThreadPoolConfigurationBuilder blockingThreadPool;
+   private final ThreadPoolConfigurationBuilder streamThreadPool;
    private List<ThreadFactoryConfigurationBuilder> threadFactoryBuilders = new ArrayList<>();
    private List<BoundedThreadPoolConfigurationBuilder> boundedThreadPoolBuilders = new ArrayList<>();
    private List<ScheduledThreadPoolConfigurationBuilder> scheduledThreadPoolBuilders = new ArrayList<>();
@@ -38,6 +39,7 @@ public class ThreadsConfigurationBuilder extends AbstractGlobalConfigurationBuil
       this.transportThreadPool = new ThreadPoolConfigurationBuilder(globalConfig);
       this.nonBlockingThreadPool = new ThreadPoolConfigurationBuilder(globalConfig);
       this.blockingThreadPool = new ThreadPoolConfigurationBuilder(globalConfig);
+      this.streamThreadPool = new ThreadPoolConfigurationBuilder(globalConfig);
    }
 
    public ThreadFactoryConfigurationBuilder addThreadFactory(String name) {
@@ -119,6 +121,11 @@ public ThreadPoolConfigurationBuilder blockingThreadPool() {
       return blockingThreadPool;
    }
 
+   @Override
+   public ThreadPoolConfigurationBuilder streamThreadPool() {
+      return streamThreadPool;
+   }
+
    @Override
    public ThreadsConfigurationBuilder read(ThreadsConfiguration template) {
       this.asyncThreadPool.read(template.asyncThreadPool());
@@ -130,6 +137,7 @@ public ThreadsConfigurationBuilder read(ThreadsConfiguration template) {
       this.transportThreadPool.read(template.transportThreadPool());
       this.nonBlockingThreadPool.read(template.nonBlockingThreadPool());
       this.blockingThreadPool.read(template.blockingThreadPool());
+      this.streamThreadPool.read(template.streamThreadPool());
 
       template.threadFactories().forEach(s -> threadFactoryBuilders.add(new ThreadFactoryConfigurationBuilder(getGlobalConfig(), s.name().get()).read(s)));
       template.boundedThreadPools().forEach(s -> boundedThreadPoolBuilders.add(new BoundedThreadPoolConfigurationBuilder(getGlobalConfig(), s.name()).read(s)));
@@ -162,7 +170,8 @@ public ThreadsConfiguration create() {
             stateTransferThreadPool.create(),
             transportThreadPool.create(),
             nonBlockingThreadPool.create(),
-            blockingThreadPool.create());
+            blockingThreadPool.create(),
+            streamThreadPool.create());
    }
 
    public ThreadsConfigurationBuilder nodeName(String value) {
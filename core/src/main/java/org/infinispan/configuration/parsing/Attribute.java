@@ -47,7 +47,9 @@ public enum Attribute {
     COMMIT_INTERVAL,
     COMPACTION_THRESHOLD,
     COMPLETED_TX_TIMEOUT("complete-timeout"),
+    COMPRESS_UPDATES,
     CONCURRENCY_LEVEL,
+    CONCURRENT_SEGMENTS,
     CONFIGURATION,
     CONNECTION_ATTEMPTS,
     CONNECTION_INTERVAL,
@@ -77,6 +79,7 @@ public enum Attribute {
     FRAGMENTATION_FACTOR,
     GAUGES,
     GROUP_NAME,
+    HASH_TREES,
     HISTOGRAMS,
     ID,
     @Deprecated
@@ -105,11 +108,13 @@ public enum Attribute {
     MAPPER,
     MARSHALLER,
     MAX_BATCH_SIZE,
+    MAX_CHUNK_BYTES,
     MAX_CLEANUP_DELAY,
     MAX_COUNT,
     MAX_ENTRIES,
     MAX_FILE_SIZE,
     MAX_IDLE,
+    MAX_IN_FLIGHT_BATCHES,
     MAX_NODE_SIZE,
     MAX_RETRIES,
     MIN_SIZE,
@@ -138,6 +143,7 @@ public enum Attribute {
     PERMISSIONS,
     @Deprecated
     PERSISTENCE_EXECUTOR,
+    POOLING,
     POSITION,
     PREFIX,
     PRELOAD,
@@ -159,6 +165,7 @@ public enum Attribute {
     REMOTE_CACHE,
     REMOTE_COMMAND_EXECUTOR,
     REMOTE_SITE,
+    REMOTE_READ_POLICY,
     REMOTE_TIMEOUT,
     @Deprecated
     REPLICATION_QUEUE_EXECUTOR,
@@ -185,6 +192,7 @@ public enum Attribute {
     STORE_KEYS_AS_BINARY("keys"),
     STORE_VALUES_AS_BINARY("values"),
     STRATEGY,
+    STREAM_EXECUTOR,
     STRIPING,
     STACK,
     STOP_TIMEOUT,
@@ -42,6 +42,7 @@
 import org.infinispan.configuration.cache.MemoryConfigurationBuilder;
 import org.infinispan.configuration.cache.PartitionHandlingConfigurationBuilder;
 import org.infinispan.configuration.cache.PersistenceConfigurationBuilder;
+import org.infinispan.configuration.cache.RemoteReadPolicy;
 import org.infinispan.configuration.cache.SecurityConfigurationBuilder;
 import org.infinispan.configuration.cache.SingleFileStoreConfigurationBuilder;
 import org.infinispan.configuration.cache.StorageType;
@@ -236,6 +237,12 @@ private void parseBackups(ConfigurationReader reader, ConfigurationBuilderHolder
             case TOMBSTONE_MAP_SIZE:
                builder.sites().tombstoneMapSize(Integer.parseInt(value));
                break;
+            case MAX_IN_FLIGHT_BATCHES:
+               builder.sites().maxInFlightBatches(Integer.parseInt(value));
+               break;
+            case COMPRESS_UPDATES:
+               builder.sites().compressUpdates(Boolean.parseBoolean(value));
+               break;
             case MERGE_POLICY:
                builder.sites().mergePolicy(XSiteMergePolicy.instanceFromString(value, holder.getClassLoader()));
                break;
@@ -278,6 +285,10 @@ private void parsePartitionHandling(ConfigurationReader reader, ConfigurationBui
                ph.mergePolicy(mergePolicy);
                break;
             }
+            case HASH_TREES: {
+               ph.hashTrees(Boolean.parseBoolean(value));
+               break;
+            }
             default: {
                throw ParseUtils.unexpectedAttribute(reader, i);
             }
@@ -389,6 +400,12 @@ private void parseXSiteStateTransfer(ConfigurationReader reader, BackupConfigura
             case MODE:
                backup.stateTransfer().mode(XSiteStateTransferMode.valueOf(value));
                break;
+            case MAX_CHUNK_BYTES:
+               backup.stateTransfer().maxChunkBytes(Long.parseLong(value));
+               break;
+            case CONCURRENT_SEGMENTS:
+               backup.stateTransfer().concurrentSegments(Integer.parseInt(value));
+               break;
             default:
                throw ParseUtils.unexpectedAttribute(reader, i);
          }
@@ -842,6 +859,10 @@ private final void parseLocking(ConfigurationReader reader, ConfigurationBuilder
                builder.locking().useLockStriping(Boolean.parseBoolean(value));
                break;
             }
+            case POOLING: {
+               builder.locking().useLockPooling(Boolean.parseBoolean(value));
+               break;
+            }
             case ACQUIRE_TIMEOUT: {
                builder.locking().lockAcquisitionTimeout(Long.parseLong(value));
                break;
@@ -1128,6 +1149,10 @@ private void parseClusteredCacheAttribute(ConfigurationReader reader,
             builder.clustering().remoteTimeout(Long.parseLong(value));
             break;
          }
+         case REMOTE_READ_POLICY: {
+            builder.clustering().remoteReadPolicy(RemoteReadPolicy.valueOf(value));
+            break;
+         }
          default: {
             this.parseCacheAttribute(reader, index, attribute, value, builder);
          }
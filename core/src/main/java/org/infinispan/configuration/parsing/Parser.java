@@ -6,6 +6,7 @@
 import static org.infinispan.factories.KnownComponentNames.BLOCKING_EXECUTOR;
 import static org.infinispan.factories.KnownComponentNames.EXPIRATION_SCHEDULED_EXECUTOR;
 import static org.infinispan.factories.KnownComponentNames.NON_BLOCKING_EXECUTOR;
+import static org.infinispan.factories.KnownComponentNames.STREAM_EXECUTOR;
 import static org.infinispan.factories.KnownComponentNames.shortened;
 import static org.infinispan.util.logging.Log.CONFIG;
 
@@ -706,6 +707,11 @@ private void parseContainer(ConfigurationReader reader, ConfigurationBuilderHold
                builder.blockingThreadPool().read(createThreadPoolConfiguration(value, BLOCKING_EXECUTOR, holder));
                break;
             }
+            case STREAM_EXECUTOR: {
+               builder.streamThreadPoolName(value);
+               builder.streamThreadPool().read(createThreadPoolConfiguration(value, STREAM_EXECUTOR, holder));
+               break;
+            }
             case STATISTICS: {
                boolean statistics = Boolean.parseBoolean(value);
                builder.cacheContainer().statistics(statistics);
@@ -1318,7 +1324,7 @@ private ThreadPoolConfiguration createThreadPoolConfiguration(String threadPoolN
 
       ThreadPoolConfiguration threadPoolConfiguration = threadPool.asThreadPoolConfigurationBuilder();
       boolean isNonBlocking = threadPoolConfiguration.threadPoolFactory().createsNonBlockingThreads();
-      if (NON_BLOCKING_EXECUTOR.equals(componentName) && !isNonBlocking) {
+      if ((NON_BLOCKING_EXECUTOR.equals(componentName) || STREAM_EXECUTOR.equals(componentName)) && !isNonBlocking) {
          throw CONFIG.threadPoolFactoryIsBlocking(threadPoolName, componentName);
       }
       DefaultThreadFactory threadFactory = threadPoolConfiguration.threadFactory();
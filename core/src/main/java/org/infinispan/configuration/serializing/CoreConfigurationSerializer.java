@@ -184,6 +184,7 @@ private void writeThreads(ConfigurationWriter writer, GlobalConfiguration global
             globalConfiguration.listenerThreadPool(),
             globalConfiguration.nonBlockingThreadPool(),
             globalConfiguration.blockingThreadPool(),
+            globalConfiguration.streamThreadPool(),
             globalConfiguration.transport().remoteCommandThreadPool(),
             globalConfiguration.transport().transportThreadPool())) {
          ThreadFactory threadFactory = threadPoolConfiguration.threadFactory();
@@ -204,6 +205,7 @@ private void writeThreads(ConfigurationWriter writer, GlobalConfiguration global
          writeThreadPool(writer, globalConfiguration.expirationThreadPoolName(), globalConfiguration.expirationThreadPool());
          writeThreadPool(writer, globalConfiguration.listenerThreadPoolName(), globalConfiguration.listenerThreadPool());
          writeThreadPool(writer, globalConfiguration.blockingThreadPoolName(), globalConfiguration.blockingThreadPool());
+         writeThreadPool(writer, globalConfiguration.streamThreadPoolName(), globalConfiguration.streamThreadPool());
          writeThreadPool(writer, globalConfiguration.transport().remoteThreadPoolName(), globalConfiguration.transport().remoteCommandThreadPool());
          writer.writeEndMap();
          writer.writeEndElement();
@@ -264,6 +266,9 @@ private void writeCacheContainer(ConfigurationWriter writer, ConfigurationHolder
          if (globalConfiguration.blockingThreadPool().threadFactory() != null) {
             writer.writeAttribute(Attribute.BLOCKING_EXECUTOR, globalConfiguration.blockingThreadPoolName());
          }
+         if (globalConfiguration.streamThreadPool().threadFactory() != null) {
+            writer.writeAttribute(Attribute.STREAM_EXECUTOR, globalConfiguration.streamThreadPoolName());
+         }
          writeTransport(writer, globalConfiguration);
          writeSecurity(writer, globalConfiguration);
          writeSerialization(writer, globalConfiguration);
@@ -611,6 +616,7 @@ private void writeCommonClusteredCacheAttributes(ConfigurationWriter writer, Con
       ClusteringConfiguration clustering = configuration.clustering();
       writer.writeAttribute(Attribute.MODE, clustering.cacheMode().isSynchronous() ? "SYNC" : "ASYNC");
       clustering.attributes().write(writer, ClusteringConfiguration.REMOTE_TIMEOUT, Attribute.REMOTE_TIMEOUT);
+      clustering.attributes().write(writer, ClusteringConfiguration.REMOTE_READ_POLICY, Attribute.REMOTE_READ_POLICY);
    }
 
    private void writeCommonCacheAttributesElements(ConfigurationWriter writer, String name, Configuration configuration) {
@@ -662,6 +668,7 @@ private void writePartitionHandling(ConfigurationWriter writer, Configuration co
          MergePolicy policy = MergePolicy.fromConfiguration(policyImpl);
          String output = policy == MergePolicy.CUSTOM ? policyImpl.getClass().getName() : policy.toString();
          writer.writeAttribute(Attribute.MERGE_POLICY, output);
+         attributes.write(writer, PartitionHandlingConfiguration.HASH_TREES, Attribute.HASH_TREES);
          writer.writeEndElement();
       }
    }
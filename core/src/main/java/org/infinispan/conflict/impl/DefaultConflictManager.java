@@ -37,6 +37,7 @@
 import org.infinispan.commands.remote.ClusteredGetCommand;
 import org.infinispan.commons.CacheException;
 import org.infinispan.commons.time.TimeService;
+import org.infinispan.commons.util.IntSets;
 import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.configuration.cache.PartitionHandlingConfiguration;
 import org.infinispan.conflict.EntryMergePolicy;
@@ -474,7 +475,8 @@ private class ReplicaSpliterator extends Spliterators.AbstractSpliterator<Map<Ad
       private final long endTime;
       private int nextSegment = 0;
       private Iterator<Map<Address, CacheEntry<K, V>>> iterator = Collections.emptyIterator();
-      private volatile CompletableFuture<List<Map<Address, CacheEntry<K, V>>>> segmentRequestFuture;
+      private Map<Integer, Map<Address, long[]>> hashTrees;
+      private volatile CompletableFuture<?> segmentRequestFuture;
 
       ReplicaSpliterator(LocalizedCacheTopology topology) {
          super(Long.MAX_VALUE, DISTINCT | NONNULL);
@@ -492,8 +494,28 @@ public boolean tryAdvance(Consumer<? super Map<Address, CacheEntry<K, V>>> actio
                   if (log.isTraceEnabled())
                      log.tracef("Cache %s attempting to receive all replicas for segment %s with topology %s", cacheName, nextSegment, topology);
                   long remainingTime = timeService.remainingTime(endTime, TimeUnit.MILLISECONDS);
-                  segmentRequestFuture = stateReceiver.getAllReplicasForSegment(nextSegment, topology, remainingTime);
-                  List<Map<Address, CacheEntry<K, V>>> segmentEntries = segmentRequestFuture.get(remainingTime, TimeUnit.MILLISECONDS);
+                  if (hashTrees == null && cacheConfiguration.clustering().partitionHandling().hashTrees()) {
+                     CompletableFuture<Map<Integer, Map<Address, long[]>>> hashTreesFuture =
+                           stateReceiver.getHashTrees(IntSets.immutableRangeSet(totalSegments), topology, remainingTime);
+                     segmentRequestFuture = hashTreesFuture;
+                     hashTrees = hashTreesFuture.get(remainingTime, TimeUnit.MILLISECONDS);
+                     remainingTime = timeService.remainingTime(endTime, TimeUnit.MILLISECONDS);
+                  }
+                  long leafMask = divergentLeaves(nextSegment);
+                  if (leafMask == 0) {
+                     if (log.isTraceEnabled())
+                        log.tracef("Cache %s skipping segment %s as the hash trees of all replicas match", cacheName, nextSegment);
+                     nextSegment++;
+                     continue;
+                  }
+                  CompletableFuture<List<Map<Address, CacheEntry<K, V>>>> segmentFuture;
+                  if (Long.bitCount(leafMask) > SegmentHashTree.LEAVES / 2) {
+                     segmentFuture = stateReceiver.getAllReplicasForSegment(nextSegment, topology, remainingTime);
+                  } else {
+                     segmentFuture = stateReceiver.getReplicasForSegmentLeaves(nextSegment, leafMask, topology, remainingTime);
+                  }
+                  segmentRequestFuture = segmentFuture;
+                  List<Map<Address, CacheEntry<K, V>>> segmentEntries = segmentFuture.get(remainingTime, TimeUnit.MILLISECONDS);
                   if (log.isTraceEnabled())
                      log.tracef("Cache %s segment %s entries received: %s", cacheName, nextSegment, segmentEntries);
                   nextSegment++;
@@ -519,6 +541,27 @@ public boolean tryAdvance(Consumer<? super Map<Address, CacheEntry<K, V>>> actio
          return true;
       }
 
+      /**
+       * @return a bit set of the hash tree leaves that differ between the replicas of the segment, {@code 0} if all
+       * replicas are identical and {@code -1} if the hash trees are not available
+       */
+      private long divergentLeaves(int segment) {
+         Map<Address, long[]> segmentTrees = hashTrees != null ? hashTrees.get(segment) : null;
+         if (segmentTrees == null)
+            return -1;
+
+         long leafMask = 0;
+         long[] first = null;
+         for (long[] leaves : segmentTrees.values()) {
+            if (first == null) {
+               first = leaves;
+            } else {
+               leafMask |= SegmentHashTree.divergentLeaves(first, leaves);
+            }
+         }
+         return leafMask;
+      }
+
       void stop() {
          if (log.isTraceEnabled()) log.tracef("Cache %s stop() called on ReplicaSpliterator. Current segment %s", cacheName, nextSegment);
          if (segmentRequestFuture != null && !segmentRequestFuture.isDone())
@@ -0,0 +1,144 @@
+package org.infinispan.conflict.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A two level hash (Merkle) tree summarising the entries of a single segment, used to compare the replicas of a
+ * segment during conflict resolution without transferring their entries.
+ * <p>
+ * Every entry is assigned to one of {@link #LEAVES} leaves based on the hash of its key and each leaf holds the XOR of
+ * the hashes of all the entries assigned to it. As XOR is commutative and its own inverse, a leaf can be updated
+ * incrementally when an entry is written or removed, without knowing the other entries of the leaf. The root of the
+ * tree is derived from the leaves, so that two replicas with the same root contain the same entries (ignoring hash
+ * collisions) and, when the roots differ, only the keys in the divergent leaves need to be compared.
+ * <p>
+ * Entry hashes only consider the key and the value, consistently with {@link java.util.Map.Entry#equals(Object)}, so
+ * two replicas that differ only in metadata are not considered divergent. Arrays are hashed by content.
+ *
+ * @since 14.0
+ */
+public final class SegmentHashTree {
+
+   /**
+    * The number of leaves of each tree. Must be 64, so that a set of leaves can be represented as a {@code long}.
+    */
+   public static final int LEAVES = Long.SIZE;
+
+   private final AtomicLongArray leaves = new AtomicLongArray(LEAVES);
+
+   /**
+    * Updates the tree after the entry mapped to {@code key} has changed. Either value may be {@code null} if the entry
+    * was added or removed.
+    *
+    * @param key      the key of the entry
+    * @param oldValue the previous value of the entry, or {@code null} if the entry didn't exist
+    * @param newValue the new value of the entry, or {@code null} if the entry was removed
+    */
+   public void update(Object key, Object oldValue, Object newValue) {
+      int keyHash = contentHash(key);
+      long delta = 0;
+      if (oldValue != null) {
+         delta ^= entryHash(keyHash, oldValue);
+      }
+      if (newValue != null) {
+         delta ^= entryHash(keyHash, newValue);
+      }
+      if (delta != 0) {
+         int leaf = leaf(keyHash);
+         long prev;
+         do {
+            prev = leaves.get(leaf);
+         } while (!leaves.compareAndSet(leaf, prev, prev ^ delta));
+      }
+   }
+
+   /**
+    * Resets the tree, as if the segment contained no entries.
+    */
+   public void clear() {
+      for (int i = 0; i < LEAVES; ++i) {
+         leaves.set(i, 0);
+      }
+   }
+
+   /**
+    * @return a snapshot of the leaves of this tree
+    */
+   public long[] leaves() {
+      long[] snapshot = new long[LEAVES];
+      for (int i = 0; i < LEAVES; ++i) {
+         snapshot[i] = leaves.get(i);
+      }
+      return snapshot;
+   }
+
+   /**
+    * @return the root hash of a tree with the given leaves
+    */
+   public static long root(long[] leaves) {
+      long root = 0;
+      for (long leaf : leaves) {
+         root = 31 * root + mix(leaf);
+      }
+      return root;
+   }
+
+   /**
+    * Compares the leaves of two trees.
+    *
+    * @return a bit set with a bit for each leaf that differs between the trees, {@code 0} if the trees are identical
+    */
+   public static long divergentLeaves(long[] leaves, long[] otherLeaves) {
+      if (root(leaves) == root(otherLeaves)) {
+         return 0;
+      }
+      long mask = 0;
+      for (int i = 0; i < LEAVES; ++i) {
+         if (leaves[i] != otherLeaves[i]) {
+            mask |= 1L << i;
+         }
+      }
+      return mask;
+   }
+
+   /**
+    * @return whether the given key is assigned to one of the leaves in the {@code leafMask} bit set
+    */
+   public static boolean isInLeaves(Object key, long leafMask) {
+      return (leafMask & (1L << leaf(contentHash(key)))) != 0;
+   }
+
+   private static int leaf(int keyHash) {
+      return (int) (mix(keyHash) >>> (Long.SIZE - 6));
+   }
+
+   private static long entryHash(int keyHash, Object value) {
+      // Never 0 for non-null values, so that adding an entry always changes its leaf
+      return mix(31L * keyHash + contentHash(value)) | 1;
+   }
+
+   /**
+    * Arrays, and in particular the {@code byte[]} values of binary caches, only have an identity hash code, which would
+    * make the trees of identical replicas diverge.
+    */
+   private static int contentHash(Object o) {
+      if (o instanceof byte[]) {
+         return Arrays.hashCode((byte[]) o);
+      } else if (o instanceof Object[]) {
+         return Arrays.deepHashCode((Object[]) o);
+      }
+      return Objects.hashCode(o);
+   }
+
+   private static long mix(long h) {
+      // MurmurHash3 64-bit finalizer
+      h ^= h >>> 33;
+      h *= 0xff51afd7ed558ccdL;
+      h ^= h >>> 33;
+      h *= 0xc4ceb9fe1a85ec53L;
+      h ^= h >>> 33;
+      return h;
+   }
+}
@@ -5,6 +5,7 @@
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import org.infinispan.commons.util.IntSet;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.distribution.LocalizedCacheTopology;
 import org.infinispan.factories.scopes.Scope;
@@ -33,5 +34,18 @@
     */
    CompletableFuture<List<Map<Address, CacheEntry<K, V>>>> getAllReplicasForSegment(int segmentId, LocalizedCacheTopology topology, long timeout);
 
+   /**
+    * Return the leaves of the {@link SegmentHashTree} of each write owner of the given segments, so that replicas can
+    * be compared without transferring their entries. A segment is omitted from the result if any of its owners doesn't
+    * maintain hash trees or has left the cluster.
+    */
+   CompletableFuture<Map<Integer, Map<Address, long[]>>> getHashTrees(IntSet segments, LocalizedCacheTopology topology, long timeout);
+
+   /**
+    * Return all replicas of the cache entries of a given segment, restricted to the entries assigned to the
+    * {@link SegmentHashTree} leaves in the {@code leafMask} bit set.
+    */
+   CompletableFuture<List<Map<Address, CacheEntry<K, V>>>> getReplicasForSegmentLeaves(int segmentId, long leafMask, LocalizedCacheTopology topology, long timeout);
+
    void receiveState(Address sender, int topologyId, Collection<StateChunk> stateChunks);
 }
@@ -12,11 +12,14 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.infinispan.commands.CommandsFactory;
+import org.infinispan.commands.remote.CacheRpcCommand;
 import org.infinispan.commons.CacheException;
 import org.infinispan.commons.logging.Log;
 import org.infinispan.commons.logging.LogFactory;
+import org.infinispan.commons.util.IntSet;
 import org.infinispan.commons.util.IntSets;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.container.entries.NullCacheEntry;
@@ -33,8 +36,13 @@
 import org.infinispan.notifications.cachelistener.CacheNotifier;
 import org.infinispan.notifications.cachelistener.annotation.DataRehashed;
 import org.infinispan.notifications.cachelistener.event.DataRehashedEvent;
+import org.infinispan.remoting.inboundhandler.DeliverOrder;
+import org.infinispan.remoting.responses.Response;
+import org.infinispan.remoting.responses.SuccessfulResponse;
 import org.infinispan.remoting.rpc.RpcManager;
+import org.infinispan.remoting.rpc.RpcOptions;
 import org.infinispan.remoting.transport.Address;
+import org.infinispan.remoting.transport.impl.MapResponseCollector;
 import org.infinispan.statetransfer.InboundTransferTask;
 import org.infinispan.statetransfer.StateChunk;
 import org.infinispan.topology.CacheTopology;
@@ -98,6 +106,97 @@ public CompletableFuture<List<Map<Address, CacheEntry<K, V>>>> getAllReplicasFor
       return requestMap.computeIfAbsent(segmentId, id -> new SegmentRequest(id, topology, timeout)).requestState();
    }
 
+   @Override
+   public CompletableFuture<Map<Integer, Map<Address, long[]>>> getHashTrees(IntSet segments, LocalizedCacheTopology topology, long timeout) {
+      Address localAddress = rpcManager.getAddress();
+      Map<Address, IntSet> segmentsByOwner = new HashMap<>();
+      segments.forEach((int segment) -> {
+         for (Address owner : topology.getSegmentDistribution(segment).writeOwners()) {
+            segmentsByOwner.computeIfAbsent(owner, o -> IntSets.mutableEmptySet(topology.getNumSegments())).set(segment);
+         }
+      });
+
+      Map<Address, Map<Integer, long[]>> treesByOwner = new HashMap<>();
+      IntSet localSegments = segmentsByOwner.remove(localAddress);
+      if (localSegments != null) {
+         Map<Integer, long[]> localTrees = new HashMap<>();
+         localSegments.forEach((int segment) -> {
+            SegmentHashTree hashTree = dataContainer.getHashTree(segment);
+            if (hashTree != null) {
+               localTrees.put(segment, hashTree.leaves());
+            }
+         });
+         treesByOwner.put(localAddress, localTrees);
+      }
+
+      if (log.isTraceEnabled()) log.tracef("Cache %s requesting hash trees of segments %s from %s with topologyId=%s",
+            cacheName, segments, segmentsByOwner.keySet(), topology.getTopologyId());
+
+      RpcOptions rpcOptions = new RpcOptions(DeliverOrder.NONE, timeout, TimeUnit.MILLISECONDS);
+      return rpcManager.invokeCommands(segmentsByOwner.keySet(),
+            owner -> commandsFactory.buildConflictResolutionGetHashTreesCommand(topology.getTopologyId(), segmentsByOwner.get(owner)),
+            MapResponseCollector.ignoreLeavers(segmentsByOwner.size()), rpcOptions)
+            .thenApply(responses -> {
+               for (Map.Entry<Address, Response> entry : responses.entrySet()) {
+                  Response rsp = entry.getValue();
+                  if (rsp instanceof SuccessfulResponse) {
+                     treesByOwner.put(entry.getKey(), (Map<Integer, long[]>) ((SuccessfulResponse) rsp).getResponseValue());
+                  } else if (log.isTraceEnabled()) {
+                     log.tracef("Cache %s ignoring hash trees response %s from %s", cacheName, rsp, entry.getKey());
+                  }
+               }
+               Map<Integer, Map<Address, long[]>> treesBySegment = new HashMap<>();
+               segments.forEach((int segment) -> {
+                  Map<Address, long[]> segmentTrees = new HashMap<>();
+                  for (Address owner : topology.getSegmentDistribution(segment).writeOwners()) {
+                     Map<Integer, long[]> ownerTrees = treesByOwner.get(owner);
+                     long[] leaves = ownerTrees != null ? ownerTrees.get(segment) : null;
+                     if (leaves == null)
+                        return;
+                     segmentTrees.put(owner, leaves);
+                  }
+                  treesBySegment.put(segment, segmentTrees);
+               });
+               return treesBySegment;
+            }).toCompletableFuture();
+   }
+
+   @Override
+   public CompletableFuture<List<Map<Address, CacheEntry<K, V>>>> getReplicasForSegmentLeaves(int segmentId, long leafMask,
+                                                                                              LocalizedCacheTopology topology, long timeout) {
+      Address localAddress = rpcManager.getAddress();
+      List<Address> replicaHosts = topology.getSegmentDistribution(segmentId).writeOwners();
+      Map<K, Map<Address, CacheEntry<K, V>>> keyReplicaMap = new HashMap<>();
+      IntSet segments = IntSets.immutableSet(segmentId);
+      if (replicaHosts.contains(localAddress)) {
+         dataContainer.forEach(segments, entry -> {
+            if (SegmentHashTree.isInLeaves(entry.getKey(), leafMask)) {
+               addKeyToReplicaMap(keyReplicaMap, replicaHosts, localAddress, entry);
+            }
+         });
+      }
+
+      List<Address> remoteHosts = new ArrayList<>(replicaHosts);
+      remoteHosts.remove(localAddress);
+      if (log.isTraceEnabled()) log.tracef("Cache %s attempting to receive replicas for leaves %s of segment %s from %s with topologyId=%s",
+            cacheName, Long.toHexString(leafMask), segmentId, remoteHosts, topology.getTopologyId());
+
+      CacheRpcCommand cmd = commandsFactory.buildConflictResolutionGetEntriesCommand(topology.getTopologyId(), segments, leafMask);
+      RpcOptions rpcOptions = new RpcOptions(DeliverOrder.NONE, timeout, TimeUnit.MILLISECONDS);
+      return rpcManager.invokeCommand(remoteHosts, cmd, MapResponseCollector.validOnly(remoteHosts.size()), rpcOptions)
+            .thenApply(responses -> {
+               for (Map.Entry<Address, Response> entry : responses.entrySet()) {
+                  Response rsp = entry.getValue();
+                  if (!(rsp instanceof SuccessfulResponse))
+                     throw new CacheException(String.format("Unable to retrieve segment %s from %s: %s", segmentId, entry.getKey(), rsp));
+
+                  Collection<CacheEntry<K, V>> entries = (Collection<CacheEntry<K, V>>) ((SuccessfulResponse) rsp).getResponseValue();
+                  entries.forEach(ice -> addKeyToReplicaMap(keyReplicaMap, replicaHosts, entry.getKey(), ice));
+               }
+               return Collections.unmodifiableList(new ArrayList<>(keyReplicaMap.values()));
+            }).toCompletableFuture();
+   }
+
    @Override
    public void receiveState(Address sender, int topologyId, Collection<StateChunk> stateChunks) {
       if (stateChunks.isEmpty()) {
@@ -130,6 +229,17 @@ InboundTransferTask createTransferTask(int segmentId, Address source, CacheTopol
             rpcManager, commandsFactory, transferTimeout, cacheName, false);
    }
 
+   private void addKeyToReplicaMap(Map<K, Map<Address, CacheEntry<K, V>>> keyReplicaMap, List<Address> replicaHosts,
+                                   Address address, CacheEntry<K, V> ice) {
+      // If a map doesn't already exist for a given key, then init a map that contains all hos with a NullValueEntry
+      // This is necessary to determine if a key is missing on a given host as it artificially introduces a conflict
+      keyReplicaMap.computeIfAbsent(ice.getKey(), k -> {
+         Map<Address, CacheEntry<K, V>> map = new HashMap<>();
+         replicaHosts.forEach(a -> map.put(a, NullCacheEntry.getInstance()));
+         return map;
+      }).put(address, ice);
+   }
+
    class SegmentRequest {
       final int segmentId;
       final LocalizedCacheTopology topology;
@@ -261,13 +371,7 @@ synchronized void completeRequest() {
       }
 
       void addKeyToReplicaMap(Address address, CacheEntry<K, V> ice) {
-         // If a map doesn't already exist for a given key, then init a map that contains all hos with a NullValueEntry
-         // This is necessary to determine if a key is missing on a given host as it artificially introduces a conflict
-         keyReplicaMap.computeIfAbsent(ice.getKey(), k -> {
-            Map<Address, CacheEntry<K, V>> map = new HashMap<>();
-            replicaHosts.forEach(a -> map.put(a, NullCacheEntry.getInstance()));
-            return map;
-         }).put(address, ice);
+         StateReceiverImpl.this.addKeyToReplicaMap(keyReplicaMap, replicaHosts, address, ice);
       }
 
       @Override
@@ -49,6 +49,16 @@ public long calculateSize(K key, InternalCacheEntry<K, V> ice) {
       } else if (ice instanceof TransientMortalCacheEntry) {
          noMetadataSize += 32;
          metadataAware = false;
+      } else if (ice instanceof CompactCacheEntry) {
+         // The version and 2 longs each for the lifespan and the max idle
+         noMetadataSize += 8;
+         if (ice.getLifespan() > -1) {
+            noMetadataSize += 16;
+         }
+         if (ice.getMaxIdle() > -1) {
+            noMetadataSize += 16;
+         }
+         metadataAware = false;
       } else if (ice instanceof MetadataMortalCacheEntry) {
          metadataAware = true;
       } else if (ice instanceof MetadataTransientCacheEntry) {
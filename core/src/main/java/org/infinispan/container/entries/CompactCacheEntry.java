@@ -0,0 +1,512 @@
+package org.infinispan.container.entries;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.infinispan.commons.io.UnsignedNumeric;
+import org.infinispan.commons.marshall.AbstractExternalizer;
+import org.infinispan.commons.util.Util;
+import org.infinispan.container.entries.metadata.MetadataImmortalCacheValue;
+import org.infinispan.container.entries.metadata.MetadataMortalCacheValue;
+import org.infinispan.container.entries.metadata.MetadataTransientCacheValue;
+import org.infinispan.container.entries.metadata.MetadataTransientMortalCacheValue;
+import org.infinispan.container.versioning.EntryVersion;
+import org.infinispan.container.versioning.NumericVersion;
+import org.infinispan.marshall.core.Ids;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.metadata.impl.PrivateMetadata;
+
+/**
+ * A cache entry with {@link EmbeddedMetadata} and a {@link NumericVersion}, that keeps the lifespan, the max idle and
+ * the version as primitive fields instead of referencing the metadata and the version objects.
+ * <p>
+ * The metadata is recreated by {@link #getMetadata()}, so only metadata that is equal to the recreated instance can
+ * be stored in a compact entry, see {@link #isCompact(Metadata)}. Other metadata is stored in the {@link
+ * org.infinispan.container.entries.metadata.MetadataAware} entries.
+ *
+ * @since 14.0
+ */
+public abstract class CompactCacheEntry extends AbstractInternalCacheEntry {
+
+   protected long version;
+
+   protected CompactCacheEntry(Object key, Object value, PrivateMetadata internalMetadata, long version) {
+      super(key, value, internalMetadata);
+      this.version = version;
+   }
+
+   /**
+    * @return {@code true} if the metadata can be stored in a compact entry.
+    */
+   public static boolean isCompact(Metadata metadata) {
+      EntryVersion version = metadata.version();
+      if (version == null || version.getClass() != NumericVersion.class) {
+         return false;
+      }
+      // the metadata is recreated by the builder, the class must be the one chosen by the builder
+      Class<?> metadataClass = metadata.getClass();
+      if (metadata.lifespan() > -1) {
+         return metadata.maxIdle() > -1 ? metadataClass == EmbeddedMetadata.EmbeddedExpirableMetadata.class :
+               metadataClass == EmbeddedMetadata.EmbeddedLifespanExpirableMetadata.class;
+      } else {
+         return metadata.maxIdle() > -1 ? metadataClass == EmbeddedMetadata.EmbeddedMaxIdleExpirableMetadata.class :
+               metadataClass == EmbeddedMetadata.class;
+      }
+   }
+
+   /**
+    * Creates a compact entry, the metadata must be {@link #isCompact(Metadata) compact}.
+    */
+   public static CompactCacheEntry create(Object key, Object value, Metadata metadata, long created, long lastUsed) {
+      return create(key, value, null, ((NumericVersion) metadata.version()).getVersion(), metadata.lifespan(),
+            metadata.maxIdle(), created, lastUsed);
+   }
+
+   /**
+    * Creates a compact entry with a {@link NumericVersion}.
+    */
+   public static CompactCacheEntry create(Object key, Object value, PrivateMetadata internalMetadata, long version,
+                                          long lifespan, long maxIdle, long created, long lastUsed) {
+      if (lifespan < 0 && maxIdle < 0) return new Immortal(key, value, internalMetadata, version);
+      if (lifespan > -1 && maxIdle < 0) return new Mortal(key, value, internalMetadata, version, lifespan, created);
+      if (lifespan < 0 && maxIdle > -1) return new Transient(key, value, internalMetadata, version, maxIdle, lastUsed);
+      return new TransientMortal(key, value, internalMetadata, version, lifespan, created, maxIdle, lastUsed);
+   }
+
+   /**
+    * Updates the version and the expiration settings of this entry, if it has the same kind of expiration as the
+    * {@link #isCompact(Metadata) compact} metadata.
+    *
+    * @return {@code true} if the entry was updated, {@code false} if a new entry must be created.
+    */
+   public abstract boolean update(Metadata metadata);
+
+   public final long getVersion() {
+      return version;
+   }
+
+   @Override
+   public final Metadata getMetadata() {
+      Metadata.Builder builder = new EmbeddedMetadata.Builder().version(new NumericVersion(version));
+      long lifespan = getLifespan();
+      if (lifespan > -1) {
+         builder.lifespan(lifespan);
+      }
+      long maxIdle = getMaxIdle();
+      if (maxIdle > -1) {
+         builder.maxIdle(maxIdle);
+      }
+      return builder.build();
+   }
+
+   @Override
+   public final void setMetadata(Metadata metadata) {
+      throw new IllegalStateException(
+            "Metadata cannot be set on compact entries. They need to be recreated via the entry factory.");
+   }
+
+   InternalCacheValue<?> withInternalMetadata(InternalCacheValue<?> cacheValue) {
+      cacheValue.setInternalMetadata(internalMetadata);
+      return cacheValue;
+   }
+
+   @Override
+   public CompactCacheEntry clone() {
+      return (CompactCacheEntry) super.clone();
+   }
+
+   @Override
+   protected void appendFieldsToString(StringBuilder builder) {
+      super.appendFieldsToString(builder);
+      builder.append(", version=").append(version);
+   }
+
+   static final class Immortal extends CompactCacheEntry {
+      Immortal(Object key, Object value, PrivateMetadata internalMetadata, long version) {
+         super(key, value, internalMetadata, version);
+      }
+
+      @Override
+      public boolean update(Metadata metadata) {
+         if (metadata.lifespan() > -1 || metadata.maxIdle() > -1) {
+            return false;
+         }
+         version = ((NumericVersion) metadata.version()).getVersion();
+         return true;
+      }
+
+      @Override
+      public boolean isExpired(long now) {
+         return false;
+      }
+
+      @Override
+      public boolean canExpire() {
+         return false;
+      }
+
+      @Override
+      public long getCreated() {
+         return -1;
+      }
+
+      @Override
+      public long getLastUsed() {
+         return -1;
+      }
+
+      @Override
+      public long getLifespan() {
+         return -1;
+      }
+
+      @Override
+      public long getMaxIdle() {
+         return -1;
+      }
+
+      @Override
+      public long getExpiryTime() {
+         return -1;
+      }
+
+      @Override
+      public void touch(long currentTimeMillis) {
+         // no-op
+      }
+
+      @Override
+      public void reincarnate(long now) {
+         // no-op
+      }
+
+      @Override
+      public InternalCacheValue<?> toInternalCacheValue() {
+         return withInternalMetadata(new MetadataImmortalCacheValue(value, getMetadata()));
+      }
+   }
+
+   static final class Mortal extends CompactCacheEntry {
+      private long lifespan;
+      private long created;
+
+      Mortal(Object key, Object value, PrivateMetadata internalMetadata, long version, long lifespan, long created) {
+         super(key, value, internalMetadata, version);
+         this.lifespan = lifespan;
+         this.created = created;
+      }
+
+      @Override
+      public boolean update(Metadata metadata) {
+         if (metadata.lifespan() < 0 || metadata.maxIdle() > -1) {
+            return false;
+         }
+         version = ((NumericVersion) metadata.version()).getVersion();
+         lifespan = metadata.lifespan();
+         return true;
+      }
+
+      @Override
+      public boolean isExpired(long now) {
+         return ExpiryHelper.isExpiredMortal(lifespan, created, now);
+      }
+
+      @Override
+      public boolean canExpire() {
+         return true;
+      }
+
+      @Override
+      public long getCreated() {
+         return created;
+      }
+
+      @Override
+      public long getLastUsed() {
+         return -1;
+      }
+
+      @Override
+      public long getLifespan() {
+         return lifespan;
+      }
+
+      @Override
+      public long getMaxIdle() {
+         return -1;
+      }
+
+      @Override
+      public long getExpiryTime() {
+         return created + lifespan;
+      }
+
+      @Override
+      public void touch(long currentTimeMillis) {
+         // no-op
+      }
+
+      @Override
+      public void reincarnate(long now) {
+         this.created = now;
+      }
+
+      @Override
+      public InternalCacheValue<?> toInternalCacheValue() {
+         return withInternalMetadata(new MetadataMortalCacheValue(value, getMetadata(), created));
+      }
+
+      @Override
+      protected void appendFieldsToString(StringBuilder builder) {
+         super.appendFieldsToString(builder);
+         builder.append(", created=").append(created);
+         builder.append(", lifespan=").append(lifespan);
+      }
+   }
+
+   static final class Transient extends CompactCacheEntry {
+      private long maxIdle;
+      private long lastUsed;
+
+      Transient(Object key, Object value, PrivateMetadata internalMetadata, long version, long maxIdle,
+                long lastUsed) {
+         super(key, value, internalMetadata, version);
+         this.maxIdle = maxIdle;
+         this.lastUsed = lastUsed;
+      }
+
+      @Override
+      public boolean update(Metadata metadata) {
+         if (metadata.lifespan() > -1 || metadata.maxIdle() < 0) {
+            return false;
+         }
+         version = ((NumericVersion) metadata.version()).getVersion();
+         maxIdle = metadata.maxIdle();
+         return true;
+      }
+
+      @Override
+      public boolean isExpired(long now) {
+         return ExpiryHelper.isExpiredTransient(maxIdle, lastUsed, now);
+      }
+
+      @Override
+      public boolean canExpire() {
+         return true;
+      }
+
+      @Override
+      public long getCreated() {
+         return -1;
+      }
+
+      @Override
+      public long getLastUsed() {
+         return lastUsed;
+      }
+
+      @Override
+      public long getLifespan() {
+         return -1;
+      }
+
+      @Override
+      public long getMaxIdle() {
+         return maxIdle;
+      }
+
+      @Override
+      public long getExpiryTime() {
+         return lastUsed + maxIdle;
+      }
+
+      @Override
+      public void touch(long currentTimeMillis) {
+         lastUsed = currentTimeMillis;
+      }
+
+      @Override
+      public void reincarnate(long now) {
+         // no-op
+      }
+
+      @Override
+      public InternalCacheValue<?> toInternalCacheValue() {
+         return withInternalMetadata(new MetadataTransientCacheValue(value, getMetadata(), lastUsed));
+      }
+
+      @Override
+      protected void appendFieldsToString(StringBuilder builder) {
+         super.appendFieldsToString(builder);
+         builder.append(", lastUsed=").append(lastUsed);
+         builder.append(", maxIdle=").append(maxIdle);
+      }
+   }
+
+   static final class TransientMortal extends CompactCacheEntry {
+      private long lifespan;
+      private long created;
+      private long maxIdle;
+      private long lastUsed;
+
+      TransientMortal(Object key, Object value, PrivateMetadata internalMetadata, long version, long lifespan,
+                      long created, long maxIdle, long lastUsed) {
+         super(key, value, internalMetadata, version);
+         this.lifespan = lifespan;
+         this.created = created;
+         this.maxIdle = maxIdle;
+         this.lastUsed = lastUsed;
+      }
+
+      @Override
+      public boolean update(Metadata metadata) {
+         if (metadata.lifespan() < 0 || metadata.maxIdle() < 0) {
+            return false;
+         }
+         version = ((NumericVersion) metadata.version()).getVersion();
+         lifespan = metadata.lifespan();
+         maxIdle = metadata.maxIdle();
+         return true;
+      }
+
+      @Override
+      public boolean isExpired(long now) {
+         return ExpiryHelper.isExpiredTransientMortal(maxIdle, lastUsed, lifespan, created, now);
+      }
+
+      @Override
+      public boolean canExpire() {
+         return true;
+      }
+
+      @Override
+      public long getCreated() {
+         return created;
+      }
+
+      @Override
+      public long getLastUsed() {
+         return lastUsed;
+      }
+
+      @Override
+      public long getLifespan() {
+         return lifespan;
+      }
+
+      @Override
+      public long getMaxIdle() {
+         return maxIdle;
+      }
+
+      @Override
+      public long getExpiryTime() {
+         return ExpiryHelper.mostRecentExpirationTime(created + lifespan, lastUsed + maxIdle);
+      }
+
+      @Override
+      public void touch(long currentTimeMillis) {
+         lastUsed = currentTimeMillis;
+      }
+
+      @Override
+      public void reincarnate(long now) {
+         this.created = now;
+      }
+
+      @Override
+      public InternalCacheValue<?> toInternalCacheValue() {
+         return withInternalMetadata(new MetadataTransientMortalCacheValue(value, getMetadata(), created, lastUsed));
+      }
+
+      @Override
+      protected void appendFieldsToString(StringBuilder builder) {
+         super.appendFieldsToString(builder);
+         builder.append(", created=").append(created);
+         builder.append(", lastUsed=").append(lastUsed);
+         builder.append(", lifespan=").append(lifespan);
+         builder.append(", maxIdle=").append(maxIdle);
+      }
+   }
+
+   public static class Externalizer extends AbstractExternalizer<CompactCacheEntry> {
+      private static final int IMMORTAL = 0;
+      private static final int MORTAL = 1;
+      private static final int TRANSIENT = 2;
+      private static final int TRANSIENT_MORTAL = 3;
+      private final Map<Class<?>, Integer> numbers = new HashMap<>(4);
+
+      public Externalizer() {
+         numbers.put(Immortal.class, IMMORTAL);
+         numbers.put(Mortal.class, MORTAL);
+         numbers.put(Transient.class, TRANSIENT);
+         numbers.put(TransientMortal.class, TRANSIENT_MORTAL);
+      }
+
+      @Override
+      public void writeObject(ObjectOutput output, CompactCacheEntry ice) throws IOException {
+         int number = numbers.getOrDefault(ice.getClass(), -1);
+         output.write(number);
+         output.writeObject(ice.key);
+         output.writeObject(ice.value);
+         output.writeObject(ice.internalMetadata);
+         output.writeLong(ice.version);
+         switch (number) {
+            case MORTAL:
+            case TRANSIENT_MORTAL:
+               UnsignedNumeric.writeUnsignedLong(output, ice.getCreated());
+               output.writeLong(ice.getLifespan());
+         }
+         switch (number) {
+            case TRANSIENT:
+            case TRANSIENT_MORTAL:
+               UnsignedNumeric.writeUnsignedLong(output, ice.getLastUsed());
+               output.writeLong(ice.getMaxIdle());
+         }
+      }
+
+      @Override
+      public CompactCacheEntry readObject(ObjectInput input) throws IOException, ClassNotFoundException {
+         int number = input.readByte();
+         Object key = input.readObject();
+         Object value = input.readObject();
+         PrivateMetadata internalMetadata = (PrivateMetadata) input.readObject();
+         long version = input.readLong();
+         long created = -1;
+         long lifespan = -1;
+         long lastUsed = -1;
+         long maxIdle = -1;
+         switch (number) {
+            case MORTAL:
+            case TRANSIENT_MORTAL:
+               created = UnsignedNumeric.readUnsignedLong(input);
+               lifespan = input.readLong();
+         }
+         switch (number) {
+            case TRANSIENT:
+            case TRANSIENT_MORTAL:
+               lastUsed = UnsignedNumeric.readUnsignedLong(input);
+               maxIdle = input.readLong();
+         }
+         if (number < IMMORTAL || number > TRANSIENT_MORTAL) {
+            throw new IllegalStateException("Unknown compact entry type " + number);
+         }
+         return create(key, value, internalMetadata, version, lifespan, maxIdle, created, lastUsed);
+      }
+
+      @Override
+      public Integer getId() {
+         return Ids.COMPACT_CACHE_ENTRY;
+      }
+
+      @Override
+      public Set<Class<? extends CompactCacheEntry>> getTypeClasses() {
+         return Util.asSet(Immortal.class, Mortal.class, Transient.class, TransientMortal.class);
+      }
+   }
+}
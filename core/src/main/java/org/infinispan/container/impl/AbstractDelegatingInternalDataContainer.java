@@ -7,6 +7,7 @@
 import java.util.function.ObjIntConsumer;
 
 import org.infinispan.commons.util.IntSet;
+import org.infinispan.conflict.impl.SegmentHashTree;
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.factories.ComponentRegistry;
 import org.infinispan.factories.annotations.Inject;
@@ -202,6 +203,11 @@ public void removeSegments(IntSet segments) {
       delegate().removeSegments(segments);
    }
 
+   @Override
+   public SegmentHashTree getHashTree(int segment) {
+      return delegate().getHashTree(segment);
+   }
+
    @Override
    public void addRemovalListener(Consumer<Iterable<InternalCacheEntry<K, V>>> listener) {
       delegate().addRemovalListener(listener);
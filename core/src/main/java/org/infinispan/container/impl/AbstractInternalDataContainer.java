@@ -126,6 +126,8 @@ public void put(int segment, K k, V v, Metadata metadata, PrivateMetadata intern
             l1Entry = true;
          }
          InternalCacheEntry<K, V> e = entries.get(k);
+         // The factory may update the existing entry in place
+         V previousValue = e != null ? e.getValue() : null;
 
          if (log.isTraceEnabled()) {
             log.tracef("Creating new ICE for writing. Existing=%s, metadata=%s, new value=%s", e, metadata, toStr(v));
@@ -149,7 +151,11 @@ public void put(int segment, K k, V v, Metadata metadata, PrivateMetadata intern
          copy.setInternalMetadata(internalMetadata);
          if (log.isTraceEnabled())
             log.tracef("Store %s=%s in container", k, copy);
-         entries.put(k, copy);
+         InternalCacheEntry<K, V> previous = entries.put(k, copy);
+         if (previous != e) {
+            previousValue = previous != null ? previous.getValue() : null;
+         }
+         entryUpdated(segment, k, previousValue, v);
       } else {
          log.tracef("Insertion attempted for key: %s but there was no map created for it at segment: %d", k, segment);
       }
@@ -187,6 +193,9 @@ public InternalCacheEntry<K, V> remove(int segment, Object k) {
          if (log.isTraceEnabled()) {
             log.tracef("Removed %s=%s from container", k, e);
          }
+         if (e != null) {
+            entryUpdated(segment, e.getKey(), e.getValue(), null);
+         }
 
          return e == null || (e.canExpire() && e.isExpired(timeService.wallClockTime())) ? null : e;
       }
@@ -212,6 +221,7 @@ public CompletionStage<Void> evict(int segment, K key) {
          // - we don't need eviction manager either as it is handled in NotifyHelper
          evictionStageRef.set(handleEviction(entry, null, passivator.running(), null, this, null));
          computeEntryRemoved(o, entry);
+         entryUpdated(segment, o, entry.getValue(), null);
          return null;
       });
       return evictionStageRef.get();
@@ -226,14 +236,21 @@ public void evict(K key) {
    public InternalCacheEntry<K, V> compute(int segment, K key, DataContainer.ComputeAction<K, V> action) {
       PeekableTouchableMap<K, V> entries = getMapForSegment(segment);
       return entries != null ? entries.compute(key, (k, oldEntry) -> {
+         // The action may update the existing entry in place
+         V oldValue = oldEntry != null ? oldEntry.getValue() : null;
          InternalCacheEntry<K, V> newEntry = action.compute(k, oldEntry, entryFactory);
          if (newEntry == oldEntry) {
+            if (oldEntry != null) {
+               entryUpdated(segment, k, oldValue, oldEntry.getValue());
+            }
             return oldEntry;
          } else if (newEntry == null) {
             computeEntryRemoved(k, oldEntry);
+            entryUpdated(segment, k, oldValue, null);
             return null;
          }
          computeEntryWritten(k, newEntry);
+         entryUpdated(segment, k, oldValue, newEntry.getValue());
          if (log.isTraceEnabled())
             log.tracef("Store %s in container", newEntry);
          return newEntry;
@@ -273,6 +290,19 @@ protected void computeEntryRemoved(K key, InternalCacheEntry<K, V> value) {
       // Do nothing by default
    }
 
+   /**
+    * This method is invoked every time the entry mapped to a key is added, updated or removed through
+    * {@link #put(int, Object, Object, Metadata, PrivateMetadata, long, long)}, {@link #remove(int, Object)},
+    * {@link #evict(int, Object)} or {@link #compute(int, Object, DataContainer.ComputeAction)}
+    * @param segment the segment of the key
+    * @param key the key
+    * @param oldValue the previous value, or {@code null} if the key was not present
+    * @param newValue the new value, or {@code null} if the key was removed
+    */
+   protected void entryUpdated(int segment, K key, V oldValue, V newValue) {
+      // Do nothing by default
+   }
+
    @Override
    public void addRemovalListener(Consumer<Iterable<InternalCacheEntry<K, V>>> listener) {
       listeners.add(listener);
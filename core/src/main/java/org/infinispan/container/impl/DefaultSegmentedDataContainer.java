@@ -24,6 +24,7 @@
 import org.infinispan.commons.util.ConcatIterator;
 import org.infinispan.commons.util.FlattenSpliterator;
 import org.infinispan.commons.util.IntSet;
+import org.infinispan.conflict.impl.SegmentHashTree;
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.factories.annotations.Start;
 import org.infinispan.factories.annotations.Stop;
@@ -47,6 +48,7 @@
    protected final AtomicReferenceArray<PeekableTouchableMap<K, V>> maps;
    protected final Supplier<PeekableTouchableMap<K, V>> mapSupplier;
    protected boolean shouldStopSegments;
+   protected SegmentHashTree[] hashTrees;
 
    public DefaultSegmentedDataContainer(Supplier<PeekableTouchableMap<K, V>> mapSupplier, int numSegments) {
       maps = new AtomicReferenceArray<>(numSegments);
@@ -55,6 +57,14 @@ public DefaultSegmentedDataContainer(Supplier<PeekableTouchableMap<K, V>> mapSup
 
    @Start
    public void start() {
+      // Bounded containers evict entries without going through entryUpdated and L1 entries must not be included
+      if (configuration.clustering().partitionHandling().hashTrees() && !configuration.memory().isEvictionEnabled()
+            && !configuration.clustering().l1().enabled()) {
+         hashTrees = new SegmentHashTree[maps.length()];
+         for (int i = 0; i < hashTrees.length; ++i) {
+            hashTrees[i] = new SegmentHashTree();
+         }
+      }
       // Local (invalidation), replicated and scattered cache we just instantiate all the maps immediately
       // Scattered needs this for backups as they can be for any segment
       // Distributed needs them all only at beginning for preload of data - rehash event will remove others
@@ -84,6 +94,18 @@ public PeekableTouchableMap<K, V> getMapForSegment(int segment) {
       return maps.get(segment);
    }
 
+   @Override
+   public SegmentHashTree getHashTree(int segment) {
+      return hashTrees != null ? hashTrees[segment] : null;
+   }
+
+   @Override
+   protected void entryUpdated(int segment, K key, V oldValue, V newValue) {
+      if (hashTrees != null) {
+         hashTrees[segment].update(key, oldValue, newValue);
+      }
+   }
+
    @Override
    public Publisher<InternalCacheEntry<K, V>> publisher(int segment) {
       return Flowable.defer(() -> {
@@ -214,11 +236,19 @@ public void clear() {
       for (int i = 0; i < maps.length(); ++i) {
          ConcurrentMap<K, InternalCacheEntry<K, V>> map = maps.get(i);
          if (map != null) {
+            clearHashTree(i);
             map.clear();
          }
       }
    }
 
+   @Override
+   public void clear(IntSet segments) {
+      // Clear the trees first, a concurrent write can only leave an extra hash in them and not a missing one
+      segments.forEach((IntConsumer) this::clearHashTree);
+      super.clear(segments);
+   }
+
    @Override
    public void forEach(IntSet segments, Consumer<? super InternalCacheEntry<K, V>> action) {
       Predicate<InternalCacheEntry<K, V>> expiredPredicate = expiredIterationPredicate(timeService.wallClockTime());
@@ -286,6 +316,7 @@ private void startNewMap(int segment) {
    private void stopMap(int segment, boolean notifyListener) {
       ConcurrentMap<K, InternalCacheEntry<K, V>> map = maps.getAndSet(segment, null);
       if (map != null) {
+         clearHashTree(segment);
          if (notifyListener && !map.isEmpty()) {
             listeners.forEach(c -> c.accept(map.values()));
          }
@@ -298,4 +329,10 @@ private void stopMap(int segment, boolean notifyListener) {
          }
       }
    }
+
+   private void clearHashTree(int segment) {
+      if (hashTrees != null) {
+         hashTrees[segment].clear();
+      }
+   }
 }
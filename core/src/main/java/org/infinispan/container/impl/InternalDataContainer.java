@@ -8,6 +8,7 @@
 
 import org.infinispan.commons.util.IntSet;
 import org.infinispan.commons.util.IntSets;
+import org.infinispan.conflict.impl.SegmentHashTree;
 import org.infinispan.container.DataContainer;
 import org.infinispan.container.entries.InternalCacheEntry;
 import org.infinispan.metadata.Metadata;
@@ -276,6 +277,16 @@ default void forEach(IntSet segments, Consumer<? super InternalCacheEntry<K, V>>
     */
    void removeRemovalListener(Object listener);
 
+   /**
+    * Returns the hash tree summarising the entries of the given segment, which is maintained incrementally on every
+    * write when enabled via {@link org.infinispan.configuration.cache.PartitionHandlingConfiguration#hashTrees()}.
+    * @param segment the segment
+    * @return the hash tree of the segment or {@code null} if this container doesn't maintain hash trees
+    */
+   default SegmentHashTree getHashTree(int segment) {
+      return null;
+   }
+
    /**
     * Method used to cleanup any pending data, such as evictions
     */
@@ -4,6 +4,7 @@
 
 import org.infinispan.commons.time.TimeService;
 import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.container.entries.CompactCacheEntry;
 import org.infinispan.container.entries.ImmortalCacheEntry;
 import org.infinispan.container.entries.ImmortalCacheValue;
 import org.infinispan.container.entries.InternalCacheEntry;
@@ -55,6 +56,9 @@ public InternalCacheEntry create(Object key, Object value, Metadata metadata) {
          if (lifespan > -1 && maxIdle < 0) return new MortalCacheEntry(key, value, lifespan, timeService.wallClockTime());
          if (lifespan < 0 && maxIdle > -1) return new TransientCacheEntry(key, value, maxIdle, timeService.wallClockTime());
          return new TransientMortalCacheEntry(key, value, maxIdle, lifespan, timeService.wallClockTime());
+      } else if (CompactCacheEntry.isCompact(metadata)) {
+         long now = lifespan > -1 || maxIdle > -1 ? timeService.wallClockTime() : -1;
+         return CompactCacheEntry.create(key, value, metadata, now, now);
       } else {
          if (lifespan < 0 && maxIdle < 0) return new MetadataImmortalCacheEntry(key, value, metadata);
          if (lifespan > -1 && maxIdle < 0) return new MetadataMortalCacheEntry(key, value, metadata, timeService.wallClockTime());
@@ -93,6 +97,7 @@ public InternalCacheEntry create(Object key, Object value, EntryVersion version,
          // If no metadata passed, assumed embedded metadata
          Metadata metadata = new EmbeddedMetadata.Builder()
                .lifespan(lifespan).maxIdle(maxIdle).version(version).build();
+         if (CompactCacheEntry.isCompact(metadata)) return CompactCacheEntry.create(key, value, metadata, created, lastUsed);
          if (lifespan < 0 && maxIdle < 0) return new MetadataImmortalCacheEntry(key, value, metadata);
          if (lifespan > -1 && maxIdle < 0) return new MetadataMortalCacheEntry(key, value, metadata, created);
          if (lifespan < 0 && maxIdle > -1) return new MetadataTransientCacheEntry(key, value, metadata, lastUsed);
@@ -111,6 +116,7 @@ public InternalCacheEntry create(Object key, Object value, Metadata metadata, lo
          // Metadata to store, take lifespan and maxIdle settings from it
          long metaLifespan = metadata.lifespan();
          long metaMaxIdle = metadata.maxIdle();
+         if (CompactCacheEntry.isCompact(metadata)) return CompactCacheEntry.create(key, value, metadata, created, lastUsed);
          if (metaLifespan < 0 && metaMaxIdle < 0) return new MetadataImmortalCacheEntry(key, value, metadata);
          if (metaLifespan > -1 && metaMaxIdle < 0) return new MetadataMortalCacheEntry(key, value, metadata, created);
          if (metaLifespan < 0 && metaMaxIdle > -1) return new MetadataTransientCacheEntry(key, value, metadata, lastUsed);
@@ -157,6 +163,10 @@ public InternalCacheEntry create(Object key, Object value, Metadata metadata, lo
          // Metadata to store, take lifespan and maxIdle settings from it
          long metaLifespan = metadata.lifespan();
          long metaMaxIdle = metadata.maxIdle();
+         if (CompactCacheEntry.isCompact(metadata)) {
+            long now = metaLifespan > -1 || metaMaxIdle > -1 ? timeService.wallClockTime() : -1;
+            return CompactCacheEntry.create(key, value, metadata, now, now);
+         }
          if (metaLifespan < 0 && metaMaxIdle < 0) return new MetadataImmortalCacheEntry(key, value, metadata);
          if (metaLifespan > -1 && metaMaxIdle < 0) return new MetadataMortalCacheEntry(key, value, metadata, timeService.wallClockTime());
          if (metaLifespan < 0 && metaMaxIdle > -1) return new MetadataTransientCacheEntry(key, value, metadata, timeService.wallClockTime());
@@ -274,6 +284,14 @@ private InternalCacheEntry updateMetadataUnawareEntry(InternalCacheEntry ice, lo
    private InternalCacheEntry updateMetadataAwareEntry(InternalCacheEntry ice, Metadata metadata) {
       long lifespan = metadata.lifespan();
       long maxIdle = metadata.maxIdle();
+      if (CompactCacheEntry.isCompact(metadata)) {
+         if (ice instanceof CompactCacheEntry && ((CompactCacheEntry) ice).update(metadata)) {
+            return ice;
+         } else {
+            long now = lifespan > -1 || maxIdle > -1 ? timeService.wallClockTime() : -1;
+            return CompactCacheEntry.create(ice.getKey(), ice.getValue(), metadata, now, now);
+         }
+      }
       if (lifespan < 0) {
          if (maxIdle < 0) {
             if (ice instanceof MetadataImmortalCacheEntry) {
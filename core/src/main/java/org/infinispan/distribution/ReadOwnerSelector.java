@@ -0,0 +1,108 @@
+package org.infinispan.distribution;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.infinispan.configuration.cache.RemoteReadPolicy;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.scopes.Scope;
+import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.remoting.rpc.RpcManager;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.remoting.transport.TopologyAwareAddress;
+import org.infinispan.remoting.transport.Transport;
+
+/**
+ * Chooses the order in which the owners of a key are contacted by a remote read, according to the configured {@link
+ * RemoteReadPolicy}.
+ * <p>
+ * With {@link RemoteReadPolicy#NEAREST}, the owners are ordered by their distance to the local node (same machine, same
+ * rack, same site or another site) and then by their median response time, as measured by the {@link Transport} for
+ * staggered requests. Owners without any measurement are preferred over the owners at the same distance, so that every
+ * owner is measured at least once.
+ *
+ * @since 14.0
+ */
+@Scope(Scopes.NAMED_CACHE)
+public class ReadOwnerSelector {
+
+   private static final int SAME_MACHINE = 0;
+   private static final int SAME_RACK = 1;
+   private static final int SAME_SITE = 2;
+   private static final int OTHER_SITE = 3;
+
+   @Inject RpcManager rpcManager;
+
+   private final boolean nearest;
+
+   public ReadOwnerSelector(RemoteReadPolicy policy) {
+      this.nearest = policy == RemoteReadPolicy.NEAREST;
+   }
+
+   /**
+    * @return the read owners of the key, in the order they should be contacted.
+    */
+   public List<Address> readOwners(DistributionInfo info) {
+      List<Address> readOwners = info.readOwners();
+      if (!nearest || readOwners.size() < 2) {
+         return readOwners;
+      }
+      // the response times change concurrently, so the sort keys are read only once
+      int size = readOwners.size();
+      Address[] owners = readOwners.toArray(new Address[size]);
+      int[] distances = new int[size];
+      long[] responseTimes = new long[size];
+      for (int i = 0; i < size; ++i) {
+         distances[i] = distance(owners[i]);
+         responseTimes[i] = responseTimeNanos(owners[i]);
+      }
+      // stable insertion sort, the primary owner is kept first when the owners have the same distance and response time
+      for (int i = 1; i < size; ++i) {
+         Address owner = owners[i];
+         int distance = distances[i];
+         long responseTime = responseTimes[i];
+         int j = i - 1;
+         while (j >= 0 && (distances[j] > distance || distances[j] == distance && responseTimes[j] > responseTime)) {
+            owners[j + 1] = owners[j];
+            distances[j + 1] = distances[j];
+            responseTimes[j + 1] = responseTimes[j];
+            j--;
+         }
+         owners[j + 1] = owner;
+         distances[j + 1] = distance;
+         responseTimes[j + 1] = responseTime;
+      }
+      return Arrays.asList(owners);
+   }
+
+   /**
+    * @return the owner to contact first when reading the key.
+    */
+   public Address readOwner(DistributionInfo info) {
+      return nearest ? readOwners(info).get(0) : info.primary();
+   }
+
+   /**
+    * @return the median response time of {@code owner}, in nanoseconds, or {@code -1} if it was never measured.
+    */
+   public long responseTimeNanos(Address owner) {
+      return nearest ? rpcManager.getTransport().getResponseTimeNanos(owner) : -1;
+   }
+
+   private int distance(Address owner) {
+      Address local = rpcManager.getAddress();
+      if (!(owner instanceof TopologyAwareAddress) || !(local instanceof TopologyAwareAddress)) {
+         return OTHER_SITE;
+      }
+      TopologyAwareAddress localAddress = (TopologyAwareAddress) local;
+      TopologyAwareAddress ownerAddress = (TopologyAwareAddress) owner;
+      if (localAddress.isSameMachine(ownerAddress)) {
+         return SAME_MACHINE;
+      } else if (localAddress.isSameRack(ownerAddress)) {
+         return SAME_RACK;
+      } else if (localAddress.isSameSite(ownerAddress)) {
+         return SAME_SITE;
+      }
+      return OTHER_SITE;
+   }
+}
@@ -27,6 +27,7 @@
 import org.infinispan.context.impl.TransactionalInvocationContextFactory;
 import org.infinispan.distribution.L1Manager;
 import org.infinispan.distribution.RemoteValueRetrievedListener;
+import org.infinispan.distribution.ReadOwnerSelector;
 import org.infinispan.distribution.TriangleOrderManager;
 import org.infinispan.distribution.impl.L1ManagerImpl;
 import org.infinispan.encoding.impl.StorageConfigurationManager;
@@ -104,7 +105,7 @@
                               ByteBufferFactory.class, MarshallableEntryFactory.class,
                               RemoteValueRetrievedListener.class, InvocationContextFactory.class, CommitManager.class,
                               XSiteStateTransferManager.class, XSiteStateConsumer.class, XSiteStateProvider.class,
-                              FunctionalNotifier.class, CommandAckCollector.class, TriangleOrderManager.class,
+                              FunctionalNotifier.class, CommandAckCollector.class, TriangleOrderManager.class, ReadOwnerSelector.class,
                               OrderedUpdatesManager.class, ScatteredVersionManager.class, TransactionOriginatorChecker.class,
                               BiasManager.class, OffHeapEntryFactory.class, OffHeapMemoryAllocator.class, PublisherHandler.class,
                               InvocationHelper.class, TakeOfflineManager.class, IracManager.class, IracVersionGenerator.class,
@@ -187,6 +188,12 @@ public Object construct(String componentName) {
          } else {
             return null;
          }
+      } else if (componentName.equals(ReadOwnerSelector.class.getName())) {
+         if (configuration.clustering().cacheMode().isClustered()) {
+            return new ReadOwnerSelector(configuration.clustering().remoteReadPolicy());
+         } else {
+            return null;
+         }
       } else if (componentName.equals(OrderedUpdatesManager.class.getName())) {
          if (configuration.clustering().cacheMode().isScattered()) {
             return new OrderedUpdatesManagerImpl();
@@ -111,7 +111,8 @@ private AsyncInterceptorChain buildInterceptorChain() {
       TransactionMode transactionMode = configuration.transaction().transactionMode();
       boolean needsVersionAwareComponents = Configurations.isTxVersioned(configuration);
 
-      AsyncInterceptorChain interceptorChain = new AsyncInterceptorChainImpl();
+      AsyncInterceptorChain interceptorChain = new AsyncInterceptorChainImpl(
+            globalConfiguration.features().isAvailable(AsyncInterceptorChainImpl.SKIP_INTERCEPTORS_FEATURE));
 
       boolean invocationBatching = configuration.invocationBatching().enabled();
       CacheMode cacheMode = configuration.clustering().cacheMode();
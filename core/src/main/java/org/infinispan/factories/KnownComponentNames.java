@@ -21,6 +21,7 @@ public class KnownComponentNames {
    public static final String NON_BLOCKING_EXECUTOR = "org.infinispan.executors.non-blocking";
    public static final String BLOCKING_EXECUTOR = "org.infinispan.executors.blocking";
    public static final String TIMEOUT_SCHEDULE_EXECUTOR = "org.infinispan.executors.timeout";
+   public static final String STREAM_EXECUTOR = "org.infinispan.executors.stream";
 
 
    public static final String MODULE_COMMAND_FACTORIES ="org.infinispan.modules.command.factories";
@@ -41,17 +42,20 @@ public class KnownComponentNames {
       DEFAULT_THREAD_COUNT.put(EXPIRATION_SCHEDULED_EXECUTOR, 1);
       DEFAULT_THREAD_COUNT.put(NON_BLOCKING_EXECUTOR, ProcessorInfo.availableProcessors() * 2);
       DEFAULT_THREAD_COUNT.put(BLOCKING_EXECUTOR, 150);
+      DEFAULT_THREAD_COUNT.put(STREAM_EXECUTOR, ProcessorInfo.availableProcessors());
 
       DEFAULT_QUEUE_SIZE.put(ASYNC_NOTIFICATION_EXECUTOR, 1_000);
       DEFAULT_QUEUE_SIZE.put(EXPIRATION_SCHEDULED_EXECUTOR, 0);
       DEFAULT_QUEUE_SIZE.put(NON_BLOCKING_EXECUTOR, 1_000);
       DEFAULT_QUEUE_SIZE.put(BLOCKING_EXECUTOR, 5_000);
+      DEFAULT_QUEUE_SIZE.put(STREAM_EXECUTOR, 1_000);
 
       DEFAULT_THREAD_PRIORITY.put(ASYNC_NOTIFICATION_EXECUTOR, Thread.NORM_PRIORITY);
       DEFAULT_THREAD_PRIORITY.put(EXPIRATION_SCHEDULED_EXECUTOR, Thread.NORM_PRIORITY);
       DEFAULT_THREAD_PRIORITY.put(TIMEOUT_SCHEDULE_EXECUTOR, Thread.NORM_PRIORITY);
       DEFAULT_THREAD_PRIORITY.put(NON_BLOCKING_EXECUTOR, Thread.NORM_PRIORITY);
       DEFAULT_THREAD_PRIORITY.put(BLOCKING_EXECUTOR, Thread.NORM_PRIORITY);
+      DEFAULT_THREAD_PRIORITY.put(STREAM_EXECUTOR, Thread.NORM_PRIORITY);
    }
 
    public static int getDefaultThreads(String componentName) {
@@ -3,6 +3,7 @@
 import org.infinispan.factories.annotations.DefaultFactoryFor;
 import org.infinispan.util.concurrent.locks.impl.LockContainer;
 import org.infinispan.util.concurrent.locks.impl.PerKeyLockContainer;
+import org.infinispan.util.concurrent.locks.impl.PooledLockContainer;
 import org.infinispan.util.concurrent.locks.impl.StripedLockContainer;
 
 /**
@@ -17,8 +18,11 @@ public class LockContainerFactory extends AbstractNamedCacheComponentFactory imp
    @SuppressWarnings("unchecked")
    @Override
    public Object construct(String componentName) {
-      return configuration.locking().useLockStriping() ?
-             new StripedLockContainer(configuration.locking().concurrencyLevel()) :
+      if (configuration.locking().useLockStriping()) {
+         return new StripedLockContainer(configuration.locking().concurrencyLevel());
+      }
+      return configuration.locking().useLockPooling() ?
+             new PooledLockContainer(configuration.locking().concurrencyLevel()) :
              new PerKeyLockContainer();
    }
 }
@@ -4,6 +4,7 @@
 import static org.infinispan.factories.KnownComponentNames.BLOCKING_EXECUTOR;
 import static org.infinispan.factories.KnownComponentNames.EXPIRATION_SCHEDULED_EXECUTOR;
 import static org.infinispan.factories.KnownComponentNames.NON_BLOCKING_EXECUTOR;
+import static org.infinispan.factories.KnownComponentNames.STREAM_EXECUTOR;
 import static org.infinispan.factories.KnownComponentNames.TIMEOUT_SCHEDULE_EXECUTOR;
 import static org.infinispan.factories.KnownComponentNames.getDefaultThreadPrio;
 import static org.infinispan.factories.KnownComponentNames.shortened;
@@ -32,7 +33,7 @@
  * @since 4.0
  */
 @DefaultFactoryFor(names = {ASYNC_NOTIFICATION_EXECUTOR, BLOCKING_EXECUTOR, NON_BLOCKING_EXECUTOR,
-                             EXPIRATION_SCHEDULED_EXECUTOR, TIMEOUT_SCHEDULE_EXECUTOR})
+                             EXPIRATION_SCHEDULED_EXECUTOR, TIMEOUT_SCHEDULE_EXECUTOR, STREAM_EXECUTOR})
 public class NamedExecutorsFactory extends AbstractComponentFactory implements AutoInstantiableFactory {
    @Override
    public Object construct(String componentName) {
@@ -58,6 +59,11 @@ public Object construct(String componentName) {
             return createExecutorService(
                         globalConfiguration.nonBlockingThreadPool(),
                         NON_BLOCKING_EXECUTOR, ExecutorServiceType.NON_BLOCKING);
+         } else if (componentName.equals(STREAM_EXECUTOR)) {
+            // the parallel streams only run CPU bound tasks, like the non-blocking executor
+            return createExecutorService(
+                        globalConfiguration.streamThreadPool(),
+                        STREAM_EXECUTOR, ExecutorServiceType.NON_BLOCKING);
          } else if (componentName.endsWith(TIMEOUT_SCHEDULE_EXECUTOR)) {
             return createExecutorService(null, TIMEOUT_SCHEDULE_EXECUTOR, ExecutorServiceType.SCHEDULED);
          } else {
@@ -46,4 +46,9 @@
 
    void notifyOnWrite(CacheEntry<K, V> entry);
 
+   /**
+    * @return {@code true} if any listener is registered, {@code false} otherwise.
+    */
+   boolean hasListeners();
+
 }
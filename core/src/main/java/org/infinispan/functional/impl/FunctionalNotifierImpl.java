@@ -103,6 +103,12 @@ public void notifyOnWriteRemove(K key) {
       }
    }
 
+   @Override
+   public boolean hasListeners() {
+      return !onCreates.isEmpty() || !onModifies.isEmpty() || !onRemoves.isEmpty() || !onWrites.isEmpty() ||
+            !rwListeners.isEmpty() || !writeListeners.isEmpty();
+   }
+
    private static final class ListenerCloseable<T> implements AutoCloseable {
       final T f;
       final List<T> list;
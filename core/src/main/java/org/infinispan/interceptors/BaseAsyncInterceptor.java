@@ -5,6 +5,7 @@
 import java.util.concurrent.CompletionStage;
 
 import org.infinispan.commands.VisitableCommand;
+import org.infinispan.commands.Visitor;
 import org.infinispan.commons.util.Experimental;
 import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.context.InvocationContext;
@@ -28,7 +29,7 @@ public abstract class BaseAsyncInterceptor implements AsyncInterceptor {
 
    @Inject protected Configuration cacheConfiguration;
    private AsyncInterceptor nextInterceptor;
-   private DDAsyncInterceptor nextDDInterceptor;
+   private Visitor nextVisitor;
 
    /**
     * Used internally to set up the interceptor.
@@ -36,10 +37,22 @@ public abstract class BaseAsyncInterceptor implements AsyncInterceptor {
    @Override
    public final void setNextInterceptor(AsyncInterceptor nextInterceptor) {
       this.nextInterceptor = nextInterceptor;
-      this.nextDDInterceptor =
+      this.nextVisitor =
             nextInterceptor instanceof DDAsyncInterceptor ? (DDAsyncInterceptor) nextInterceptor : null;
    }
 
+   /**
+    * Used internally to replace the next interceptor with a {@link Visitor} that dispatches each command directly to
+    * the first of the next interceptors that handles it.
+    *
+    * <p>Ignored if the next interceptor is not a {@link DDAsyncInterceptor}.</p>
+    */
+   public final void setNextVisitor(Visitor nextVisitor) {
+      if (this.nextVisitor != null) {
+         this.nextVisitor = nextVisitor;
+      }
+   }
+
    /**
     * Invoke the next interceptor, possibly with a new command.
     *
@@ -55,8 +68,8 @@ public final void setNextInterceptor(AsyncInterceptor nextInterceptor) {
     */
    public final Object invokeNext(InvocationContext ctx, VisitableCommand command) {
       try {
-         if (nextDDInterceptor != null) {
-            return command.acceptVisitor(ctx, nextDDInterceptor);
+         if (nextVisitor != null) {
+            return command.acceptVisitor(ctx, nextVisitor);
          } else {
             return nextInterceptor.visitCommand(ctx, command);
          }
@@ -75,8 +88,8 @@ public final <C extends VisitableCommand> Object invokeNextThenApply(InvocationC
                                            InvocationSuccessFunction<C> function) {
       try {
          Object rv;
-         if (nextDDInterceptor != null) {
-            rv = command.acceptVisitor(ctx, nextDDInterceptor);
+         if (nextVisitor != null) {
+            rv = command.acceptVisitor(ctx, nextVisitor);
          } else {
             rv = nextInterceptor.visitCommand(ctx, command);
          }
@@ -99,8 +112,8 @@ public final <C extends VisitableCommand> Object invokeNextThenAccept(Invocation
                                            InvocationSuccessAction<C> action) {
       try {
          Object rv;
-         if (nextDDInterceptor != null) {
-            rv = command.acceptVisitor(ctx, nextDDInterceptor);
+         if (nextVisitor != null) {
+            rv = command.acceptVisitor(ctx, nextVisitor);
          } else {
             rv = nextInterceptor.visitCommand(ctx, command);
          }
@@ -124,8 +137,8 @@ public final <C extends VisitableCommand> Object invokeNextAndExceptionally(Invo
                                                   InvocationExceptionFunction<C> function) {
       try {
          Object rv;
-         if (nextDDInterceptor != null) {
-            rv = command.acceptVisitor(ctx, nextDDInterceptor);
+         if (nextVisitor != null) {
+            rv = command.acceptVisitor(ctx, nextVisitor);
          } else {
             rv = nextInterceptor.visitCommand(ctx, command);
          }
@@ -151,8 +164,8 @@ public final <C extends VisitableCommand> Object invokeNextAndFinally(Invocation
          Object rv;
          Throwable throwable;
          try {
-            if (nextDDInterceptor != null) {
-               rv = command.acceptVisitor(ctx, nextDDInterceptor);
+            if (nextVisitor != null) {
+               rv = command.acceptVisitor(ctx, nextVisitor);
             } else {
                rv = nextInterceptor.visitCommand(ctx, command);
             }
@@ -184,8 +197,8 @@ public final <C extends VisitableCommand> Object invokeNextAndHandle(InvocationC
          Object rv;
          Throwable throwable;
          try {
-            if (nextDDInterceptor != null) {
-               rv = command.acceptVisitor(ctx, nextDDInterceptor);
+            if (nextVisitor != null) {
+               rv = command.acceptVisitor(ctx, nextVisitor);
             } else {
                rv = nextInterceptor.visitCommand(ctx, command);
             }
@@ -42,6 +42,7 @@
 import org.infinispan.context.impl.TxInvocationContext;
 import org.infinispan.distribution.DistributionInfo;
 import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.distribution.ReadOwnerSelector;
 import org.infinispan.distribution.RemoteValueRetrievedListener;
 import org.infinispan.distribution.ch.ConsistentHash;
 import org.infinispan.distribution.ch.KeyPartitioner;
@@ -86,6 +87,7 @@ public abstract class BaseDistributionInterceptor extends ClusteringInterceptor
    @Inject protected KeyPartitioner keyPartitioner;
    @Inject protected TimeService timeService;
    @Inject protected InternalExpirationManager<Object, Object> expirationManager;
+   @Inject protected ReadOwnerSelector readOwnerSelector;
 
    protected boolean isL1Enabled;
    protected boolean isReplicated;
@@ -179,7 +181,8 @@ protected <C extends FlagAffectedCommand & TopologyAffectedCommand> CompletionSt
       getCommand.setTopologyId(topologyId);
       getCommand.setWrite(isWrite);
 
-      return rpcManager.invokeCommandStaggered(info.readOwners(), getCommand, new RemoteGetSingleKeyCollector(),
+      return rpcManager.invokeCommandStaggered(readOwnerSelector.readOwners(info), getCommand,
+                                               new RemoteGetSingleKeyCollector(),
                                                rpcManager.getSyncRpcOptions())
                        .thenAccept(response -> {
                           Object responseValue = response.getResponseValue();
@@ -579,7 +582,7 @@ private Map<Address, List<Object>> getKeysByOwner(InvocationContext ctx, Collect
             if (!foundExisting) {
                Address target = null;
                if (ignoredOwners == null) {
-                  target = distributionInfo.primary();
+                  target = readOwnerSelector.readOwner(distributionInfo);
                } else {
                   for (Address address : distributionInfo.readOwners()) {
                      if (ignoreForKey == null) {
@@ -662,7 +665,7 @@ public Object visitReadOnlyKeyCommand(InvocationContext ctx, ReadOnlyKeyCommand
       }
       if (readNeedsRemoteValue(command)) {
          LocalizedCacheTopology cacheTopology = checkTopologyId(command);
-         Collection<Address> owners = cacheTopology.getDistribution(key).readOwners();
+         Collection<Address> owners = readOwnerSelector.readOwners(cacheTopology.getDistribution(key));
          if (log.isTraceEnabled())
             log.tracef("Doing a remote get for key %s in topology %d to %s", key, cacheTopology.getTopologyId(), owners);
 
@@ -671,7 +674,8 @@ public Object visitReadOnlyKeyCommand(InvocationContext ctx, ReadOnlyKeyCommand
          remoteCommand.setTopologyId(cacheTopology.getTopologyId());
 
          CompletionStage<SuccessfulResponse> rpc =
-            rpcManager.invokeCommandStaggered(owners, remoteCommand, new RemoteGetSingleKeyCollector(),
+            rpcManager.invokeCommandStaggered(owners, remoteCommand,
+                                              new RemoteGetSingleKeyCollector(),
                                               rpcManager.getSyncRpcOptions());
          return asyncValue(rpc).thenApply(ctx, command, (rCtx, rCommand, response) -> {
             Object responseValue = ((SuccessfulResponse) response).getResponseValue();
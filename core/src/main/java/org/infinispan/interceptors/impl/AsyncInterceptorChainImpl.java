@@ -19,6 +19,7 @@
 import org.infinispan.factories.scopes.Scopes;
 import org.infinispan.interceptors.AsyncInterceptor;
 import org.infinispan.interceptors.AsyncInterceptorChain;
+import org.infinispan.interceptors.BaseAsyncInterceptor;
 import org.infinispan.interceptors.ExceptionSyncInvocationStage;
 import org.infinispan.interceptors.InvocationStage;
 import org.infinispan.util.concurrent.CompletableFutures;
@@ -35,6 +36,11 @@
 @Scope(Scopes.NAMED_CACHE)
 @SuppressWarnings("deprecation")
 public class AsyncInterceptorChainImpl implements AsyncInterceptorChain {
+   /**
+    * Feature controlling whether commands skip the interceptors that don't handle them, see {@link
+    * InterceptorDispatcher}.
+    */
+   public static final String SKIP_INTERCEPTORS_FEATURE = "skip-interceptors";
    // Using the same list type everywhere may help with the optimization of the invocation context methods
    private static final ImmutableListCopy<AsyncInterceptor> EMPTY_INTERCEPTORS_LIST =
          new ImmutableListCopy<>();
@@ -45,12 +51,25 @@ public class AsyncInterceptorChainImpl implements AsyncInterceptorChain {
    // Modifications are guarded with "lock", but reads do not need synchronization
    private volatile List<AsyncInterceptor> interceptors = EMPTY_INTERCEPTORS_LIST;
    private volatile AsyncInterceptor firstInterceptor = null;
+   private final boolean skipInterceptors;
+
+   public AsyncInterceptorChainImpl() {
+      this(false);
+   }
+
+   /**
+    * @param skipInterceptors whether commands should skip the interceptors that don't handle them.
+    */
+   public AsyncInterceptorChainImpl(boolean skipInterceptors) {
+      this.skipInterceptors = skipInterceptors;
+   }
 
    @Start
    void printChainInfo() {
       if (log.isDebugEnabled()) {
          log.debugf("Interceptor chain size: %d", size());
          log.debugf("Interceptor chain is: %s", toString());
+         log.debugf("Interceptors invoked by each command:\n%s", dumpInvocationPaths());
       }
    }
 
@@ -336,13 +355,25 @@ public List<AsyncInterceptor> getInterceptors() {
       return interceptors;
    }
 
+   /**
+    * @return the interceptors invoked by each visit method, one visit method per line.
+    */
+   public String dumpInvocationPaths() {
+      return InterceptorDispatcher.dump(interceptors, skipInterceptors);
+   }
+
    private void rebuildInterceptors() {
       ListIterator<AsyncInterceptor> it = interceptors.listIterator(interceptors.size());
       // The CallInterceptor
       AsyncInterceptor nextInterceptor = it.previous();
       while (it.hasPrevious()) {
+         int position = it.previousIndex();
          AsyncInterceptor interceptor = it.previous();
          interceptor.setNextInterceptor(nextInterceptor);
+         if (skipInterceptors && interceptor instanceof BaseAsyncInterceptor) {
+            ((BaseAsyncInterceptor) interceptor).setNextVisitor(
+                  InterceptorDispatcher.nextVisitor(interceptors, position + 1));
+         }
          nextInterceptor = interceptor;
       }
       this.firstInterceptor = nextInterceptor;
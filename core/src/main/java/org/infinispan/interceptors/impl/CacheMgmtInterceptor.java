@@ -267,15 +267,18 @@ private Object updateStoreStatistics(InvocationContext ctx, WriteCommand command
       long start = timeService.time();
       return invokeNextAndFinally(ctx, command, (rCtx, rCommand, rv, t) -> {
          if (rCommand.isSuccessful()) {
-            long intervalNanos = timeService.timeDuration(start, TimeUnit.NANOSECONDS);
-            StripeB stripe = counters.stripeForCurrentThread();
-            counters.add(StripeB.storeTimesFieldUpdater, stripe, intervalNanos);
-            counters.increment(StripeB.storesFieldUpdater, stripe);
-            if (storeTimes != null) storeTimes.update(Duration.ofNanos(intervalNanos));
+            addDataWrite(timeService.timeDuration(start, TimeUnit.NANOSECONDS));
          }
       });
    }
 
+   public void addDataWrite(long timeNanoSeconds) {
+      StripeB stripe = counters.stripeForCurrentThread();
+      counters.add(StripeB.storeTimesFieldUpdater, stripe, timeNanoSeconds);
+      counters.increment(StripeB.storesFieldUpdater, stripe);
+      if (storeTimes != null) storeTimes.update(Duration.ofNanos(timeNanoSeconds));
+   }
+
    @Override
    public Object visitReadOnlyKeyCommand(InvocationContext ctx, ReadOnlyKeyCommand command) {
       if (!ctx.isOriginLocal() || command.hasAnyFlag(FlagBitSets.SKIP_STATISTICS))
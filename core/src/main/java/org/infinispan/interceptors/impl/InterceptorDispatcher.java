@@ -0,0 +1,414 @@
+package org.infinispan.interceptors.impl;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.infinispan.commands.VisitableCommand;
+import org.infinispan.commands.Visitor;
+import org.infinispan.commands.control.LockControlCommand;
+import org.infinispan.commands.functional.ReadOnlyKeyCommand;
+import org.infinispan.commands.functional.ReadOnlyManyCommand;
+import org.infinispan.commands.functional.ReadWriteKeyCommand;
+import org.infinispan.commands.functional.ReadWriteKeyValueCommand;
+import org.infinispan.commands.functional.ReadWriteManyCommand;
+import org.infinispan.commands.functional.ReadWriteManyEntriesCommand;
+import org.infinispan.commands.functional.WriteOnlyKeyCommand;
+import org.infinispan.commands.functional.WriteOnlyKeyValueCommand;
+import org.infinispan.commands.functional.WriteOnlyManyCommand;
+import org.infinispan.commands.functional.WriteOnlyManyEntriesCommand;
+import org.infinispan.commands.read.EntrySetCommand;
+import org.infinispan.commands.read.GetAllCommand;
+import org.infinispan.commands.read.GetCacheEntryCommand;
+import org.infinispan.commands.read.GetKeyValueCommand;
+import org.infinispan.commands.read.KeySetCommand;
+import org.infinispan.commands.read.SizeCommand;
+import org.infinispan.commands.remote.GetKeysInGroupCommand;
+import org.infinispan.commands.tx.CommitCommand;
+import org.infinispan.commands.tx.PrepareCommand;
+import org.infinispan.commands.tx.RollbackCommand;
+import org.infinispan.commands.write.ClearCommand;
+import org.infinispan.commands.write.ComputeCommand;
+import org.infinispan.commands.write.ComputeIfAbsentCommand;
+import org.infinispan.commands.write.EvictCommand;
+import org.infinispan.commands.write.InvalidateCommand;
+import org.infinispan.commands.write.InvalidateL1Command;
+import org.infinispan.commands.write.IracPutKeyValueCommand;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commands.write.PutMapCommand;
+import org.infinispan.commands.write.RemoveCommand;
+import org.infinispan.commands.write.RemoveExpiredCommand;
+import org.infinispan.commands.write.ReplaceCommand;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.context.impl.TxInvocationContext;
+import org.infinispan.expiration.impl.TouchCommand;
+import org.infinispan.interceptors.AsyncInterceptor;
+import org.infinispan.interceptors.BaseAsyncInterceptor;
+import org.infinispan.interceptors.DDAsyncInterceptor;
+
+/**
+ * A {@link Visitor} that invokes each visit method directly on the first interceptor that handles it.
+ * <p>
+ * A {@link DDAsyncInterceptor} that overrides neither the visit method of a command nor {@code handleDefault} only
+ * invokes the next interceptor. The dispatcher placed after an interceptor skips such interceptors, so a command
+ * visits only the interceptors that handle it, with shorter call stacks and fewer megamorphic call sites.
+ * <p>
+ * The dispatchers are created by {@link AsyncInterceptorChainImpl} every time the chain is modified.
+ *
+ * @since 14.0
+ */
+final class InterceptorDispatcher implements Visitor {
+   private static final String HANDLE_DEFAULT = "handleDefault";
+   // visitRemoveExpiredCommand invokes visitRemoveCommand by default
+   private static final String REMOVE_EXPIRED = "visitRemoveExpiredCommand";
+   private static final String REMOVE = "visitRemoveCommand";
+   static final List<String> VISIT_METHODS;
+   private static final ClassValue<Set<String>> OVERRIDDEN_METHODS = new ClassValue<Set<String>>() {
+      @Override
+      protected Set<String> computeValue(Class<?> type) {
+         Set<String> methods = new HashSet<>();
+         for (Class<?> c = type; c != DDAsyncInterceptor.class; c = c.getSuperclass()) {
+            addDeclaredMethods(c, methods);
+         }
+         return methods;
+      }
+
+      private void addDeclaredMethods(Class<?> c, Set<String> methods) {
+         for (Method method : c.getDeclaredMethods()) {
+            if (!method.isBridge() && !method.isSynthetic() && !Modifier.isStatic(method.getModifiers()) &&
+                  (!c.isInterface() || method.isDefault())) {
+               methods.add(method.getName());
+            }
+         }
+         // default methods of other interfaces could override the visit methods too
+         for (Class<?> i : c.getInterfaces()) {
+            if (i != Visitor.class) {
+               addDeclaredMethods(i, methods);
+            }
+         }
+      }
+   };
+
+   static {
+      String[] methods = Arrays.stream(Visitor.class.getMethods()).map(Method::getName).distinct().sorted()
+            .toArray(String[]::new);
+      VISIT_METHODS = Collections.unmodifiableList(Arrays.asList(methods));
+   }
+
+   private final DDAsyncInterceptor putKeyValue;
+   private final DDAsyncInterceptor remove;
+   private final DDAsyncInterceptor replace;
+   private final DDAsyncInterceptor compute;
+   private final DDAsyncInterceptor computeIfAbsent;
+   private final DDAsyncInterceptor clear;
+   private final DDAsyncInterceptor putMap;
+   private final DDAsyncInterceptor evict;
+   private final DDAsyncInterceptor removeExpired;
+   private final DDAsyncInterceptor iracPutKeyValue;
+   private final DDAsyncInterceptor size;
+   private final DDAsyncInterceptor getKeyValue;
+   private final DDAsyncInterceptor getCacheEntry;
+   private final DDAsyncInterceptor getAll;
+   private final DDAsyncInterceptor keySet;
+   private final DDAsyncInterceptor entrySet;
+   private final DDAsyncInterceptor prepare;
+   private final DDAsyncInterceptor rollback;
+   private final DDAsyncInterceptor commit;
+   private final DDAsyncInterceptor invalidate;
+   private final DDAsyncInterceptor invalidateL1;
+   private final DDAsyncInterceptor lockControl;
+   private final DDAsyncInterceptor unknown;
+   private final DDAsyncInterceptor getKeysInGroup;
+   private final DDAsyncInterceptor readOnlyKey;
+   private final DDAsyncInterceptor readOnlyMany;
+   private final DDAsyncInterceptor writeOnlyKey;
+   private final DDAsyncInterceptor readWriteKeyValue;
+   private final DDAsyncInterceptor readWriteKey;
+   private final DDAsyncInterceptor writeOnlyManyEntries;
+   private final DDAsyncInterceptor writeOnlyKeyValue;
+   private final DDAsyncInterceptor writeOnlyMany;
+   private final DDAsyncInterceptor readWriteMany;
+   private final DDAsyncInterceptor readWriteManyEntries;
+   private final DDAsyncInterceptor touch;
+
+   private InterceptorDispatcher(Function<String, DDAsyncInterceptor> targets) {
+      this.putKeyValue = targets.apply("visitPutKeyValueCommand");
+      this.remove = targets.apply("visitRemoveCommand");
+      this.replace = targets.apply("visitReplaceCommand");
+      this.compute = targets.apply("visitComputeCommand");
+      this.computeIfAbsent = targets.apply("visitComputeIfAbsentCommand");
+      this.clear = targets.apply("visitClearCommand");
+      this.putMap = targets.apply("visitPutMapCommand");
+      this.evict = targets.apply("visitEvictCommand");
+      this.removeExpired = targets.apply("visitRemoveExpiredCommand");
+      this.iracPutKeyValue = targets.apply("visitIracPutKeyValueCommand");
+      this.size = targets.apply("visitSizeCommand");
+      this.getKeyValue = targets.apply("visitGetKeyValueCommand");
+      this.getCacheEntry = targets.apply("visitGetCacheEntryCommand");
+      this.getAll = targets.apply("visitGetAllCommand");
+      this.keySet = targets.apply("visitKeySetCommand");
+      this.entrySet = targets.apply("visitEntrySetCommand");
+      this.prepare = targets.apply("visitPrepareCommand");
+      this.rollback = targets.apply("visitRollbackCommand");
+      this.commit = targets.apply("visitCommitCommand");
+      this.invalidate = targets.apply("visitInvalidateCommand");
+      this.invalidateL1 = targets.apply("visitInvalidateL1Command");
+      this.lockControl = targets.apply("visitLockControlCommand");
+      this.unknown = targets.apply("visitUnknownCommand");
+      this.getKeysInGroup = targets.apply("visitGetKeysInGroupCommand");
+      this.readOnlyKey = targets.apply("visitReadOnlyKeyCommand");
+      this.readOnlyMany = targets.apply("visitReadOnlyManyCommand");
+      this.writeOnlyKey = targets.apply("visitWriteOnlyKeyCommand");
+      this.readWriteKeyValue = targets.apply("visitReadWriteKeyValueCommand");
+      this.readWriteKey = targets.apply("visitReadWriteKeyCommand");
+      this.writeOnlyManyEntries = targets.apply("visitWriteOnlyManyEntriesCommand");
+      this.writeOnlyKeyValue = targets.apply("visitWriteOnlyKeyValueCommand");
+      this.writeOnlyMany = targets.apply("visitWriteOnlyManyCommand");
+      this.readWriteMany = targets.apply("visitReadWriteManyCommand");
+      this.readWriteManyEntries = targets.apply("visitReadWriteManyEntriesCommand");
+      this.touch = targets.apply("visitTouchCommand");
+   }
+
+   /**
+    * @return the {@link Visitor} to use for invoking the interceptor at position {@code next}, or {@code null} if
+    * that interceptor is not a {@link DDAsyncInterceptor}.
+    */
+   static Visitor nextVisitor(List<AsyncInterceptor> interceptors, int next) {
+      AsyncInterceptor nextInterceptor = interceptors.get(next);
+      if (!(nextInterceptor instanceof DDAsyncInterceptor)) {
+         return null;
+      }
+      for (String method : VISIT_METHODS) {
+         if (target(interceptors, next, method) != nextInterceptor) {
+            return new InterceptorDispatcher(m -> target(interceptors, next, m));
+         }
+      }
+      // the next interceptor handles every command, the dispatcher would only add a call
+      return (DDAsyncInterceptor) nextInterceptor;
+   }
+
+   /**
+    * @return the interceptors invoked by each visit method, starting with the first interceptor in the chain.
+    */
+   static String dump(List<AsyncInterceptor> interceptors, boolean skipInterceptors) {
+      StringBuilder sb = new StringBuilder();
+      for (String method : VISIT_METHODS) {
+         sb.append(method).append(':');
+         int i = 0;
+         while (i < interceptors.size()) {
+            AsyncInterceptor interceptor = interceptors.get(i);
+            sb.append(i == 0 ? " " : " -> ").append(interceptor.getClass().getSimpleName());
+            if (skipInterceptors && interceptor instanceof BaseAsyncInterceptor && i + 1 < interceptors.size() &&
+                  interceptors.get(i + 1) instanceof DDAsyncInterceptor) {
+               i = interceptors.indexOf(target(interceptors, i + 1, method));
+            } else {
+               i++;
+            }
+         }
+         sb.append('\n');
+      }
+      return sb.toString();
+   }
+
+   /**
+    * @return the first interceptor starting at position {@code next} that handles the visit method, or the last
+    * interceptor before an interceptor that is not a {@link DDAsyncInterceptor}.
+    */
+   private static DDAsyncInterceptor target(List<AsyncInterceptor> interceptors, int next, String method) {
+      DDAsyncInterceptor target = (DDAsyncInterceptor) interceptors.get(next);
+      for (int i = next + 1; i < interceptors.size() && !handles(target, method); i++) {
+         AsyncInterceptor interceptor = interceptors.get(i);
+         if (!(interceptor instanceof DDAsyncInterceptor)) {
+            break;
+         }
+         target = (DDAsyncInterceptor) interceptor;
+      }
+      return target;
+   }
+
+   private static boolean handles(DDAsyncInterceptor interceptor, String method) {
+      Set<String> overridden = OVERRIDDEN_METHODS.get(interceptor.getClass());
+      return overridden.contains(method) || overridden.contains(HANDLE_DEFAULT) ||
+            REMOVE_EXPIRED.equals(method) && overridden.contains(REMOVE);
+   }
+
+   @Override
+   public Object visitPutKeyValueCommand(InvocationContext ctx, PutKeyValueCommand command) throws Throwable {
+      return putKeyValue.visitPutKeyValueCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitRemoveCommand(InvocationContext ctx, RemoveCommand command) throws Throwable {
+      return remove.visitRemoveCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitReplaceCommand(InvocationContext ctx, ReplaceCommand command) throws Throwable {
+      return replace.visitReplaceCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitComputeCommand(InvocationContext ctx, ComputeCommand command) throws Throwable {
+      return compute.visitComputeCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitComputeIfAbsentCommand(InvocationContext ctx, ComputeIfAbsentCommand command) throws Throwable {
+      return computeIfAbsent.visitComputeIfAbsentCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitClearCommand(InvocationContext ctx, ClearCommand command) throws Throwable {
+      return clear.visitClearCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitPutMapCommand(InvocationContext ctx, PutMapCommand command) throws Throwable {
+      return putMap.visitPutMapCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitEvictCommand(InvocationContext ctx, EvictCommand command) throws Throwable {
+      return evict.visitEvictCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitRemoveExpiredCommand(InvocationContext ctx, RemoveExpiredCommand command) throws Throwable {
+      return removeExpired.visitRemoveExpiredCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitIracPutKeyValueCommand(InvocationContext ctx, IracPutKeyValueCommand command) throws Throwable {
+      return iracPutKeyValue.visitIracPutKeyValueCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitSizeCommand(InvocationContext ctx, SizeCommand command) throws Throwable {
+      return size.visitSizeCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitGetKeyValueCommand(InvocationContext ctx, GetKeyValueCommand command) throws Throwable {
+      return getKeyValue.visitGetKeyValueCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitGetCacheEntryCommand(InvocationContext ctx, GetCacheEntryCommand command) throws Throwable {
+      return getCacheEntry.visitGetCacheEntryCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitGetAllCommand(InvocationContext ctx, GetAllCommand command) throws Throwable {
+      return getAll.visitGetAllCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitKeySetCommand(InvocationContext ctx, KeySetCommand command) throws Throwable {
+      return keySet.visitKeySetCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitEntrySetCommand(InvocationContext ctx, EntrySetCommand command) throws Throwable {
+      return entrySet.visitEntrySetCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitPrepareCommand(TxInvocationContext ctx, PrepareCommand command) throws Throwable {
+      return prepare.visitPrepareCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitRollbackCommand(TxInvocationContext ctx, RollbackCommand command) throws Throwable {
+      return rollback.visitRollbackCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitCommitCommand(TxInvocationContext ctx, CommitCommand command) throws Throwable {
+      return commit.visitCommitCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitInvalidateCommand(InvocationContext ctx, InvalidateCommand command) throws Throwable {
+      return invalidate.visitInvalidateCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitInvalidateL1Command(InvocationContext ctx, InvalidateL1Command command) throws Throwable {
+      return invalidateL1.visitInvalidateL1Command(ctx, command);
+   }
+
+   @Override
+   public Object visitLockControlCommand(TxInvocationContext ctx, LockControlCommand command) throws Throwable {
+      return lockControl.visitLockControlCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitUnknownCommand(InvocationContext ctx, VisitableCommand command) throws Throwable {
+      return unknown.visitUnknownCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitGetKeysInGroupCommand(InvocationContext ctx, GetKeysInGroupCommand command) throws Throwable {
+      return getKeysInGroup.visitGetKeysInGroupCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitReadOnlyKeyCommand(InvocationContext ctx, ReadOnlyKeyCommand command) throws Throwable {
+      return readOnlyKey.visitReadOnlyKeyCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitReadOnlyManyCommand(InvocationContext ctx, ReadOnlyManyCommand command) throws Throwable {
+      return readOnlyMany.visitReadOnlyManyCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitWriteOnlyKeyCommand(InvocationContext ctx, WriteOnlyKeyCommand command) throws Throwable {
+      return writeOnlyKey.visitWriteOnlyKeyCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitReadWriteKeyValueCommand(InvocationContext ctx, ReadWriteKeyValueCommand command) throws Throwable {
+      return readWriteKeyValue.visitReadWriteKeyValueCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitReadWriteKeyCommand(InvocationContext ctx, ReadWriteKeyCommand command) throws Throwable {
+      return readWriteKey.visitReadWriteKeyCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitWriteOnlyManyEntriesCommand(InvocationContext ctx, WriteOnlyManyEntriesCommand command) throws Throwable {
+      return writeOnlyManyEntries.visitWriteOnlyManyEntriesCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitWriteOnlyKeyValueCommand(InvocationContext ctx, WriteOnlyKeyValueCommand command) throws Throwable {
+      return writeOnlyKeyValue.visitWriteOnlyKeyValueCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitWriteOnlyManyCommand(InvocationContext ctx, WriteOnlyManyCommand command) throws Throwable {
+      return writeOnlyMany.visitWriteOnlyManyCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitReadWriteManyCommand(InvocationContext ctx, ReadWriteManyCommand command) throws Throwable {
+      return readWriteMany.visitReadWriteManyCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitReadWriteManyEntriesCommand(InvocationContext ctx, ReadWriteManyEntriesCommand command) throws Throwable {
+      return readWriteManyEntries.visitReadWriteManyEntriesCommand(ctx, command);
+   }
+
+   @Override
+   public Object visitTouchCommand(InvocationContext ctx, TouchCommand command) throws Throwable {
+      return touch.visitTouchCommand(ctx, command);
+   }
+}
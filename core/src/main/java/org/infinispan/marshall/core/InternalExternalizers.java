@@ -18,6 +18,7 @@
 import org.infinispan.commons.tx.XidImpl;
 import org.infinispan.commons.util.ImmutableListCopy;
 import org.infinispan.commons.util.Immutables;
+import org.infinispan.container.entries.CompactCacheEntry;
 import org.infinispan.container.entries.ImmortalCacheEntry;
 import org.infinispan.container.entries.ImmortalCacheValue;
 import org.infinispan.container.entries.MortalCacheEntry;
@@ -252,6 +253,7 @@ static ClassToExternalizerMap load(GlobalComponentRegistry gcr, RemoteCommandsFa
       addInternalExternalizer(new InternalMetadataImpl.Externalizer(), exts);
       addInternalExternalizer(AutoStateTransferResponse.EXTERNALIZER, exts);
       addInternalExternalizer(CommandInvocationId.EXTERNALIZER, exts);
+      addInternalExternalizer(new CompactCacheEntry.Externalizer(), exts);
 
       return exts;
    }
@@ -29,6 +29,8 @@
 import org.infinispan.commands.remote.recovery.GetInDoubtTransactionsCommand;
 import org.infinispan.commands.remote.recovery.GetInDoubtTxInfoCommand;
 import org.infinispan.commands.remote.recovery.TxCompletionNotificationCommand;
+import org.infinispan.commands.statetransfer.ConflictResolutionGetEntriesCommand;
+import org.infinispan.commands.statetransfer.ConflictResolutionGetHashTreesCommand;
 import org.infinispan.commands.statetransfer.ConflictResolutionStartCommand;
 import org.infinispan.commands.statetransfer.ScatteredStateConfirmRevokedCommand;
 import org.infinispan.commands.statetransfer.ScatteredStateGetKeysCommand;
@@ -122,6 +124,7 @@ public Set<Class<? extends CacheRpcCommand>> getTypeClasses() {
             XSiteStateTransferFinishSendCommand.class, XSiteStateTransferRestartSendingCommand.class,
             XSiteStateTransferStartReceiveCommand.class, XSiteStateTransferStartSendCommand.class,
             XSiteStateTransferStatusRequestCommand.class, ConflictResolutionStartCommand.class,
+            ConflictResolutionGetHashTreesCommand.class, ConflictResolutionGetEntriesCommand.class,
             ScatteredStateGetKeysCommand.class, ScatteredStateConfirmRevokedCommand.class,
             StateTransferCancelCommand.class, StateTransferGetListenersCommand.class,
             StateTransferGetTransactionsCommand.class, StateTransferStartCommand.class,
@@ -19,6 +19,7 @@
 import static org.infinispan.util.logging.Log.CONTAINER;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -32,6 +33,8 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import javax.transaction.Status;
@@ -72,6 +75,8 @@
 import org.infinispan.filter.CacheFilters;
 import org.infinispan.interceptors.AsyncInterceptorChain;
 import org.infinispan.interceptors.locking.ClusteringDependentLogic;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
 import org.infinispan.manager.ClusterExecutor;
 import org.infinispan.marshall.core.EncoderRegistry;
 import org.infinispan.metadata.Metadata;
@@ -162,11 +167,19 @@
  * @since 4.0
  */
 @Scope(Scopes.NAMED_CACHE)
+@MBean(objectName = "Notifier", description = "Notifies the listeners registered in the cache")
 public class CacheNotifierImpl<K, V> extends AbstractListenerImpl<Event<K, V>, CacheEntryListenerInvocation<K, V>>
       implements ClusterCacheNotifier<K, V> {
 
    private static final Log log = LogFactory.getLog(CacheNotifierImpl.class);
 
+   /**
+    * The feature that dispatches the events to asynchronous listeners in batches, see {@link ListenerEventQueue}.
+    */
+   public static final String LISTENER_BATCHING_FEATURE = "listener-batching";
+   static final int LISTENER_QUEUE_CAPACITY = 1024;
+   static final int LISTENER_BATCH_SIZE = 128;
+
    private static final Map<Class<? extends Annotation>, Class<?>> allowedListeners = new HashMap<>(16);
    private static final Map<Class<? extends Annotation>, Class<?>> clusterAllowedListeners = new HashMap<>(4);
 
@@ -231,6 +244,13 @@
 
    private Collection<FilterIndexingServiceProvider> filterIndexingServiceProviders;
 
+   private final ListenerEventQueue.Statistics listenerQueueStatistics = new ListenerEventQueue.Statistics();
+   private final LongAdder sharedFilterEvaluations = new LongAdder();
+   // The number of listener invocations using each filter evaluation key. The filter results are only collected for an
+   // event when at least two invocations use the same key.
+   private final ConcurrentMap<FilterEvaluationKey, Integer> evaluationKeyUsers = new ConcurrentHashMap<>();
+   private final AtomicInteger sharedEvaluationKeys = new AtomicInteger();
+
    /**
     * This map is used to store the handler used when a listener is registered which has includeCurrentState and
     * is only used for that listener during the initial state transfer
@@ -280,6 +300,8 @@ public void start() {
    @Override
    public void stop() {
       super.stop();
+      evaluationKeyUsers.clear();
+      sharedEvaluationKeys.set(0);
 
       // The other nodes will remove the listener automatically
       clusterListenerIDs.clear();
@@ -421,11 +443,12 @@ private CompletionStage<Void> doNotifyCreated(K key, V value, Metadata metadata,
          Object batchIdentifier = ctx.isInTxScope() ? null : Thread.currentThread();
          try {
             AggregateCompletionStage<Void> aggregateCompletionStage = null;
+            EventFilterResults<K, V> filterResults = sharedFilterResults(cacheEntryCreatedListeners);
             for (CacheEntryListenerInvocation<K, V> listener : cacheEntryCreatedListeners) {
                // Need a wrapper per invocation since converter could modify the entry in it
                configureEvent(listener, e, key, value, metadata, pre, ctx, command, null, null);
                aggregateCompletionStage = composeStageIfNeeded(aggregateCompletionStage,
-                     listener.invoke(new EventWrapper<>(key, e, command), isLocalNodePrimaryOwner));
+                     listener.invoke(new EventWrapper<>(key, e, command, filterResults), isLocalNodePrimaryOwner));
             }
             if (batchIdentifier != null) {
                return sendEvents(batchIdentifier, aggregateCompletionStage);
@@ -459,11 +482,12 @@ private CompletionStage<Void> doNotifyModified(K key, V value, Metadata metadata
          Object batchIdentifier = ctx.isInTxScope() ? null : Thread.currentThread();
          try {
             AggregateCompletionStage<Void> aggregateCompletionStage = null;
+            EventFilterResults<K, V> filterResults = sharedFilterResults(cacheEntryModifiedListeners);
             for (CacheEntryListenerInvocation<K, V> listener : cacheEntryModifiedListeners) {
                // Need a wrapper per invocation since converter could modify the entry in it
                configureEvent(listener, e, key, value, metadata, pre, ctx, command, previousValue, previousMetadata);
                aggregateCompletionStage = composeStageIfNeeded(aggregateCompletionStage,
-                     listener.invoke(new EventWrapper<>(key, e, command), isLocalNodePrimaryOwner));
+                     listener.invoke(new EventWrapper<>(key, e, command, filterResults), isLocalNodePrimaryOwner));
             }
             if (batchIdentifier != null) {
                return sendEvents(batchIdentifier, aggregateCompletionStage);
@@ -496,6 +520,7 @@ private CompletionStage<Void> doNotifyRemoved(K key, V previousValue, Metadata p
          Object batchIdentifier = ctx.isInTxScope() ? null : Thread.currentThread();
          try {
             AggregateCompletionStage<Void> aggregateCompletionStage = null;
+            EventFilterResults<K, V> filterResults = sharedFilterResults(cacheEntryRemovedListeners);
             for (CacheEntryListenerInvocation<K, V> listener : cacheEntryRemovedListeners) {
                // Need a wrapper per invocation since converter could modify the entry in it
                if (pre) {
@@ -507,7 +532,7 @@ private CompletionStage<Void> doNotifyRemoved(K key, V previousValue, Metadata p
                   configureEvent(listener, e, key, null, previousMetadata, false, ctx, command, previousValue, previousMetadata);
                }
                aggregateCompletionStage = composeStageIfNeeded(aggregateCompletionStage,
-                     listener.invoke(new EventWrapper<>(key, e, command), isLocalNodePrimaryOwner));
+                     listener.invoke(new EventWrapper<>(key, e, command, filterResults), isLocalNodePrimaryOwner));
             }
             if (batchIdentifier != null) {
                return sendEvents(batchIdentifier, aggregateCompletionStage);
@@ -523,6 +548,41 @@ private CompletionStage<Void> doNotifyRemoved(K key, V previousValue, Metadata p
       return CompletableFutures.completedNull();
    }
 
+   private EventFilterResults<K, V> sharedFilterResults(List<CacheEntryListenerInvocation<K, V>> listeners) {
+      // nothing to share with a single listener, or when no two listeners use the same filter and converter
+      return listeners.size() > 1 && sharedEvaluationKeys.get() > 0 ? new EventFilterResults<>() : null;
+   }
+
+   int getSharedEvaluationKeys() {
+      return sharedEvaluationKeys.get();
+   }
+
+   private void acquireEvaluationKey(CacheEntryListenerInvocation<K, V> invocation) {
+      FilterEvaluationKey key = evaluationKey(invocation);
+      if (key != null && evaluationKeyUsers.merge(key, 1, Integer::sum) == 2) {
+         sharedEvaluationKeys.incrementAndGet();
+      }
+   }
+
+   private void releaseEvaluationKey(CacheEntryListenerInvocation<K, V> invocation) {
+      FilterEvaluationKey key = evaluationKey(invocation);
+      if (key == null) {
+         return;
+      }
+      Integer users = evaluationKeyUsers.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+      if (users != null && users == 1) {
+         sharedEvaluationKeys.decrementAndGet();
+      }
+   }
+
+   private FilterEvaluationKey evaluationKey(CacheEntryListenerInvocation<K, V> invocation) {
+      // batching invocations evaluate the filter on the listener thread, so they never share the results
+      if (invocation instanceof BaseCacheEntryListenerInvocation && !(invocation instanceof BatchingCacheEntryListenerInvocation)) {
+         return ((BaseCacheEntryListenerInvocation<K, V>) invocation).evaluationKey;
+      }
+      return null;
+   }
+
    /**
     * Configure event data. Currently used for 'created', 'modified', 'removed', 'invalidated' events.
     */
@@ -642,11 +702,12 @@ private CompletionStage<Void> doNotifyExpired(K key, V value, Metadata metadata,
       AggregateCompletionStage<Void> aggregateCompletionStage = null;
       Object batchIdentifier = (ctx != null && ctx.isInTxScope()) ? null : Thread.currentThread();
       try {
+         EventFilterResults<K, V> filterResults = sharedFilterResults(cacheEntryExpiredListeners);
          for (CacheEntryListenerInvocation<K, V> listener : cacheEntryExpiredListeners) {
             // Need a wrapper per invocation since converter could modify the entry in it
             configureEvent(listener, e, key, value, metadata, ctx);
             aggregateCompletionStage = composeStageIfNeeded(aggregateCompletionStage,
-                  listener.invoke(new EventWrapper<>(key, e, null), isLocalNodePrimaryOwner));
+                  listener.invoke(new EventWrapper<>(key, e, null, filterResults), isLocalNodePrimaryOwner));
          }
          if (batchIdentifier != null) {
             return sendEvents(batchIdentifier, aggregateCompletionStage);
@@ -1596,9 +1657,17 @@ public CacheEntryListenerInvocation<K, V> build() {
          } else {
             // If no includeCurrentState just use the base listener invocation which immediately passes all notifications
             // off
-            returnValue = new BaseCacheEntryListenerInvocation(encoderRegistry, invocation, filter, converter, annotation, onlyPrimary,
-                  clustered, identifier, sync, observation, filterAnnotations, keyDataConversion, valueDataConversion, storageFormat);
+            if (!sync && !clustered && isListenerBatchingEnabled()) {
+               // the events are dispatched by the queue, so the listener is invoked synchronously
+               ListenerInvocation<Event<K, V>> batchInvocation = new ListenerInvocationImpl(target, method, true, classLoader, subject);
+               returnValue = new BatchingCacheEntryListenerInvocation(encoderRegistry, batchInvocation, method, filter, converter,
+                     annotation, onlyPrimary, identifier, observation, filterAnnotations, keyDataConversion, valueDataConversion, storageFormat);
+            } else {
+               returnValue = new BaseCacheEntryListenerInvocation(encoderRegistry, invocation, filter, converter, annotation, onlyPrimary,
+                     clustered, identifier, sync, observation, filterAnnotations, keyDataConversion, valueDataConversion, storageFormat);
+            }
          }
+         acquireEvaluationKey(returnValue);
          return returnValue;
       }
 
@@ -1630,7 +1699,10 @@ protected class DelegatingCacheInvocationBuilder extends CacheInvocationBuilder
 
       @Override
       public DelegatingCacheEntryListenerInvocation<K, V> build() {
-         DelegatingCacheEntryListenerInvocation<K, V> invocation = provider.interceptListenerInvocation(super.build());
+         CacheEntryListenerInvocation<K, V> baseInvocation = super.build();
+         // the provider handles the events, so the base invocation never shares the filter results
+         releaseEvaluationKey(baseInvocation);
+         DelegatingCacheEntryListenerInvocation<K, V> invocation = provider.interceptListenerInvocation(baseInvocation);
          List<DelegatingCacheEntryListenerInvocation<K, V>> invocations = listeners.get(invocation.getAnnotation());
          if (invocations == null) {
             invocations = new ArrayList<>(2);
@@ -1688,6 +1760,145 @@ public String toString() {
       }
    }
 
+   /**
+    * Invocation used for asynchronous listeners when the {@link #LISTENER_BATCHING_FEATURE} is enabled.
+    * <p>
+    * The events are queued in a {@link ListenerEventQueue} without evaluating the filter and the converter, which are
+    * then evaluated for a whole batch of events on the listener executor.
+    */
+   protected class BatchingCacheEntryListenerInvocation<K, V> extends BaseCacheEntryListenerInvocation<K, V> {
+
+      private final Method method;
+      private final ListenerEventQueue<QueuedEvent<K, V>> queue;
+
+      protected BatchingCacheEntryListenerInvocation(EncoderRegistry encoderRegistry, ListenerInvocation<Event<K, V>> invocation,
+                                                     Method method, CacheEventFilter<? super K, ? super V> filter,
+                                                     CacheEventConverter<? super K, ? super V, ?> converter,
+                                                     Class<? extends Annotation> annotation, boolean onlyPrimary,
+                                                     UUID identifier, Listener.Observation observation,
+                                                     Set<Class<? extends Annotation>> filterAnnotations, DataConversion keyDataConversion,
+                                                     DataConversion valueDataConversion, boolean useStorageFormat) {
+         super(encoderRegistry, invocation, filter, converter, annotation, onlyPrimary, false, identifier, false,
+               observation, filterAnnotations, keyDataConversion, valueDataConversion, useStorageFormat);
+         this.method = method;
+         this.queue = new ListenerEventQueue<>(asyncProcessor, this::dispatch, LISTENER_QUEUE_CAPACITY,
+               LISTENER_BATCH_SIZE, listenerQueueStatistics);
+      }
+
+      @Override
+      public CompletionStage<Void> invoke(EventWrapper<K, V, CacheEntryEvent<K, V>> wrapped, boolean isLocalNodePrimaryOwner) {
+         CacheEntryEvent<K, V> event = wrapped.getEvent();
+         if (onlyPrimary && !isLocalNodePrimaryOwner || !shouldInvoke(event)) {
+            return null;
+         }
+         // the same event instance is configured for each listener
+         if (event instanceof EventImpl) {
+            event = ((EventImpl<K, V>) event).clone();
+         }
+         return queue.offer(new QueuedEvent<>(event, true));
+      }
+
+      @Override
+      public CompletionStage<Void> invokeNoChecks(EventWrapper<K, V, CacheEntryEvent<K, V>> wrapped, boolean skipQueue, boolean skipConverter, boolean needsTransform) {
+         return super.invokeNoChecks(wrapped, false, skipConverter, needsTransform);
+      }
+
+      @Override
+      protected CompletionStage<Void> doRealInvocation(Event<K, V> event) {
+         return queue.offer(new QueuedEvent<>(event, false));
+      }
+
+      private void dispatch(List<QueuedEvent<K, V>> batch) {
+         for (QueuedEvent<K, V> queued : batch) {
+            try {
+               dispatch(queued);
+            } catch (Throwable t) {
+               // the listener is asynchronous, so the exceptions of the listener, filter or converter are only logged
+               // and the rest of the batch is still dispatched
+               Throwable cause = t instanceof CacheException && t.getCause() != null ? t.getCause() : t;
+               log.unableToInvokeListenerMethod(method, getTarget(), cause);
+            }
+         }
+      }
+
+      private void dispatch(QueuedEvent<K, V> queued) {
+         Event<K, V> event = queued.event;
+         if (queued.filter) {
+            CacheEntryEvent<K, V> filtered = shouldInvoke((CacheEntryEvent<K, V>) event, true);
+            if (filtered == null) {
+               return;
+            }
+            event = filterAndConvert ? filtered : convertValue(converter, filtered);
+         }
+         invocation.invoke(event);
+      }
+
+      @Override
+      public String toString() {
+         return "BatchingCacheEntryListenerInvocation{id=" + identifier + '}';
+      }
+   }
+
+   /**
+    * Two invocations with equal keys apply the same filter and converter instances to the same event, so they can
+    * share the result.
+    */
+   private final class FilterEvaluationKey {
+      private final Class<?> invocationClass;
+      // the invocations of different event types are never notified of the same event
+      private final Class<? extends Annotation> annotation;
+      private final Object filter;
+      private final Object converter;
+      private final DataConversion keyDataConversion;
+      private final DataConversion valueDataConversion;
+      private final boolean useStorageFormat;
+      private final boolean onlyPrimary;
+      private final Listener.Observation observation;
+
+      FilterEvaluationKey(BaseCacheEntryListenerInvocation<?, ?> invocation) {
+         this.invocationClass = invocation.getClass();
+         this.annotation = invocation.annotation;
+         this.filter = invocation.filter;
+         this.converter = invocation.converter;
+         this.keyDataConversion = invocation.keyDataConversion;
+         this.valueDataConversion = invocation.valueDataConversion;
+         this.useStorageFormat = invocation.useStorageFormat;
+         this.onlyPrimary = invocation.onlyPrimary;
+         this.observation = invocation.observation;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) return true;
+         if (o == null || getClass() != o.getClass()) return false;
+         FilterEvaluationKey that = (FilterEvaluationKey) o;
+         return invocationClass == that.invocationClass && annotation == that.annotation &&
+               filter == that.filter && converter == that.converter &&
+               useStorageFormat == that.useStorageFormat && onlyPrimary == that.onlyPrimary &&
+               observation == that.observation && Objects.equals(keyDataConversion, that.keyDataConversion) &&
+               Objects.equals(valueDataConversion, that.valueDataConversion);
+      }
+
+      @Override
+      public int hashCode() {
+         int result = System.identityHashCode(filter);
+         result = 31 * result + System.identityHashCode(converter);
+         result = 31 * result + Objects.hashCode(valueDataConversion);
+         return result;
+      }
+   }
+
+   private static final class QueuedEvent<K, V> {
+      final Event<K, V> event;
+      // whether the filter and the converter must be applied before invoking the listener
+      final boolean filter;
+
+      QueuedEvent(Event<K, V> event, boolean filter) {
+         this.event = event;
+         this.filter = filter;
+      }
+   }
+
    protected class BaseCacheEntryListenerInvocation<K, V> implements CacheEntryListenerInvocation<K, V> {
 
       private final EncoderRegistry encoderRegistry;
@@ -1706,7 +1917,8 @@ public String toString() {
       protected final boolean filterAndConvert;
       protected final Listener.Observation observation;
       protected final Set<Class<? extends Annotation>> filterAnnotations;
-
+      // identifies the invocations that always produce the same result for an event, null without filter and converter
+      final FilterEvaluationKey evaluationKey;
 
       protected BaseCacheEntryListenerInvocation(EncoderRegistry encoderRegistry, ListenerInvocation<Event<K, V>> invocation,
                                                  CacheEventFilter<? super K, ? super V> filter,
@@ -1731,6 +1943,7 @@ protected BaseCacheEntryListenerInvocation(EncoderRegistry encoderRegistry, List
          this.sync = sync;
          this.observation = observation;
          this.filterAnnotations = filterAnnotations;
+         this.evaluationKey = filter != null || converter != null ? new FilterEvaluationKey(this) : null;
       }
 
 
@@ -1750,6 +1963,10 @@ public CompletionStage<Void> invoke(Event<K, V> event) {
        */
       @Override
       public CompletionStage<Void> invoke(EventWrapper<K, V, CacheEntryEvent<K, V>> wrapped, boolean isLocalNodePrimaryOwner) {
+         EventFilterResults<K, V> filterResults = wrapped.getFilterResults();
+         if (filterResults != null && evaluationKey != null) {
+            return invokeShared(wrapped, isLocalNodePrimaryOwner, filterResults);
+         }
          // See if this should be filtered first before evaluating
          CacheEntryEvent<K, V> resultingEvent = shouldInvoke(wrapped.getEvent(), isLocalNodePrimaryOwner);
          if (resultingEvent != null) {
@@ -1759,6 +1976,29 @@ public CompletionStage<Void> invoke(EventWrapper<K, V, CacheEntryEvent<K, V>> wr
          return null;
       }
 
+      /**
+       * Filters and converts the event only if no other listener with the same filter and converter did it already.
+       */
+      private CompletionStage<Void> invokeShared(EventWrapper<K, V, CacheEntryEvent<K, V>> wrapped,
+                                                 boolean isLocalNodePrimaryOwner, EventFilterResults<K, V> filterResults) {
+         CacheEntryEvent<K, V> resultingEvent;
+         if (filterResults.contains(evaluationKey)) {
+            resultingEvent = filterResults.get(evaluationKey);
+            sharedFilterEvaluations.increment();
+         } else {
+            resultingEvent = shouldInvoke(wrapped.getEvent(), isLocalNodePrimaryOwner);
+            if (resultingEvent != null && !filterAndConvert) {
+               resultingEvent = convertValue(converter, resultingEvent);
+            }
+            filterResults.put(evaluationKey, resultingEvent);
+         }
+         if (resultingEvent != null) {
+            wrapped.setEvent(resultingEvent);
+            return invokeNoChecks(wrapped, false, true, false);
+         }
+         return null;
+      }
+
       /**
        * This is the entry point for remote listener events being fired
        *
@@ -1986,6 +2226,31 @@ public String toString() {
       }
    }
 
+   private boolean isListenerBatchingEnabled() {
+      return globalConfiguration.features().isAvailable(LISTENER_BATCHING_FEATURE);
+   }
+
+   @ManagedAttribute(description = "The number of events queued for asynchronous listeners", displayName = "Pending listener events")
+   public long getPendingListenerEvents() {
+      return listenerQueueStatistics.getPendingEvents();
+   }
+
+   @ManagedAttribute(description = "The number of times a listener reused the filter and converter result of another listener for the same event",
+         displayName = "Shared filter evaluations")
+   public long getSharedFilterEvaluations() {
+      return sharedFilterEvaluations.sum();
+   }
+
+   @ManagedAttribute(description = "The number of event batches dispatched to asynchronous listeners", displayName = "Listener event batches")
+   public long getListenerEventBatches() {
+      return listenerQueueStatistics.getDispatchedBatches();
+   }
+
+   @ManagedAttribute(description = "The number of events that delayed the operation that generated them, because the listener queue was full", displayName = "Delayed listener events")
+   public long getDelayedListenerEvents() {
+      return listenerQueueStatistics.getDelayedEvents();
+   }
+
    @Override
    public CompletionStage<Void> removeListenerAsync(Object listener) {
       removeListenerFromMaps(listener);
@@ -2005,6 +2270,7 @@ public CompletionStage<Void> removeListenerAsync(Object listener) {
    protected Set<CacheEntryListenerInvocation<K, V>> removeListenerInvocation(Class<? extends Annotation> annotation, Object listener) {
       Set<CacheEntryListenerInvocation<K, V>> markedForRemoval = super.removeListenerInvocation(annotation, listener);
       for (CacheEntryListenerInvocation<K, V> li : markedForRemoval) {
+         releaseEvaluationKey(li);
          if (li instanceof DelegatingCacheEntryListenerInvocation) {
             ((DelegatingCacheEntryListenerInvocation<K, V>) li).unregister();
          }
@@ -0,0 +1,33 @@
+package org.infinispan.notifications.cachelistener;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+
+/**
+ * The results of the filters and converters evaluated for a single event, shared by all the listeners notified of the
+ * event.
+ * <p>
+ * Listeners using the same filter and converter instances with the same data conversions receive the same result, so
+ * the filter and the converter are evaluated once per event. A {@code null} result means the event was filtered out.
+ * <p>
+ * An instance is only used by the thread notifying the listeners, so it is not thread safe.
+ *
+ * @since 14.0
+ */
+class EventFilterResults<K, V> {
+   private final Map<Object, CacheEntryEvent<K, V>> results = new HashMap<>(4);
+
+   boolean contains(Object evaluationKey) {
+      return results.containsKey(evaluationKey);
+   }
+
+   CacheEntryEvent<K, V> get(Object evaluationKey) {
+      return results.get(evaluationKey);
+   }
+
+   void put(Object evaluationKey, CacheEntryEvent<K, V> result) {
+      results.put(evaluationKey, result);
+   }
+}
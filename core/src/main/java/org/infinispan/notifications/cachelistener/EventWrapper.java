@@ -14,11 +14,17 @@
    private E event;
    private final K key;
    private final FlagAffectedCommand command;
+   private final EventFilterResults<K, V> filterResults;
 
    public EventWrapper(K key, E event, FlagAffectedCommand command1) {
+      this(key, event, command1, null);
+   }
+
+   EventWrapper(K key, E event, FlagAffectedCommand command, EventFilterResults<K, V> filterResults) {
       this.event = event;
       this.key = key;
-      this.command = command1;
+      this.command = command;
+      this.filterResults = filterResults;
    }
 
    public E getEvent() {
@@ -36,4 +42,11 @@ public K getKey() {
    public FlagAffectedCommand getCommand() {
       return command;
    }
+
+   /**
+    * @return the filter results shared by the listeners notified of the same event, or {@code null} if not shared.
+    */
+   EventFilterResults<K, V> getFilterResults() {
+      return filterResults;
+   }
 }
@@ -0,0 +1,141 @@
+package org.infinispan.notifications.cachelistener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * The events queued for an asynchronous listener, which are dispatched in batches on the listener executor.
+ * <p>
+ * At most one batch is dispatched at a time, so the listener receives the events in the order they were queued. The
+ * queue is bounded: an event is still queued when the queue is full, but the stage returned by {@link #offer(Object)}
+ * only completes once the listener has caught up, so the command that generated the event waits for the listener.
+ * Events generated while dispatching a batch are never delayed, because the listener executor may have a single
+ * thread.
+ *
+ * @param <E> the type of the queued events
+ * @since 14.0
+ */
+class ListenerEventQueue<E> implements Runnable {
+   private static final ThreadLocal<Boolean> DISPATCHING = new ThreadLocal<>();
+
+   private final Queue<E> events = new ConcurrentLinkedQueue<>();
+   private final Queue<CompletableFuture<Void>> waiting = new ConcurrentLinkedQueue<>();
+   private final AtomicInteger size = new AtomicInteger();
+   private final AtomicBoolean scheduled = new AtomicBoolean();
+   private final Executor executor;
+   private final Consumer<List<E>> dispatcher;
+   private final int capacity;
+   private final int batchSize;
+   private final Statistics statistics;
+
+   ListenerEventQueue(Executor executor, Consumer<List<E>> dispatcher, int capacity, int batchSize,
+                      Statistics statistics) {
+      this.executor = executor;
+      this.dispatcher = dispatcher;
+      this.capacity = capacity;
+      this.batchSize = batchSize;
+      this.statistics = statistics;
+   }
+
+   /**
+    * Queues an event and schedules its dispatch.
+    *
+    * @return {@code null} if the event was queued or a stage that completes when the queue is no longer full.
+    */
+   CompletionStage<Void> offer(E event) {
+      int queued = size.incrementAndGet();
+      events.offer(event);
+      statistics.pendingEvents.increment();
+      schedule();
+      if (queued <= capacity || DISPATCHING.get() != null) {
+         return null;
+      }
+      statistics.delayedEvents.increment();
+      CompletableFuture<Void> stage = new CompletableFuture<>();
+      waiting.offer(stage);
+      // the listener may have caught up before the stage was queued
+      if (size.get() <= capacity) {
+         releaseWaiting();
+      }
+      return stage;
+   }
+
+   int size() {
+      return size.get();
+   }
+
+   @Override
+   public void run() {
+      List<E> batch = new ArrayList<>(Math.min(batchSize, Math.max(size.get(), 1)));
+      E event;
+      while (batch.size() < batchSize && (event = events.poll()) != null) {
+         batch.add(event);
+      }
+      DISPATCHING.set(Boolean.TRUE);
+      try {
+         if (!batch.isEmpty()) {
+            dispatcher.accept(batch);
+            statistics.dispatchedBatches.increment();
+         }
+      } finally {
+         DISPATCHING.remove();
+         statistics.pendingEvents.add(-batch.size());
+         if (size.addAndGet(-batch.size()) <= capacity) {
+            releaseWaiting();
+         }
+         scheduled.set(false);
+         // the events queued while dispatching are dispatched in a new task, so other listeners can make progress
+         if (!events.isEmpty()) {
+            schedule();
+         }
+      }
+   }
+
+   private void schedule() {
+      if (scheduled.compareAndSet(false, true)) {
+         try {
+            executor.execute(this);
+         } catch (RuntimeException e) {
+            scheduled.set(false);
+            throw e;
+         }
+      }
+   }
+
+   private void releaseWaiting() {
+      CompletableFuture<Void> stage;
+      while ((stage = waiting.poll()) != null) {
+         stage.complete(null);
+      }
+   }
+
+   /**
+    * The statistics shared by all the listener queues of a cache.
+    */
+   static class Statistics {
+      final LongAdder pendingEvents = new LongAdder();
+      final LongAdder dispatchedBatches = new LongAdder();
+      final LongAdder delayedEvents = new LongAdder();
+
+      long getPendingEvents() {
+         return pendingEvents.sum();
+      }
+
+      long getDispatchedBatches() {
+         return dispatchedBatches.sum();
+      }
+
+      long getDelayedEvents() {
+         return delayedEvents.sum();
+      }
+   }
+}
@@ -0,0 +1,14 @@
+package org.infinispan.notifications.cachelistener.filter;
+
+/**
+ * A marker interface for {@link CacheEventFilterFactory}, {@link CacheEventConverterFactory} and {@link
+ * CacheEventFilterConverterFactory} implementations whose filters and converters can be shared by several listeners.
+ * <p>
+ * The Hot Rod server creates a single instance for all the client listeners registered with the same factory and the
+ * same parameters, and the filter or converter is then evaluated once per event for all of them. The factory must only
+ * implement this interface if its instances are thread safe and don't keep any per-listener state.
+ *
+ * @since 14.0
+ */
+public interface ShareableInstancesFactory {
+}
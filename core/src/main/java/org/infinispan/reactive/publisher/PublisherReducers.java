@@ -18,6 +18,9 @@
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collector;
 
 import org.infinispan.commons.marshall.AdvancedExternalizer;
@@ -35,6 +38,26 @@
  * @since 10.0
  */
 public class PublisherReducers {
+   /**
+    * Position of the number of values in the statistics computed by the primitive column reducers.
+    */
+   public static final int STATISTICS_COUNT = 0;
+   /**
+    * Position of the sum of the values in the statistics computed by the primitive column reducers.
+    */
+   public static final int STATISTICS_SUM = 1;
+   /**
+    * Position of the minimum value in the statistics computed by the primitive column reducers.
+    */
+   public static final int STATISTICS_MIN = 2;
+   /**
+    * Position of the maximum value in the statistics computed by the primitive column reducers.
+    */
+   public static final int STATISTICS_MAX = 3;
+
+   // The number of values extracted before they are aggregated, small enough to stay in the L1 cache
+   private static final int COLUMN_SIZE = 512;
+
    private PublisherReducers() { }
 
    public static Function<Publisher<Boolean>, CompletionStage<Boolean>> and() {
@@ -135,6 +158,100 @@ public static <E> Function<Publisher<E[]>, CompletionStage<E[]>> toArrayFinalize
       return new ToArrayFinalizer<>(generator);
    }
 
+   /**
+    * Provides a reduction that computes the statistics of an int field of the published values. The field of each
+    * value is extracted into a primitive column, which is then aggregated in a tight loop the JIT compiler can
+    * vectorize, so the extracted values are never boxed.
+    * <p>
+    * The statistics are an array holding the count, the sum, the minimum and the maximum of the values, at the
+    * {@link #STATISTICS_COUNT}, {@link #STATISTICS_SUM}, {@link #STATISTICS_MIN} and {@link #STATISTICS_MAX}
+    * positions. The minimum and the maximum are not meaningful when the count is 0.
+    * @param mapper function extracting the int field of a value
+    * @param <I> input type
+    * @return function that will map a publisher of the input type to the statistics of the field
+    * @see #combineStatistics()
+    */
+   public static <I> Function<Publisher<I>, CompletionStage<long[]>> intStatistics(ToIntFunction<? super I> mapper) {
+      return new IntStatisticsReducer<>(mapper);
+   }
+
+   /**
+    * Same as {@link #intStatistics(ToIntFunction)} but for a long field. The sum overflows like
+    * {@link java.util.LongSummaryStatistics#getSum()} does.
+    * @param mapper function extracting the long field of a value
+    * @param <I> input type
+    * @return function that will map a publisher of the input type to the statistics of the field
+    * @see #combineStatistics()
+    */
+   public static <I> Function<Publisher<I>, CompletionStage<long[]>> longStatistics(ToLongFunction<? super I> mapper) {
+      return new LongStatisticsReducer<>(mapper);
+   }
+
+   /**
+    * Combines the statistics computed by {@link #intStatistics(ToIntFunction)} or
+    * {@link #longStatistics(ToLongFunction)}.
+    * @return function combining the statistics
+    */
+   public static Function<Publisher<long[]>, CompletionStage<long[]>> combineStatistics() {
+      return StatisticsFinalizer.INSTANCE;
+   }
+
+   /**
+    * Same as {@link #intStatistics(ToIntFunction)} but for a double field. The sum is compensated like
+    * {@link java.util.DoubleSummaryStatistics#getSum()} is, and the minimum and the maximum are NaN if any value is
+    * NaN.
+    * @param mapper function extracting the double field of a value
+    * @param <I> input type
+    * @return function that will map a publisher of the input type to the statistics of the field
+    * @see #combineDoubleStatistics()
+    */
+   public static <I> Function<Publisher<I>, CompletionStage<double[]>> doubleStatistics(ToDoubleFunction<? super I> mapper) {
+      return new DoubleStatisticsReducer<>(mapper);
+   }
+
+   /**
+    * Combines the statistics computed by {@link #doubleStatistics(ToDoubleFunction)}.
+    * @return function combining the statistics
+    */
+   public static Function<Publisher<double[]>, CompletionStage<double[]>> combineDoubleStatistics() {
+      return DoubleStatisticsFinalizer.INSTANCE;
+   }
+
+   /**
+    * Provides a reduction that counts the values of a long field of the published values in buckets of the same
+    * width. Like {@link #intStatistics(ToIntFunction)}, the field is extracted into a primitive column before being
+    * counted.
+    * <p>
+    * The bucket {@code i} counts the values in {@code [origin + i * bucketWidth, origin + (i + 1) * bucketWidth)}.
+    * The values lower than {@code origin} are counted in the first bucket and the values past the last bucket are
+    * counted in the last bucket.
+    * @param mapper function extracting the long field of a value
+    * @param origin the lowest value of the first bucket
+    * @param bucketWidth the width of each bucket
+    * @param buckets the number of buckets
+    * @param <I> input type
+    * @return function that will map a publisher of the input type to the number of values in each bucket
+    * @see #combineHistograms()
+    */
+   public static <I> Function<Publisher<I>, CompletionStage<long[]>> histogram(ToLongFunction<? super I> mapper,
+         long origin, long bucketWidth, int buckets) {
+      if (bucketWidth <= 0) {
+         throw new IllegalArgumentException("Bucket width must be greater than 0");
+      }
+      if (buckets <= 0) {
+         throw new IllegalArgumentException("Buckets must be greater than 0");
+      }
+      return new HistogramReducer<>(mapper, origin, bucketWidth, buckets);
+   }
+
+   /**
+    * Combines the histograms computed by {@link #histogram(ToLongFunction, long, long, int)}.
+    * @return function adding the histograms, which completes with {@code null} if there are no histograms
+    */
+   public static Function<Publisher<long[]>, CompletionStage<long[]>> combineHistograms() {
+      return HistogramFinalizer.INSTANCE;
+   }
+
    private static class AllMatchReducer<E> implements Function<Publisher<E>, CompletionStage<Boolean>> {
       private final Predicate<? super E> predicate;
 
@@ -453,6 +570,323 @@ public CompletionStage<E[]> apply(Publisher<E[]> publisher) {
       }
    }
 
+   private static final class IntStatisticsReducer<I> implements Function<Publisher<I>, CompletionStage<long[]>> {
+      private final ToIntFunction<? super I> mapper;
+
+      private IntStatisticsReducer(ToIntFunction<? super I> mapper) {
+         this.mapper = mapper;
+      }
+
+      @Override
+      public CompletionStage<long[]> apply(Publisher<I> publisher) {
+         return Flowable.fromPublisher(publisher)
+               .collect(() -> new IntColumn<I>(mapper), IntColumn::add)
+               .map(IntColumn::statistics)
+               .toCompletionStage();
+      }
+   }
+
+   private static final class LongStatisticsReducer<I> implements Function<Publisher<I>, CompletionStage<long[]>> {
+      private final ToLongFunction<? super I> mapper;
+
+      private LongStatisticsReducer(ToLongFunction<? super I> mapper) {
+         this.mapper = mapper;
+      }
+
+      @Override
+      public CompletionStage<long[]> apply(Publisher<I> publisher) {
+         return Flowable.fromPublisher(publisher)
+               .collect(() -> new LongColumn<I>(mapper), LongColumn::add)
+               .map(LongColumn::statistics)
+               .toCompletionStage();
+      }
+   }
+
+   private static final class StatisticsFinalizer implements Function<Publisher<long[]>, CompletionStage<long[]>> {
+      private static final StatisticsFinalizer INSTANCE = new StatisticsFinalizer();
+
+      @Override
+      public CompletionStage<long[]> apply(Publisher<long[]> publisher) {
+         return Flowable.fromPublisher(publisher)
+               .reduceWith(() -> new long[]{0, 0, Long.MAX_VALUE, Long.MIN_VALUE}, (result, statistics) -> {
+                  result[STATISTICS_COUNT] += statistics[STATISTICS_COUNT];
+                  result[STATISTICS_SUM] += statistics[STATISTICS_SUM];
+                  if (statistics[STATISTICS_COUNT] > 0) {
+                     result[STATISTICS_MIN] = Math.min(result[STATISTICS_MIN], statistics[STATISTICS_MIN]);
+                     result[STATISTICS_MAX] = Math.max(result[STATISTICS_MAX], statistics[STATISTICS_MAX]);
+                  }
+                  return result;
+               })
+               .toCompletionStage();
+      }
+   }
+
+   private static final class DoubleStatisticsReducer<I> implements Function<Publisher<I>, CompletionStage<double[]>> {
+      private final ToDoubleFunction<? super I> mapper;
+
+      private DoubleStatisticsReducer(ToDoubleFunction<? super I> mapper) {
+         this.mapper = mapper;
+      }
+
+      @Override
+      public CompletionStage<double[]> apply(Publisher<I> publisher) {
+         return Flowable.fromPublisher(publisher)
+               .collect(() -> new DoubleColumn<I>(mapper), DoubleColumn::add)
+               .map(DoubleColumn::statistics)
+               .toCompletionStage();
+      }
+   }
+
+   private static final class DoubleStatisticsFinalizer implements Function<Publisher<double[]>, CompletionStage<double[]>> {
+      private static final DoubleStatisticsFinalizer INSTANCE = new DoubleStatisticsFinalizer();
+
+      @Override
+      public CompletionStage<double[]> apply(Publisher<double[]> publisher) {
+         return Flowable.fromPublisher(publisher)
+               .collect(() -> new DoubleColumn<double[]>(null), DoubleColumn::combine)
+               .map(DoubleColumn::statistics)
+               .toCompletionStage();
+      }
+   }
+
+   private static final class HistogramReducer<I> implements Function<Publisher<I>, CompletionStage<long[]>> {
+      private final ToLongFunction<? super I> mapper;
+      private final long origin;
+      private final long bucketWidth;
+      private final int buckets;
+
+      private HistogramReducer(ToLongFunction<? super I> mapper, long origin, long bucketWidth, int buckets) {
+         this.mapper = mapper;
+         this.origin = origin;
+         this.bucketWidth = bucketWidth;
+         this.buckets = buckets;
+      }
+
+      @Override
+      public CompletionStage<long[]> apply(Publisher<I> publisher) {
+         return Flowable.fromPublisher(publisher)
+               .collect(() -> new HistogramColumn<I>(this), HistogramColumn::add)
+               .map(HistogramColumn::histogram)
+               .toCompletionStage();
+      }
+   }
+
+   private static final class HistogramFinalizer implements Function<Publisher<long[]>, CompletionStage<long[]>> {
+      private static final HistogramFinalizer INSTANCE = new HistogramFinalizer();
+
+      @Override
+      public CompletionStage<long[]> apply(Publisher<long[]> publisher) {
+         return Flowable.fromPublisher(publisher)
+               .reduce((result, histogram) -> {
+                  for (int i = 0; i < result.length; i++) {
+                     result[i] += histogram[i];
+                  }
+                  return result;
+               })
+               .toCompletionStage(null);
+      }
+   }
+
+   private static final class IntColumn<I> {
+      private final ToIntFunction<? super I> mapper;
+      private final int[] values = new int[COLUMN_SIZE];
+      private int size;
+      private long count;
+      private long sum;
+      private int min = Integer.MAX_VALUE;
+      private int max = Integer.MIN_VALUE;
+
+      IntColumn(ToIntFunction<? super I> mapper) {
+         this.mapper = mapper;
+      }
+
+      void add(I value) {
+         values[size++] = mapper.applyAsInt(value);
+         if (size == values.length) {
+            aggregate();
+         }
+      }
+
+      private void aggregate() {
+         int[] values = this.values;
+         long sum = 0;
+         int min = this.min;
+         int max = this.max;
+         for (int i = 0; i < size; i++) {
+            int value = values[i];
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+         }
+         this.sum += sum;
+         this.min = min;
+         this.max = max;
+         count += size;
+         size = 0;
+      }
+
+      long[] statistics() {
+         aggregate();
+         return new long[]{count, sum, min, max};
+      }
+   }
+
+   private static final class LongColumn<I> {
+      private final ToLongFunction<? super I> mapper;
+      private final long[] values = new long[COLUMN_SIZE];
+      private int size;
+      private long count;
+      private long sum;
+      private long min = Long.MAX_VALUE;
+      private long max = Long.MIN_VALUE;
+
+      LongColumn(ToLongFunction<? super I> mapper) {
+         this.mapper = mapper;
+      }
+
+      void add(I value) {
+         values[size++] = mapper.applyAsLong(value);
+         if (size == values.length) {
+            aggregate();
+         }
+      }
+
+      private void aggregate() {
+         long[] values = this.values;
+         long sum = 0;
+         long min = this.min;
+         long max = this.max;
+         for (int i = 0; i < size; i++) {
+            long value = values[i];
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+         }
+         this.sum += sum;
+         this.min = min;
+         this.max = max;
+         count += size;
+         size = 0;
+      }
+
+      long[] statistics() {
+         aggregate();
+         return new long[]{count, sum, min, max};
+      }
+   }
+
+   private static final class DoubleColumn<I> {
+      private final ToDoubleFunction<? super I> mapper;
+      private final double[] values;
+      private int size;
+      private long count;
+      // Kahan summation, with the simple sum to return an infinite sum instead of NaN
+      private double sum;
+      private double compensation;
+      private double simpleSum;
+      private double min = Double.POSITIVE_INFINITY;
+      private double max = Double.NEGATIVE_INFINITY;
+
+      DoubleColumn(ToDoubleFunction<? super I> mapper) {
+         this.mapper = mapper;
+         this.values = mapper == null ? null : new double[COLUMN_SIZE];
+      }
+
+      void add(I value) {
+         values[size++] = mapper.applyAsDouble(value);
+         if (size == values.length) {
+            aggregate();
+         }
+      }
+
+      void combine(double[] statistics) {
+         count += (long) statistics[STATISTICS_COUNT];
+         add(statistics[STATISTICS_SUM]);
+         min = Math.min(min, statistics[STATISTICS_MIN]);
+         max = Math.max(max, statistics[STATISTICS_MAX]);
+      }
+
+      private void aggregate() {
+         double[] values = this.values;
+         double min = this.min;
+         double max = this.max;
+         for (int i = 0; i < size; i++) {
+            double value = values[i];
+            add(value);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+         }
+         this.min = min;
+         this.max = max;
+         count += size;
+         size = 0;
+      }
+
+      private void add(double value) {
+         simpleSum += value;
+         double y = value - compensation;
+         double t = sum + y;
+         compensation = (t - sum) - y;
+         sum = t;
+      }
+
+      double[] statistics() {
+         if (values != null) {
+            aggregate();
+         }
+         double total = sum - compensation;
+         if (Double.isNaN(total) && Double.isInfinite(simpleSum)) {
+            total = simpleSum;
+         }
+         return new double[]{count, total, min, max};
+      }
+   }
+
+   private static final class HistogramColumn<I> {
+      private final HistogramReducer<I> reducer;
+      private final long[] values = new long[COLUMN_SIZE];
+      private final long[] histogram;
+      private int size;
+
+      HistogramColumn(HistogramReducer<I> reducer) {
+         this.reducer = reducer;
+         this.histogram = new long[reducer.buckets];
+      }
+
+      void add(I value) {
+         values[size++] = reducer.mapper.applyAsLong(value);
+         if (size == values.length) {
+            aggregate();
+         }
+      }
+
+      private void aggregate() {
+         long[] values = this.values;
+         long[] histogram = this.histogram;
+         long origin = reducer.origin;
+         long bucketWidth = reducer.bucketWidth;
+         int lastBucket = histogram.length - 1;
+         for (int i = 0; i < size; i++) {
+            long value = values[i];
+            int bucket;
+            if (value < origin) {
+               bucket = 0;
+            } else {
+               long offset = value - origin;
+               // the offset overflows when the value is too far from the origin
+               bucket = offset < 0 ? lastBucket : (int) Math.min(offset / bucketWidth, lastBucket);
+            }
+            histogram[bucket]++;
+         }
+         size = 0;
+      }
+
+      long[] histogram() {
+         aggregate();
+         return histogram;
+      }
+   }
+
    public static final class PublisherReducersExternalizer implements AdvancedExternalizer<Object> {
       enum ExternalizerId {
          ALL_MATCH_REDUCER(AllMatchReducer.class),
@@ -474,6 +908,13 @@ enum ExternalizerId {
          SUM_FINALIZER(SumFinalizer.class),
          TO_ARRAY_FINALIZER(ToArrayFinalizer.class),
          TO_ARRAY_REDUCER(ToArrayReducer.class),
+         INT_STATISTICS_REDUCER(IntStatisticsReducer.class),
+         LONG_STATISTICS_REDUCER(LongStatisticsReducer.class),
+         STATISTICS_FINALIZER(StatisticsFinalizer.class),
+         DOUBLE_STATISTICS_REDUCER(DoubleStatisticsReducer.class),
+         DOUBLE_STATISTICS_FINALIZER(DoubleStatisticsFinalizer.class),
+         HISTOGRAM_REDUCER(HistogramReducer.class),
+         HISTOGRAM_FINALIZER(HistogramFinalizer.class),
          ;
 
          private final Class<?> marshalledClass;
@@ -556,6 +997,22 @@ public void writeObject(ObjectOutput output, Object object) throws IOException {
             case TO_ARRAY_FINALIZER:
                output.writeObject(((ToArrayFinalizer) object).generator);
                break;
+            case INT_STATISTICS_REDUCER:
+               output.writeObject(((IntStatisticsReducer) object).mapper);
+               break;
+            case LONG_STATISTICS_REDUCER:
+               output.writeObject(((LongStatisticsReducer) object).mapper);
+               break;
+            case DOUBLE_STATISTICS_REDUCER:
+               output.writeObject(((DoubleStatisticsReducer) object).mapper);
+               break;
+            case HISTOGRAM_REDUCER:
+               HistogramReducer histogramReducer = (HistogramReducer) object;
+               output.writeObject(histogramReducer.mapper);
+               output.writeLong(histogramReducer.origin);
+               output.writeLong(histogramReducer.bucketWidth);
+               output.writeInt(histogramReducer.buckets);
+               break;
          }
       }
 
@@ -606,6 +1063,21 @@ public Object readObject(ObjectInput input) throws IOException, ClassNotFoundExc
                return new ToArrayReducer((IntFunction) input.readObject());
             case TO_ARRAY_FINALIZER:
                return new ToArrayFinalizer((IntFunction) input.readObject());
+            case INT_STATISTICS_REDUCER:
+               return new IntStatisticsReducer((ToIntFunction) input.readObject());
+            case LONG_STATISTICS_REDUCER:
+               return new LongStatisticsReducer((ToLongFunction) input.readObject());
+            case STATISTICS_FINALIZER:
+               return StatisticsFinalizer.INSTANCE;
+            case DOUBLE_STATISTICS_REDUCER:
+               return new DoubleStatisticsReducer((ToDoubleFunction) input.readObject());
+            case DOUBLE_STATISTICS_FINALIZER:
+               return DoubleStatisticsFinalizer.INSTANCE;
+            case HISTOGRAM_REDUCER:
+               return new HistogramReducer((ToLongFunction) input.readObject(), input.readLong(), input.readLong(),
+                     input.readInt());
+            case HISTOGRAM_FINALIZER:
+               return HistogramFinalizer.INSTANCE;
             default:
                throw new IllegalArgumentException("ExternalizerId not supported: " + id);
          }
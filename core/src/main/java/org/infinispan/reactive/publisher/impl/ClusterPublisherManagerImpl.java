@@ -169,17 +169,20 @@ private <I, R> CompletionStage<R> reduction(boolean parallelPublisher, IntSet se
       FlowableProcessor<R> flowableProcessor = UnicastProcessor.<R>create().toSerialized();
       // Apply the finalizer first (which subscribes) before emitting items, to avoid buffering in UnicastProcessor
       CompletionStage<R> stage = finalizer.apply(flowableProcessor);
+      // Remote nodes are cancelled if the finalizer completes before they have responded, e.g. findAny or anyMatch
+      RemoteReductions remoteReductions = new RemoteReductions();
 
       Function<? super Publisher<R>, ? extends CompletionStage<R>> finalizerToUse =
             requiresFinalizer(parallelPublisher, keysToInclude, deliveryGuarantee) ? finalizer : null;
 
       if (keysToInclude != null) {
          startKeyPublisher(parallelPublisher, segments, keysToInclude, ctx, explicitFlags, deliveryGuarantee,
-               composedType, transformer, finalizerToUse, flowableProcessor);
+               composedType, transformer, finalizerToUse, flowableProcessor, remoteReductions);
       } else {
          startSegmentPublisher(parallelPublisher, segments, ctx, explicitFlags,
-               deliveryGuarantee, composedType, transformer, finalizerToUse, flowableProcessor);
+               deliveryGuarantee, composedType, transformer, finalizerToUse, flowableProcessor, remoteReductions);
       }
+      stage.whenComplete(remoteReductions);
       return stage;
    }
 
@@ -239,7 +242,7 @@ private <I, R> void startKeyPublisher(boolean parallelPublisher, IntSet segments
          long explicitFlags, DeliveryGuarantee deliveryGuarantee, ComposedType<K, I, R> composedType,
          Function<? super Publisher<I>, ? extends CompletionStage<R>> transformer,
          Function<? super Publisher<R>, ? extends CompletionStage<R>> finalizer,
-         FlowableProcessor<R> flowableProcessor) {
+         FlowableProcessor<R> flowableProcessor, RemoteReductions remoteReductions) {
       LocalizedCacheTopology topology = distributionManager.getCacheTopology();
       Address localAddress = topology.getLocalAddress();
       // This excludes the keys from the various address targets
@@ -263,7 +266,7 @@ private <I, R> void startKeyPublisher(boolean parallelPublisher, IntSet segments
       // This way we only have to allocate 1 per request chain
       BiConsumer<PublisherResult<R>, Throwable> biConsumer = new KeyBiConsumer<>(flowableProcessor,
             parallelCount, topology.getTopologyId(), parallelPublisher, explicitFlags, deliveryGuarantee,
-            composedType, transformer, finalizer);
+            composedType, transformer, finalizer, remoteReductions);
 
       Set<K> localKeys = keyTargets.remove(localAddress);
       // If any targets left, they are all remote
@@ -275,9 +278,7 @@ private <I, R> void startKeyPublisher(boolean parallelPublisher, IntSet segments
             ReductionPublisherRequestCommand<K> command = composedType.remoteInvocation(parallelPublisher, null, remoteKeys,
                   null, explicitFlags, deliveryGuarantee, transformer, finalizer);
             command.setTopologyId(topology.getTopologyId());
-            CompletionStage<PublisherResult<R>> stage = rpcManager.invokeCommand(remoteAddress, command,
-                  new KeyPublisherResultCollector<>(remoteKeys), rpcManager.getSyncRpcOptions());
-            stage.whenComplete(biConsumer);
+            remoteReductions.invoke(remoteAddress, command, new KeyPublisherResultCollector<>(remoteKeys), biConsumer);
          }
       }
 
@@ -310,7 +311,7 @@ private <I, R> void startSegmentPublisher(boolean parallelPublisher, IntSet segm
          InvocationContext ctx, long explicitFlags, DeliveryGuarantee deliveryGuarantee, ComposedType<K, I, R> composedType,
          Function<? super Publisher<I>, ? extends CompletionStage<R>> transformer,
          Function<? super Publisher<R>, ? extends CompletionStage<R>> finalizer,
-         FlowableProcessor<R> flowableProcessor) {
+         FlowableProcessor<R> flowableProcessor, RemoteReductions remoteReductions) {
       LocalizedCacheTopology topology = distributionManager.getCacheTopology();
       Address localAddress = topology.getLocalAddress();
       Map<Address, IntSet> targets = determineSegmentTargets(topology, segments, localAddress);
@@ -338,7 +339,7 @@ private <I, R> void startSegmentPublisher(boolean parallelPublisher, IntSet segm
       // This way we only have to allocate 1 per request chain
       BiConsumer<PublisherResult<R>, Throwable> biConsumer = new SegmentSpecificConsumer<>(flowableProcessor,
             parallelCount, topology.getTopologyId(), parallelPublisher, ctx, explicitFlags, deliveryGuarantee,
-            composedType, transformer, finalizer);
+            composedType, transformer, finalizer, remoteReductions);
 
       IntSet localSegments = targets.remove(localAddress);
 
@@ -351,9 +352,8 @@ private <I, R> void startSegmentPublisher(boolean parallelPublisher, IntSet segm
             ReductionPublisherRequestCommand<K> command = composedType.remoteInvocation(parallelPublisher, remoteSegments, null,
                   keysToExcludeByAddress.get(remoteAddress), explicitFlags, deliveryGuarantee, transformer, finalizer);
             command.setTopologyId(topology.getTopologyId());
-            CompletionStage<PublisherResult<R>> stage = rpcManager.invokeCommand(remoteAddress, command,
-                  new SegmentPublisherResultCollector<>(remoteSegments), rpcManager.getSyncRpcOptions());
-            stage.whenComplete(biConsumer);
+            remoteReductions.invoke(remoteAddress, command, new SegmentPublisherResultCollector<>(remoteSegments),
+                  biConsumer);
          }
       }
 
@@ -396,12 +396,13 @@ private <I, R> void startSegmentPublisher(boolean parallelPublisher, IntSet segm
       private final ComposedType<K, I, R> composedType;
       private final Function<? super Publisher<I>, ? extends CompletionStage<R>> transformer;
       private final Function<? super Publisher<R>, ? extends CompletionStage<R>> finalizer;
+      private final RemoteReductions remoteReductions;
 
       SegmentSpecificConsumer(FlowableProcessor<R> flowableProcessor, AtomicInteger parallelCount,
             int currentTopologyId, boolean parallelPublisher, InvocationContext ctx, long explicitFlags,
             DeliveryGuarantee deliveryGuarantee, ComposedType<K, I, R> composedType,
             Function<? super Publisher<I>, ? extends CompletionStage<R>> transformer,
-            Function<? super Publisher<R>, ? extends CompletionStage<R>> finalizer) {
+            Function<? super Publisher<R>, ? extends CompletionStage<R>> finalizer, RemoteReductions remoteReductions) {
          this.flowableProcessor = flowableProcessor;
          this.parallelCount = parallelCount;
 
@@ -413,6 +414,7 @@ private <I, R> void startSegmentPublisher(boolean parallelPublisher, IntSet segm
          this.composedType = composedType;
          this.transformer = transformer;
          this.finalizer = finalizer;
+         this.remoteReductions = remoteReductions;
       }
 
       @Override
@@ -445,7 +447,7 @@ private void handleResult(PublisherResult<R> result) {
       }
 
       private void onCompletion() {
-         if (segmentsToRetry.isEmpty()) {
+         if (segmentsToRetry.isEmpty() || remoteReductions.isCompleted()) {
             flowableProcessor.onComplete();
          } else {
             int nextTopology = currentTopologyId + 1;
@@ -462,7 +464,7 @@ private void onCompletion() {
                } else {
                   // Restart with the missing segments
                   startSegmentPublisher(parallelPublisher, segmentsToRetry, ctx, explicitFlags, deliveryGuarantee,
-                        composedType, transformer, finalizer, flowableProcessor);
+                        composedType, transformer, finalizer, flowableProcessor, remoteReductions);
                }
             });
          }
@@ -482,11 +484,12 @@ private void onCompletion() {
       private final ComposedType<K, I, R> composedType;
       private final Function<? super Publisher<I>, ? extends CompletionStage<R>> transformer;
       private final Function<? super Publisher<R>, ? extends CompletionStage<R>> finalizer;
+      private final RemoteReductions remoteReductions;
 
       KeyBiConsumer(FlowableProcessor<R> flowableProcessor, AtomicInteger parallelCount, int currentTopologyId,
             boolean parallelPublisher, long explicitFlags, DeliveryGuarantee deliveryGuarantee,
             ComposedType<K, I, R> composedType, Function<? super Publisher<I>, ? extends CompletionStage<R>> transformer,
-            Function<? super Publisher<R>, ? extends CompletionStage<R>> finalizer) {
+            Function<? super Publisher<R>, ? extends CompletionStage<R>> finalizer, RemoteReductions remoteReductions) {
          this.flowableProcessor = flowableProcessor;
          this.parallelCount = parallelCount;
          this.currentTopologyId = currentTopologyId;
@@ -496,6 +499,7 @@ private void onCompletion() {
          this.composedType = composedType;
          this.transformer = transformer;
          this.finalizer = finalizer;
+         this.remoteReductions = remoteReductions;
       }
 
       @Override
@@ -530,7 +534,7 @@ private void handleResult(PublisherResult<R> result) {
       }
 
       private void onCompletion() {
-         if (keysToRetry.isEmpty()) {
+         if (keysToRetry.isEmpty() || remoteReductions.isCompleted()) {
             flowableProcessor.onComplete();
          } else {
             int nextTopology = currentTopologyId + 1;
@@ -548,13 +552,50 @@ private void onCompletion() {
                   // Restart with keys that were missing - note that segments and exclude is always null - as we
                   // already filtered those out in the first startKeyPublisher invocation
                   startKeyPublisher(parallelPublisher, null, keysToRetry, null, explicitFlags, deliveryGuarantee,
-                        composedType, transformer, finalizer, flowableProcessor);
+                        composedType, transformer, finalizer, flowableProcessor, remoteReductions);
                }
             });
          }
       }
    }
 
+   /**
+    * Keeps track of the nodes that are still running a reduction, so that they can stop processing entries when the
+    * reduction completes before all the nodes have responded, e.g. when a short-circuiting finalizer found its value.
+    */
+   private class RemoteReductions implements BiConsumer<Object, Throwable> {
+      private final String requestId = rpcManager.getAddress() + "#" + requestCounter.incrementAndGet();
+      private final Set<Address> pendingTargets = ConcurrentHashMap.newKeySet();
+      private volatile boolean completed;
+
+      <R> void invoke(Address target, ReductionPublisherRequestCommand<K> command,
+            ValidResponseCollector<PublisherResult<R>> collector, BiConsumer<PublisherResult<R>, Throwable> biConsumer) {
+         command.setRequestId(requestId);
+         pendingTargets.add(target);
+         rpcManager.invokeCommand(target, command, collector, rpcManager.getSyncRpcOptions())
+               .whenComplete((result, t) -> {
+                  // Must be removed before the result is processed, as it may complete the reduction
+                  pendingTargets.remove(target);
+                  biConsumer.accept(result, t);
+               });
+      }
+
+      boolean isCompleted() {
+         return completed;
+      }
+
+      @Override
+      public void accept(Object ignore, Throwable t) {
+         completed = true;
+         for (Address target : pendingTargets) {
+            if (log.isTraceEnabled()) {
+               log.tracef("Cancelling reduction %s on %s as its result is no longer required", requestId, target);
+            }
+            rpcManager.sendTo(target, commandsFactory.buildCancelPublisherCommand(requestId), DeliverOrder.NONE);
+         }
+      }
+   }
+
    private class KeyPublisherResultCollector<R> extends ValidResponseCollector<PublisherResult<R>> {
       private final Set<K> keys;
 
@@ -1,7 +1,7 @@
 package org.infinispan.reactive.publisher.impl;
 
 import static org.infinispan.context.InvocationContextFactory.UNBOUNDED;
-import static org.infinispan.factories.KnownComponentNames.NON_BLOCKING_EXECUTOR;
+import static org.infinispan.factories.KnownComponentNames.STREAM_EXECUTOR;
 
 import java.lang.invoke.MethodHandles;
 import java.util.PrimitiveIterator;
@@ -10,6 +10,9 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.IntConsumer;
 
@@ -21,6 +24,7 @@
 import org.infinispan.commands.CommandsFactory;
 import org.infinispan.commands.read.EntrySetCommand;
 import org.infinispan.commands.read.KeySetCommand;
+import org.infinispan.commons.time.TimeService;
 import org.infinispan.commons.util.EnumUtil;
 import org.infinispan.commons.util.IntSet;
 import org.infinispan.commons.util.IntSets;
@@ -44,6 +48,10 @@
 import org.infinispan.factories.impl.ComponentRef;
 import org.infinispan.factories.scopes.Scope;
 import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.Units;
 import org.infinispan.persistence.manager.PersistenceManager;
 import org.infinispan.persistence.manager.PersistenceManager.StoreChangeListener;
 import org.infinispan.reactive.publisher.impl.commands.reduction.PublisherResult;
@@ -70,10 +78,16 @@
  * LocalPublisherManager that publishes entries from the local node only. This class handles suspecting segments
  * if they are lost while still processing them. The notification of the segments being lost is done by invoking
  * the {@link #segmentsLost(IntSet)} method.
+ * <p>
+ * Parallel operations run on the stream executor, configured with
+ * {@link org.infinispan.configuration.global.GlobalConfigurationBuilder#streamThreadPool()}, so they don't compete
+ * with the non-blocking executor used by the other operations. The segments are not assigned to the threads up front:
+ * each thread takes the next segment when it completes one, so threads that finish early steal the remaining work.
  * @author wburns
  * @since 10.0
  */
 @Scope(Scopes.NAMED_CACHE)
+@MBean(objectName = "LocalPublisherManager", description = "Publishes the entries of the local node to streams and iterators")
 public class LocalPublisherManagerImpl<K, V> implements LocalPublisherManager<K, V> {
    private final static Log log = LogFactory.getLog(MethodHandles.lookup().lookupClass());
    static final int PARALLEL_BATCH_SIZE = 1024;
@@ -86,16 +100,22 @@
    @Inject ComponentRef<InvocationHelper> invocationHelper;
    @Inject CommandsFactory commandsFactory;
    @Inject InvocationContextFactory invocationContextFactory;
+   @Inject TimeService timeService;
    // This cache should only be used for retrieving entries via Cache#get
    protected AdvancedCache<K, V> remoteCache;
    // This cache should be used for iteration purposes or Cache#get that are local only
    protected AdvancedCache<K, V> cache;
-   protected Scheduler nonBlockingScheduler;
+   protected ExecutorService streamExecutor;
+   protected Scheduler streamScheduler;
    protected int maxSegment;
    protected final int cpuCount = ProcessorInfo.availableProcessors();
 
    protected final Set<IntConsumer> changeListener = ConcurrentHashMap.newKeySet();
 
+   private final LongAdder parallelOperations = new LongAdder();
+   private final LongAdder parallelSegments = new LongAdder();
+   private final LongAdder parallelSegmentsTime = new LongAdder();
+
    private final LocalEntryPublisherStrategy nonSegmentedPublisher = new NonSegmentedEntryPublisherStrategy();
    private final LocalEntryPublisherStrategy segmentedPublisher = new SegmentedLocalPublisherStrategyLocal();
 
@@ -108,8 +128,9 @@
     * method and add @Inject to the variable.
     */
    @Inject
-   public void inject(@ComponentName(NON_BLOCKING_EXECUTOR) ExecutorService nonBlockingExecutor) {
-      this.nonBlockingScheduler = Schedulers.from(nonBlockingExecutor);
+   public void inject(@ComponentName(STREAM_EXECUTOR) ExecutorService streamExecutor) {
+      this.streamExecutor = streamExecutor;
+      this.streamScheduler = Schedulers.from(streamExecutor);
    }
 
    @Start
@@ -419,6 +440,7 @@ private <I, R> void handleParallelSegment(PrimitiveIterator.OfInt segmentIter, i
                }
             }
 
+            long segmentStart = timeService.time();
             Flowable<I> innerFlowable = Flowable.fromPublisher(set.localPublisher(nextSegment));
             if (keysToExclude != null) {
                innerFlowable = innerFlowable.filter(i -> !keysToExclude.contains(toKeyFunction.apply(i)));
@@ -428,6 +450,7 @@ private <I, R> void handleParallelSegment(PrimitiveIterator.OfInt segmentIter, i
             // This will always be true if there isn't a store, however in most cases with a store this will
             // be false as we have to wait until the store can publish all the entries (which is done asynchronously)
             if (CompletionStages.isCompletedSuccessfully(stage)) {
+               recordSegment(segmentStart);
                // If we complete the iteration try to remove the segment - so it can't be suspected
                concurrentSegments.remove(nextSegment);
                // If we didn't lose the segment we can use its value, otherwise we just ignore it
@@ -443,6 +466,7 @@ private <I, R> void handleParallelSegment(PrimitiveIterator.OfInt segmentIter, i
                   if (t != null) {
                      processorToUse.onError(t);
                   } else {
+                     recordSegment(segmentStart);
                      // If we complete the iteration try to remove the segment - so it can't be suspected
                      concurrentSegments.remove(nextSegment);
                      // This segment was lost before we could complete our iteration - so we have to discard the result
@@ -462,6 +486,57 @@ private <I, R> void handleParallelSegment(PrimitiveIterator.OfInt segmentIter, i
       }
    }
 
+   private void recordSegment(long segmentStart) {
+      parallelSegments.increment();
+      parallelSegmentsTime.add(timeService.timeDuration(segmentStart, TimeUnit.NANOSECONDS));
+   }
+
+   /**
+    * Submits a task to the stream executor, or runs it in the invoking thread if the executor rejects it. The task
+    * may then process all the remaining segments, but the operation still completes.
+    */
+   private void submitParallelTask(Runnable task) {
+      try {
+         streamExecutor.execute(task);
+      } catch (RejectedExecutionException e) {
+         log.tracef("Stream executor rejected a parallel task, running it in the invoking thread");
+         task.run();
+      }
+   }
+
+   @ManagedAttribute(description = "Number of parallel local operations processing segments concurrently",
+         displayName = "Parallel operations")
+   public long getParallelOperations() {
+      return parallelOperations.sum();
+   }
+
+   @ManagedAttribute(description = "Number of segments processed by parallel local operations",
+         displayName = "Parallel segments processed")
+   public long getParallelSegmentsProcessed() {
+      return parallelSegments.sum();
+   }
+
+   @ManagedAttribute(description = "Average number of segments processed by a parallel local operation",
+         displayName = "Average segments per parallel operation")
+   public long getAverageSegmentsPerParallelOperation() {
+      long operations = parallelOperations.sum();
+      return operations == 0 ? 0 : parallelSegments.sum() / operations;
+   }
+
+   @ManagedAttribute(description = "Average time to process a segment in a parallel local operation",
+         displayName = "Average segment processing time", units = Units.NANOSECONDS)
+   public long getAverageSegmentProcessingTime() {
+      long segments = parallelSegments.sum();
+      return segments == 0 ? 0 : parallelSegmentsTime.sum() / segments;
+   }
+
+   @ManagedOperation(description = "Resets the parallel operation statistics", displayName = "Reset parallel statistics")
+   public void resetParallelStatistics() {
+      parallelOperations.reset();
+      parallelSegments.reset();
+      parallelSegmentsTime.reset();
+   }
+
    /**
     * Retrieves the next int from the iterator in a thread safe manner. This method
     * synchronizes on the iterator instance, so be sure not to mix this object monitor with other invocations.
@@ -604,7 +679,7 @@ private <I, R> CompletionStage<PublisherResult<R>> handleSpecificObjects(boolean
                .flatMapMaybe(keys -> {
                   // Due to window abandonment (check RxJava3 docs) we must subscribe synchronously and then
                   // observe on the publisher for parallelism
-                  CompletionStage<R> stage = keyTransformer.apply(keys.observeOn(nonBlockingScheduler))
+                  CompletionStage<R> stage = keyTransformer.apply(keys.observeOn(streamScheduler))
                         .to(collator::apply);
                   return Maybe.fromCompletionStage(stage);
                });
@@ -620,16 +695,19 @@ private <I, R> CompletionStage<R> parallelAtMostOnce(CacheSet<I> set, Set<K> key
          Function<I, K> toKeyFunction, IntSet segments,
          Function<? super Publisher<I>, ? extends CompletionStage<R>> collator,
          Function<? super Publisher<R>, ? extends CompletionStage<R>> finalizer) {
+      parallelOperations.increment();
       Flowable<R> stageFlowable = Flowable.fromIterable(segments)
             .parallel(cpuCount)
-            .runOn(nonBlockingScheduler)
+            .runOn(streamScheduler)
             .concatMap(segment -> {
+               long segmentStart = timeService.time();
                Flowable<I> innerFlowable = Flowable.fromPublisher(set.localPublisher(segment));
                if (keysToExclude != null) {
                   innerFlowable = innerFlowable.filter(i -> !keysToExclude.contains(toKeyFunction.apply(i)));
                }
                // TODO Make the collator return a Flowable/Maybe
-               CompletionStage<R> stage = collator.apply(innerFlowable);
+               CompletionStage<R> stage = collator.apply(innerFlowable)
+                     .whenComplete((ignore, t) -> recordSegment(segmentStart));
                return Maybe.fromCompletionStage(stage).toFlowable();
             })
             .sequential();
@@ -773,7 +851,7 @@ <I, R> Flowable<R> exactlyOnceParallel(CacheSet<I> set, Set<K> keysToExclude, Fu
 
          return flowable.buffer(PARALLEL_BATCH_SIZE)
                .parallel(cpuCount)
-               .runOn(nonBlockingScheduler)
+               .runOn(streamScheduler)
                .flatMap(buffer -> Flowable.fromCompletionStage(transformer.apply(Flowable.fromIterable(buffer))), false, cpuCount)
                .sequential();
       }
@@ -807,6 +885,7 @@ class SegmentedLocalPublisherStrategyLocal extends LocalEntryPublisherStrategy {
 
       @Override
       public <I, R> Flowable<R> exactlyOnceParallel(CacheSet<I> set, Set<K> keysToExclude, Function<I, K> toKeyFunction, IntSet segments, Function<? super Publisher<I>, ? extends CompletionStage<R>> collator, SegmentListener listener, IntSet concurrentSegments) {
+         parallelOperations.increment();
          // The invoking thread will process entries so make sure we only have cpuCount number of tasks
          int extraThreadCount = cpuCount - 1;
          Flowable<R>[] processors = new Flowable[extraThreadCount + 1];
@@ -823,7 +902,7 @@ public <I, R> Flowable<R> exactlyOnceParallel(CacheSet<I> set, Set<K> keysToExcl
             // the cost of queueing the results.
             FlowableProcessor<R> processor = UnicastProcessor.create();
             processors[i] = processor;
-            nonBlockingScheduler.scheduleDirect(() ->
+            submitParallelTask(() ->
                   handleParallelSegment(segmentIter, initialSegment, set, keysToExclude, toKeyFunction, collator, processor,
                         concurrentSegments, listener));
          }
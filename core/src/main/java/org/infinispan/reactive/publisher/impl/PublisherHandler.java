@@ -52,6 +52,7 @@ public class PublisherHandler {
    private static final Log log = LogFactory.getLog(MethodHandles.lookup().lookupClass());
 
    private final ConcurrentMap<Object, PublisherState> currentRequests = new ConcurrentHashMap<>();
+   private final ConcurrentMap<String, CompletableFuture<Void>> runningReductions = new ConcurrentHashMap<>();
 
    @Inject CacheManagerNotifier managerNotifier;
    @Inject @ComponentName(KnownComponentNames.NON_BLOCKING_EXECUTOR)
@@ -146,7 +147,28 @@ public int openPublishers() {
    }
 
    /**
-    * Closes the publisher that maps to the given request id
+    * Registers a reduction that is running on behalf of another node, so that it can be cancelled with
+    * {@link #closePublisher(String)} when the originator no longer requires its result.
+    * @param requestId unique identifier for the reduction
+    * @return future that is completed when the reduction is cancelled
+    */
+   public CompletableFuture<Void> registerReduction(String requestId) {
+      CompletableFuture<Void> cancellation = new CompletableFuture<>();
+      runningReductions.put(requestId, cancellation);
+      return cancellation;
+   }
+
+   /**
+    * Removes the reduction registered by {@link #registerReduction(String)} once it has completed
+    * @param requestId unique identifier for the reduction
+    * @param cancellation the future returned when the reduction was registered
+    */
+   public void reductionCompleted(String requestId, CompletableFuture<Void> cancellation) {
+      runningReductions.remove(requestId, cancellation);
+   }
+
+   /**
+    * Closes the publisher or cancels the reduction that maps to the given request id
     * @param requestId unique identifier for the request
     */
    public void closePublisher(String requestId) {
@@ -157,6 +179,13 @@ public void closePublisher(String requestId) {
          }
          state.cancel();
       }
+      CompletableFuture<Void> cancellation;
+      if ((cancellation = runningReductions.remove(requestId)) != null) {
+         if (log.isTraceEnabled()) {
+            log.tracef("Cancelled reduction using requestId %s", requestId);
+         }
+         cancellation.complete(null);
+      }
    }
 
    /**
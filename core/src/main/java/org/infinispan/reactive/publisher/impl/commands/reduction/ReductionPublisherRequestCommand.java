@@ -5,6 +5,7 @@
 import java.io.ObjectOutput;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
@@ -19,8 +20,12 @@
 import org.infinispan.factories.ComponentRegistry;
 import org.infinispan.reactive.publisher.impl.DeliveryGuarantee;
 import org.infinispan.reactive.publisher.impl.LocalPublisherManager;
+import org.infinispan.reactive.publisher.impl.PublisherHandler;
 import org.infinispan.remoting.transport.Address;
 import org.infinispan.util.ByteString;
+import org.reactivestreams.Publisher;
+
+import io.reactivex.rxjava3.core.Flowable;
 
 /**
  * Stream request command that is sent to remote nodes handle execution of remote intermediate and terminal operations.
@@ -39,6 +44,7 @@
    private Function transformer;
    private Function finalizer;
    private int topologyId = -1;
+   private String requestId;
 
    @Override
    public int getTopologyId() {
@@ -50,6 +56,19 @@ public void setTopologyId(int topologyId) {
       this.topologyId = topologyId;
    }
 
+   public String getRequestId() {
+      return requestId;
+   }
+
+   /**
+    * Sets the id used to cancel this reduction with a {@link org.infinispan.reactive.publisher.impl.commands.batch.CancelPublisherCommand}
+    * once the originator no longer requires its result.
+    * @param requestId unique identifier of the reduction, may be {@code null}
+    */
+   public void setRequestId(String requestId) {
+      this.requestId = requestId;
+   }
+
    // Only here for CommandIdUniquenessTest
    private ReductionPublisherRequestCommand() { super(null); }
 
@@ -81,6 +100,21 @@ public CompletionStage<?> invokeAsync(ComponentRegistry componentRegistry) throw
          ((InjectableComponent) finalizer).inject(componentRegistry);
       }
       LocalPublisherManager lpm = componentRegistry.getLocalPublisherManager().running();
+      if (requestId == null) {
+         return invokeReduction(lpm, transformer);
+      }
+      PublisherHandler publisherHandler = componentRegistry.getPublisherHandler().running();
+      CompletableFuture<Void> cancellation = publisherHandler.registerReduction(requestId);
+      // Stop reading entries as soon as the originator cancels the reduction, the partial result is discarded.
+      // The cancellation completes with null, which Flowable.fromCompletionStage would signal as an error
+      Function<Publisher<?>, CompletionStage<?>> cancellableTransformer = publisher ->
+            (CompletionStage<?>) transformer.apply(Flowable.fromPublisher(publisher)
+                  .takeUntil(Flowable.fromCompletionStage(cancellation.thenApply(ignore -> Boolean.TRUE))));
+      CompletionStage<?> stage = invokeReduction(lpm, cancellableTransformer);
+      return stage.whenComplete((ignore, t) -> publisherHandler.reductionCompleted(requestId, cancellation));
+   }
+
+   private CompletionStage<?> invokeReduction(LocalPublisherManager lpm, Function transformer) {
       if (entryStream) {
          return lpm.entryReduction(parallelStream, segments, keys, excludedKeys,
                explicitFlags, deliveryGuarantee, transformer, finalizer);
@@ -113,6 +147,7 @@ public void writeTo(ObjectOutput output) throws IOException {
       }
 
       output.writeObject(finalizer);
+      MarshallUtil.marshallString(requestId, output);
    }
 
    @Override
@@ -133,6 +168,7 @@ public void readFrom(ObjectInput input) throws IOException, ClassNotFoundExcepti
          transformer = (Function) input.readObject();
          finalizer = (Function) input.readObject();
       }
+      requestId = MarshallUtil.unmarshallString(input);
    }
 
    @Override
@@ -145,6 +181,7 @@ public String toString() {
       return "PublisherRequestCommand{" +
              ", flags=" + EnumUtil.prettyPrintBitSet(explicitFlags, Flag.class) +
              ", topologyId=" + topologyId +
+             ", requestId=" + requestId +
              ", segments=" + segments +
              ", keys=" + Util.toStr(keys) +
              ", excludedKeys=" + Util.toStr(excludedKeys) +
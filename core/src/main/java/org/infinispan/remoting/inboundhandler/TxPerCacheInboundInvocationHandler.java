@@ -4,6 +4,8 @@
 
 import org.infinispan.commands.control.LockControlCommand;
 import org.infinispan.commands.remote.CacheRpcCommand;
+import org.infinispan.commands.statetransfer.ConflictResolutionGetEntriesCommand;
+import org.infinispan.commands.statetransfer.ConflictResolutionGetHashTreesCommand;
 import org.infinispan.commands.statetransfer.ConflictResolutionStartCommand;
 import org.infinispan.commands.statetransfer.ScatteredStateConfirmRevokedCommand;
 import org.infinispan.commands.statetransfer.ScatteredStateGetKeysCommand;
@@ -69,6 +71,8 @@ public void handle(CacheRpcCommand command, Reply reply, DeliverOrder order) {
                      sync, createReadyAction(commandTopologyId, (LockControlCommand) command)
                );
                break;
+            case ConflictResolutionGetEntriesCommand.COMMAND_ID:
+            case ConflictResolutionGetHashTreesCommand.COMMAND_ID:
             case ConflictResolutionStartCommand.COMMAND_ID:
             case ScatteredStateConfirmRevokedCommand.COMMAND_ID:
             case ScatteredStateGetKeysCommand.COMMAND_ID:
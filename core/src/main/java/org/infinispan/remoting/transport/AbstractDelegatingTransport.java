@@ -188,6 +188,11 @@ public Collection<Address> getRelayNodesAddress() {
       return actual.getRelayNodesAddress();
    }
 
+   @Override
+   public long getResponseTimeNanos(Address target) {
+      return actual.getResponseTimeNanos(target);
+   }
+
    @Override
    public <T> CompletionStage<T> invokeCommand(Address target, ReplicableCommand command,
                                                ResponseCollector<T> collector, DeliverOrder deliverOrder,
@@ -316,6 +316,15 @@ default void checkTotalOrderSupported() {
     */
    Collection<Address> getRelayNodesAddress();
 
+   /**
+    * @return the median response time of {@code target} to staggered requests, in nanoseconds, or {@code -1} if the
+    * transport doesn't measure it or it was never measured.
+    * @since 14.0
+    */
+   default long getResponseTimeNanos(Address target) {
+      return -1;
+   }
+
    /**
     * Invoke a command on a single node and pass the response to a {@link ResponseCollector}.
     * <p>
@@ -0,0 +1,214 @@
+package org.infinispan.remoting.transport.jgroups;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.infinispan.remoting.transport.Address;
+
+/**
+ * Decides when a {@link StaggeredRequest} sends the command to the next target.
+ * <p>
+ * The response times of each destination are kept in a histogram, and the request is sent to the next target when
+ * the response from the current target takes longer than the configured percentile of its response times. Without
+ * enough samples, or when the percentile is {@code 0}, the fixed stagger delay is used instead.
+ * <p>
+ * The number of requests sent before the fixed stagger delay is limited by a budget, expressed as a percentage of the
+ * staggered requests. When the budget is exhausted, the next target is only contacted after the fixed stagger delay.
+ *
+ * @since 14.0
+ */
+class HedgingPolicy {
+   static final int DEFAULT_PERCENTILE = 95;
+   static final int DEFAULT_BUDGET = 10;
+
+   // the budget allows a burst of hedged requests after a period without hedging
+   private static final long MAX_BURST = 100;
+   private static final long HEDGE_COST = 100;
+   private static final int MIN_SAMPLES = 32;
+
+   private final int percentile;
+   private final int budget;
+   private final ConcurrentMap<Address, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+   private final AtomicLong credits = new AtomicLong(MAX_BURST * HEDGE_COST);
+   private final LongAdder staggeredRequests = new LongAdder();
+   private final LongAdder hedgedRequests = new LongAdder();
+   private final LongAdder hedgeWins = new LongAdder();
+   private final LongAdder budgetExhausted = new LongAdder();
+
+   HedgingPolicy(int percentile, int budget) {
+      if (percentile < 0 || percentile > 100) {
+         throw new IllegalArgumentException("Hedge percentile must be between 0 and 100: " + percentile);
+      }
+      if (budget < 0) {
+         throw new IllegalArgumentException("Hedge budget must be positive: " + budget);
+      }
+      this.percentile = percentile;
+      this.budget = budget;
+   }
+
+   /**
+    * Records the start of a new staggered request, increasing the hedging budget.
+    */
+   void requestStarted() {
+      staggeredRequests.increment();
+      long max = MAX_BURST * HEDGE_COST;
+      long current;
+      do {
+         current = credits.get();
+         if (current >= max) {
+            return;
+         }
+      } while (!credits.compareAndSet(current, Math.min(max, current + budget)));
+   }
+
+   /**
+    * @return the delay before sending the command to the next target, if {@code target} doesn't reply.
+    */
+   long hedgeDelay(Address target, long fixedDelayNanos) {
+      if (percentile == 0) {
+         return fixedDelayNanos;
+      }
+      LatencyHistogram histogram = histograms.get(target);
+      if (histogram == null) {
+         return fixedDelayNanos;
+      }
+      long percentileNanos = histogram.percentile(percentile, MIN_SAMPLES);
+      return percentileNanos < 0 ? fixedDelayNanos : Math.min(percentileNanos, fixedDelayNanos);
+   }
+
+   /**
+    * Consumes the budget for sending a request before the fixed stagger delay.
+    *
+    * @return {@code true} if the request can be sent, {@code false} if the budget is exhausted.
+    */
+   boolean tryHedge() {
+      long current;
+      do {
+         current = credits.get();
+         if (current < HEDGE_COST) {
+            budgetExhausted.increment();
+            return false;
+         }
+      } while (!credits.compareAndSet(current, current - HEDGE_COST));
+      return true;
+   }
+
+   /**
+    * @return the median response time of {@code target}, in nanoseconds, or {@code -1} if it was never measured.
+    */
+   long responseTimeNanos(Address target) {
+      LatencyHistogram histogram = histograms.get(target);
+      return histogram == null ? -1 : histogram.percentile(50, 1);
+   }
+
+   void recordResponseTime(Address sender, long durationNanos) {
+      histograms.computeIfAbsent(sender, a -> new LatencyHistogram()).record(durationNanos);
+   }
+
+   void hedgeSent() {
+      hedgedRequests.increment();
+   }
+
+   void hedgeWon() {
+      hedgeWins.increment();
+   }
+
+   void retainAll(Set<Address> members) {
+      histograms.keySet().retainAll(members);
+   }
+
+   long getStaggeredRequests() {
+      return staggeredRequests.sum();
+   }
+
+   long getHedgedRequests() {
+      return hedgedRequests.sum();
+   }
+
+   long getHedgeWins() {
+      return hedgeWins.sum();
+   }
+
+   long getBudgetExhausted() {
+      return budgetExhausted.sum();
+   }
+
+   /**
+    * A histogram with 4 buckets for each power of 2, so the percentiles have an error of at most 25%.
+    * <p>
+    * The counts are halved every {@link #WINDOW} samples, so that old samples gradually lose their weight.
+    */
+   static class LatencyHistogram {
+      private static final int SUB_BUCKET_BITS = 2;
+      private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+      private static final int BUCKETS = (Long.SIZE - 1) * SUB_BUCKETS;
+      private static final int WINDOW = 1024;
+
+      private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+      private final AtomicLong total = new AtomicLong();
+
+      void record(long durationNanos) {
+         counts.incrementAndGet(bucket(Math.max(durationNanos, 0)));
+         if (total.incrementAndGet() >= WINDOW) {
+            decay();
+         }
+      }
+
+      /**
+       * @return the upper bound of the bucket containing the {@code percentile}, or {@code -1} if there are fewer than
+       * {@code minSamples} samples.
+       */
+      long percentile(int percentile, int minSamples) {
+         long samples = total.get();
+         if (samples < minSamples) {
+            return -1;
+         }
+         long threshold = (samples * percentile + 99) / 100;
+         long cumulative = 0;
+         for (int i = 0; i < BUCKETS; ++i) {
+            cumulative += counts.get(i);
+            if (cumulative >= threshold) {
+               return upperBound(i);
+            }
+         }
+         return upperBound(BUCKETS - 1);
+      }
+
+      private synchronized void decay() {
+         if (total.get() < WINDOW) {
+            // another thread already halved the counts
+            return;
+         }
+         long remaining = 0;
+         for (int i = 0; i < BUCKETS; ++i) {
+            long count = counts.get(i);
+            long halved = count >> 1;
+            // counts added concurrently are kept
+            remaining += counts.addAndGet(i, halved - count);
+         }
+         total.set(remaining);
+      }
+
+      static int bucket(long value) {
+         if (value < SUB_BUCKETS) {
+            return (int) value;
+         }
+         int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+         return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+      }
+
+      static long upperBound(int bucket) {
+         if (bucket < SUB_BUCKETS) {
+            return bucket + 1;
+         }
+         int shift = bucket / SUB_BUCKETS - 1;
+         long subBucket = bucket % SUB_BUCKETS;
+         long upper = (SUB_BUCKETS + subBucket + 1) << shift;
+         return upper < 0 ? Long.MAX_VALUE : upper;
+      }
+   }
+}
@@ -64,6 +64,9 @@
 import org.infinispan.factories.scopes.Scopes;
 import org.infinispan.jmx.CacheManagerJmxRegistration;
 import org.infinispan.jmx.ObjectNameKeys;
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.MeasurementType;
 import org.infinispan.metrics.impl.MetricsCollector;
 import org.infinispan.notifications.cachemanagerlistener.CacheManagerNotifier;
 import org.infinispan.remoting.inboundhandler.DeliverOrder;
@@ -132,6 +135,13 @@
  * <li><tt>channelLookup</tt> - Fully qualified class name of a
  * {@link JGroupsChannelLookup} instance</li>
  * </ul>
+ * Staggered requests, used for remote reads, can be tuned with the following properties:
+ * <ul>
+ * <li><tt>hedgePercentile</tt> - the percentile of the response times of a node after which the request is also sent
+ * to the next owner, or {@code 0} to always wait for the fixed stagger delay. Defaults to 95.</li>
+ * <li><tt>hedgeBudget</tt> - the maximum percentage of staggered requests sent to another owner before the fixed
+ * stagger delay. Defaults to 10.</li>
+ * </ul>
  * These are normally passed in as Properties in
  * {@link TransportConfigurationBuilder#withProperties(Properties)} or
  * in the Infinispan XML configuration file.
@@ -142,6 +152,7 @@
  */
 @Scope(Scopes.GLOBAL)
 @JGroupsProtocolComponent("JGroupsMetricsMetadata")
+@MBean(objectName = "Transport", description = "Sends and receives the remote commands of the cache manager.")
 public class JGroupsTransport implements Transport, ChannelListener {
    public static final String CONFIGURATION_STRING = "configurationString";
    public static final String CONFIGURATION_XML = "configurationXml";
@@ -149,6 +160,8 @@ public class JGroupsTransport implements Transport, ChannelListener {
    public static final String CHANNEL_LOOKUP = "channelLookup";
    public static final String CHANNEL_CONFIGURATOR = "channelConfigurator";
    public static final String SOCKET_FACTORY = "socketFactory";
+   public static final String HEDGE_PERCENTILE = "hedgePercentile";
+   public static final String HEDGE_BUDGET = "hedgeBudget";
    private static final String METRICS_PREFIX = "jgroups_";
    public static final short REQUEST_FLAGS_UNORDERED =
          (short) (Message.Flag.OOB.value() | Message.Flag.NO_TOTAL_ORDER.value() |
@@ -197,6 +210,7 @@ public class JGroupsTransport implements Transport, ChannelListener {
          new ClusterView(ClusterView.INITIAL_VIEW_ID, Collections.emptyList(), null);
    private CompletableFuture<Void> nextViewFuture = new CompletableFuture<>();
    private RequestRepository requests;
+   private HedgingPolicy hedgingPolicy;
    private final Map<String, SiteUnreachableReason> unreachableSites;
    private String localSite;
 
@@ -463,6 +477,8 @@ public void start() {
       probeHandler.updateThreadPool(nonBlockingExecutor);
       props = TypedProperties.toTypedProperties(configuration.transport().properties());
       requests = new RequestRepository();
+      hedgingPolicy = new HedgingPolicy(props.getIntProperty(HEDGE_PERCENTILE, HedgingPolicy.DEFAULT_PERCENTILE),
+                                        props.getIntProperty(HEDGE_BUDGET, HedgingPolicy.DEFAULT_BUDGET));
 
       String stack = configuration.transport().stack();
       if (stack != null) {
@@ -795,6 +811,9 @@ protected void receiveClusterView(View newView) {
          if (requests != null) {
             requests.forEach(request -> request.onNewView(clusterView.getMembersSet()));
          }
+         if (hedgingPolicy != null) {
+            hedgingPolicy.retainAll(clusterView.getMembersSet());
+         }
       });
 
       JGroupsAddressCache.pruneAddressCache();
@@ -1367,6 +1386,39 @@ ScheduledExecutorService getTimeoutExecutor() {
       return timeoutExecutor;
    }
 
+   HedgingPolicy getHedgingPolicy() {
+      return hedgingPolicy;
+   }
+
+   @Override
+   public long getResponseTimeNanos(Address target) {
+      return hedgingPolicy == null ? -1 : hedgingPolicy.responseTimeNanos(target);
+   }
+
+   @ManagedAttribute(description = "Number of staggered requests, used for remote reads",
+         displayName = "Staggered requests", measurementType = MeasurementType.TRENDSUP)
+   public long getStaggeredRequests() {
+      return hedgingPolicy == null ? 0 : hedgingPolicy.getStaggeredRequests();
+   }
+
+   @ManagedAttribute(description = "Number of staggered requests sent to another target because the first target did not reply in time",
+         displayName = "Hedged requests", measurementType = MeasurementType.TRENDSUP)
+   public long getHedgedRequests() {
+      return hedgingPolicy == null ? 0 : hedgingPolicy.getHedgedRequests();
+   }
+
+   @ManagedAttribute(description = "Number of staggered requests completed by the reply of a hedged target",
+         displayName = "Hedge wins", measurementType = MeasurementType.TRENDSUP)
+   public long getHedgeWins() {
+      return hedgingPolicy == null ? 0 : hedgingPolicy.getHedgeWins();
+   }
+
+   @ManagedAttribute(description = "Number of times a staggered request waited for the fixed stagger delay because the hedging budget was exhausted",
+         displayName = "Hedging budget exhausted", measurementType = MeasurementType.TRENDSUP)
+   public long getHedgeBudgetExhausted() {
+      return hedgingPolicy == null ? 0 : hedgingPolicy.getBudgetExhausted();
+   }
+
    private void processMessage(Message message) {
       org.jgroups.Address src = message.src();
       short flags = message.getFlags();
@@ -6,6 +6,7 @@
 
 import org.infinispan.commands.ReplicableCommand;
 import org.infinispan.remoting.inboundhandler.DeliverOrder;
+import org.infinispan.remoting.responses.CacheNotFoundResponse;
 import org.infinispan.remoting.responses.Response;
 import org.infinispan.remoting.transport.Address;
 import org.infinispan.remoting.transport.impl.MultiTargetRequest;
@@ -15,6 +16,11 @@
 import net.jcip.annotations.GuardedBy;
 
 /**
+ * Request that is sent to one target at a time, until a target sends a valid response.
+ * <p>
+ * The command is sent to the next target when the current target replies with an invalid response, or when it takes
+ * longer to reply than the delay computed by {@link HedgingPolicy}.
+ *
  * @author Dan Berindei
  * @since 9.1
  */
@@ -22,11 +28,25 @@
    private final ReplicableCommand command;
    private final DeliverOrder deliverOrder;
    private final JGroupsTransport transport;
+   private final HedgingPolicy hedgingPolicy;
 
    @GuardedBy("responseCollector")
    private long deadline;
    @GuardedBy("responseCollector")
    private int targetIndex;
+   @GuardedBy("responseCollector")
+   private final Address[] sentTargets;
+   @GuardedBy("responseCollector")
+   private final long[] sentTimes;
+   @GuardedBy("responseCollector")
+   private final boolean[] hedgedTargets;
+   @GuardedBy("responseCollector")
+   private final boolean[] respondedTargets;
+   @GuardedBy("responseCollector")
+   private int sentCount;
+   // The time left until the fixed stagger delay, if the current stagger timeout is shorter
+   @GuardedBy("responseCollector")
+   private long fixedDelayRemainder = -1;
 
    StaggeredRequest(ResponseCollector<T> responseCollector, long requestId, RequestRepository repository,
                     Collection<Address> targets, Address excludedTarget, ReplicableCommand command,
@@ -36,8 +56,14 @@
       this.command = command;
       this.deliverOrder = deliverOrder;
       this.transport = transport;
+      this.hedgingPolicy = transport.getHedgingPolicy();
+      this.sentTargets = new Address[getTargetsSize()];
+      this.sentTimes = new long[getTargetsSize()];
+      this.hedgedTargets = new boolean[getTargetsSize()];
+      this.respondedTargets = new boolean[getTargetsSize()];
 
       this.deadline = transport.timeService.expectedEndTime(timeout, unit);
+      hedgingPolicy.requestStarted();
    }
 
    @Override
@@ -47,27 +73,84 @@ public void setTimeout(ScheduledExecutorService timeoutExecutor, long timeout, T
 
    @Override
    public synchronized void onResponse(Address sender, Response response) {
+      boolean fromHedgedTarget = false;
+      int senderIndex = -1;
+      synchronized (responseCollector) {
+         for (int i = 0; i < sentCount; i++) {
+            if (sentTargets[i].equals(sender)) {
+               if (response != CacheNotFoundResponse.INSTANCE) {
+                  long durationNanos = transport.getTimeService().timeDuration(sentTimes[i], TimeUnit.NANOSECONDS);
+                  hedgingPolicy.recordResponseTime(sender, durationNanos);
+               }
+               respondedTargets[i] = true;
+               fromHedgedTarget = hedgedTargets[i];
+               senderIndex = i;
+               break;
+            }
+         }
+      }
+      boolean wasDone = isDone();
+
       super.onResponse(sender, response);
 
-      sendNextMessage();
+      if (!wasDone && isDone()) {
+         // The targets contacted before the sender are slower than the sender, even if they never reply
+         recordPendingTargets(senderIndex);
+         if (fromHedgedTarget && !isCompletedExceptionally()) {
+            hedgingPolicy.hedgeWon();
+         }
+      }
+      sendNextMessage(false);
    }
 
    @Override
    protected void onTimeout() {
       // Don't call super.onTimeout() if it's just a stagger timeout
       boolean isFinalTimeout;
+      long remainderNanos;
       synchronized (responseCollector) {
          isFinalTimeout = targetIndex >= getTargetsSize();
+         remainderNanos = fixedDelayRemainder;
+         fixedDelayRemainder = -1;
       }
 
       if (isFinalTimeout) {
          super.onTimeout();
+         recordPendingTargets(getTargetsSize());
+      } else if (remainderNanos <= 0) {
+         // The fixed stagger delay expired, this is a regular staggered request
+         sendNextMessage(false);
+      } else if (hedgingPolicy.tryHedge()) {
+         // The percentile delay expired before the fixed stagger delay
+         sendNextMessage(true);
       } else {
-         sendNextMessage();
+         // The hedging budget is exhausted, wait for the fixed stagger delay
+         super.setTimeout(transport.getTimeoutExecutor(), remainderNanos, TimeUnit.NANOSECONDS);
+      }
+   }
+
+   /**
+    * Records the time elapsed since the command was sent to the targets that haven't replied yet, as a lower bound of
+    * their response time. Otherwise the estimates would only include the responses that arrived before the request
+    * completed, and a slow node would appear faster than it is.
+    */
+   private void recordPendingTargets(int targetCount) {
+      synchronized (responseCollector) {
+         for (int i = 0; i < Math.min(targetCount, sentCount); i++) {
+            if (!respondedTargets[i]) {
+               long durationNanos = transport.getTimeService().timeDuration(sentTimes[i], TimeUnit.NANOSECONDS);
+               hedgingPolicy.recordResponseTime(sentTargets[i], durationNanos);
+               respondedTargets[i] = true;
+            }
+         }
       }
    }
 
    void sendNextMessage() {
+      sendNextMessage(false);
+   }
+
+   private void sendNextMessage(boolean hedge) {
       try {
          Address target = null;
          boolean isFinalTarget;
@@ -93,6 +176,14 @@ void sendNextMessage() {
             }
 
             isFinalTarget = targetIndex >= getTargetsSize();
+            sentTargets[sentCount] = target;
+            sentTimes[sentCount] = transport.getTimeService().time();
+            hedgedTargets[sentCount] = hedge;
+            sentCount++;
+         }
+
+         if (hedge) {
+            hedgingPolicy.hedgeSent();
          }
 
          // Sending may block in flow-control or even in TCP, so we must do it outside the critical section
@@ -103,7 +194,11 @@ void sendNextMessage() {
          // Otherwise, schedule a timeout task to send a staggered request to the next target
          long delayNanos = transport.getTimeService().remainingTime(deadline, TimeUnit.NANOSECONDS);
          if (!isFinalTarget) {
-            delayNanos = delayNanos / 10 / getTargetsSize();
+            long fixedDelayNanos = delayNanos / 10 / getTargetsSize();
+            delayNanos = hedgingPolicy.hedgeDelay(target, fixedDelayNanos);
+            synchronized (responseCollector) {
+               fixedDelayRemainder = fixedDelayNanos - delayNanos;
+            }
          }
          super.setTimeout(transport.getTimeoutExecutor(), delayNanos, TimeUnit.NANOSECONDS);
       } catch (Exception e) {
@@ -1,8 +1,8 @@
 package org.infinispan.stream.impl;
 
 import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.PrimitiveIterator;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
@@ -37,7 +37,7 @@
  * @param <S> The stream interface
  */
 public abstract class AbstractCacheStream<Original, T, S extends BaseStream<T, S>, S2 extends S> implements BaseStream<T, S> {
-   protected final Queue<IntermediateOperation> intermediateOperations;
+   protected final Deque<IntermediateOperation> intermediateOperations;
    protected final Address localAddress;
    protected final ClusterPublisherManager cpm;
    protected final Executor executor;
@@ -132,13 +132,28 @@ protected void addIntermediateOperationMap(IntermediateOperation<T, S, ?, ?> int
       addIntermediateOperation(intermediateOperations, intermediateOperation);
    }
 
-   protected void addIntermediateOperation(Queue<IntermediateOperation> intermediateOperations,
+   protected void addIntermediateOperation(Deque<IntermediateOperation> intermediateOperations,
            IntermediateOperation<T, S, ?, ?> intermediateOperation) {
       intermediateOperations.add(intermediateOperation);
    }
 
    protected abstract S2 unwrap();
 
+   /**
+    * Removes the last intermediate operation if it is of the given type, so that the terminal operation can apply it
+    * itself.
+    * @param operationClass the type of the operation to remove
+    * @param <O> the type of the operation to remove
+    * @return the removed operation or null if the last operation is of a different type
+    */
+   protected <O extends IntermediateOperation> O pollLastIntermediateOperation(Class<O> operationClass) {
+      IntermediateOperation last = intermediateOperations.peekLast();
+      if (operationClass.isInstance(last)) {
+         return operationClass.cast(intermediateOperations.pollLast());
+      }
+      return null;
+   }
+
    @Override
    public boolean isParallel() {
       return parallel;
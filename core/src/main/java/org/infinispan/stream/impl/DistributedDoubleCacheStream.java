@@ -32,6 +32,7 @@
 import org.infinispan.commons.util.IntSet;
 import org.infinispan.commons.util.IntSets;
 import org.infinispan.reactive.publisher.PublisherReducers;
+import org.infinispan.stream.impl.intops.object.MapToDoubleOperation;
 import org.infinispan.stream.impl.intops.primitive.d.BoxedDoubleOperation;
 import org.infinispan.stream.impl.intops.primitive.d.DistinctDoubleOperation;
 import org.infinispan.stream.impl.intops.primitive.d.FilterDoubleOperation;
@@ -268,12 +269,21 @@ public <R> R collect(Supplier<R> supplier, ObjDoubleConsumer<R> accumulator, BiC
 
    @Override
    public double sum() {
+      double[] statistics = columnStatistics();
+      if (statistics != null) {
+         return statistics[PublisherReducers.STATISTICS_SUM];
+      }
       DoubleSummaryStatistics dss = summaryStatistics();
       return dss.getSum();
    }
 
    @Override
    public OptionalDouble min() {
+      double[] statistics = columnStatistics();
+      if (statistics != null) {
+         return statistics[PublisherReducers.STATISTICS_COUNT] == 0 ? OptionalDouble.empty() :
+               OptionalDouble.of(statistics[PublisherReducers.STATISTICS_MIN]);
+      }
       SerializableComparator<Double> serializableComparator = Double::compareTo;
       Function<Publisher<Double>, CompletionStage<Double>> minFunction = PublisherReducers.min(serializableComparator);
       Double min = performPublisherOperation(minFunction, minFunction);
@@ -285,6 +295,11 @@ public OptionalDouble min() {
 
    @Override
    public OptionalDouble max() {
+      double[] statistics = columnStatistics();
+      if (statistics != null) {
+         return statistics[PublisherReducers.STATISTICS_COUNT] == 0 ? OptionalDouble.empty() :
+               OptionalDouble.of(statistics[PublisherReducers.STATISTICS_MAX]);
+      }
       SerializableComparator<Double> serializableComparator = Double::compareTo;
       Function<Publisher<Double>, CompletionStage<Double>> maxFunction = PublisherReducers.max(serializableComparator);
       Double max = performPublisherOperation(maxFunction, maxFunction);
@@ -296,6 +311,12 @@ public OptionalDouble max() {
 
    @Override
    public OptionalDouble average() {
+      double[] statistics = columnStatistics();
+      if (statistics != null) {
+         double count = statistics[PublisherReducers.STATISTICS_COUNT];
+         return count == 0 ? OptionalDouble.empty() :
+               OptionalDouble.of(statistics[PublisherReducers.STATISTICS_SUM] / count);
+      }
       DoubleSummaryStatistics dss = summaryStatistics();
       if (dss.getCount() == 0) {
          return OptionalDouble.empty();
@@ -317,6 +338,21 @@ public DoubleSummaryStatistics summaryStatistics() {
             }));
    }
 
+   /**
+    * Computes the statistics of the values in primitive columns if the values are mapped from objects by the last
+    * intermediate operation, so the values are never boxed.
+    * @return the statistics of the values or null if they are not mapped from objects by the last operation
+    */
+   private double[] columnStatistics() {
+      MapToDoubleOperation<?> mapToDouble = pollLastIntermediateOperation(MapToDoubleOperation.class);
+      if (mapToDouble == null) {
+         return null;
+      }
+      Function<Publisher<Double>, CompletionStage<double[]>> reducer =
+            (Function) PublisherReducers.doubleStatistics(mapToDouble.getFunction());
+      return performPublisherOperation(reducer, PublisherReducers.combineDoubleStatistics());
+   }
+
    @Override
    public boolean anyMatch(DoublePredicate predicate) {
       return performPublisherOperation(PublisherReducers.anyMatch((SerializablePredicate<Double>) predicate::test),
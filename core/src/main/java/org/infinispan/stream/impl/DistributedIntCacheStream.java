@@ -33,6 +33,7 @@
 import org.infinispan.commons.util.IntSet;
 import org.infinispan.commons.util.IntSets;
 import org.infinispan.reactive.publisher.PublisherReducers;
+import org.infinispan.stream.impl.intops.object.MapToIntOperation;
 import org.infinispan.stream.impl.intops.primitive.i.AsDoubleIntOperation;
 import org.infinispan.stream.impl.intops.primitive.i.AsLongIntOperation;
 import org.infinispan.stream.impl.intops.primitive.i.BoxedIntOperation;
@@ -284,15 +285,19 @@ public <R> R collect(Supplier<R> supplier, ObjIntConsumer<R> accumulator, BiCons
 
    @Override
    public int sum() {
-      long result = mapToLong(Integer::toUnsignedLong).sum();
-      if (result > Integer.MAX_VALUE) {
-         return Integer.MAX_VALUE;
-      }
-      return (int) result;
+      long[] statistics = columnStatistics();
+      long result = statistics != null ? statistics[PublisherReducers.STATISTICS_SUM] : asLongStream().sum();
+      // Both paths sum the signed values as longs and saturate at the bounds of an int
+      return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, result));
    }
 
    @Override
    public OptionalInt min() {
+      long[] statistics = columnStatistics();
+      if (statistics != null) {
+         return statistics[PublisherReducers.STATISTICS_COUNT] == 0 ? OptionalInt.empty() :
+               OptionalInt.of((int) statistics[PublisherReducers.STATISTICS_MIN]);
+      }
       SerializableComparator<Integer> serializableComparator = Integer::compareTo;
       Function<Publisher<Integer>, CompletionStage<Integer>> minFunction = PublisherReducers.min(serializableComparator);
       Integer min = performPublisherOperation(minFunction, minFunction);
@@ -304,6 +309,11 @@ public OptionalInt min() {
 
    @Override
    public OptionalInt max() {
+      long[] statistics = columnStatistics();
+      if (statistics != null) {
+         return statistics[PublisherReducers.STATISTICS_COUNT] == 0 ? OptionalInt.empty() :
+               OptionalInt.of((int) statistics[PublisherReducers.STATISTICS_MAX]);
+      }
       SerializableComparator<Integer> serializableComparator = Integer::compareTo;
       Function<Publisher<Integer>, CompletionStage<Integer>> maxFunction = PublisherReducers.max(serializableComparator);
       Integer max = performPublisherOperation(maxFunction, maxFunction);
@@ -315,6 +325,12 @@ public OptionalInt max() {
 
    @Override
    public OptionalDouble average() {
+      long[] statistics = columnStatistics();
+      if (statistics != null) {
+         long count = statistics[PublisherReducers.STATISTICS_COUNT];
+         return count == 0 ? OptionalDouble.empty() :
+               OptionalDouble.of((double) statistics[PublisherReducers.STATISTICS_SUM] / count);
+      }
       IntSummaryStatistics iss = summaryStatistics();
       if (iss.getCount() == 0) {
          return OptionalDouble.empty();
@@ -336,6 +352,21 @@ public IntSummaryStatistics summaryStatistics() {
             }));
    }
 
+   /**
+    * Computes the statistics of the values in primitive columns if the values are mapped from objects by the last
+    * intermediate operation, so the values are never boxed.
+    * @return the statistics of the values or null if they are not mapped from objects by the last operation
+    */
+   private long[] columnStatistics() {
+      MapToIntOperation<?> mapToInt = pollLastIntermediateOperation(MapToIntOperation.class);
+      if (mapToInt == null) {
+         return null;
+      }
+      Function<Publisher<Integer>, CompletionStage<long[]>> reducer =
+            (Function) PublisherReducers.intStatistics(mapToInt.getFunction());
+      return performPublisherOperation(reducer, PublisherReducers.combineStatistics());
+   }
+
    @Override
    public boolean anyMatch(IntPredicate predicate) {
       return performPublisherOperation(PublisherReducers.anyMatch((SerializablePredicate<Integer>) predicate::test),
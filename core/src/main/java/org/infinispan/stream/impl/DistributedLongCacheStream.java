@@ -33,6 +33,7 @@
 import org.infinispan.commons.util.IntSet;
 import org.infinispan.commons.util.IntSets;
 import org.infinispan.reactive.publisher.PublisherReducers;
+import org.infinispan.stream.impl.intops.object.MapToLongOperation;
 import org.infinispan.stream.impl.intops.primitive.l.AsDoubleLongOperation;
 import org.infinispan.stream.impl.intops.primitive.l.BoxedLongOperation;
 import org.infinispan.stream.impl.intops.primitive.l.DistinctLongOperation;
@@ -276,12 +277,21 @@ public <R> R collect(Supplier<R> supplier, ObjLongConsumer<R> accumulator, BiCon
 
    @Override
    public long sum() {
+      long[] statistics = columnStatistics();
+      if (statistics != null) {
+         return statistics[PublisherReducers.STATISTICS_SUM];
+      }
       Function<Publisher<Long>, CompletionStage<Long>> addFunction = PublisherReducers.add();
       return performPublisherOperation(addFunction, addFunction);
    }
 
    @Override
    public OptionalLong min() {
+      long[] statistics = columnStatistics();
+      if (statistics != null) {
+         return statistics[PublisherReducers.STATISTICS_COUNT] == 0 ? OptionalLong.empty() :
+               OptionalLong.of(statistics[PublisherReducers.STATISTICS_MIN]);
+      }
       SerializableComparator<Long> serializableComparator = Long::compareTo;
       Function<Publisher<Long>, CompletionStage<Long>> minFunction = PublisherReducers.min(serializableComparator);
       Long min = performPublisherOperation(minFunction, minFunction);
@@ -293,6 +303,11 @@ public OptionalLong min() {
 
    @Override
    public OptionalLong max() {
+      long[] statistics = columnStatistics();
+      if (statistics != null) {
+         return statistics[PublisherReducers.STATISTICS_COUNT] == 0 ? OptionalLong.empty() :
+               OptionalLong.of(statistics[PublisherReducers.STATISTICS_MAX]);
+      }
       SerializableComparator<Long> serializableComparator = Long::compareTo;
       Function<Publisher<Long>, CompletionStage<Long>> maxFunction = PublisherReducers.max(serializableComparator);
       Long max = performPublisherOperation(maxFunction, maxFunction);
@@ -304,6 +319,12 @@ public OptionalLong max() {
 
    @Override
    public OptionalDouble average() {
+      long[] statistics = columnStatistics();
+      if (statistics != null) {
+         long count = statistics[PublisherReducers.STATISTICS_COUNT];
+         return count == 0 ? OptionalDouble.empty() :
+               OptionalDouble.of((double) statistics[PublisherReducers.STATISTICS_SUM] / count);
+      }
       LongSummaryStatistics lss = summaryStatistics();
       if (lss.getCount() == 0) {
          return OptionalDouble.empty();
@@ -325,6 +346,21 @@ public LongSummaryStatistics summaryStatistics() {
             }));
    }
 
+   /**
+    * Computes the statistics of the values in primitive columns if the values are mapped from objects by the last
+    * intermediate operation, so the values are never boxed.
+    * @return the statistics of the values or null if they are not mapped from objects by the last operation
+    */
+   private long[] columnStatistics() {
+      MapToLongOperation<?> mapToLong = pollLastIntermediateOperation(MapToLongOperation.class);
+      if (mapToLong == null) {
+         return null;
+      }
+      Function<Publisher<Long>, CompletionStage<long[]>> reducer =
+            (Function) PublisherReducers.longStatistics(mapToLong.getFunction());
+      return performPublisherOperation(reducer, PublisherReducers.combineStatistics());
+   }
+
    @Override
    public boolean anyMatch(LongPredicate predicate) {
       return performPublisherOperation(PublisherReducers.anyMatch((SerializablePredicate<Long>) predicate::test),
@@ -30,6 +30,7 @@
 import org.infinispan.IntCacheStream;
 import org.infinispan.LongCacheStream;
 import org.infinispan.commons.util.IntSet;
+import org.infinispan.stream.impl.intops.object.SortedLimitOperation;
 import org.infinispan.stream.impl.local.LocalCacheStream;
 import org.infinispan.util.function.SerializableSupplier;
 
@@ -43,12 +44,19 @@
 
    private final IntermediateCacheStreamSupplier supplier;
 
+   // Whether the remote stream is distributed, so a limit following a sort can be pushed down to the remote nodes
+   private final boolean limitPushdown;
+   private int localOperations;
+   private boolean sortedFirst;
+   private Comparator<? super R> sortComparator;
+
    public IntermediateCacheStream(DistributedCacheStream<Original, R> remoteStream) {
       this.remoteStream = remoteStream;
       this.type = IntermediateType.REF;
       this.supplier = new IntermediateCacheStreamSupplier(type, remoteStream);
       this.localStream = new LocalCacheStream<>(supplier, remoteStream.parallel,
               remoteStream.registry);
+      this.limitPushdown = true;
    }
 
    public IntermediateCacheStream(BaseCacheStream remoteStream, IntermediateType type,
@@ -57,6 +65,7 @@ public IntermediateCacheStream(BaseCacheStream remoteStream, IntermediateType ty
       this.type = type;
       this.localStream = localStream;
       this.supplier = supplier;
+      this.limitPushdown = false;
    }
 
    @Override
@@ -121,48 +130,79 @@ public boolean isParallel() {
    @Override
    public CacheStream<R> sorted() {
       localStream = localStream.sorted();
+      sortedFirst = localOperations++ == 0;
+      sortComparator = null;
       return this;
    }
 
    @Override
    public CacheStream<R> sorted(Comparator<? super R> comparator) {
       localStream = localStream.sorted(comparator);
+      sortedFirst = localOperations++ == 0;
+      sortComparator = comparator;
       return this;
    }
 
    @Override
    public CacheStream<R> limit(long maxSize) {
+      if (limitPushdown && sortedFirst && localOperations == 1 && isMarshallable(sortComparator)) {
+         // Only the first elements of each node can be the first elements of the stream, so each node sorts its
+         // elements and sends only the first ones, that are then sorted again locally
+         ((DistributedCacheStream<Original, R>) remoteStream).addIntermediateOperation(
+               new SortedLimitOperation<>(sortComparator, maxSize));
+      }
+      localOperations++;
       localStream = localStream.limit(maxSize);
       return this;
    }
 
+   /**
+    * Whether the comparator can be sent to the remote nodes, otherwise the elements are only sorted locally
+    */
+   private boolean isMarshallable(Comparator<? super R> comparator) {
+      if (comparator == null) {
+         return true;
+      }
+      try {
+         return ((DistributedCacheStream<Original, R>) remoteStream).registry.getInternalMarshaller()
+               .isMarshallable(comparator);
+      } catch (Exception e) {
+         return false;
+      }
+   }
+
    @Override
    public CacheStream<R> skip(long n) {
       localStream = localStream.skip(n);
+      localOperations++;
       return this;
    }
 
    @Override
    public CacheStream<R> peek(Consumer<? super R> action) {
       localStream = localStream.peek(action);
+      localOperations++;
       return this;
    }
 
    @Override
    public CacheStream<R> distinct() {
       localStream = localStream.distinct();
+      localOperations++;
       return this;
    }
 
    @Override
    public CacheStream<R> filter(Predicate<? super R> predicate) {
       localStream = localStream.filter(predicate);
+      localOperations++;
       return this;
    }
 
    @Override
    public <R1> CacheStream<R1> map(Function<? super R, ? extends R1> mapper) {
       localStream = (LocalCacheStream<R>) localStream.map(mapper);
+      localOperations++;
       return (CacheStream<R1>) this;
    }
 
@@ -184,6 +224,7 @@ public LongCacheStream mapToLong(ToLongFunction<? super R> mapper) {
    @Override
    public <R1> CacheStream<R1> flatMap(Function<? super R, ? extends Stream<? extends R1>> mapper) {
       localStream = (LocalCacheStream<R>) localStream.flatMap(mapper);
+      localOperations++;
       return (CacheStream<R1>) this;
    }
 
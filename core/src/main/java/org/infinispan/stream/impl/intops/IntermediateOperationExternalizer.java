@@ -49,6 +49,7 @@
 import org.infinispan.stream.impl.intops.object.MapToLongOperation;
 import org.infinispan.stream.impl.intops.object.PeekOperation;
 import org.infinispan.stream.impl.intops.object.SortedComparatorOperation;
+import org.infinispan.stream.impl.intops.object.SortedLimitOperation;
 import org.infinispan.stream.impl.intops.object.SortedOperation;
 import org.infinispan.stream.impl.intops.primitive.d.BoxedDoubleOperation;
 import org.infinispan.stream.impl.intops.primitive.d.DistinctDoubleOperation;
@@ -106,6 +107,7 @@ public class IntermediateOperationExternalizer implements AdvancedExternalizer<I
    private static final int PEEK = 11;
    private static final int SORTED_COMPARATOR = 12;
    private static final int SORTED = 13;
+   private static final int SORTED_LIMIT = 14;
 
    // Double stream intermediate operations
    private static final int DOUBLE_BOXED = 20;
@@ -166,6 +168,7 @@ public IntermediateOperationExternalizer() {
       operations.put(PeekOperation.class, PEEK);
       operations.put(SortedComparatorOperation.class, SORTED_COMPARATOR);
       operations.put(SortedOperation.class, SORTED);
+      operations.put(SortedLimitOperation.class, SORTED_LIMIT);
 
       operations.put(BoxedDoubleOperation.class, DOUBLE_BOXED);
       operations.put(DistinctDoubleOperation.class, DOUBLE_DISTINCT);
@@ -213,7 +216,7 @@ public Set<Class<? extends IntermediateOperation>> getTypeClasses() {
               FlatMapOperation.class, FlatMapToDoubleOperation.class, FlatMapToIntOperation.class,
               FlatMapToLongOperation.class, LimitOperation.class, MapOperation.class, MapToDoubleOperation.class,
               MapToIntOperation.class, MapToLongOperation.class, PeekOperation.class,
-              SortedComparatorOperation.class, SortedOperation.class,
+              SortedComparatorOperation.class, SortedOperation.class, SortedLimitOperation.class,
 
               BoxedDoubleOperation.class, DistinctDoubleOperation.class, FilterDoubleOperation.class,
               FlatMapDoubleOperation.class, LimitDoubleOperation.class, MapDoubleOperation.class,
@@ -278,6 +281,10 @@ public void writeObject(ObjectOutput output, IntermediateOperation object) throw
          case SORTED_COMPARATOR:
             output.writeObject(((SortedComparatorOperation) object).getComparator());
             break;
+         case SORTED_LIMIT:
+            output.writeObject(((SortedLimitOperation) object).getComparator());
+            UnsignedNumeric.writeUnsignedLong(output, ((SortedLimitOperation) object).getLimit());
+            break;
 
          case DOUBLE_FILTER:
             output.writeObject(((FilterDoubleOperation) object).getPredicate());
@@ -388,6 +395,8 @@ public IntermediateOperation readObject(ObjectInput input) throws IOException, C
             return new SortedComparatorOperation<>((Comparator) input.readObject());
          case SORTED:
             return SortedOperation.getInstance();
+         case SORTED_LIMIT:
+            return new SortedLimitOperation<>((Comparator) input.readObject(), UnsignedNumeric.readUnsignedLong(input));
 
          case DOUBLE_BOXED:
             return BoxedDoubleOperation.getInstance();
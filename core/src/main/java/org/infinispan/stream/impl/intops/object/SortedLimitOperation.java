@@ -0,0 +1,82 @@
+package org.infinispan.stream.impl.intops.object;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+import org.infinispan.stream.impl.intops.IntermediateOperation;
+
+import io.reactivex.rxjava3.core.Flowable;
+
+/**
+ * Performs a sorted operation followed by a limit operation on a regular {@link Stream}. Only the first elements are
+ * retained while sorting, in a heap bounded by the limit, so the memory used doesn't depend on the amount of elements.
+ * <p>
+ * This operation is applied remotely by each node when a stream is sorted and then limited, so that the originator
+ * only merges the first elements of each node.
+ * @param <S> the type of the elements
+ * @since 14.0
+ */
+public class SortedLimitOperation<S> implements IntermediateOperation<S, Stream<S>, S, Stream<S>> {
+   private final Comparator<? super S> comparator;
+   private final long limit;
+
+   /**
+    * @param comparator the comparator to sort the elements with, or {@code null} to use their natural order
+    * @param limit the number of elements to retain
+    */
+   public SortedLimitOperation(Comparator<? super S> comparator, long limit) {
+      if (limit <= 0) {
+         throw new IllegalArgumentException("Limit must be greater than 0");
+      }
+      this.comparator = comparator;
+      this.limit = limit;
+   }
+
+   @Override
+   public Stream<S> perform(Stream<S> stream) {
+      return (comparator == null ? stream.sorted() : stream.sorted(comparator)).limit(limit);
+   }
+
+   public Comparator<? super S> getComparator() {
+      return comparator;
+   }
+
+   public long getLimit() {
+      return limit;
+   }
+
+   @Override
+   public Flowable<S> mapFlowable(Flowable<S> input) {
+      Comparator<? super S> comparator = comparator();
+      if (limit >= Integer.MAX_VALUE) {
+         return input.sorted(comparator).take(limit);
+      }
+      int size = (int) limit;
+      return input.collect(() -> new PriorityQueue<S>(Math.min(size, 64), Collections.reverseOrder(comparator)),
+            (heap, element) -> {
+               if (heap.size() < size) {
+                  heap.offer(element);
+               } else if (comparator.compare(element, heap.peek()) < 0) {
+                  // The head of the heap is the last retained element
+                  heap.poll();
+                  heap.offer(element);
+               }
+            })
+            .flattenAsFlowable(heap -> {
+               List<S> elements = new ArrayList<>(heap);
+               elements.sort(comparator);
+               return elements;
+            });
+   }
+
+   private Comparator<? super S> comparator() {
+      if (comparator == null) {
+         return (Comparator) Comparator.naturalOrder();
+      }
+      return comparator;
+   }
+}
@@ -35,6 +35,7 @@
 import org.infinispan.jmx.annotations.DataType;
 import org.infinispan.jmx.annotations.MBean;
 import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
 import org.infinispan.util.concurrent.TimeoutException;
 import org.infinispan.util.concurrent.locks.DeadlockDetectedException;
 import org.infinispan.util.concurrent.locks.ExtendedLockPromise;
@@ -60,6 +61,7 @@ public class DefaultLockManager implements LockManager {
    private static final Log log = LogFactory.getLog(DefaultLockManager.class);
    private static final AtomicReferenceFieldUpdater<CompositeLockPromise, LockState> UPDATER =
          newUpdater(CompositeLockPromise.class, LockState.class, "lockState");
+   private static final int TOP_CONTENDED_KEYS = 10;
 
    @Inject LockContainer lockContainer;
    @Inject Configuration configuration;
@@ -221,6 +223,42 @@ public int getNumberOfLocksAvailable() {
       return lockContainer.size() - lockContainer.getNumLocksHeld();
    }
 
+   @ManagedAttribute(description = "The number of lock acquisitions that didn't wait for another lock owner. Only available with lock pooling.", displayName = "Number of uncontended lock acquisitions")
+   public long getUncontendedLockAcquisitions() {
+      LockContentionStatistics statistics = contentionStatistics();
+      return statistics == null ? -1 : statistics.getUncontendedAcquisitions();
+   }
+
+   @ManagedAttribute(description = "The number of lock acquisitions that waited for another lock owner. Only available with lock pooling.", displayName = "Number of contended lock acquisitions")
+   public long getContendedLockAcquisitions() {
+      LockContentionStatistics statistics = contentionStatistics();
+      return statistics == null ? -1 : statistics.getContendedAcquisitions();
+   }
+
+   @ManagedAttribute(description = "The lock wait time histogram, in microseconds. Only available with lock pooling.", displayName = "Lock wait time histogram")
+   public String[] getLockWaitTimeHistogram() {
+      LockContentionStatistics statistics = contentionStatistics();
+      return statistics == null ? new String[0] : statistics.getWaitTimeHistogram();
+   }
+
+   @ManagedAttribute(description = "The keys with the most contended lock acquisitions. Only available with lock pooling.", displayName = "Top contended keys")
+   public String[] getTopContendedKeys() {
+      LockContentionStatistics statistics = contentionStatistics();
+      return statistics == null ? new String[0] : statistics.getTopContendedKeys(TOP_CONTENDED_KEYS);
+   }
+
+   @ManagedOperation(description = "Resets statistics gathered by this component", displayName = "Reset statistics")
+   public void resetStatistics() {
+      LockContentionStatistics statistics = contentionStatistics();
+      if (statistics != null) {
+         statistics.reset();
+      }
+   }
+
+   private LockContentionStatistics contentionStatistics() {
+      return lockContainer instanceof PooledLockContainer ? ((PooledLockContainer) lockContainer).getStatistics() : null;
+   }
+
    @Override
    public InfinispanLock getLock(Object key) {
       return lockContainer.getLock(key);
@@ -54,7 +54,7 @@ public class InfinispanLock {
 
    private final Queue<LockPlaceHolder> pendingRequest;
    private final ConcurrentMap<Object, LockPlaceHolder> lockOwners;
-   private final Runnable releaseRunnable;
+   private Runnable releaseRunnable;
    private final Executor nonBlockingExecutor;
    private TimeService timeService;
    @SuppressWarnings("CanBeFinal")
@@ -144,6 +144,15 @@ public ExtendedLockPromise acquire(Object lockOwner, long time, TimeUnit timeUni
          log.tracef("Created a new one: %s", lockPlaceHolder);
       }
 
+      if (current == null && pendingRequest.isEmpty() && cas(null, lockPlaceHolder)) {
+         //uncontended, acquire the lock without queueing the request
+         if (!lockPlaceHolder.setAcquire()) {
+            //released concurrently by the same lock owner
+            tryAcquire(lockPlaceHolder);
+         }
+         return lockPlaceHolder;
+      }
+
       pendingRequest.add(lockPlaceHolder);
       tryAcquire(null);
       return lockPlaceHolder;
@@ -233,6 +242,22 @@ public boolean containsLockOwner(Object lockOwner) {
       return lockOwners.containsKey(lockOwner);
    }
 
+   /**
+    * Replaces the {@link Runnable} invoked when this lock is released, so the lock can be reused for another key.
+    *
+    * @param releaseRunnable a {@link Runnable} that is invoked every time this lock is released.
+    * @return {@code true} if the lock can be reused, {@code false} if it has lock owners or if it already uses {@code
+    * releaseRunnable}.
+    */
+   boolean recycle(Runnable releaseRunnable) {
+      if (current != null || !lockOwners.isEmpty() || !pendingRequest.isEmpty() ||
+            this.releaseRunnable == releaseRunnable) {
+         return false;
+      }
+      this.releaseRunnable = releaseRunnable;
+      return true;
+   }
+
    private void onCanceled(LockPlaceHolder canceled) {
       if (log.isTraceEnabled()) {
          log.tracef("Release lock for %s. It was canceled.", canceled.owner);
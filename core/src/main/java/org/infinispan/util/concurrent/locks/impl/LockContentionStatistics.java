@@ -0,0 +1,143 @@
+package org.infinispan.util.concurrent.locks.impl;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Contention statistics collected by the {@link PooledLockContainer}.
+ * <p>
+ * The time spent waiting for a lock is kept in a histogram with a bucket for each power of 2 microseconds. The number
+ * of contended acquisitions is also kept per key, for at most {@link #MAX_TRACKED_KEYS} keys. When all the slots are
+ * used, a new key replaces the least contended key and inherits its count, so the most contended keys are always
+ * tracked. The per-key counts are halved every {@link #DECAY_WINDOW} contended acquisitions, so keys that are no longer
+ * contended are eventually replaced.
+ *
+ * @since 14.0
+ */
+public class LockContentionStatistics {
+   static final int MAX_TRACKED_KEYS = 1024;
+   static final int DECAY_WINDOW = 16 * MAX_TRACKED_KEYS;
+   // the last bucket contains the wait times longer than ~4 seconds
+   private static final int BUCKETS = 24;
+
+   private final AtomicLongArray waitTimes = new AtomicLongArray(BUCKETS);
+   private final LongAdder uncontended = new LongAdder();
+   private final LongAdder contended = new LongAdder();
+   private final ConcurrentMap<Object, AtomicLong> contendedKeys = new ConcurrentHashMap<>();
+   private final AtomicLong sinceDecay = new AtomicLong();
+
+   void recordUncontended() {
+      uncontended.increment();
+   }
+
+   void recordContended(Object key) {
+      contended.increment();
+      AtomicLong counter = contendedKeys.get(key);
+      if (counter != null) {
+         counter.incrementAndGet();
+      } else {
+         trackKey(key);
+      }
+      if (sinceDecay.incrementAndGet() >= DECAY_WINDOW) {
+         decay();
+      }
+   }
+
+   private synchronized void trackKey(Object key) {
+      AtomicLong counter = contendedKeys.get(key);
+      if (counter != null) {
+         counter.incrementAndGet();
+         return;
+      }
+      long count = 1;
+      if (contendedKeys.size() >= MAX_TRACKED_KEYS) {
+         Map.Entry<Object, AtomicLong> leastContended = null;
+         for (Map.Entry<Object, AtomicLong> entry : contendedKeys.entrySet()) {
+            if (leastContended == null || entry.getValue().get() < leastContended.getValue().get()) {
+               leastContended = entry;
+            }
+         }
+         contendedKeys.remove(leastContended.getKey());
+         // the new key may have been contended while it wasn't tracked, so its count is an upper bound
+         count += leastContended.getValue().get();
+      }
+      contendedKeys.put(key, new AtomicLong(count));
+   }
+
+   private synchronized void decay() {
+      if (sinceDecay.get() < DECAY_WINDOW) {
+         // another thread already halved the counts
+         return;
+      }
+      sinceDecay.set(0);
+      contendedKeys.values().removeIf(counter -> counter.updateAndGet(c -> c >> 1) == 0);
+   }
+
+   void recordWaitTime(long durationNanos) {
+      waitTimes.incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMicros(durationNanos)));
+   }
+
+   /**
+    * @return the number of lock acquisitions that didn't wait for another lock owner.
+    */
+   public long getUncontendedAcquisitions() {
+      return uncontended.sum();
+   }
+
+   /**
+    * @return the number of lock acquisitions that waited for another lock owner.
+    */
+   public long getContendedAcquisitions() {
+      return contended.sum();
+   }
+
+   /**
+    * @return the wait time histogram, as one {@code "<= upper bound: count"} entry per non-empty bucket.
+    */
+   public String[] getWaitTimeHistogram() {
+      return IntStream.range(0, BUCKETS)
+            .filter(i -> waitTimes.get(i) > 0)
+            .mapToObj(i -> (i == BUCKETS - 1 ? "> " + upperBound(i - 1) : "<= " + upperBound(i)) + " us: " +
+                  waitTimes.get(i))
+            .toArray(String[]::new);
+   }
+
+   /**
+    * @return the {@code count} keys with the most contended acquisitions, as {@code "key: count"} entries.
+    */
+   public String[] getTopContendedKeys(int count) {
+      return contendedKeys.entrySet().stream()
+            .map(e -> new SimpleImmutableEntry<>(e.getKey(), e.getValue().get()))
+            .sorted(Comparator.comparingLong((Map.Entry<Object, Long> e) -> e.getValue()).reversed())
+            .limit(count)
+            .map(e -> e.getKey() + ": " + e.getValue())
+            .toArray(String[]::new);
+   }
+
+   public synchronized void reset() {
+      for (int i = 0; i < BUCKETS; i++) {
+         waitTimes.set(i, 0);
+      }
+      uncontended.reset();
+      contended.reset();
+      contendedKeys.clear();
+      sinceDecay.set(0);
+   }
+
+   static int bucket(long micros) {
+      int bucket = micros <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(micros);
+      return Math.min(bucket, BUCKETS - 1);
+   }
+
+   static long upperBound(int bucket) {
+      return bucket == 0 ? 0 : (1L << bucket) - 1;
+   }
+}
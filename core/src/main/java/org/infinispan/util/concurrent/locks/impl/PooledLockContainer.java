@@ -0,0 +1,183 @@
+package org.infinispan.util.concurrent.locks.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.infinispan.commons.time.TimeService;
+import org.infinispan.commons.util.ByRef;
+import org.infinispan.factories.KnownComponentNames;
+import org.infinispan.factories.annotations.ComponentName;
+import org.infinispan.factories.annotations.Inject;
+import org.infinispan.factories.scopes.Scope;
+import org.infinispan.factories.scopes.Scopes;
+import org.infinispan.util.concurrent.locks.DeadlockChecker;
+import org.infinispan.util.concurrent.locks.ExtendedLockPromise;
+import org.infinispan.util.concurrent.locks.LockState;
+
+/**
+ * A lock container that maintains a lock per entry, like {@link PerKeyLockContainer}, but recycles the locks that are
+ * no longer used through a bounded pool and collects {@link LockContentionStatistics}.
+ * <p>
+ * The pool is an array of slots updated with CAS operations, so returning or taking a lock from the pool never blocks
+ * nor allocates. Only locks without any lock owner are recycled.
+ *
+ * @since 14.0
+ */
+@Scope(Scopes.NAMED_CACHE)
+public class PooledLockContainer implements LockContainer {
+
+   private static final int INITIAL_CAPACITY = 32;
+   // the number of slots checked when taking or returning a lock
+   private static final int MAX_PROBES = 4;
+   private final ConcurrentMap<Object, InfinispanLock> lockMap;
+   private final AtomicReferenceArray<InfinispanLock> pool;
+   private final LockContentionStatistics statistics = new LockContentionStatistics();
+   @ComponentName(KnownComponentNames.NON_BLOCKING_EXECUTOR)
+   @Inject protected Executor nonBlockingExecutor;
+   private TimeService timeService;
+
+   public PooledLockContainer(int poolSize) {
+      lockMap = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+      pool = new AtomicReferenceArray<>(Math.max(poolSize, 1));
+   }
+
+   @Inject
+   void inject(TimeService timeService) {
+      this.timeService = timeService;
+      for (InfinispanLock lock : lockMap.values()) {
+         lock.setTimeService(timeService);
+      }
+   }
+
+   @Override
+   public ExtendedLockPromise acquire(Object key, Object lockOwner, long time, TimeUnit timeUnit) {
+      ByRef<ExtendedLockPromise> reference = ByRef.create(null);
+      lockMap.compute(key, (aKey, lock) -> {
+         if (lock == null) {
+            lock = takeLock(aKey);
+         }
+         reference.set(lock.acquire(lockOwner, time, timeUnit));
+         return lock;
+      });
+      ExtendedLockPromise promise = reference.get();
+      if (promise.isAvailable()) {
+         statistics.recordUncontended();
+      } else {
+         statistics.recordContended(key);
+         long start = timeService.time();
+         promise.addListener(state -> {
+            if (state == LockState.ACQUIRED) {
+               statistics.recordWaitTime(timeService.timeDuration(start, TimeUnit.NANOSECONDS));
+            }
+         });
+      }
+      return promise;
+   }
+
+   @Override
+   public InfinispanLock getLock(Object key) {
+      return lockMap.get(key);
+   }
+
+   @Override
+   public void release(Object key, Object lockOwner) {
+      lockMap.computeIfPresent(key, (ignoredKey, lock) -> {
+         lock.release(lockOwner);
+         return removeIfUnlocked(lock);
+      });
+   }
+
+   @Override
+   public int getNumLocksHeld() {
+      int count = 0;
+      for (InfinispanLock lock : lockMap.values()) {
+         if (lock.isLocked()) {
+            count++;
+         }
+      }
+      return count;
+   }
+
+   @Override
+   public boolean isLocked(Object key) {
+      InfinispanLock lock = lockMap.get(key);
+      return lock != null && lock.isLocked();
+   }
+
+   @Override
+   public int size() {
+      return lockMap.size();
+   }
+
+   @Override
+   public void deadlockCheck(DeadlockChecker deadlockChecker) {
+      lockMap.values().forEach(lock -> lock.deadlockCheck(deadlockChecker));
+   }
+
+   public LockContentionStatistics getStatistics() {
+      return statistics;
+   }
+
+   /**
+    * @return the number of locks in the pool, waiting to be reused.
+    */
+   public int getPooledLocks() {
+      int count = 0;
+      for (int i = 0; i < pool.length(); i++) {
+         if (pool.get(i) != null) {
+            count++;
+         }
+      }
+      return count;
+   }
+
+   @Override
+   public String toString() {
+      return "PooledLockContainer{" +
+            "locks=" + lockMap +
+            '}';
+   }
+
+   private InfinispanLock removeIfUnlocked(InfinispanLock lock) {
+      if (lock.isLocked()) {
+         return lock;
+      }
+      //remove it if empty
+      returnLock(lock);
+      return null;
+   }
+
+   private InfinispanLock takeLock(Object key) {
+      // the lock may be released while release() is updating the map, so only release() returns it to the pool
+      Runnable releaseRunnable = () -> lockMap.computeIfPresent(key, (ignoredKey, lock) -> lock.isLocked() ? lock : null);
+      int start = ThreadLocalRandom.current().nextInt(pool.length());
+      for (int i = 0; i < Math.min(MAX_PROBES, pool.length()); i++) {
+         int slot = (start + i) % pool.length();
+         InfinispanLock lock = pool.get(slot);
+         if (lock != null && pool.compareAndSet(slot, lock, null)) {
+            // the lock was idle when returned, and nobody else can reach it
+            lock.recycle(releaseRunnable);
+            return lock;
+         }
+      }
+      return new InfinispanLock(nonBlockingExecutor, timeService, releaseRunnable);
+   }
+
+   private void returnLock(InfinispanLock lock) {
+      // a lock with pending requests is dropped, its owners still reference it
+      if (!lock.recycle(null)) {
+         return;
+      }
+      int start = ThreadLocalRandom.current().nextInt(pool.length());
+      for (int i = 0; i < Math.min(MAX_PROBES, pool.length()); i++) {
+         int slot = (start + i) % pool.length();
+         if (pool.get(slot) == null && pool.compareAndSet(slot, null, lock)) {
+            return;
+         }
+      }
+   }
+}
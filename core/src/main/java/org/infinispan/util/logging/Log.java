@@ -2254,4 +2254,10 @@ CacheConfigurationException storeConfiguredHasBothReadAndWriteOnly(String storeC
    @LogMessage(level = WARN)
    @Message(value = "Failed to transfer cross-site tombstones to %s for segments %s.", id = 662)
    void failedToTransferTombstones(Address requestor, IntSet segments,  @Cause Throwable t);
+
+   @Message(value = "Cross-Site state transfer max chunk bytes must be higher or equals than 0 (zero).", id = 663)
+   CacheConfigurationException invalidXSiteStateTransferMaxChunkBytes();
+
+   @Message(value = "Cross-Site state transfer concurrent segments must be higher than 0 (zero).", id = 664)
+   CacheConfigurationException invalidXSiteStateTransferConcurrentSegments();
 }
@@ -293,6 +293,14 @@ public final Map<String, String> getPushStateStatus() {
       }
    }
 
+   @ManagedOperation(displayName = "Push State Progress",
+         description = "Returns the percentage of the local segments already sent to the remote site or -1 if this node is not sending state to it.",
+         name = "PushStateProgress")
+   public final int getPushStateProgress(@Parameter(description = "The destination site name", name = "SiteName") String siteName) {
+      authorizer.checkPermission(AuthorizationPermission.ADMIN);
+      return stateTransferManager.getStateTransferProgress(siteName);
+   }
+
    @ManagedOperation(displayName = "Clear State Status",
          description = "Clears the state transfer status.",
          name = "ClearPushStateStatus")
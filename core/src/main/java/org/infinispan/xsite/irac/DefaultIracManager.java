@@ -16,6 +16,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
@@ -29,6 +30,7 @@
 import org.infinispan.commands.irac.IracStateResponseCommand;
 import org.infinispan.commands.irac.IracTouchKeyCommand;
 import org.infinispan.commands.remote.CacheRpcCommand;
+import org.infinispan.commons.time.TimeService;
 import org.infinispan.commons.util.IntSet;
 import org.infinispan.commons.util.Util;
 import org.infinispan.configuration.cache.BackupConfiguration;
@@ -91,6 +93,10 @@
  * On topology change, the updated keys list is replicate to the new owner(s). Also, if a segment is being transferred
  * (i.e. the primary owner isn't a write and read owner), no updates to the remote site is sent since, most likely, the
  * node doesn't have the most up-to-date value.
+ * <p>
+ * Up to {@link org.infinispan.configuration.cache.SitesConfiguration#maxInFlightBatches()} batches are sent
+ * concurrently. The keys are assigned to a batch pipeline by segment, and each pipeline sends its batches one at a time,
+ * so the updates to a key are never reordered.
  *
  * @author Pedro Ruivo
  * @since 11.0
@@ -110,12 +116,16 @@ public class DefaultIracManager implements IracManager, JmxStatisticsExposer {
    @Inject ClusteringDependentLogic clusteringDependentLogic;
    @Inject CommandsFactory commandsFactory;
    @Inject IracTombstoneManager iracTombstoneManager;
+   @Inject TimeService timeService;
 
    private final Map<Object, IracManagerKeyState> updatedKeys;
    private final Collection<IracXSiteBackup> asyncBackups;
    private final IracExecutor iracExecutor;
    private final int batchSize;
+   private final int maxInFlightBatches;
    private volatile boolean hasClear;
+   // the creation time of the oldest queued key, as found by the last send round
+   private volatile long oldestPendingTime;
 
    private boolean statisticsEnabled;
    private final LongAdder discardCounts = new LongAdder();
@@ -132,6 +142,7 @@ public DefaultIracManager(Configuration config) {
             .map(BackupConfiguration::stateTransfer)
             .mapToInt(XSiteStateTransferConfiguration::chunkSize)
             .reduce(1, Integer::max);
+      maxInFlightBatches = config.sites().maxInFlightBatches();
    }
 
    public static Collection<IracXSiteBackup> asyncBackups(Configuration config) {
@@ -150,6 +161,7 @@ public void inject(@ComponentName(KnownComponentNames.TIMEOUT_SCHEDULE_EXECUTOR)
 
    @Start
    public void start() {
+      oldestPendingTime = timeService.time();
       Transport transport = rpcManager.getTransport();
       transport.checkCrossSiteAvailable();
       String localSiteName = transport.localSiteName();
@@ -163,12 +175,12 @@ public void start() {
 
    @Override
    public void trackUpdatedKey(int segment, Object key, Object lockOwner) {
-      trackState(new IracManagerKeyChangedState(segment, key, lockOwner, false));
+      trackState(new IracManagerKeyChangedState(segment, key, lockOwner, false, timeService.time()));
    }
 
    @Override
    public void trackExpiredKey(int segment, Object key, Object lockOwner) {
-      trackState(new IracManagerKeyChangedState(segment, key, lockOwner, true));
+      trackState(new IracManagerKeyChangedState(segment, key, lockOwner, true, timeService.time()));
    }
 
    @Override
@@ -180,7 +192,7 @@ public CompletionStage<Void> trackForStateTransfer(Collection<XSiteState> stateL
       LocalizedCacheTopology topology = clusteringDependentLogic.getCacheTopology();
       for (XSiteState state : stateList) {
          int segment = topology.getSegment(state.key());
-         IracManagerStateTransferState iracState = new IracManagerStateTransferState(segment, state.key());
+         IracManagerStateTransferState iracState = new IracManagerStateTransferState(segment, state.key(), timeService.time());
          // if an update is in progress, we don't need to send the same value again.
          if (updatedKeys.putIfAbsent(iracState.getKey(), iracState) == null) {
             cf.dependsOn(iracState.getCompletionStage());
@@ -255,7 +267,7 @@ public void requestState(Address requestor, IntSet segments) {
    @Override
    public void receiveState(int segment, Object key, Object lockOwner, IracMetadata tombstone) {
       iracTombstoneManager.storeTombstoneIfAbsent(segment, key, tombstone);
-      updatedKeys.putIfAbsent(key, new IracManagerKeyChangedState(segment, key, lockOwner, false));
+      updatedKeys.putIfAbsent(key, new IracManagerKeyChangedState(segment, key, lockOwner, false, timeService.time()));
       iracExecutor.run();
    }
 
@@ -359,11 +371,20 @@ private CompletionStage<Void> run() {
          return sendClearUpdate();
       }
 
-      return Flowable.fromIterable(updatedKeys.values())
-            .filter(this::canStateBeSent)
-            .concatMapMaybe(this::fetchEntry)
-            .buffer(batchSize)
-            .concatMapCompletable(this::sendUpdateBatch)
+      long[] oldest = {timeService.time()};
+      Flowable<IracManagerKeyState> states = Flowable.fromIterable(updatedKeys.values())
+            .doOnNext(state -> {
+               if (state.getCreationTime() - oldest[0] < 0) {
+                  oldest[0] = state.getCreationTime();
+               }
+            })
+            .doOnComplete(() -> oldestPendingTime = oldest[0])
+            .filter(this::canStateBeSent);
+      Completable completable = maxInFlightBatches == 1 ?
+            sendUpdates(states) :
+            states.groupBy(state -> state.getSegment() % maxInFlightBatches)
+                  .flatMapCompletable(this::sendUpdates, false, maxInFlightBatches);
+      return completable
             .onErrorComplete(t -> {
                onUnexpectedThrowable(t);
                return true;
@@ -371,6 +392,12 @@ private CompletionStage<Void> run() {
             .toCompletionStage(null);
    }
 
+   private Completable sendUpdates(Flowable<IracManagerKeyState> states) {
+      return states.concatMapMaybe(this::fetchEntry)
+            .buffer(batchSize)
+            .concatMapCompletable(this::sendUpdateBatch);
+   }
+
    public void setBackOff(ExponentialBackOff backOff) {
       iracExecutor.setBackOff(backOff);
    }
@@ -571,6 +598,10 @@ private void onBatchResponse(IracBatchSendResult result, Collection<? extends Ir
       removeStateFromCluster(successfulSent);
    }
 
+   /**
+    * A key is removed from the queue only when all the online asynchronous sites have applied it, so the queue size is
+    * the same for all of them.
+    */
    @ManagedAttribute(description = "Number of keys that need to be sent to remote site(s)",
          displayName = "Queue size",
          measurementType = MeasurementType.DYNAMIC)
@@ -578,6 +609,23 @@ public int getQueueSize() {
       return statisticsEnabled ? updatedKeys.size() : -1;
    }
 
+   /**
+    * Like {@link #getQueueSize()}, the age is global to all the online asynchronous sites. The oldest key is found by
+    * the send rounds, which iterate all the queued keys anyway, so the value can lag behind by one round.
+    */
+   @ManagedAttribute(description = "The time, in milliseconds, since the oldest key that needs to be sent to remote site(s) was updated",
+         displayName = "Oldest pending update age",
+         measurementType = MeasurementType.DYNAMIC)
+   public long getOldestPendingAge() {
+      if (!statisticsEnabled) {
+         return -1;
+      }
+      if (updatedKeys.isEmpty()) {
+         return 0;
+      }
+      return Math.max(0, TimeUnit.NANOSECONDS.toMillis(timeService.time() - oldestPendingTime));
+   }
+
    @ManagedAttribute(description = "Number of tombstones stored",
          displayName = "Number of tombstones",
          measurementType = MeasurementType.DYNAMIC)
@@ -26,13 +26,15 @@ class IracManagerKeyChangedState implements IracManagerKeyState {
    private final Object key;
    private final Object owner;
    private final boolean expiration;
+   private final long creationTime;
    private volatile Status status = Status.READY;
 
-   public IracManagerKeyChangedState(int segment, Object key, Object owner, boolean expiration) {
+   public IracManagerKeyChangedState(int segment, Object key, Object owner, boolean expiration, long creationTime) {
       this.segment = segment;
       this.key = Objects.requireNonNull(key);
       this.owner = Objects.requireNonNull(owner);
       this.expiration = expiration;
+      this.creationTime = creationTime;
    }
 
    @Override
@@ -60,6 +62,11 @@ public boolean isStateTransfer() {
       return false;
    }
 
+   @Override
+   public long getCreationTime() {
+      return creationTime;
+   }
+
    @Override
    public boolean canSend() {
       if (log.isTraceEnabled()) {
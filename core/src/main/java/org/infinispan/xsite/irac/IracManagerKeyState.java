@@ -27,6 +27,12 @@ interface IracManagerKeyState extends IracManagerKeyInfo {
     */
    boolean isStateTransfer();
 
+   /**
+    * @return the time, in nanoseconds, when this state was created.
+    * @see org.infinispan.commons.time.TimeService#time()
+    */
+   long getCreationTime();
+
    /**
     * This method checks if the update can be sent to the remote site.
     * <p>
@@ -12,8 +12,8 @@ class IracManagerStateTransferState extends IracManagerKeyChangedState {
 
    private final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
 
-   public IracManagerStateTransferState(int segment, Object key) {
-      super(segment, key, "state-transfer", false);
+   public IracManagerStateTransferState(int segment, Object key, long creationTime) {
+      super(segment, key, "state-transfer", false, creationTime);
    }
 
    @Override
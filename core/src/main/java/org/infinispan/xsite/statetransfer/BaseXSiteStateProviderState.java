@@ -1,27 +1,39 @@
 package org.infinispan.xsite.statetransfer;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.infinispan.commons.marshall.WrappedBytes;
+import org.infinispan.commons.util.IntSet;
+import org.infinispan.commons.util.IntSets;
 import org.infinispan.configuration.cache.XSiteStateTransferConfiguration;
 import org.infinispan.remoting.transport.Address;
 import org.infinispan.xsite.XSiteBackup;
 
 import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.CompletableObserver;
 import io.reactivex.rxjava3.core.CompletableSource;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.functions.Function;
 import io.reactivex.rxjava3.functions.Predicate;
+import net.jcip.annotations.GuardedBy;
 
 /**
  * Common code for {@link AsyncProviderState} and {@link SyncProviderState} implementation.
  * <p>
  * The only difference between the two implementation is the way the state is send to the remote site. The synchronous
  * implementation sends the state directly while the asynchronous makes use of IRAC (and its conflict resolution).
+ * <p>
+ * The segments acknowledged by the remote site are kept until a state transfer finishes successfully or the remote site
+ * is taken offline, so that a failed or interrupted state transfer is resumed instead of restarted.
  *
  * @author Pedro Ruivo
  * @since 12.0
@@ -31,11 +43,14 @@
    private final XSiteBackup backup;
    private final XSiteStateTransferConfiguration configuration;
    private final AtomicReference<T> task;
+   @GuardedBy("this")
+   private final IntSet completedSegments;
 
    public BaseXSiteStateProviderState(XSiteBackup backup, XSiteStateTransferConfiguration configuration) {
       this.backup = backup;
       this.configuration = configuration;
       task = new AtomicReference<>();
+      completedSegments = IntSets.mutableEmptySet();
    }
 
    @Override
@@ -64,11 +79,32 @@ public boolean isOriginatorMissing(Collection<Address> members) {
       return currentTask != null && !members.contains(currentTask.getCoordinator());
    }
 
+   @Override
+   public int getProgress() {
+      T currentTask = task.get();
+      return currentTask == null ? -1 : currentTask.progress();
+   }
+
+   @Override
+   public synchronized void clearCompletedSegments() {
+      completedSegments.clear();
+   }
+
    // methods for OutboundTask
    void taskFinished() {
       task.set(null);
    }
 
+   synchronized IntSet pendingSegments(IntSet segments) {
+      IntSet pending = IntSets.mutableCopyFrom(segments);
+      pending.removeAll(completedSegments);
+      return pending;
+   }
+
+   synchronized void segmentsCompleted(IntSet segments) {
+      completedSegments.addAll(segments);
+   }
+
    XSiteBackup getBackup() {
       return backup;
    }
@@ -85,6 +121,21 @@ int getMaxRetries() {
       return configuration.maxRetries();
    }
 
+   int getConcurrentSegments() {
+      return configuration.concurrentSegments();
+   }
+
+   Flowable<List<XSiteState>> toChunks(Flowable<XSiteState> flowable) {
+      long maxChunkBytes = configuration.maxChunkBytes();
+      if (maxChunkBytes <= 0) {
+         return flowable.buffer(getChunkSize());
+      }
+      return Flowable.defer(() -> {
+         ChunkBuilder builder = new ChunkBuilder(getChunkSize(), maxChunkBytes);
+         return flowable.concatMapIterable(builder).concatWith(Maybe.fromCallable(builder::remaining));
+      });
+   }
+
    abstract T createTask(Address originator, XSiteStateProvider provider);
 
    static abstract class OutboundTask implements XSiteStatePushTask, Predicate<List<XSiteState>>, Function<List<XSiteState>, CompletableSource>, CompletableObserver {
@@ -92,6 +143,8 @@ static abstract class OutboundTask implements XSiteStatePushTask, Predicate<List
       private final Address coordinator;
       final XSiteStateProvider provider;
       final BaseXSiteStateProviderState<?> state;
+      private final AtomicInteger sentSegments = new AtomicInteger();
+      private volatile int totalSegments = -1;
       private volatile boolean canceled = false;
 
       OutboundTask(Address coordinator, XSiteStateProvider provider, BaseXSiteStateProviderState<?> state) {
@@ -105,17 +158,52 @@ Address getCoordinator() {
       }
 
       @Override
-      public void execute(Flowable<XSiteState> flowable, CompletionStage<Void> delayer) {
+      public void execute(IntSet segments, java.util.function.Function<IntSet, Flowable<XSiteState>> publisher,
+                          boolean perSegment, CompletionStage<Void> delayer) {
+         //segments acknowledged by a previous state transfer are not sent again
+         IntSet pending = state.pendingSegments(segments);
+         sentSegments.set(segments.size() - pending.size());
+         totalSegments = segments.size();
+         Flowable<IntSet> units;
+         if (pending.isEmpty()) {
+            units = Flowable.empty();
+         } else if (perSegment) {
+            units = Flowable.fromIterable(pending).map(IntSets::immutableSet);
+         } else {
+            units = Flowable.just(pending);
+         }
          //delayer is the cache topology future. we need to ensure the topology id is installed before iterating
-         delayer.thenRunAsync(() -> flowable
-                     .buffer(state.getChunkSize())
-                     .takeUntil(this)
-                     .concatMapCompletable(this, 1)
+         delayer.thenRunAsync(() -> units
+                     .flatMapCompletable(unit -> sendSegments(unit, publisher), false, state.getConcurrentSegments())
                      .subscribe(this),
                provider.getExecutor());
 
       }
 
+      private Completable sendSegments(IntSet segments, java.util.function.Function<IntSet, Flowable<XSiteState>> publisher) {
+         return state.toChunks(publisher.apply(segments))
+               .takeUntil(this)
+               .concatMapCompletable(this, 1)
+               .doOnComplete(() -> segmentsSent(segments));
+      }
+
+      private void segmentsSent(IntSet segments) {
+         //if canceled, takeUntil completes the Flowable before all the state is sent
+         if (!canceled) {
+            state.segmentsCompleted(segments);
+            sentSegments.addAndGet(segments.size());
+         }
+      }
+
+      int progress() {
+         int total = totalSegments;
+         if (total < 0) {
+            //not started yet
+            return 0;
+         }
+         return total == 0 ? 100 : sentSegments.get() * 100 / total;
+      }
+
       public void cancel() {
          canceled = true;
       }
@@ -137,6 +225,8 @@ public void onComplete() {
          if (canceled) {
             return;
          }
+         //the next state transfer sends all the segments
+         state.clearCompletedSegments();
          provider.notifyStateTransferEnd(state.getBackup().getSiteName(), coordinator, true);
          state.taskFinished();
       }
@@ -151,4 +241,57 @@ public void onError(@NonNull Throwable e) {
          state.taskFinished();
       }
    }
+
+   /**
+    * Splits the state in chunks bounded by the number of entries and by the size of the keys and values.
+    */
+   private static class ChunkBuilder implements Function<XSiteState, Iterable<List<XSiteState>>> {
+
+      // estimated size of keys and values not stored in binary form
+      private static final int OBJECT_SIZE_ESTIMATE = 64;
+
+      private final int chunkSize;
+      private final long maxChunkBytes;
+      private List<XSiteState> chunk;
+      private long chunkBytes;
+
+      private ChunkBuilder(int chunkSize, long maxChunkBytes) {
+         this.chunkSize = chunkSize;
+         this.maxChunkBytes = maxChunkBytes;
+      }
+
+      @Override
+      public Iterable<List<XSiteState>> apply(XSiteState xSiteState) {
+         //Flowable#concatMapIterable method
+         if (chunk == null) {
+            chunk = new ArrayList<>(Math.min(chunkSize, 64));
+         }
+         chunk.add(xSiteState);
+         chunkBytes += sizeOf(xSiteState.key()) + sizeOf(xSiteState.value());
+         if (chunk.size() < chunkSize && chunkBytes < maxChunkBytes) {
+            return Collections.emptyList();
+         }
+         return Collections.singletonList(remaining());
+      }
+
+      List<XSiteState> remaining() {
+         List<XSiteState> full = chunk;
+         chunk = null;
+         chunkBytes = 0;
+         return full;
+      }
+
+      private static long sizeOf(Object object) {
+         if (object == null) {
+            return 0;
+         } else if (object instanceof WrappedBytes) {
+            return ((WrappedBytes) object).getLength();
+         } else if (object instanceof byte[]) {
+            return ((byte[]) object).length;
+         } else if (object instanceof String) {
+            return ((String) object).length();
+         }
+         return OBJECT_SIZE_ESTIMATE;
+      }
+   }
 }
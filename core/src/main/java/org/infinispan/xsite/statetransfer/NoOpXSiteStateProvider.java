@@ -57,6 +57,16 @@ public void notifyStateTransferEnd(String siteName, Address origin, boolean stat
       //no-op
    }
 
+   @Override
+   public int getStateTransferProgress(String siteName) {
+      return -1;
+   }
+
+   @Override
+   public void onSiteOffline(String siteName) {
+      //no-op
+   }
+
    @Override
    public CommandsFactory getCommandsFactory() {
       return null;
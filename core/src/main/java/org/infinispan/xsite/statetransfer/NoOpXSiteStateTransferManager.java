@@ -48,6 +48,11 @@ public List<String> getRunningStateTransfers() {
       return Collections.emptyList();
    }
 
+   @Override
+   public int getStateTransferProgress(String siteName) {
+      return -1;
+   }
+
    @Override
    public Map<String, StateTransferStatus> getStatus() {
       return Collections.emptyMap();
@@ -53,6 +53,22 @@ public interface XSiteStateProvider {
     */
    void notifyStateTransferEnd(String siteName, Address origin, boolean statusOk);
 
+   /**
+    * @param siteName The remote site name.
+    * @return The percentage of the local segments already sent to the remote site or {@code -1} if this node is not
+    * sending state to it.
+    */
+   int getStateTransferProgress(String siteName);
+
+   /**
+    * Notifies the remote site was taken offline.
+    * <p>
+    * The segments sent by a failed or canceled state transfer are sent again by the next state transfer.
+    *
+    * @param siteName The remote site name.
+    */
+   void onSiteOffline(String siteName);
+
    /**
     * Exposes {@link CommandsFactory} to {@link XSiteStatePushTask}.
     */
@@ -102,9 +102,9 @@ public void startStateTransfer(String siteName, Address origin, int minTopologyI
          log.debugf("Starting state transfer to site '%s'", siteName);
       }
 
-      IntSet segments = localPrimarySegments();
-      Flowable<XSiteState> flowable = Flowable.concat(publishDataContainerEntries(segments), publishStoreEntries(segments, state.isSync()));
-      task.execute(flowable, stateTransferLock.topologyFuture(minTopologyId));
+      boolean syncBackup = state.isSync();
+      task.execute(localPrimarySegments(), segments -> publishEntries(segments, syncBackup), canPublishSegment(),
+            stateTransferLock.topologyFuture(minTopologyId));
 
       checkCoordinatorAlive(siteName, origin);
    }
@@ -144,6 +144,21 @@ public void notifyStateTransferEnd(final String siteName, final Address origin,
       }
    }
 
+   @Override
+   public int getStateTransferProgress(String siteName) {
+      XSiteStateProviderState state = sites.get(siteName);
+      return state == null ? -1 : state.getProgress();
+   }
+
+   @Override
+   public void onSiteOffline(String siteName) {
+      XSiteStateProviderState state = sites.get(siteName);
+      if (state != null) {
+         //the remote site misses the updates while offline, the segments sent before must be sent again
+         state.clearCompletedSegments();
+      }
+   }
+
    @Override
    public CommandsFactory getCommandsFactory() {
       return commandsFactory;
@@ -181,6 +196,15 @@ private IntSet localPrimarySegments() {
             .getPrimarySegmentsForOwner(rpcManager.getAddress()));
    }
 
+   private boolean canPublishSegment() {
+      //non-segmented stores are fully iterated every time the entries are published
+      return !persistenceManager.hasStore(c -> Configurations.isStateTransferStore(c) && !c.segmented());
+   }
+
+   private Flowable<XSiteState> publishEntries(IntSet segments, boolean syncBackup) {
+      return Flowable.concat(publishDataContainerEntries(segments), publishStoreEntries(segments, syncBackup));
+   }
+
    private Flowable<XSiteState> publishDataContainerEntries(IntSet segments) {
       return Flowable.fromIterable(() -> dataContainer.iterator(segments))
             // TODO Investigate removing the filter, we clear L1 entries before becoming an owner
@@ -42,6 +42,17 @@ public interface XSiteStateProviderState {
     */
    boolean isOriginatorMissing(Collection<Address> members);
 
+   /**
+    * @return The percentage of the segments already sent by the running state transfer or {@code -1} if no state
+    * transfer is in progress.
+    */
+   int getProgress();
+
+   /**
+    * Forgets the segments acknowledged by the remote site, so that the next state transfer sends all the segments.
+    */
+   void clearCompletedSegments();
+
    /**
     * @return {@code true} if the backup is configured to synchronous cross-site replication.
     */
@@ -1,6 +1,9 @@
 package org.infinispan.xsite.statetransfer;
 
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.infinispan.commons.util.IntSet;
 
 import io.reactivex.rxjava3.core.Flowable;
 
@@ -13,12 +16,20 @@
 public interface XSiteStatePushTask {
 
    /**
-    * Perform the state transfer with the state from {@link Flowable}.
+    * Perform the state transfer of the {@code segments}, with the state from the {@link Flowable} returned by {@code
+    * publisher}.
     * <p>
     * The {@link Flowable} can only be iterated after {@code delayer} is completed.
+    * <p>
+    * If {@code perSegment} is {@code true}, the {@code publisher} is invoked once for each segment and multiple segments
+    * are sent concurrently. Otherwise, it is invoked once with all the segments.
     *
-    * @param flowable The {@link Flowable} with the local cluster state.
-    * @param delayer  A {@link CompletionStage} which is completed when it is allowed to start sending the state.
+    * @param segments   The segments to send.
+    * @param publisher  The {@link Function} returning a {@link Flowable} with the local cluster state of a set of
+    *                   segments.
+    * @param perSegment {@code true} if the {@code publisher} can publish the state of a single segment efficiently.
+    * @param delayer    A {@link CompletionStage} which is completed when it is allowed to start sending the state.
     */
-   void execute(Flowable<XSiteState> flowable, CompletionStage<Void> delayer);
+   void execute(IntSet segments, Function<IntSet, Flowable<XSiteState>> publisher, boolean perSegment,
+                CompletionStage<Void> delayer);
 }
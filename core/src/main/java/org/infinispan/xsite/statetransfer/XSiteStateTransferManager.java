@@ -51,6 +51,13 @@ public interface XSiteStateTransferManager {
     */
    List<String> getRunningStateTransfers();
 
+   /**
+    * @param siteName the remote site name.
+    * @return the percentage of the local segments already sent by this node to the remote site or {@code -1} if this
+    * node is not sending state to it.
+    */
+   int getStateTransferProgress(String siteName);
+
    /**
     * @return the completed state transfer status for which this node is the coordinator.
     */
@@ -122,6 +122,12 @@ public List<String> getRunningStateTransfers() {
             .collect(Collectors.toList());
    }
 
+   @Override
+   public int getStateTransferProgress(String siteName) {
+      validateSite(siteName);
+      return provider.getStateTransferProgress(siteName);
+   }
+
    @Override
    public Map<String, StateTransferStatus> getStatus() {
       return sites.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getStatus()));
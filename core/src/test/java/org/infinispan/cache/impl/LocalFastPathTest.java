@@ -0,0 +1,149 @@
+package org.infinispan.cache.impl;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.VisitableCommand;
+import org.infinispan.commons.time.ControlledTimeService;
+import org.infinispan.commons.time.TimeService;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.interceptors.AsyncInterceptorChain;
+import org.infinispan.interceptors.DDAsyncInterceptor;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.notifications.cachelistener.CacheListener;
+import org.infinispan.stats.Stats;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.infinispan.transaction.TransactionMode;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the {@link LocalFastPath} of local caches.
+ *
+ * @since 14.0
+ */
+@Test(groups = "functional", testName = "cache.impl.LocalFastPathTest")
+public class LocalFastPathTest extends SingleCacheManagerTest {
+
+   private final ControlledTimeService timeService = new ControlledTimeService();
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.statistics().enable();
+      EmbeddedCacheManager cm = TestCacheManagerFactory.createCacheManager(builder);
+      TestingUtil.replaceComponent(cm, TimeService.class, timeService, true);
+      return cm;
+   }
+
+   public void testGetAndPut() {
+      assertTrue(fastPath(cache).isEnabled());
+
+      assertNull(cache.put("k", "v1"));
+      assertEquals("v1", cache.put("k", "v2"));
+      assertEquals("v2", cache.get("k"));
+      assertNull(cache.get("missing"));
+      // the operations invoked through the interceptor chain see the same entries
+      assertEquals("v2", cache.replace("k", "v3"));
+      assertEquals("v3", cache.get("k"));
+   }
+
+   public void testStatistics() {
+      Stats before = cache.getAdvancedCache().getStats();
+      long hits = before.getHits();
+      long misses = before.getMisses();
+      long stores = before.getStores();
+
+      cache.put("stats", "v");
+      cache.get("stats");
+      cache.get("missing");
+
+      Stats stats = cache.getAdvancedCache().getStats();
+      assertEquals(hits + 1, stats.getHits());
+      assertEquals(misses + 1, stats.getMisses());
+      assertEquals(stores + 1, stats.getStores());
+   }
+
+   public void testExpiration() {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.expiration().lifespan(10, TimeUnit.SECONDS).maxIdle(2, TimeUnit.SECONDS);
+      cacheManager.defineConfiguration("expiration", builder.build());
+      Cache<Object, Object> cache = cacheManager.getCache("expiration");
+      assertTrue(fastPath(cache).isEnabled());
+
+      cache.put("k", "v1");
+      timeService.advance(TimeUnit.SECONDS.toMillis(1));
+      // reading the entry resets the max idle
+      assertEquals("v1", cache.get("k"));
+      timeService.advance(TimeUnit.SECONDS.toMillis(1) + 500);
+      assertEquals("v1", cache.get("k"));
+      timeService.advance(TimeUnit.SECONDS.toMillis(3));
+      assertNull(cache.get("k"));
+
+      cache.put("k", "v2");
+      timeService.advance(TimeUnit.SECONDS.toMillis(3));
+      // the previous value of an expired entry is not returned
+      assertNull(cache.put("k", "v3"));
+      assertEquals("v3", cache.get("k"));
+   }
+
+   public void testListenerDisablesFastPath() {
+      CacheListener listener = new CacheListener();
+      cache.addListener(listener);
+      try {
+         assertFalse(fastPath(cache).isEnabled());
+         cache.put("listener", "v");
+         cache.get("listener");
+         // created and visited, pre and post
+         assertEquals(4, listener.getInvocationCount());
+      } finally {
+         cache.removeListener(listener);
+      }
+      assertTrue(fastPath(cache).isEnabled());
+   }
+
+   public void testInterceptorDisablesFastPath() {
+      AsyncInterceptorChain chain = TestingUtil.extractInterceptorChain(cache);
+      CountingInterceptor interceptor = new CountingInterceptor();
+      chain.addInterceptor(interceptor, 0);
+      try {
+         assertFalse(fastPath(cache).isEnabled());
+         cache.put("interceptor", "v");
+         assertEquals("v", cache.get("interceptor"));
+         assertEquals(2, interceptor.commands.get());
+      } finally {
+         chain.removeInterceptor(CountingInterceptor.class);
+      }
+      assertTrue(fastPath(cache).isEnabled());
+   }
+
+   public void testUnsupportedConfiguration() {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.transaction().transactionMode(TransactionMode.TRANSACTIONAL);
+      cacheManager.defineConfiguration("transactional", builder.build());
+      Cache<Object, Object> cache = cacheManager.getCache("transactional");
+      assertNull(fastPath(cache));
+   }
+
+   private static LocalFastPath<Object, Object> fastPath(Cache<Object, Object> cache) {
+      return TestingUtil.extractField(CacheImpl.class, AbstractDelegatingCache.unwrapCache(cache), "fastPath");
+   }
+
+   static class CountingInterceptor extends DDAsyncInterceptor {
+      final AtomicInteger commands = new AtomicInteger();
+
+      @Override
+      protected Object handleDefault(InvocationContext ctx, VisitableCommand command) throws Throwable {
+         commands.incrementAndGet();
+         return invokeNext(ctx, command);
+      }
+   }
+}
@@ -93,6 +93,27 @@ public void testGetAllCacheEntriesWithBytes() {
       }
    }
 
+   public void testGetAllCacheEntriesAsync() {
+      Set<String> keys = new HashSet<>();
+      for (int i = 0; i < numEntries; ++i) {
+         String key = "key" + i;
+         advancedCache(i % numNodes).put(key, "value" + i);
+         keys.add(key);
+      }
+      keys.add("not-present");
+      List<Cache<String, String>> caches = caches();
+      for (Cache<String, String> cache : caches) {
+         Map<String, CacheEntry<String, String>> map = cache.getAdvancedCache().getAllCacheEntriesAsync(keys).join();
+         assertEquals(map.size(), numEntries);
+         assertFalse(map.containsKey("not-present"));
+         for (int i = 0; i < numEntries; ++i) {
+            CacheEntry<String, String> entry = map.get("key" + i);
+            assertEquals(entry.getKey(), "key" + i);
+            assertEquals(entry.getValue(), "value" + i);
+         }
+      }
+   }
+
    @Override
    protected void createCacheManagers() throws Throwable {
       ConfigurationBuilder dcc = getDefaultClusteredCacheConfig(cacheMode, transactional);
@@ -116,6 +116,20 @@ public void testParseAndConstructUnifiedXmlFile(Path config) throws IOException
    }
 
    public enum ParserVersionCheck {
+      INFINISPAN_140(14, 0) {
+         @Override
+         public void check(ConfigurationBuilderHolder holder, int schemaMajor, int schemaMinor) {
+            Configuration c = getConfiguration(holder, "write-skew");
+            assertTrue(c.locking().useLockPooling());
+            assertFalse(c.locking().useLockStriping());
+
+            assertEquals("infinispan-stream", getGlobalConfiguration(holder).streamThreadPoolName());
+            AbstractThreadPoolExecutorFactory streamPool = getGlobalConfiguration(holder).streamThreadPool().threadPoolFactory();
+            assertTrue(streamPool.createsNonBlockingThreads());
+            assertEquals(4, streamPool.maxThreads());
+            assertEquals(64, streamPool.queueLength());
+         }
+      },
       INFINISPAN_130(13, 0) {
          @Override
          public void check(ConfigurationBuilderHolder holder, int schemaMajor, int schemaMinor) {
@@ -0,0 +1,150 @@
+package org.infinispan.conflict.impl;
+
+import static org.infinispan.configuration.cache.CacheMode.DIST_SYNC;
+import static org.infinispan.configuration.cache.CacheMode.REPL_SYNC;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.commons.util.IntSet;
+import org.infinispan.conflict.MergePolicy;
+import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.container.impl.InternalDataContainer;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.partitionhandling.AvailabilityMode;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.statetransfer.StateChunk;
+import org.infinispan.test.TestingUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests conflict resolution when the replicas are compared with their hash trees.
+ *
+ * @since 14.0
+ */
+@Test(groups = "functional", testName = "conflict.impl.MergePolicyHashTreesTest")
+public class MergePolicyHashTreesTest extends BaseMergePolicyTest {
+
+   private static final int NUMBER_OF_ENTRIES = 100;
+
+   @Override
+   public Object[] factory() {
+      return new Object[] {
+            new MergePolicyHashTreesTest(REPL_SYNC, 2, "4N", new int[]{0,1}, new int[]{2,3}),
+            new MergePolicyHashTreesTest(REPL_SYNC, 2, "2N", new int[]{0}, new int[]{1}),
+
+            new MergePolicyHashTreesTest(DIST_SYNC, 2, "4N-2", new int[]{0,1}, new int[]{2,3}),
+            new MergePolicyHashTreesTest(DIST_SYNC, 2, "3N-2", new int[]{0,1}, new int[]{2}),
+            new MergePolicyHashTreesTest(DIST_SYNC, 2, "2N-2", new int[]{0}, new int[]{1})
+      };
+   }
+
+   public MergePolicyHashTreesTest(){}
+
+   public MergePolicyHashTreesTest(CacheMode cacheMode, int owners, String description, int[] partition1, int[] partition2) {
+      super(cacheMode, owners, description, AvailabilityMode.AVAILABLE, partition1, partition2);
+      this.mergePolicy = MergePolicy.PREFERRED_ALWAYS;
+   }
+
+   @Override
+   protected void customizeCacheConfiguration(ConfigurationBuilder dcc) {
+      dcc.clustering().partitionHandling().hashTrees(true);
+   }
+
+   @Override
+   protected void beforeSplit() {
+      super.beforeSplit();
+      for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+         cache(p0.node(0)).put("key" + i, "value" + i);
+      }
+   }
+
+   @Override
+   protected void performMerge() throws Exception {
+      // Record the entries requested by conflict resolution
+      for (int i = 0; i < numMembersInCluster; i++) {
+         TestingUtil.wrapComponent(cache(i), StateReceiver.class, TrackingStateReceiver::new);
+      }
+      super.performMerge();
+   }
+
+   @Override
+   protected void afterConflictResolutionAndMerge() {
+      if (numberOfOwners == numMembersInCluster) {
+         // Every node owned all the entries during the split, so only the leaf of the conflicting key diverged
+         int conflictSegment = cache(0).getAdvancedCache().getDistributionManager().getCacheTopology().getSegment(conflictKey);
+         assertEquals(0, fullSegmentRequests.get());
+         assertFalse(leafRequests.isEmpty());
+         for (Map.Entry<Integer, Long> request : leafRequests) {
+            assertEquals(conflictSegment, request.getKey().intValue());
+            assertEquals(1, Long.bitCount(request.getValue()));
+            assertTrue(SegmentHashTree.isInLeaves(conflictKey, request.getValue()));
+         }
+      }
+      super.afterConflictResolutionAndMerge();
+      // All the replicas are identical after the merge, so their hash trees must be identical as well
+      LocalizedCacheTopology topology = cache(0).getAdvancedCache().getDistributionManager().getCacheTopology();
+      for (int segment = 0; segment < topology.getNumSegments(); segment++) {
+         long[] expected = null;
+         for (Address owner : topology.getSegmentDistribution(segment).writeOwners()) {
+            InternalDataContainer<?, ?> dataContainer = TestingUtil.extractComponent(manager(owner).getCache(), InternalDataContainer.class);
+            long[] leaves = dataContainer.getHashTree(segment).leaves();
+            if (expected == null) {
+               expected = leaves;
+            } else {
+               assertTrue("Segment " + segment, Arrays.equals(expected, leaves));
+            }
+         }
+      }
+   }
+
+   private final AtomicInteger fullSegmentRequests = new AtomicInteger();
+   private final Queue<Map.Entry<Integer, Long>> leafRequests = new ConcurrentLinkedQueue<>();
+
+   class TrackingStateReceiver implements StateReceiver<Object, Object> {
+      private final StateReceiver<Object, Object> delegate;
+
+      TrackingStateReceiver(StateReceiver<Object, Object> delegate) {
+         this.delegate = delegate;
+      }
+
+      @Override
+      public void cancelRequests() {
+         delegate.cancelRequests();
+      }
+
+      @Override
+      public CompletableFuture<List<Map<Address, CacheEntry<Object, Object>>>> getAllReplicasForSegment(int segmentId, LocalizedCacheTopology topology, long timeout) {
+         fullSegmentRequests.incrementAndGet();
+         return delegate.getAllReplicasForSegment(segmentId, topology, timeout);
+      }
+
+      @Override
+      public CompletableFuture<Map<Integer, Map<Address, long[]>>> getHashTrees(IntSet segments, LocalizedCacheTopology topology, long timeout) {
+         return delegate.getHashTrees(segments, topology, timeout);
+      }
+
+      @Override
+      public CompletableFuture<List<Map<Address, CacheEntry<Object, Object>>>> getReplicasForSegmentLeaves(int segmentId, long leafMask, LocalizedCacheTopology topology, long timeout) {
+         leafRequests.add(new AbstractMap.SimpleEntry<>(segmentId, leafMask));
+         return delegate.getReplicasForSegmentLeaves(segmentId, leafMask, topology, timeout);
+      }
+
+      @Override
+      public void receiveState(Address sender, int topologyId, Collection<StateChunk> stateChunks) {
+         delegate.receiveState(sender, topologyId, stateChunks);
+      }
+   }
+}
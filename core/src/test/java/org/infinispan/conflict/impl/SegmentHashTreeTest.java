@@ -0,0 +1,79 @@
+package org.infinispan.conflict.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.infinispan.test.AbstractInfinispanTest;
+import org.testng.annotations.Test;
+
+/**
+ * @since 14.0
+ */
+@Test(groups = "unit", testName = "conflict.impl.SegmentHashTreeTest")
+public class SegmentHashTreeTest extends AbstractInfinispanTest {
+
+   public void testSameEntriesInDifferentOrder() {
+      SegmentHashTree tree = new SegmentHashTree();
+      SegmentHashTree other = new SegmentHashTree();
+      for (int i = 0; i < 1000; i++) {
+         tree.update("k" + i, null, "v" + i);
+         other.update("k" + (999 - i), null, "v" + (999 - i));
+      }
+      assertEquals(0, SegmentHashTree.divergentLeaves(tree.leaves(), other.leaves()));
+      assertEquals(SegmentHashTree.root(tree.leaves()), SegmentHashTree.root(other.leaves()));
+   }
+
+   public void testEqualByteArrays() {
+      SegmentHashTree tree = new SegmentHashTree();
+      SegmentHashTree other = new SegmentHashTree();
+      for (int i = 0; i < 1000; i++) {
+         // Distinct instances with the same content, as on different nodes
+         tree.update(("k" + i).getBytes(UTF_8), null, ("v" + i).getBytes(UTF_8));
+         other.update(("k" + i).getBytes(UTF_8), null, ("v" + i).getBytes(UTF_8));
+      }
+      assertEquals(0, SegmentHashTree.divergentLeaves(tree.leaves(), other.leaves()));
+
+      other.update("k10".getBytes(UTF_8), "v10".getBytes(UTF_8), "conflict".getBytes(UTF_8));
+      long leafMask = SegmentHashTree.divergentLeaves(tree.leaves(), other.leaves());
+      assertEquals(1, Long.bitCount(leafMask));
+      assertTrue(SegmentHashTree.isInLeaves("k10".getBytes(UTF_8), leafMask));
+   }
+
+   public void testUpdateAndRemove() {
+      SegmentHashTree tree = new SegmentHashTree();
+      SegmentHashTree other = new SegmentHashTree();
+      tree.update("k1", null, "v1");
+      tree.update("k2", null, "v2");
+      tree.update("k1", "v1", "v1-updated");
+      tree.update("k2", "v2", null);
+      other.update("k1", null, "v1-updated");
+      assertEquals(0, SegmentHashTree.divergentLeaves(tree.leaves(), other.leaves()));
+
+      tree.update("k1", "v1-updated", null);
+      assertEquals(0, SegmentHashTree.divergentLeaves(tree.leaves(), new SegmentHashTree().leaves()));
+   }
+
+   public void testDivergentLeaves() {
+      SegmentHashTree tree = new SegmentHashTree();
+      SegmentHashTree other = new SegmentHashTree();
+      for (int i = 0; i < 1000; i++) {
+         tree.update("k" + i, null, "v" + i);
+         other.update("k" + i, null, "v" + i);
+      }
+      other.update("k10", "v10", "conflict");
+
+      long leafMask = SegmentHashTree.divergentLeaves(tree.leaves(), other.leaves());
+      assertEquals(1, Long.bitCount(leafMask));
+      assertTrue(SegmentHashTree.isInLeaves("k10", leafMask));
+      assertFalse(SegmentHashTree.isInLeaves("k10", ~leafMask));
+   }
+
+   public void testClear() {
+      SegmentHashTree tree = new SegmentHashTree();
+      tree.update("k1", null, "v1");
+      tree.clear();
+      assertEquals(0, SegmentHashTree.divergentLeaves(tree.leaves(), new SegmentHashTree().leaves()));
+   }
+}
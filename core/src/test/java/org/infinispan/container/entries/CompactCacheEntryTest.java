@@ -0,0 +1,142 @@
+package org.infinispan.container.entries;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.infinispan.container.entries.metadata.MetadataImmortalCacheEntry;
+import org.infinispan.container.entries.metadata.MetadataMortalCacheEntry;
+import org.infinispan.container.impl.InternalEntryFactoryImpl;
+import org.infinispan.container.versioning.NumericVersion;
+import org.infinispan.container.versioning.SimpleClusteredVersion;
+import org.infinispan.metadata.EmbeddedMetadata;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.util.ControlledTimeService;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the {@link CompactCacheEntry} created by {@link InternalEntryFactoryImpl}.
+ *
+ * @since 14.0
+ */
+@Test(groups = "unit", testName = "container.entries.CompactCacheEntryTest")
+public class CompactCacheEntryTest extends AbstractInfinispanTest {
+
+   private final ControlledTimeService timeService = new ControlledTimeService();
+   private final InternalEntryFactoryImpl entryFactory = new InternalEntryFactoryImpl();
+
+   {
+      TestingUtil.inject(entryFactory, timeService);
+   }
+
+   public void testCreate() {
+      assertCompact(new EmbeddedMetadata.Builder().version(new NumericVersion(1)).build(), false);
+      assertCompact(new EmbeddedMetadata.Builder().version(new NumericVersion(2)).lifespan(1000).build(), true);
+      assertCompact(new EmbeddedMetadata.Builder().version(new NumericVersion(3)).maxIdle(1000).build(), true);
+      assertCompact(new EmbeddedMetadata.Builder().version(new NumericVersion(4)).lifespan(2000).maxIdle(1000)
+            .build(), true);
+   }
+
+   public void testNotCompact() {
+      // the metadata is stored if the compact entry cannot recreate it
+      Metadata metadata = new EmbeddedMetadata.Builder().version(new NumericVersion(1)).lifespan(-1).build();
+      assertEquals(MetadataImmortalCacheEntry.class, entryFactory.create("k", "v", metadata).getClass());
+      metadata = new EmbeddedMetadata.Builder().version(new SimpleClusteredVersion(1, 1)).lifespan(1000).build();
+      assertEquals(MetadataMortalCacheEntry.class, entryFactory.create("k", "v", metadata).getClass());
+      // metadata without a version doesn't need to be stored at all
+      metadata = new EmbeddedMetadata.Builder().lifespan(1000).build();
+      assertEquals(MortalCacheEntry.class, entryFactory.create("k", "v", metadata).getClass());
+   }
+
+   public void testExpiration() {
+      long now = timeService.wallClockTime();
+      Metadata metadata = new EmbeddedMetadata.Builder().version(new NumericVersion(1)).lifespan(2000).maxIdle(1000)
+            .build();
+      InternalCacheEntry<?, ?> entry = entryFactory.create("k", "v", metadata);
+      assertEquals(now, entry.getCreated());
+      assertEquals(now, entry.getLastUsed());
+      assertEquals(now + 1000, entry.getExpiryTime());
+
+      timeService.advance(900);
+      entry.touch(timeService.wallClockTime());
+      assertFalse(entry.isExpired(timeService.wallClockTime() + 900));
+      assertEquals(now + 1900, entry.getExpiryTime());
+      // the lifespan expires first
+      assertTrue(entry.isExpired(now + 2000));
+   }
+
+   public void testUpdate() {
+      InternalCacheEntry<?, ?> entry = entryFactory.create("k", "v",
+            new EmbeddedMetadata.Builder().version(new NumericVersion(1)).lifespan(1000).build());
+
+      Metadata metadata = new EmbeddedMetadata.Builder().version(new NumericVersion(2)).lifespan(2000).build();
+      InternalCacheEntry<?, ?> updated = entryFactory.update(entry, "v2", metadata);
+      // the same kind of expiration updates the entry in place
+      assertSame(entry, updated);
+      assertEquals(metadata, updated.getMetadata());
+      assertEquals("v2", updated.getValue());
+
+      metadata = new EmbeddedMetadata.Builder().version(new NumericVersion(3)).maxIdle(1000).build();
+      updated = entryFactory.update(entry, "v3", metadata);
+      assertTrue(updated instanceof CompactCacheEntry);
+      assertEquals(metadata, updated.getMetadata());
+
+      metadata = new EmbeddedMetadata.Builder().version(new SimpleClusteredVersion(1, 4)).build();
+      updated = entryFactory.update(updated, "v4", metadata);
+      assertEquals(MetadataImmortalCacheEntry.class, updated.getClass());
+      assertEquals(metadata, updated.getMetadata());
+   }
+
+   public void testExternalizer() throws Exception {
+      timeService.advance(1000);
+      Metadata metadata = new EmbeddedMetadata.Builder().version(new NumericVersion(5)).lifespan(2000).maxIdle(1000)
+            .build();
+      CompactCacheEntry entry = (CompactCacheEntry) entryFactory.create("k", "v", metadata);
+      entry.touch(timeService.wallClockTime() + 100);
+
+      CompactCacheEntry.Externalizer externalizer = new CompactCacheEntry.Externalizer();
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+         externalizer.writeObject(output, entry);
+      }
+      CompactCacheEntry copy;
+      try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+         copy = externalizer.readObject(input);
+      }
+      assertEquals(entry.getClass(), copy.getClass());
+      assertEquals("k", copy.getKey());
+      assertEquals("v", copy.getValue());
+      assertEquals(metadata, copy.getMetadata());
+      assertEquals(entry.getCreated(), copy.getCreated());
+      assertEquals(entry.getLastUsed(), copy.getLastUsed());
+   }
+
+   public void testSize() {
+      CacheEntrySizeCalculator<Object, Object> calculator = new CacheEntrySizeCalculator<>((k, v) -> 0);
+      Metadata metadata = new EmbeddedMetadata.Builder().version(new NumericVersion(1)).build();
+      long compactSize = calculator.calculateSize("k", entryFactory.create("k", "v", metadata));
+      long metadataSize = calculator.calculateSize("k", new MetadataImmortalCacheEntry("k", "v", metadata));
+      assertTrue(compactSize + " < " + metadataSize, compactSize < metadataSize);
+   }
+
+   private void assertCompact(Metadata metadata, boolean canExpire) {
+      InternalCacheEntry<?, ?> entry = entryFactory.create("k", "v", metadata);
+      assertTrue(entry.getClass().toString(), entry instanceof CompactCacheEntry);
+      assertEquals(canExpire, entry.canExpire());
+      assertEquals(metadata, entry.getMetadata());
+      assertEquals(metadata.lifespan(), entry.getLifespan());
+      assertEquals(metadata.maxIdle(), entry.getMaxIdle());
+
+      InternalCacheValue<?> value = entry.toInternalCacheValue();
+      assertEquals(metadata, value.getMetadata());
+      assertEquals(metadata, value.toInternalCacheEntry("k").getMetadata());
+   }
+}
@@ -0,0 +1,94 @@
+package org.infinispan.distribution;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.configuration.cache.RemoteReadPolicy;
+import org.infinispan.remoting.rpc.RpcManager;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.remoting.transport.Transport;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.infinispan.test.TestingUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Unit test for {@link ReadOwnerSelector}.
+ *
+ * @since 14.0
+ */
+@Test(groups = "unit", testName = "distribution.ReadOwnerSelectorTest")
+public class ReadOwnerSelectorTest extends AbstractInfinispanTest {
+
+   private static final Address LOCAL = new TestTopologyAwareAddress(0, "s1", "r1", "m1");
+   private static final Address OTHER_SITE = new TestTopologyAwareAddress(1, "s2", "r1", "m1");
+   private static final Address OTHER_RACK_1 = new TestTopologyAwareAddress(2, "s1", "r2", "m1");
+   private static final Address OTHER_RACK_2 = new TestTopologyAwareAddress(3, "s1", "r3", "m1");
+   private static final Address SAME_RACK = new TestTopologyAwareAddress(4, "s1", "r1", "m2");
+
+   private final Map<Address, Long> responseTimes = new ConcurrentHashMap<>();
+
+   public void testPrimaryPolicy() {
+      ReadOwnerSelector selector = createSelector(RemoteReadPolicy.PRIMARY);
+      DistributionInfo info = distributionInfo(OTHER_SITE, OTHER_RACK_1, SAME_RACK);
+
+      assertSame(info.readOwners(), selector.readOwners(info));
+      assertEquals(OTHER_SITE, selector.readOwner(info));
+      assertEquals(-1, selector.responseTimeNanos(OTHER_SITE));
+   }
+
+   public void testNearestByTopology() {
+      ReadOwnerSelector selector = createSelector(RemoteReadPolicy.NEAREST);
+      DistributionInfo info = distributionInfo(OTHER_SITE, OTHER_RACK_1, SAME_RACK);
+
+      assertEquals(Arrays.asList(SAME_RACK, OTHER_RACK_1, OTHER_SITE), selector.readOwners(info));
+      assertEquals(SAME_RACK, selector.readOwner(info));
+   }
+
+   public void testNearestByResponseTime() {
+      ReadOwnerSelector selector = createSelector(RemoteReadPolicy.NEAREST);
+      DistributionInfo info = distributionInfo(OTHER_RACK_1, OTHER_RACK_2, OTHER_SITE);
+
+      // same distance and no measurements, the primary owner is first
+      assertEquals(Arrays.asList(OTHER_RACK_1, OTHER_RACK_2, OTHER_SITE), selector.readOwners(info));
+
+      responseTimes.put(OTHER_RACK_1, TimeUnit.MILLISECONDS.toNanos(10));
+      // the owner without measurements is tried first
+      assertEquals(Arrays.asList(OTHER_RACK_2, OTHER_RACK_1, OTHER_SITE), selector.readOwners(info));
+
+      responseTimes.put(OTHER_RACK_2, TimeUnit.MILLISECONDS.toNanos(100));
+      assertEquals(Arrays.asList(OTHER_RACK_1, OTHER_RACK_2, OTHER_SITE), selector.readOwners(info));
+      assertEquals(OTHER_RACK_1, selector.readOwner(info));
+
+      // the response time doesn't matter when the distance is different
+      responseTimes.put(OTHER_SITE, TimeUnit.MILLISECONDS.toNanos(1));
+      responseTimes.put(OTHER_RACK_1, TimeUnit.MILLISECONDS.toNanos(200));
+      assertEquals(Arrays.asList(OTHER_RACK_2, OTHER_RACK_1, OTHER_SITE), selector.readOwners(info));
+      assertEquals(OTHER_RACK_2, selector.readOwner(info));
+   }
+
+   private ReadOwnerSelector createSelector(RemoteReadPolicy policy) {
+      ReadOwnerSelector selector = new ReadOwnerSelector(policy);
+      RpcManager rpcManager = mock(RpcManager.class);
+      when(rpcManager.getAddress()).thenReturn(LOCAL);
+      Transport transport = mock(Transport.class);
+      when(transport.getResponseTimeNanos(any()))
+            .thenAnswer(invocation -> responseTimes.getOrDefault(invocation.getArgument(0), -1L));
+      when(rpcManager.getTransport()).thenReturn(transport);
+      TestingUtil.inject(selector, rpcManager);
+      return selector;
+   }
+
+   private static DistributionInfo distributionInfo(Address... owners) {
+      List<Address> ownerList = Arrays.asList(owners);
+      return new DistributionInfo(0, owners[0], ownerList, ownerList, ownerList.subList(1, owners.length), LOCAL);
+   }
+}
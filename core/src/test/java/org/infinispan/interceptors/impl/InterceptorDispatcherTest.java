@@ -0,0 +1,154 @@
+package org.infinispan.interceptors.impl;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.infinispan.commands.VisitableCommand;
+import org.infinispan.commands.read.GetKeyValueCommand;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commands.write.RemoveCommand;
+import org.infinispan.commands.write.RemoveExpiredCommand;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.context.impl.SingleKeyNonTxInvocationContext;
+import org.infinispan.interceptors.AsyncInterceptor;
+import org.infinispan.interceptors.BaseAsyncInterceptor;
+import org.infinispan.interceptors.DDAsyncInterceptor;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that {@link InterceptorDispatcher} skips the interceptors that don't handle a command.
+ *
+ * @since 14.0
+ */
+@Test(groups = "unit", testName = "interceptors.impl.InterceptorDispatcherTest")
+public class InterceptorDispatcherTest extends AbstractInfinispanTest {
+   private final List<String> invocations = new ArrayList<>();
+
+   public void testInvocationPaths() {
+      AsyncInterceptorChainImpl chain = newInterceptorChain(true);
+      String paths = chain.dumpInvocationPaths();
+
+      assertTrue(paths, paths.contains(
+            "visitPutKeyValueCommand: FirstInterceptor -> PutInterceptor -> TailInterceptor -> LastInterceptor\n"));
+      assertTrue(paths, paths.contains(
+            "visitRemoveCommand: FirstInterceptor -> RemoveInterceptor -> TailInterceptor -> LastInterceptor\n"));
+      // visitRemoveExpiredCommand invokes visitRemoveCommand by default
+      assertTrue(paths, paths.contains(
+            "visitRemoveExpiredCommand: FirstInterceptor -> RemoveInterceptor -> TailInterceptor -> LastInterceptor\n"));
+      // the last DDAsyncInterceptor before a BaseAsyncInterceptor is never skipped
+      assertTrue(paths, paths.contains(
+            "visitGetKeyValueCommand: FirstInterceptor -> TailInterceptor -> LastInterceptor\n"));
+   }
+
+   public void testInvocationPathsWithoutSkipping() {
+      AsyncInterceptorChainImpl chain = newInterceptorChain(false);
+      String paths = chain.dumpInvocationPaths();
+
+      assertTrue(paths, paths.contains("visitGetKeyValueCommand: FirstInterceptor -> NoOpInterceptor -> " +
+            "PutInterceptor -> RemoveInterceptor -> TailInterceptor -> LastInterceptor\n"));
+   }
+
+   public void testHandleDefaultIsNeverSkipped() {
+      AsyncInterceptorChainImpl chain = newInterceptorChain(true);
+      chain.addInterceptor(new DefaultInterceptor(), 1);
+      String paths = chain.dumpInvocationPaths();
+
+      assertTrue(paths, paths.contains(
+            "visitGetKeyValueCommand: FirstInterceptor -> DefaultInterceptor -> TailInterceptor -> LastInterceptor\n"));
+      assertTrue(paths, paths.contains(
+            "visitPutKeyValueCommand: FirstInterceptor -> DefaultInterceptor -> PutInterceptor -> TailInterceptor -> LastInterceptor\n"));
+
+      invocations.clear();
+      chain.invoke(newInvocationContext(), new GetKeyValueCommand("k", 0, 0));
+      assertEquals(Arrays.asList("first", "default", "last"), invocations);
+   }
+
+   public void testInvoke() {
+      for (boolean skipInterceptors : new boolean[]{true, false}) {
+         AsyncInterceptorChainImpl chain = newInterceptorChain(skipInterceptors);
+         invocations.clear();
+         assertEquals("last", chain.invoke(newInvocationContext(), new GetKeyValueCommand("k", 0, 0)));
+         assertEquals("last", chain.invoke(newInvocationContext(), new PutKeyValueCommand()));
+         assertEquals("last", chain.invoke(newInvocationContext(), new RemoveCommand()));
+         assertEquals("last", chain.invoke(newInvocationContext(), new RemoveExpiredCommand()));
+         assertEquals(Arrays.asList("first", "last", "first", "put", "last", "first", "remove", "last",
+               "first", "remove", "last"), invocations);
+      }
+   }
+
+   public void testChainModification() {
+      AsyncInterceptorChainImpl chain = newInterceptorChain(true);
+      chain.removeInterceptor(PutInterceptor.class);
+      String paths = chain.dumpInvocationPaths();
+      assertTrue(paths, paths.contains("visitPutKeyValueCommand: FirstInterceptor -> TailInterceptor -> LastInterceptor\n"));
+
+      chain.addInterceptorAfter(new PutInterceptor(), FirstInterceptor.class);
+      invocations.clear();
+      chain.invoke(newInvocationContext(), new PutKeyValueCommand());
+      assertEquals(Arrays.asList("first", "put", "last"), invocations);
+   }
+
+   private AsyncInterceptorChainImpl newInterceptorChain(boolean skipInterceptors) {
+      AsyncInterceptorChainImpl chain = new AsyncInterceptorChainImpl(skipInterceptors);
+      for (AsyncInterceptor i : new AsyncInterceptor[]{new FirstInterceptor(), new NoOpInterceptor(),
+            new PutInterceptor(), new RemoveInterceptor(), new TailInterceptor(), new LastInterceptor()}) {
+         chain.appendInterceptor(i, false);
+      }
+      return chain;
+   }
+
+   private SingleKeyNonTxInvocationContext newInvocationContext() {
+      return new SingleKeyNonTxInvocationContext(null);
+   }
+
+   class FirstInterceptor extends BaseAsyncInterceptor {
+      @Override
+      public Object visitCommand(InvocationContext ctx, VisitableCommand command) throws Throwable {
+         invocations.add("first");
+         return invokeNext(ctx, command);
+      }
+   }
+
+   static class NoOpInterceptor extends DDAsyncInterceptor {
+   }
+
+   static class TailInterceptor extends DDAsyncInterceptor {
+   }
+
+   class PutInterceptor extends DDAsyncInterceptor {
+      @Override
+      public Object visitPutKeyValueCommand(InvocationContext ctx, PutKeyValueCommand command) throws Throwable {
+         invocations.add("put");
+         return invokeNext(ctx, command);
+      }
+   }
+
+   class RemoveInterceptor extends DDAsyncInterceptor {
+      @Override
+      public Object visitRemoveCommand(InvocationContext ctx, RemoveCommand command) throws Throwable {
+         invocations.add("remove");
+         return invokeNext(ctx, command);
+      }
+   }
+
+   class DefaultInterceptor extends DDAsyncInterceptor {
+      @Override
+      protected Object handleDefault(InvocationContext ctx, VisitableCommand command) throws Throwable {
+         invocations.add("default");
+         return invokeNext(ctx, command);
+      }
+   }
+
+   class LastInterceptor extends BaseAsyncInterceptor {
+      @Override
+      public Object visitCommand(InvocationContext ctx, VisitableCommand command) throws Throwable {
+         invocations.add("last");
+         return "last";
+      }
+   }
+}
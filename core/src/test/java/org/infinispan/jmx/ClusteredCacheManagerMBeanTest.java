@@ -110,4 +110,16 @@ public void testExecutorMBeans() throws Exception {
       assertEquals(TestCacheManagerFactory.NAMED_EXECUTORS_THREADS_NO_QUEUE,
                    server.getAttribute(objectName, "MaximumPoolSize"));
    }
+
+   public void testTransportMBean() throws Exception {
+      MBeanServer server = mBeanServerLookup.getMBeanServer();
+      ObjectName objectName = getCacheManagerObjectName(JMX_DOMAIN, "DefaultCacheManager", "Transport");
+      assertTrue(server.isRegistered(objectName));
+      long staggeredRequests = (Long) server.getAttribute(objectName, "StaggeredRequests");
+      long hedgedRequests = (Long) server.getAttribute(objectName, "HedgedRequests");
+      long hedgeWins = (Long) server.getAttribute(objectName, "HedgeWins");
+      assertTrue(staggeredRequests >= hedgedRequests);
+      assertTrue(hedgedRequests >= hedgeWins);
+      assertEquals(0L, server.getAttribute(objectName, "HedgeBudgetExhausted"));
+   }
 }
@@ -17,7 +17,9 @@
 import org.infinispan.util.concurrent.TimeoutException;
 import org.infinispan.util.concurrent.locks.LockPromise;
 import org.infinispan.util.concurrent.locks.impl.LockContainer;
+import org.infinispan.util.concurrent.locks.impl.LockContentionStatistics;
 import org.infinispan.util.concurrent.locks.impl.PerKeyLockContainer;
+import org.infinispan.util.concurrent.locks.impl.PooledLockContainer;
 import org.infinispan.util.concurrent.locks.impl.StripedLockContainer;
 import org.testng.AssertJUnit;
 import org.testng.annotations.Test;
@@ -55,6 +57,73 @@ public void testSingleCounterWithStriped() throws ExecutionException, Interrupte
       doSingleCounterTest(lockContainer, 16);
    }
 
+   public void testSingleLockWithPooled() throws InterruptedException {
+      PooledLockContainer lockContainer = new PooledLockContainer(16);
+      TestingUtil.inject(lockContainer, AbstractCacheTest.TIME_SERVICE);
+      doSingleLockTest(lockContainer, -1);
+   }
+
+   public void testSingleCounterWithPooled() throws ExecutionException, InterruptedException {
+      PooledLockContainer lockContainer = new PooledLockContainer(16);
+      TestingUtil.inject(lockContainer, AbstractCacheTest.TIME_SERVICE);
+      doSingleCounterTest(lockContainer, -1);
+      //a lock is only looked up in a few slots of the pool, so more than one lock may have been created
+      int pooledLocks = lockContainer.getPooledLocks();
+      AssertJUnit.assertTrue(String.valueOf(pooledLocks), pooledLocks >= 1 && pooledLocks <= 16);
+   }
+
+   public void testPooledLockIsRecycled() throws InterruptedException {
+      PooledLockContainer lockContainer = new PooledLockContainer(1);
+      TestingUtil.inject(lockContainer, AbstractCacheTest.TIME_SERVICE);
+
+      lockContainer.acquire("key1", "LO1", 0, TimeUnit.MILLISECONDS).lock();
+      Object lock = lockContainer.getLock("key1");
+      lockContainer.release("key1", "LO1");
+      AssertJUnit.assertEquals(0, lockContainer.size());
+      AssertJUnit.assertEquals(1, lockContainer.getPooledLocks());
+
+      lockContainer.acquire("key2", "LO2", 0, TimeUnit.MILLISECONDS).lock();
+      AssertJUnit.assertSame(lock, lockContainer.getLock("key2"));
+      AssertJUnit.assertEquals(0, lockContainer.getPooledLocks());
+      AssertJUnit.assertTrue(lockContainer.isLocked("key2"));
+      AssertJUnit.assertFalse(lockContainer.isLocked("key1"));
+
+      //a new lock is created when the pool is empty
+      lockContainer.acquire("key1", "LO1", 0, TimeUnit.MILLISECONDS).lock();
+      AssertJUnit.assertNotSame(lock, lockContainer.getLock("key1"));
+
+      //the pool is full, so the last lock released is discarded
+      lockContainer.release("key2", "LO2");
+      lockContainer.release("key1", "LO1");
+      AssertJUnit.assertEquals(0, lockContainer.size());
+      AssertJUnit.assertEquals(1, lockContainer.getPooledLocks());
+   }
+
+   public void testPooledContentionStatistics() throws InterruptedException {
+      PooledLockContainer lockContainer = new PooledLockContainer(16);
+      TestingUtil.inject(lockContainer, AbstractCacheTest.TIME_SERVICE);
+      LockContentionStatistics statistics = lockContainer.getStatistics();
+
+      lockContainer.acquire("key", "LO1", 0, TimeUnit.MILLISECONDS).lock();
+      LockPromise promise = lockContainer.acquire("key", "LO2", 1, TimeUnit.DAYS);
+      AssertJUnit.assertFalse(promise.isAvailable());
+      AssertJUnit.assertEquals(1, statistics.getUncontendedAcquisitions());
+      AssertJUnit.assertEquals(1, statistics.getContendedAcquisitions());
+      AssertJUnit.assertEquals(0, statistics.getWaitTimeHistogram().length);
+
+      lockContainer.release("key", "LO1");
+      promise.lock();
+      AssertJUnit.assertEquals(1, statistics.getWaitTimeHistogram().length);
+      AssertJUnit.assertEquals(1, statistics.getTopContendedKeys(10).length);
+      AssertJUnit.assertEquals("key: 1", statistics.getTopContendedKeys(10)[0]);
+      lockContainer.release("key", "LO2");
+
+      statistics.reset();
+      AssertJUnit.assertEquals(0, statistics.getUncontendedAcquisitions());
+      AssertJUnit.assertEquals(0, statistics.getContendedAcquisitions());
+      AssertJUnit.assertEquals(0, statistics.getTopContendedKeys(10).length);
+   }
+
    private void doSingleCounterTest(LockContainer lockContainer, int poolSize) throws InterruptedException, ExecutionException {
       final NotThreadSafeCounter counter = new NotThreadSafeCounter();
       final String key = "key";
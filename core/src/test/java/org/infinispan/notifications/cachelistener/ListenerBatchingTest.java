@@ -0,0 +1,154 @@
+package org.infinispan.notifications.cachelistener;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
+import org.infinispan.notifications.cachelistener.event.CacheEntryCreatedEvent;
+import org.infinispan.notifications.cachelistener.filter.CacheEventFilter;
+import org.infinispan.notifications.cachelistener.filter.EventType;
+import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.test.fwk.TestCacheManagerFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the batched dispatch of events to asynchronous listeners.
+ *
+ * @since 14.0
+ */
+@Test(groups = "functional", testName = "notifications.cachelistener.ListenerBatchingTest")
+public class ListenerBatchingTest extends SingleCacheManagerTest {
+
+   @Override
+   protected EmbeddedCacheManager createCacheManager() throws Exception {
+      return TestCacheManagerFactory.createCacheManager(new ConfigurationBuilder());
+   }
+
+   public void testEventsFilteredOnListenerThread() {
+      AsyncListener listener = new AsyncListener();
+      EvenKeyFilter filter = new EvenKeyFilter();
+      cache.addListener(listener, filter, null);
+
+      for (int i = 0; i < 100; i++) {
+         cache.put(i, "v" + i);
+      }
+
+      eventually(() -> listener.keys.size() == 50);
+      List<Object> expected = IntStream.range(0, 50).mapToObj(i -> i * 2).collect(Collectors.toList());
+      assertEquals(expected, listener.keys);
+      assertTrue(filter.threads.stream().noneMatch(t -> t == Thread.currentThread()));
+
+      CacheNotifierImpl<?, ?> notifier = (CacheNotifierImpl<?, ?>) TestingUtil.extractComponent(cache, CacheNotifier.class);
+      assertTrue(notifier.getListenerEventBatches() > 0);
+      eventuallyEquals(0L, notifier::getPendingListenerEvents);
+   }
+
+   public void testFailedEventDoesNotStopBatch() {
+      FailingListener listener = new FailingListener();
+      FailingFilter filter = new FailingFilter();
+      cache.addListener(listener, filter, null);
+
+      for (int i = 0; i < 10; i++) {
+         cache.put(i, "v" + i);
+      }
+      // the listener fails for key 3 and the filter for key 5, the other events of the batch are still dispatched
+      eventually(() -> listener.keys.size() == 8);
+      assertEquals(Arrays.asList(0, 1, 2, 4, 6, 7, 8, 9), listener.keys);
+
+      CacheNotifierImpl<?, ?> notifier = (CacheNotifierImpl<?, ?>) TestingUtil.extractComponent(cache, CacheNotifier.class);
+      eventuallyEquals(0L, notifier::getPendingListenerEvents);
+   }
+
+   public void testFullQueueDelaysOperation() {
+      Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+      List<Integer> dispatched = new ArrayList<>();
+      ListenerEventQueue.Statistics statistics = new ListenerEventQueue.Statistics();
+      ListenerEventQueue<Integer> queue = new ListenerEventQueue<>(tasks::add, dispatched::addAll, 2, 2, statistics);
+
+      assertNull(queue.offer(1));
+      assertNull(queue.offer(2));
+      CompletionStage<Void> delayed = queue.offer(3);
+      assertFalse(delayed.toCompletableFuture().isDone());
+      assertEquals(1, tasks.size());
+      assertEquals(3, statistics.getPendingEvents());
+      assertEquals(1, statistics.getDelayedEvents());
+
+      tasks.poll().run();
+      assertEquals(Arrays.asList(1, 2), dispatched);
+      assertTrue(delayed.toCompletableFuture().isDone());
+
+      // the remaining event is dispatched by a new task
+      tasks.poll().run();
+      assertEquals(Arrays.asList(1, 2, 3), dispatched);
+      assertTrue(tasks.isEmpty());
+      assertEquals(0, queue.size());
+      assertEquals(2, statistics.getDispatchedBatches());
+   }
+
+   @Listener(sync = false)
+   public static class AsyncListener {
+      final List<Object> keys = new CopyOnWriteArrayList<>();
+
+      @CacheEntryCreated
+      public void created(CacheEntryCreatedEvent<Object, Object> event) {
+         if (!event.isPre()) {
+            keys.add(event.getKey());
+         }
+      }
+   }
+
+   @Listener(sync = false)
+   public static class FailingListener {
+      final List<Object> keys = new CopyOnWriteArrayList<>();
+
+      @CacheEntryCreated
+      public void created(CacheEntryCreatedEvent<Object, Object> event) {
+         if (event.isPre()) {
+            return;
+         }
+         if (event.getKey().equals(3)) {
+            throw new IllegalStateException("Listener failure for key 3");
+         }
+         keys.add(event.getKey());
+      }
+   }
+
+   static class FailingFilter implements CacheEventFilter<Object, Object> {
+      @Override
+      public boolean accept(Object key, Object oldValue, Metadata oldMetadata, Object newValue, Metadata newMetadata,
+                            EventType eventType) {
+         if (key.equals(5)) {
+            throw new IllegalStateException("Filter failure for key 5");
+         }
+         return true;
+      }
+   }
+
+   static class EvenKeyFilter implements CacheEventFilter<Object, Object> {
+      final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+      @Override
+      public boolean accept(Object key, Object oldValue, Metadata oldMetadata, Object newValue, Metadata newMetadata,
+                            EventType eventType) {
+         threads.add(Thread.currentThread());
+         return ((Integer) key) % 2 == 0;
+      }
+   }
+}
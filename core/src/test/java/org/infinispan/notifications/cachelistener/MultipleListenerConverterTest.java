@@ -4,9 +4,12 @@
 import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertTrue;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.infinispan.Cache;
 import org.infinispan.configuration.cache.ConfigurationBuilder;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.metadata.Metadata;
@@ -16,6 +19,7 @@
 import org.infinispan.notifications.cachelistener.filter.CacheEventConverter;
 import org.infinispan.notifications.cachelistener.filter.EventType;
 import org.infinispan.test.SingleCacheManagerTest;
+import org.infinispan.test.TestingUtil;
 import org.infinispan.test.fwk.TestCacheManagerFactory;
 import org.testng.annotations.Test;
 
@@ -58,6 +62,20 @@ public Object filterAndConvert(Object key, Object oldValue, Metadata oldMetadata
       }
    }
 
+   private static class CountingFilterConverter extends StringFilterConverter {
+      final AtomicInteger invocations = new AtomicInteger();
+
+      CountingFilterConverter(String append) {
+         super(append);
+      }
+
+      @Override
+      public Object filterAndConvert(Object key, Object oldValue, Metadata oldMetadata, Object newValue, Metadata newMetadata, EventType eventType) {
+         invocations.incrementAndGet();
+         return super.filterAndConvert(key, oldValue, oldMetadata, newValue, newMetadata, eventType);
+      }
+   }
+
    public void testMultipleListenersWithDifferentConverters() {
       CacheListener listener1 = new CacheListener();
       CacheListener listener2 = new CacheListener();
@@ -85,7 +103,61 @@ public void testMultipleListenersWithDifferentFilterConverters() {
       insertKeyValueAndVerifyListenerNotifications(Arrays.asList(listener1, listener2, listener3));
    }
 
+   public void testMultipleListenersWithSameFilterConverter() {
+      CacheListener listener1 = new CacheListener();
+      CacheListener listener2 = new CacheListener();
+      CacheListener listener3 = new CacheListener();
+
+      CountingFilterConverter filterConverter = new CountingFilterConverter("listener");
+
+      cache.addListener(listener1, filterConverter, filterConverter);
+      cache.addListener(listener2, filterConverter, filterConverter);
+      cache.addListener(listener3, filterConverter, filterConverter);
+
+      CacheNotifierImpl<?, ?> notifier = (CacheNotifierImpl<?, ?>) TestingUtil.extractComponent(cache, CacheNotifier.class);
+      long sharedEvaluations = notifier.getSharedFilterEvaluations();
+      insertKeyValueAndVerifyListenerNotifications(Arrays.asList(listener1, listener2, listener3), false);
+
+      // the pre and post events are converted once and shared by the 3 listeners
+      assertEquals(2, filterConverter.invocations.get());
+      assertEquals(sharedEvaluations + 4, notifier.getSharedFilterEvaluations());
+   }
+
+   public void testFilterResultsSharedOnlyBetweenIdenticalListeners(Method m) {
+      // use a separate cache, so the listeners registered by the other tests are not counted
+      cacheManager.defineConfiguration(m.getName(), new ConfigurationBuilder().build());
+      Cache<Object, Object> testCache = cacheManager.getCache(m.getName());
+      CacheListener listener1 = new CacheListener();
+      CacheListener listener2 = new CacheListener();
+      CacheListener listener3 = new CacheListener();
+      CacheNotifierImpl<?, ?> notifier = (CacheNotifierImpl<?, ?>) TestingUtil.extractComponent(testCache, CacheNotifier.class);
+      try {
+         // different filters, nothing to share
+         testCache.addListener(listener1, new StringFilterConverter("listener1"), null);
+         testCache.addListener(listener2, new StringFilterConverter("listener2"), null);
+         assertEquals(0, notifier.getSharedEvaluationKeys());
+
+         StringFilterConverter filterConverter = new StringFilterConverter("listener");
+         testCache.addListener(listener3, filterConverter, filterConverter);
+         testCache.removeListener(listener2);
+         testCache.addListener(listener2, filterConverter, filterConverter);
+         assertTrue(notifier.getSharedEvaluationKeys() > 0);
+
+         // a single listener left with the shared filter
+         testCache.removeListener(listener3);
+         assertEquals(0, notifier.getSharedEvaluationKeys());
+      } finally {
+         testCache.removeListener(listener1);
+         testCache.removeListener(listener2);
+         testCache.removeListener(listener3);
+      }
+   }
+
    private void insertKeyValueAndVerifyListenerNotifications(Collection<CacheListener> listeners) {
+      insertKeyValueAndVerifyListenerNotifications(listeners, true);
+   }
+
+   private void insertKeyValueAndVerifyListenerNotifications(Collection<CacheListener> listeners, boolean numbered) {
       cache.put("key", "value");
 
       int i = 1;
@@ -97,14 +169,14 @@ private void insertKeyValueAndVerifyListenerNotifications(Collection<CacheListen
          CacheEntryCreatedEvent createdEvent = (CacheEntryCreatedEvent) event;
          assertTrue("Listener" + i + "failed", createdEvent.isPre());
          assertEquals("Listener" + i + "failed", "key", createdEvent.getKey());
-         assertEquals("Listener" + i + "failed", "null-listener-" + i, createdEvent.getValue());
+         assertEquals("Listener" + i + "failed", numbered ? "null-listener-" + i : "null-listener", createdEvent.getValue());
 
          event = listener.getEvents().get(1);
          assertEquals("Listener" + i + "failed", Event.Type.CACHE_ENTRY_CREATED, event.getType());
          createdEvent = (CacheEntryCreatedEvent) event;
          assertFalse("Listener" + i + "failed", createdEvent.isPre());
          assertEquals("Listener" + i + "failed", "key", createdEvent.getKey());
-         assertEquals("Listener" + i + "failed", "value-listener-" + i,createdEvent.getValue());
+         assertEquals("Listener" + i + "failed", numbered ? "value-listener-" + i : "value-listener", createdEvent.getValue());
 
          ++i;
       }
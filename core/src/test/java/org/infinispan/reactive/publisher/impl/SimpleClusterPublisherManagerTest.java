@@ -44,6 +44,8 @@
 import org.infinispan.test.fwk.InCacheMode;
 import org.infinispan.util.function.SerializableBinaryOperator;
 import org.infinispan.util.function.SerializableFunction;
+import org.infinispan.util.function.SerializableToIntFunction;
+import org.infinispan.util.function.SerializableToLongFunction;
 import org.mockito.Mockito;
 import org.reactivestreams.Publisher;
 import org.testng.annotations.AfterMethod;
@@ -151,6 +153,52 @@ public void testCountSegments(DeliveryGuarantee deliveryGuarantee, boolean paral
       assertEquals(expected, actualCount.intValue());
    }
 
+   @Test(dataProvider = "GuaranteeParallelEntry")
+   public void testIntStatistics(DeliveryGuarantee deliveryGuarantee, boolean parallel, boolean isEntry) {
+      Cache<Integer, String> cache = cache(0);
+      int insertAmount = insert(cache).size();
+
+      ClusterPublisherManager<Integer, String> cpm = cpm(cache);
+      CompletionStage<long[]> stageStatistics;
+      if (isEntry) {
+         stageStatistics = cpm.entryReduction(parallel, null, null, null, EnumUtil.EMPTY_BIT_SET, deliveryGuarantee,
+               PublisherReducers.intStatistics((SerializableToIntFunction<CacheEntry<Integer, String>>) CacheEntry::getKey),
+               PublisherReducers.combineStatistics());
+      } else {
+         stageStatistics = cpm.keyReduction(parallel, null, null, null, EnumUtil.EMPTY_BIT_SET, deliveryGuarantee,
+               PublisherReducers.intStatistics((SerializableToIntFunction<Integer>) Integer::intValue),
+               PublisherReducers.combineStatistics());
+      }
+
+      long[] statistics = stageStatistics.toCompletableFuture().join();
+      assertEquals(insertAmount, statistics[PublisherReducers.STATISTICS_COUNT]);
+      assertEquals(IntStream.range(0, insertAmount).sum(), statistics[PublisherReducers.STATISTICS_SUM]);
+      assertEquals(0, statistics[PublisherReducers.STATISTICS_MIN]);
+      assertEquals(insertAmount - 1, statistics[PublisherReducers.STATISTICS_MAX]);
+   }
+
+   @Test(dataProvider = "GuaranteeParallelEntry")
+   public void testHistogram(DeliveryGuarantee deliveryGuarantee, boolean parallel, boolean isEntry) {
+      Cache<Integer, String> cache = cache(0);
+      int insertAmount = insert(cache).size();
+
+      ClusterPublisherManager<Integer, String> cpm = cpm(cache);
+      CompletionStage<long[]> stageHistogram;
+      // The keys lower than 2 go to the first bucket and the keys from 8 go to the last one
+      if (isEntry) {
+         stageHistogram = cpm.entryReduction(parallel, null, null, null, EnumUtil.EMPTY_BIT_SET, deliveryGuarantee,
+               PublisherReducers.histogram((SerializableToLongFunction<CacheEntry<Integer, String>>) CacheEntry::getKey, 2, 3, 3),
+               PublisherReducers.combineHistograms());
+      } else {
+         stageHistogram = cpm.keyReduction(parallel, null, null, null, EnumUtil.EMPTY_BIT_SET, deliveryGuarantee,
+               PublisherReducers.histogram((SerializableToLongFunction<Integer>) Integer::longValue, 2, 3, 3),
+               PublisherReducers.combineHistograms());
+      }
+
+      long[] histogram = stageHistogram.toCompletableFuture().join();
+      assertEquals(Arrays.toString(new long[]{5, 3, insertAmount - 8}), Arrays.toString(histogram));
+   }
+
    @Test(dataProvider = "GuaranteeParallelEntry")
    public void testCountSpecificKeys(DeliveryGuarantee deliveryGuarantee, boolean parallel, boolean isEntry) {
       Cache<Integer, String> cache = cache(0);
@@ -12,6 +12,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collector;
@@ -233,4 +234,36 @@ public void testWithAsyncOperation(DeliveryGuarantee deliveryGuarantee, boolean
 
       results.forEach(assertConsumer);
    }
+
+   public void testParallelReductionRunsOnStreamExecutor() {
+      Cache<Integer, String> cache = cache(0);
+      Map<Integer, String> inserted = insert(cache);
+
+      LocalPublisherManagerImpl<Integer, String> lpm = (LocalPublisherManagerImpl<Integer, String>) lpm(cache);
+      long operations = lpm.getParallelOperations();
+      long segmentsProcessed = lpm.getParallelSegmentsProcessed();
+      IntSet allSegments = IntSets.immutableRangeSet(SEGMENT_COUNT);
+      Set<String> threadNames = ConcurrentHashMap.newKeySet();
+      CompletionStage<PublisherResult<Set<Integer>>> stage = lpm.keyReduction(true, allSegments, null, null, 0L,
+            DeliveryGuarantee.EXACTLY_ONCE, publisher -> Flowable.fromPublisher(publisher)
+                  .doOnNext(ignore -> threadNames.add(Thread.currentThread().getName()))
+                  .collect(Collectors.toSet()).toCompletionStage(),
+            publisher -> Flowable.fromPublisher(publisher)
+                  .reduce((BiFunction<Set<Integer>, Set<Integer>, Set<Integer>>) (first, second) -> {
+                     first.addAll(second);
+                     return first;
+                  }).toCompletionStage(Collections.emptySet()));
+
+      DistributionManager dm = TestingUtil.extractComponent(cache, DistributionManager.class);
+      IntSet localSegments = dm.getCacheTopology().getLocalReadSegments();
+      int expected = SimpleClusterPublisherManagerTest.findHowManyInSegments(inserted.size(), localSegments,
+            TestingUtil.extractComponent(cache, KeyPartitioner.class));
+      assertEquals(expected, CompletionStages.join(stage).getResult().size());
+
+      // the invoking thread processes segments too, but never the non-blocking executor
+      assertTrue(threadNames.toString(), threadNames.stream().noneMatch(name -> name.contains("non-blocking")));
+      assertEquals(operations + 1, lpm.getParallelOperations());
+      // the segments that are not owned are processed too, their results are discarded
+      assertEquals(segmentsProcessed + SEGMENT_COUNT, lpm.getParallelSegmentsProcessed());
+   }
 }
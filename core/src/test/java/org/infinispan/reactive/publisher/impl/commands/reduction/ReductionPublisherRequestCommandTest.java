@@ -0,0 +1,66 @@
+package org.infinispan.reactive.publisher.impl.commands.reduction;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.infinispan.commons.util.IntSets;
+import org.infinispan.factories.ComponentRegistry;
+import org.infinispan.reactive.publisher.impl.DeliveryGuarantee;
+import org.infinispan.reactive.publisher.impl.LocalPublisherManager;
+import org.infinispan.reactive.publisher.impl.PublisherHandler;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.infinispan.test.RunningComponentRef;
+import org.infinispan.util.ByteString;
+import org.infinispan.util.function.SerializableFunction;
+import org.reactivestreams.Publisher;
+import org.testng.annotations.Test;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+
+/**
+ * Tests that a {@link ReductionPublisherRequestCommand} with a request id stops reading entries when it is cancelled.
+ */
+@Test(groups = "unit", testName = "reactive.publisher.impl.commands.reduction.ReductionPublisherRequestCommandTest")
+public class ReductionPublisherRequestCommandTest extends AbstractInfinispanTest {
+
+   public void testCancelledReductionCompletesWithPartialResult() throws Throwable {
+      PublishProcessor<Object> entries = PublishProcessor.create();
+      LocalPublisherManager<Object, Object> lpm = mock(LocalPublisherManager.class);
+      when(lpm.entryReduction(anyBoolean(), any(), any(), any(), anyLong(), any(), any(), any())).thenAnswer(
+            invocation -> ((Function<Publisher<Object>, CompletionStage<?>>) invocation.getArgument(6)).apply(entries));
+      PublisherHandler publisherHandler = new PublisherHandler();
+
+      ComponentRegistry registry = mock(ComponentRegistry.class);
+      when(registry.getLocalPublisherManager()).thenReturn(
+            new RunningComponentRef<>(null, LocalPublisherManager.class, lpm));
+      when(registry.getPublisherHandler()).thenReturn(
+            new RunningComponentRef<>(null, PublisherHandler.class, publisherHandler));
+
+      SerializableFunction<Publisher<Object>, CompletionStage<Long>> count =
+            publisher -> Flowable.fromPublisher(publisher).count().toCompletionStage();
+      ReductionPublisherRequestCommand<Object> command = new ReductionPublisherRequestCommand<>(
+            ByteString.fromString("cache"), false, DeliveryGuarantee.EXACTLY_ONCE, IntSets.immutableSet(0), null,
+            null, 0, true, count, count);
+      command.setRequestId("request");
+
+      CompletableFuture<?> stage = command.invokeAsync(registry).toCompletableFuture();
+      entries.onNext("first");
+      entries.onNext("second");
+      assertFalse(stage.isDone());
+
+      publisherHandler.closePublisher("request");
+      assertEquals(2L, stage.get(10, TimeUnit.SECONDS));
+      assertFalse(entries.hasSubscribers());
+   }
+}
@@ -0,0 +1,116 @@
+package org.infinispan.remoting.transport.jgroups;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.distribution.TestAddress;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.testng.annotations.Test;
+
+/**
+ * Unit test for {@link HedgingPolicy}.
+ *
+ * @since 14.0
+ */
+@Test(groups = "unit", testName = "remoting.transport.jgroups.HedgingPolicyTest")
+public class HedgingPolicyTest extends AbstractInfinispanTest {
+
+   private static final Address A = new TestAddress(1, "A");
+   private static final Address B = new TestAddress(2, "B");
+   private static final long FIXED_DELAY = TimeUnit.MILLISECONDS.toNanos(500);
+
+   public void testHistogramBuckets() {
+      for (long value : new long[]{0, 1, 3, 4, 5, 7, 8, 100, 1_000_000, Long.MAX_VALUE}) {
+         int bucket = HedgingPolicy.LatencyHistogram.bucket(value);
+         long upperBound = HedgingPolicy.LatencyHistogram.upperBound(bucket);
+         assertTrue(value + " -> " + upperBound, value < upperBound || upperBound == Long.MAX_VALUE);
+         assertTrue(value + " -> " + upperBound, upperBound <= value + value / 4 + 1 || upperBound == Long.MAX_VALUE);
+      }
+   }
+
+   public void testPercentileDelay() {
+      HedgingPolicy policy = new HedgingPolicy(95, 10);
+      // not enough samples
+      assertEquals(FIXED_DELAY, policy.hedgeDelay(A, FIXED_DELAY));
+
+      for (int i = 0; i < 95; i++) {
+         policy.recordResponseTime(A, TimeUnit.MILLISECONDS.toNanos(1));
+      }
+      for (int i = 0; i < 5; i++) {
+         policy.recordResponseTime(A, TimeUnit.MILLISECONDS.toNanos(200));
+      }
+      long delay = policy.hedgeDelay(A, FIXED_DELAY);
+      assertTrue("Delay: " + delay, delay >= TimeUnit.MILLISECONDS.toNanos(1));
+      assertTrue("Delay: " + delay, delay <= TimeUnit.MICROSECONDS.toNanos(1250));
+      // the samples of A don't apply to B
+      assertEquals(FIXED_DELAY, policy.hedgeDelay(B, FIXED_DELAY));
+
+      // the delay is never longer than the fixed delay
+      assertEquals(TimeUnit.MICROSECONDS.toNanos(100), policy.hedgeDelay(A, TimeUnit.MICROSECONDS.toNanos(100)));
+
+      policy.retainAll(Collections.singleton(B));
+      assertEquals(FIXED_DELAY, policy.hedgeDelay(A, FIXED_DELAY));
+   }
+
+   public void testResponseTime() {
+      HedgingPolicy policy = new HedgingPolicy(95, 10);
+      assertEquals(-1, policy.responseTimeNanos(A));
+
+      for (int i = 0; i < 3; i++) {
+         policy.recordResponseTime(A, TimeUnit.MILLISECONDS.toNanos(1));
+      }
+      policy.recordResponseTime(A, TimeUnit.MILLISECONDS.toNanos(200));
+      // the median ignores the outlier
+      long responseTime = policy.responseTimeNanos(A);
+      assertTrue("Response time: " + responseTime, responseTime >= TimeUnit.MILLISECONDS.toNanos(1));
+      assertTrue("Response time: " + responseTime, responseTime <= TimeUnit.MICROSECONDS.toNanos(1250));
+      assertEquals(-1, policy.responseTimeNanos(B));
+   }
+
+   public void testPercentileAdapts() {
+      HedgingPolicy policy = new HedgingPolicy(95, 10);
+      for (int i = 0; i < 100; i++) {
+         policy.recordResponseTime(A, TimeUnit.MILLISECONDS.toNanos(1));
+      }
+      // a node that becomes slower eventually gets a longer delay
+      for (int i = 0; i < 5000; i++) {
+         policy.recordResponseTime(A, TimeUnit.MILLISECONDS.toNanos(10));
+      }
+      assertTrue(policy.hedgeDelay(A, FIXED_DELAY) >= TimeUnit.MILLISECONDS.toNanos(10));
+   }
+
+   public void testDisabled() {
+      HedgingPolicy policy = new HedgingPolicy(0, 10);
+      for (int i = 0; i < 100; i++) {
+         policy.recordResponseTime(A, TimeUnit.MILLISECONDS.toNanos(1));
+      }
+      assertEquals(FIXED_DELAY, policy.hedgeDelay(A, FIXED_DELAY));
+   }
+
+   public void testBudget() {
+      HedgingPolicy policy = new HedgingPolicy(95, 10);
+      // the initial burst
+      int hedges = 0;
+      while (policy.tryHedge()) {
+         hedges++;
+      }
+      assertEquals(100, hedges);
+      assertEquals(1, policy.getBudgetExhausted());
+
+      // 10% of the requests can be hedged
+      for (int i = 0; i < 100; i++) {
+         policy.requestStarted();
+      }
+      for (int i = 0; i < 10; i++) {
+         assertTrue(policy.tryHedge());
+      }
+      assertFalse(policy.tryHedge());
+      assertEquals(100, policy.getStaggeredRequests());
+      assertEquals(2, policy.getBudgetExhausted());
+   }
+}
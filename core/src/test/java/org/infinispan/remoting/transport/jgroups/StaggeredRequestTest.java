@@ -0,0 +1,146 @@
+package org.infinispan.remoting.transport.jgroups;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.commands.ReplicableCommand;
+import org.infinispan.distribution.TestAddress;
+import org.infinispan.remoting.inboundhandler.DeliverOrder;
+import org.infinispan.remoting.responses.Response;
+import org.infinispan.remoting.responses.SuccessfulResponse;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.remoting.transport.ResponseCollector;
+import org.infinispan.remoting.transport.impl.RequestRepository;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.infinispan.util.ControlledTimeService;
+import org.testng.annotations.Test;
+
+/**
+ * Unit test for the response times recorded and the hedged requests sent by {@link StaggeredRequest}.
+ *
+ * @since 14.0
+ */
+@Test(groups = "unit", testName = "remoting.transport.jgroups.StaggeredRequestTest")
+public class StaggeredRequestTest extends AbstractInfinispanTest {
+
+   private static final Address A = new TestAddress(1, "A");
+   private static final Address B = new TestAddress(2, "B");
+
+   private final ControlledTimeService timeService = new ControlledTimeService();
+
+   public void testSlowTargetIsMeasured() {
+      HedgingPolicy policy = new HedgingPolicy(95, 10);
+      StaggeredRequest<Response> request = createRequest(policy);
+
+      request.sendNextMessage();
+      timeService.advance(10);
+      // A doesn't reply before the stagger timeout
+      request.onTimeout();
+      timeService.advance(1);
+      request.onResponse(B, SuccessfulResponse.SUCCESSFUL_EMPTY_RESPONSE);
+      assertTrue(request.isDone());
+
+      // A lost the race, but it was slower than 11 millis
+      assertTrue(policy.responseTimeNanos(A) >= TimeUnit.MILLISECONDS.toNanos(11));
+      assertTrue(policy.responseTimeNanos(B) <= TimeUnit.MICROSECONDS.toNanos(1250));
+   }
+
+   public void testTimedOutTargetsAreMeasured() {
+      HedgingPolicy policy = new HedgingPolicy(95, 10);
+      StaggeredRequest<Response> request = createRequest(policy);
+
+      request.sendNextMessage();
+      timeService.advance(10);
+      request.onTimeout();
+      timeService.advance(100);
+      // the final timeout
+      request.onTimeout();
+      assertTrue(request.isCompletedExceptionally());
+
+      assertTrue(policy.responseTimeNanos(A) >= TimeUnit.MILLISECONDS.toNanos(110));
+      assertTrue(policy.responseTimeNanos(B) >= TimeUnit.MILLISECONDS.toNanos(100));
+   }
+
+   public void testFirstTargetWins() {
+      HedgingPolicy policy = new HedgingPolicy(95, 10);
+      StaggeredRequest<Response> request = createRequest(policy);
+
+      request.sendNextMessage();
+      timeService.advance(10);
+      request.onTimeout();
+      timeService.advance(1);
+      request.onResponse(A, SuccessfulResponse.SUCCESSFUL_EMPTY_RESPONSE);
+      assertTrue(request.isDone());
+
+      // B was contacted after A, so its elapsed time says nothing about its response time
+      assertTrue(policy.responseTimeNanos(A) >= TimeUnit.MILLISECONDS.toNanos(11));
+      assertEquals(-1, policy.responseTimeNanos(B));
+   }
+
+   public void testFixedDelayIsNotHedge() {
+      HedgingPolicy policy = new HedgingPolicy(95, 10);
+      StaggeredRequest<Response> request = createRequest(policy);
+
+      // A has no samples, the next target is contacted after the fixed delay
+      request.sendNextMessage();
+      timeService.advance(50);
+      request.onTimeout();
+      timeService.advance(1);
+      request.onResponse(B, SuccessfulResponse.SUCCESSFUL_EMPTY_RESPONSE);
+
+      assertEquals(0, policy.getHedgedRequests());
+      assertEquals(0, policy.getHedgeWins());
+   }
+
+   public void testPercentileDelayIsHedge() {
+      HedgingPolicy policy = new HedgingPolicy(95, 10);
+      for (int i = 0; i < 32; i++) {
+         policy.recordResponseTime(A, TimeUnit.MILLISECONDS.toNanos(1));
+      }
+      StaggeredRequest<Response> request = createRequest(policy);
+
+      // A is slower than its percentile, the next target is contacted before the fixed delay
+      request.sendNextMessage();
+      timeService.advance(2);
+      request.onTimeout();
+      timeService.advance(1);
+      request.onResponse(B, SuccessfulResponse.SUCCESSFUL_EMPTY_RESPONSE);
+
+      assertEquals(1, policy.getHedgedRequests());
+      assertEquals(1, policy.getHedgeWins());
+   }
+
+   @SuppressWarnings("unchecked")
+   private StaggeredRequest<Response> createRequest(HedgingPolicy policy) {
+      ScheduledExecutorService timeoutExecutor = mock(ScheduledExecutorService.class);
+      when(timeoutExecutor.schedule(any(Callable.class), anyLong(), any())).thenReturn(mock(ScheduledFuture.class));
+      JGroupsTransport transport = mock(JGroupsTransport.class);
+      transport.timeService = timeService;
+      when(transport.getTimeService()).thenReturn(timeService);
+      when(transport.getTimeoutExecutor()).thenReturn(timeoutExecutor);
+      when(transport.getHedgingPolicy()).thenReturn(policy);
+      ResponseCollector<Response> collector = new ResponseCollector<Response>() {
+         @Override
+         public Response addResponse(Address sender, Response response) {
+            return response;
+         }
+
+         @Override
+         public Response finish() {
+            return null;
+         }
+      };
+      return new StaggeredRequest<>(collector, 1, new RequestRepository(), Arrays.asList(A, B), null,
+                                    mock(ReplicableCommand.class), DeliverOrder.NONE, 1, TimeUnit.SECONDS, transport);
+   }
+}
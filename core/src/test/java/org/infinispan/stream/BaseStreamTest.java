@@ -718,6 +718,29 @@ public void testObjSortedLimitIterator() {
       }
    }
 
+   public void testObjSortedLimitCollect() {
+      Cache<Integer, String> cache = getCache(0);
+      int range = 1000;
+      // First populate the cache with a bunch of values
+      IntStream.range(0, range).boxed().forEach(i -> cache.put(i, (i % 100) + "-value"));
+
+      CacheSet<Map.Entry<Integer, String>> entrySet = cache.entrySet();
+
+      List<Integer> topKeys = createStream(entrySet).map(Map.Entry::getKey).sorted(
+            (k1, k2) -> Integer.compare(k2, k1)).limit(100).collect(Collectors::<Integer>toList);
+      assertEquals(IntStream.range(0, 100).map(i -> range - 1 - i).boxed().collect(Collectors.toList()), topKeys);
+
+      List<Integer> firstKeys = createStream(entrySet).map(Map.Entry::getKey).sorted().limit(5)
+            .collect(Collectors::<Integer>toList);
+      assertEquals(Arrays.asList(0, 1, 2, 3, 4), firstKeys);
+
+      // Values are duplicated, so the elements sharing the last retained value must be the same as a full sort
+      List<String> firstValues = createStream(entrySet).map(Map.Entry::getValue).sorted().limit(25)
+            .collect(Collectors::<String>toList);
+      List<String> expected = cache.values().stream().sorted().limit(25).collect(Collectors.toList());
+      assertEquals(expected, firstValues);
+   }
+
    public void testObjPointlessSortMap() {
       Cache<Integer, String> cache = getCache(0);
       int range = 10;
@@ -1156,6 +1179,51 @@ public void testIntMin() {
       assertEquals(0, createStream(entrySet).mapToInt(toInt).min().getAsInt());
    }
 
+   public void testIntAggregationsOverManyValues() {
+      Cache<Integer, String> cache = getCache(0);
+      // More values than fit in a single primitive column, half of them negative
+      Map<Integer, String> values = new TreeMap<>();
+      IntStream.range(-1000, 1000).forEach(i -> values.put(i, i + "-value"));
+      cache.putAll(values);
+
+      CacheSet<Map.Entry<Integer, String>> entrySet = cache.entrySet();
+
+      assertEquals(-1000, createStream(entrySet).filter(e -> e.getKey() % 2 == 0).mapToInt(toInt).sum());
+      assertEquals(-1000, createStream(entrySet).filter(e -> e.getKey() % 2 == 0).mapToInt(toInt).min().getAsInt());
+      assertEquals(998, createStream(entrySet).filter(e -> e.getKey() % 2 == 0).mapToInt(toInt).max().getAsInt());
+      assertEquals(-1.0, createStream(entrySet).filter(e -> e.getKey() % 2 == 0).mapToInt(toInt).average().getAsDouble());
+
+      assertEquals(0, createStream(entrySet).filter(e -> e.getKey() > 1000).mapToInt(toInt).sum());
+      assertFalse(createStream(entrySet).filter(e -> e.getKey() > 1000).mapToInt(toInt).min().isPresent());
+      assertFalse(createStream(entrySet).filter(e -> e.getKey() > 1000).mapToInt(toInt).max().isPresent());
+      assertFalse(createStream(entrySet).filter(e -> e.getKey() > 1000).mapToInt(toInt).average().isPresent());
+   }
+
+   public void testIntSumOfNegativeValues() {
+      Cache<Integer, String> cache = getCache(0);
+      IntStream.of(-3, -2, -1, Integer.MIN_VALUE, Integer.MIN_VALUE + 1, Integer.MAX_VALUE, Integer.MAX_VALUE - 1)
+            .forEach(i -> cache.put(i, i + "-value"));
+
+      CacheSet<Map.Entry<Integer, String>> entrySet = cache.entrySet();
+
+      // The first sum of each pair is computed from the columns, the second one from the boxed values
+      assertEquals(-6, createStream(entrySet).filter(e -> e.getKey() > -10 && e.getKey() < 0).mapToInt(toInt).sum());
+      assertEquals(-6, createStream(entrySet).filter(e -> e.getKey() > -10 && e.getKey() < 0).mapToInt(toInt)
+            .filter(i -> true).sum());
+
+      assertEquals(Integer.MIN_VALUE, createStream(entrySet).filter(e -> e.getKey() < 0).mapToInt(toInt).sum());
+      assertEquals(Integer.MIN_VALUE, createStream(entrySet).filter(e -> e.getKey() < 0).mapToInt(toInt)
+            .filter(i -> true).sum());
+
+      assertEquals(Integer.MAX_VALUE, createStream(entrySet).filter(e -> e.getKey() > 0).mapToInt(toInt).sum());
+      assertEquals(Integer.MAX_VALUE, createStream(entrySet).filter(e -> e.getKey() > 0).mapToInt(toInt)
+            .filter(i -> true).sum());
+
+      // Both bounds cancel out before the sum is clamped
+      assertEquals(-8, createStream(entrySet).mapToInt(toInt).sum());
+      assertEquals(-8, createStream(entrySet).mapToInt(toInt).filter(i -> true).sum());
+   }
+
    public void testIntSortedSkip() {
       Cache<Integer, String> cache = getCache(0);
       int range = 10;
@@ -2084,6 +2152,25 @@ public void testDoubleMin() {
       assertEquals(0.0, createStream(entrySet).mapToDouble(toDouble).min().getAsDouble());
    }
 
+   public void testDoubleAggregationsOverManyValues() {
+      Cache<Double, String> cache = getCache(0);
+      // More values than fit in a single primitive column, half of them negative
+      Map<Double, String> values = new TreeMap<>();
+      IntStream.range(-1000, 1000).mapToDouble(i -> i * .5).forEach(d -> values.put(d, d + "-value"));
+      cache.putAll(values);
+
+      CacheSet<Map.Entry<Double, String>> entrySet = cache.entrySet();
+
+      assertEquals(-500.0, createStream(entrySet).mapToDouble(toDouble).sum());
+      assertEquals(-500.0, createStream(entrySet).mapToDouble(toDouble).min().getAsDouble());
+      assertEquals(499.5, createStream(entrySet).mapToDouble(toDouble).max().getAsDouble());
+      assertEquals(-.25, createStream(entrySet).mapToDouble(toDouble).average().getAsDouble());
+
+      assertEquals(0.0, createStream(entrySet).filter(e -> e.getKey() > 1000).mapToDouble(toDouble).sum());
+      assertFalse(createStream(entrySet).filter(e -> e.getKey() > 1000).mapToDouble(toDouble).min().isPresent());
+      assertFalse(createStream(entrySet).filter(e -> e.getKey() > 1000).mapToDouble(toDouble).average().isPresent());
+   }
+
    public void testDoubleSortedSkip() {
       Cache<Double, String> cache = getCache(0);
       int range = 10;
@@ -1,8 +1,22 @@
 package org.infinispan.stream;
 
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.infinispan.Cache;
 import org.infinispan.CacheCollection;
 import org.infinispan.CacheStream;
 import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.stream.impl.intops.IntermediateOperation;
+import org.infinispan.stream.impl.intops.object.SortedLimitOperation;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.util.AbstractDelegatingCacheStream;
+import org.infinispan.util.function.SerializableComparator;
 import org.testng.annotations.Test;
 
 /**
@@ -21,4 +35,41 @@ protected <E> CacheStream<E> createStream(CacheCollection<E> entries) {
       // This forces parallel distribution since iterator defaults to sequential
       return entries.stream().parallelDistribution();
    }
+
+   public void testSortedLimitPushedDownWithMarshallableComparator() {
+      Cache<Integer, String> cache = getCache(0);
+      IntStream.range(0, 100).forEach(i -> cache.put(i, i + "-value"));
+
+      SerializableComparator<Integer> reverse = (k1, k2) -> Integer.compare(k2, k1);
+      CacheStream<Integer> stream = createStream(cache.keySet()).sorted(reverse).limit(5);
+      assertEquals(1, countSortedLimitOperations(stream));
+      assertEquals(Arrays.asList(99, 98, 97, 96, 95), stream.collect(Collectors.toList()));
+   }
+
+   public void testSortedLimitNotPushedDownWithNonMarshallableComparator() {
+      Cache<Integer, String> cache = getCache(0);
+      IntStream.range(0, 100).forEach(i -> cache.put(i, i + "-value"));
+
+      // The comparator can't be sent to the other nodes, so the elements are only sorted by the originator
+      CacheStream<Integer> stream = createStream(cache.keySet()).sorted(new ReverseComparator()).limit(5);
+      assertEquals(0, countSortedLimitOperations(stream));
+      assertEquals(Arrays.asList(99, 98, 97, 96, 95), stream.collect(Collectors.toList()));
+   }
+
+   private static long countSortedLimitOperations(CacheStream<?> stream) {
+      Object intermediateStream = stream;
+      while (intermediateStream instanceof AbstractDelegatingCacheStream) {
+         intermediateStream = TestingUtil.extractField(intermediateStream, "underlyingStream");
+      }
+      Object remoteStream = TestingUtil.extractField(intermediateStream, "remoteStream");
+      Deque<IntermediateOperation> operations = TestingUtil.extractField(remoteStream, "intermediateOperations");
+      return operations.stream().filter(SortedLimitOperation.class::isInstance).count();
+   }
+
+   private static class ReverseComparator implements Comparator<Integer> {
+      @Override
+      public int compare(Integer k1, Integer k2) {
+         return Integer.compare(k2, k1);
+      }
+   }
 }
@@ -427,6 +427,7 @@ public static void minimizeThreads(GlobalConfigurationBuilder builder) {
 
       builder.blockingThreadPool().threadPoolFactory(executorFactoryWithQueue);
       builder.nonBlockingThreadPool().threadPoolFactory(nonBlockingExecutorFactoryWithQueue);
+      builder.streamThreadPool().threadPoolFactory(nonBlockingExecutorFactoryWithQueue);
       // Listener thread pool already has a single thread
       // builder.listenerThreadPool().threadPoolFactory(executorFactoryWithQueue);
       // TODO Scheduled thread pools don't have a threads limit
@@ -0,0 +1,59 @@
+package org.infinispan.util.concurrent.locks.impl;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import org.infinispan.test.AbstractInfinispanTest;
+import org.testng.annotations.Test;
+
+/**
+ * Unit test for the contended keys tracked by {@link LockContentionStatistics}.
+ *
+ * @since 14.0
+ */
+@Test(groups = "unit", testName = "util.concurrent.locks.impl.LockContentionStatisticsTest")
+public class LockContentionStatisticsTest extends AbstractInfinispanTest {
+
+   public void testNewHotKeyIsTracked() {
+      LockContentionStatistics statistics = new LockContentionStatistics();
+      // fill all the slots
+      for (int i = 0; i < LockContentionStatistics.MAX_TRACKED_KEYS; i++) {
+         statistics.recordContended("cold" + i);
+      }
+      // a key contended after the slots are full still becomes the top key
+      for (int i = 0; i < 10; i++) {
+         statistics.recordContended("hot");
+      }
+      String[] topKeys = statistics.getTopContendedKeys(1);
+      assertEquals(1, topKeys.length);
+      assertEquals("hot: 11", topKeys[0]);
+      assertEquals(LockContentionStatistics.MAX_TRACKED_KEYS + 10, statistics.getContendedAcquisitions());
+   }
+
+   public void testOldKeysDecay() {
+      LockContentionStatistics statistics = new LockContentionStatistics();
+      for (int i = 0; i < 100; i++) {
+         statistics.recordContended("old");
+      }
+      for (int i = 0; i < 4 * LockContentionStatistics.DECAY_WINDOW; i++) {
+         statistics.recordContended("new");
+      }
+      String[] topKeys = statistics.getTopContendedKeys(2);
+      // the old key was halved 4 times, the new key dominates
+      assertEquals(2, topKeys.length);
+      assertEquals("old: 6", topKeys[1]);
+      assertEquals("new", topKeys[0].substring(0, 3));
+   }
+
+   public void testReset() {
+      LockContentionStatistics statistics = new LockContentionStatistics();
+      statistics.recordUncontended();
+      statistics.recordContended("key");
+      statistics.recordWaitTime(1000);
+
+      statistics.reset();
+      assertEquals(0, statistics.getUncontendedAcquisitions());
+      assertEquals(0, statistics.getContendedAcquisitions());
+      assertEquals(0, statistics.getWaitTimeHistogram().length);
+      assertEquals(0, statistics.getTopContendedKeys(10).length);
+   }
+}
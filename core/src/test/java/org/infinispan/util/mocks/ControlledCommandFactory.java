@@ -61,6 +61,8 @@
 import org.infinispan.commands.remote.recovery.GetInDoubtTransactionsCommand;
 import org.infinispan.commands.remote.recovery.GetInDoubtTxInfoCommand;
 import org.infinispan.commands.remote.recovery.TxCompletionNotificationCommand;
+import org.infinispan.commands.statetransfer.ConflictResolutionGetEntriesCommand;
+import org.infinispan.commands.statetransfer.ConflictResolutionGetHashTreesCommand;
 import org.infinispan.commands.statetransfer.ConflictResolutionStartCommand;
 import org.infinispan.commands.statetransfer.ScatteredStateConfirmRevokedCommand;
 import org.infinispan.commands.statetransfer.ScatteredStateGetKeysCommand;
@@ -358,6 +360,16 @@ public ConflictResolutionStartCommand buildConflictResolutionStartCommand(int to
       return actual.buildConflictResolutionStartCommand(topologyId, segments);
    }
 
+   @Override
+   public ConflictResolutionGetHashTreesCommand buildConflictResolutionGetHashTreesCommand(int topologyId, IntSet segments) {
+      return actual.buildConflictResolutionGetHashTreesCommand(topologyId, segments);
+   }
+
+   @Override
+   public ConflictResolutionGetEntriesCommand buildConflictResolutionGetEntriesCommand(int topologyId, IntSet segments, long leafMask) {
+      return actual.buildConflictResolutionGetEntriesCommand(topologyId, segments, leafMask);
+   }
+
    @Override
    public StateTransferCancelCommand buildStateTransferCancelCommand(int topologyId, IntSet segments) {
       return actual.buildStateTransferCancelCommand(topologyId, segments);
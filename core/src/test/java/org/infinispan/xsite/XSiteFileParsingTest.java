@@ -1,6 +1,7 @@
 package org.infinispan.xsite;
 
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertNull;
 import static org.testng.AssertJUnit.assertTrue;
 
@@ -10,6 +11,7 @@
 import org.infinispan.configuration.cache.BackupFailurePolicy;
 import org.infinispan.configuration.cache.BackupForConfiguration;
 import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.configuration.cache.XSiteStateTransferConfiguration;
 import org.infinispan.configuration.cache.XSiteStateTransferMode;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.test.SingleCacheManagerTest;
@@ -117,6 +119,26 @@ public void testTombstoneConfiguration() {
       assertEquals(dcc.sites().tombstoneMapSize(), 4000);
    }
 
+   public void testAsyncPipelinesConfiguration() {
+      Configuration dcc = cacheManager.getCacheConfiguration("asyncPipelines");
+      assertEquals(dcc.sites().maxInFlightBatches(), 4);
+      assertTrue(dcc.sites().compressUpdates());
+      Configuration defaultConfig = cacheManager.getCacheConfiguration("tombstoneCleanup");
+      assertEquals(defaultConfig.sites().maxInFlightBatches(), 1);
+      assertFalse(defaultConfig.sites().compressUpdates());
+   }
+
+   public void testParallelStateTransferConfiguration() {
+      Configuration dcc = cacheManager.getCacheConfiguration("parallelStateTransfer");
+      XSiteStateTransferConfiguration stateTransfer = dcc.sites().allBackups().get(0).stateTransfer();
+      assertEquals(stateTransfer.maxChunkBytes(), 65536);
+      assertEquals(stateTransfer.concurrentSegments(), 4);
+      Configuration defaultConfig = cacheManager.getCacheConfiguration("autoStateTransfer");
+      stateTransfer = defaultConfig.sites().allBackups().get(0).stateTransfer();
+      assertEquals(stateTransfer.maxChunkBytes(), 0);
+      assertEquals(stateTransfer.concurrentSegments(), 1);
+   }
+
 
    private void testDefault(Configuration dcc) {
       assertEquals(dcc.sites().allBackups().size(), 2);
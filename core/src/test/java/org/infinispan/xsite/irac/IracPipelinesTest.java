@@ -0,0 +1,107 @@
+package org.infinispan.xsite.irac;
+
+import static org.infinispan.test.TestingUtil.wrapComponent;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.irac.IracPutManyCommand;
+import org.infinispan.configuration.cache.BackupConfiguration;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.remoting.rpc.RpcManager;
+import org.infinispan.remoting.transport.XSiteResponse;
+import org.infinispan.util.AbstractDelegatingRpcManager;
+import org.infinispan.xsite.AbstractMultipleSitesTest;
+import org.infinispan.xsite.XSiteBackup;
+import org.infinispan.xsite.XSiteReplicateCommand;
+import org.testng.annotations.Test;
+
+/**
+ * Tests asynchronous cross-site replication with multiple concurrent batches and compression enabled.
+ *
+ * @since 14.0
+ */
+@Test(groups = "functional", testName = "xsite.irac.IracPipelinesTest")
+public class IracPipelinesTest extends AbstractMultipleSitesTest {
+
+   private static final int NUM_KEYS = 200;
+
+   @Override
+   protected ConfigurationBuilder defaultConfigurationForSite(int siteIndex) {
+      ConfigurationBuilder builder = super.defaultConfigurationForSite(siteIndex);
+      builder.statistics().enable();
+      builder.sites().maxInFlightBatches(4).compressUpdates(true);
+      builder.sites().addBackup()
+            .site(siteIndex == 0 ? siteName(1) : siteName(0))
+            .strategy(BackupConfiguration.BackupStrategy.ASYNC)
+            .stateTransfer().chunkSize(8);
+      return builder;
+   }
+
+   public void testUpdatesReplicated() {
+      AtomicInteger compressed = new AtomicInteger();
+      AtomicInteger uncompressed = new AtomicInteger();
+      for (Cache<?, ?> c : caches(siteName(0))) {
+         wrapComponent(c, RpcManager.class, rpcManager -> new BatchCountingRpcManager(rpcManager, compressed, uncompressed));
+      }
+
+      Cache<String, String> cache = cache(0, 0);
+      for (int i = 0; i < NUM_KEYS; ++i) {
+         cache.put(key(i), "v1-" + i);
+      }
+      // update and remove some keys, the order must be preserved in the remote site
+      for (int i = 0; i < NUM_KEYS; i += 2) {
+         cache.put(key(i), "v2-" + i);
+      }
+      for (int i = 0; i < NUM_KEYS; i += 5) {
+         cache.remove(key(i));
+      }
+
+      for (int i = 0; i < NUM_KEYS; ++i) {
+         String key = key(i);
+         String value = i % 5 == 0 ? null : (i % 2 == 0 ? "v2-" : "v1-") + i;
+         eventuallyAssertInAllSitesAndCaches(c -> Objects.equals(value, c.get(key)));
+      }
+      assertNoDataLeak(null);
+      assertTrue("No compressed batch sent", compressed.get() > 0);
+      assertEquals("Uncompressed batches sent", 0, uncompressed.get());
+
+      for (int siteIndex = 0; siteIndex < defaultNumberOfSites(); ++siteIndex) {
+         for (int nodeIndex = 0; nodeIndex < defaultNumberOfNodes(); ++nodeIndex) {
+            DefaultIracManager iracManager = iracManager(siteName(siteIndex), null, nodeIndex);
+            assertEquals(0, iracManager.getQueueSize());
+            assertEquals(0, iracManager.getOldestPendingAge());
+         }
+      }
+   }
+
+   private static String key(int index) {
+      return "key-" + index;
+   }
+
+   private static class BatchCountingRpcManager extends AbstractDelegatingRpcManager {
+      private final AtomicInteger compressed;
+      private final AtomicInteger uncompressed;
+
+      BatchCountingRpcManager(RpcManager realOne, AtomicInteger compressed, AtomicInteger uncompressed) {
+         super(realOne);
+         this.compressed = compressed;
+         this.uncompressed = uncompressed;
+      }
+
+      @Override
+      public <O> XSiteResponse<O> invokeXSite(XSiteBackup backup, XSiteReplicateCommand<O> command) {
+         if (command instanceof IracPutManyCommand) {
+            if (command.getCommandId() == IracPutManyCommand.COMPRESSED_COMMAND_ID) {
+               compressed.incrementAndGet();
+            } else {
+               uncompressed.incrementAndGet();
+            }
+         }
+         return super.invokeXSite(backup, command);
+      }
+   }
+}
@@ -187,6 +187,11 @@ public boolean isStateTransfer() {
          return false;
       }
 
+      @Override
+      public long getCreationTime() {
+         return 0;
+      }
+
       @Override
       public boolean canSend() {
          return false;
@@ -65,6 +65,11 @@ public List<String> getRunningStateTransfers() {
       return delegate.getRunningStateTransfers();
    }
 
+   @Override
+   public int getStateTransferProgress(String siteName) {
+      return delegate.getStateTransferProgress(siteName);
+   }
+
    @Override
    public Map<String, StateTransferStatus> getStatus() {
       return delegate.getStatus();
@@ -49,6 +49,16 @@ public void notifyStateTransferEnd(String siteName, Address origin, boolean stat
       xSiteStateProvider.notifyStateTransferEnd(siteName, origin, statusOk);
    }
 
+   @Override
+   public int getStateTransferProgress(String siteName) {
+      return xSiteStateProvider.getStateTransferProgress(siteName);
+   }
+
+   @Override
+   public void onSiteOffline(String siteName) {
+      xSiteStateProvider.onSiteOffline(siteName);
+   }
+
    @Override
    public CommandsFactory getCommandsFactory() {
       return xSiteStateProvider.getCommandsFactory();
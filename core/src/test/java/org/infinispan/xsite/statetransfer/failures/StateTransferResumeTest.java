@@ -0,0 +1,137 @@
+package org.infinispan.xsite.statetransfer.failures;
+
+import static org.infinispan.test.TestingUtil.extractComponent;
+import static org.infinispan.test.TestingUtil.wrapGlobalComponent;
+import static org.infinispan.xsite.XSiteAdminOperations.SUCCESS;
+import static org.infinispan.xsite.statetransfer.XSiteStateTransferManager.STATUS_OK;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.configuration.cache.BackupConfigurationBuilder;
+import org.infinispan.manager.CacheContainer;
+import org.infinispan.remoting.transport.AbstractDelegatingTransport;
+import org.infinispan.remoting.transport.BackupResponse;
+import org.infinispan.remoting.transport.Transport;
+import org.infinispan.remoting.transport.XSiteResponse;
+import org.infinispan.remoting.transport.impl.XSiteResponseImpl;
+import org.infinispan.test.TestingUtil;
+import org.infinispan.util.concurrent.TimeoutException;
+import org.infinispan.xsite.XSiteAdminOperations;
+import org.infinispan.xsite.XSiteBackup;
+import org.infinispan.xsite.XSiteReplicateCommand;
+import org.infinispan.xsite.statetransfer.XSiteStatePushCommand;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the Cross-Site replication state transfer resumes from the segments already acknowledged after a failure.
+ *
+ * @since 14.0
+ */
+@Test(groups = "xsite", testName = "xsite.statetransfer.failures.StateTransferResumeTest")
+public class StateTransferResumeTest extends AbstractTopologyChangeTest {
+
+   private static final int NR_KEYS = 20;
+
+   public void testResumeAfterLinkFailure() {
+      initBeforeTest();
+      List<ControllerTransport> transports = replaceTransportInSite();
+      for (ControllerTransport transport : transports) {
+         transport.successfulChunks.set(3);
+      }
+
+      startStateTransfer();
+      assertEventuallyStateTransferNotRunning();
+      assertXSiteErrorStatus();
+
+      assertEquals(SUCCESS, extractComponent(cache(NYC, 0), XSiteAdminOperations.class).cancelReceiveState(LON));
+      assertEquals(SUCCESS, adminOperations().clearPushStateStatus());
+
+      for (ControllerTransport transport : transports) {
+         transport.successfulChunks.set(Integer.MAX_VALUE);
+         transport.keysSent.set(0);
+      }
+
+      startStateTransfer();
+      assertEventuallyStateTransferNotRunning();
+      assertEventuallyNoStateTransferInReceivingSite(null);
+      assertEquals(STATUS_OK, getXSitePushStatus());
+      assertData();
+
+      int keysSent = 0;
+      for (ControllerTransport transport : transports) {
+         keysSent += transport.keysSent.get();
+         assertEquals(1, transport.maxChunkLength);
+      }
+      //the segments sent before the failure are not sent again
+      assertTrue("Keys sent: " + keysSent, keysSent < NR_KEYS);
+      assertInSite(LON, cache -> assertEquals(-1, adminOperations(cache).getPushStateProgress(NYC)));
+   }
+
+   @Override
+   protected void adaptLONConfiguration(BackupConfigurationBuilder builder) {
+      //with a single byte, each chunk has a single key
+      builder.stateTransfer().chunkSize(10).maxChunkBytes(1).concurrentSegments(4).timeout(2000).maxRetries(0);
+   }
+
+   private List<ControllerTransport> replaceTransportInSite() {
+      List<ControllerTransport> transports = new ArrayList<>(site(LON).cacheManagers().size());
+      for (CacheContainer cacheContainer : site(LON).cacheManagers()) {
+         transports.add(wrapGlobalComponent(cacheContainer, Transport.class,
+               (wrapOn, current) -> new ControllerTransport(current), true));
+      }
+      return transports;
+   }
+
+   class ControllerTransport extends AbstractDelegatingTransport {
+
+      private final AtomicInteger successfulChunks = new AtomicInteger(Integer.MAX_VALUE);
+      private final AtomicInteger keysSent = new AtomicInteger();
+      private final Collection<CompletableFuture<?>> acks = new ConcurrentLinkedQueue<>();
+      private volatile int maxChunkLength;
+
+      ControllerTransport(Transport actual) {
+         super(actual);
+      }
+
+      @Override
+      public void start() {
+         //no-op; avoid re-start the transport again...
+      }
+
+      @Override
+      public BackupResponse backupRemotely(Collection<XSiteBackup> backups, XSiteReplicateCommand rpcCommand) {
+         throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public <O> XSiteResponse<O> backupRemotely(XSiteBackup backup, XSiteReplicateCommand<O> rpcCommand) {
+         if (rpcCommand instanceof XSiteStatePushCommand) {
+            if (successfulChunks.getAndDecrement() <= 0) {
+               getLog().debugf("Inducing timeout for %s", rpcCommand);
+               XSiteResponseImpl<O> rsp = new XSiteResponseImpl<>(TIME_SERVICE, backup);
+               //fail after the chunks sent concurrently are acknowledged, like a real timeout.
+               //completeExceptionally is ok since we don't care about the stats.
+               CompletableFuture.allOf(acks.toArray(new CompletableFuture[0])).whenCompleteAsync((ignored, throwable) -> {
+                  TestingUtil.sleepThread(100);
+                  rsp.completeExceptionally(new TimeoutException("induced timeout!"));
+               }, testExecutor());
+               return rsp;
+            }
+            int chunkLength = ((XSiteStatePushCommand) rpcCommand).getChunk().length;
+            keysSent.addAndGet(chunkLength);
+            maxChunkLength = Math.max(maxChunkLength, chunkLength);
+            XSiteResponse<O> rsp = super.backupRemotely(backup, rpcCommand);
+            acks.add(rsp.toCompletableFuture());
+            return rsp;
+         }
+         return super.backupRemotely(backup, rpcCommand);
+      }
+   }
+}
@@ -0,0 +1,118 @@
+package org.infinispan.server.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.server.resp.RespCommand;
+import org.infinispan.server.resp.RespDecoder;
+import org.infinispan.server.resp.RespRequestHandler;
+import org.infinispan.server.resp.RespResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.output.PushOutput;
+import io.lettuce.core.protocol.RedisStateMachine;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+/**
+ * Measures the decoding and dispatching of pipelined RESP {@code GET} and {@code SET} requests with the
+ * {@link RespDecoder}, and with the Lettuce {@code RedisStateMachine} the server used before.
+ * <p>
+ * The requests are only counted by the handler, so the cache is not involved.
+ *
+ * @since 14.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch"})
+public class RespDecoderBenchmark {
+
+   private static final int REQUESTS = 100;
+
+   private ByteBuf requests;
+   private EmbeddedChannel respDecoderChannel;
+   private EmbeddedChannel lettuceChannel;
+   private long dispatched;
+
+   @Setup
+   public void setup() {
+      StringBuilder sb = new StringBuilder();
+      for (int i = 0; i < REQUESTS / 2; ++i) {
+         String key = "key:" + i;
+         sb.append("*3\r\n$3\r\nSET\r\n$").append(key.length()).append("\r\n").append(key)
+               .append("\r\n$5\r\nvalue\r\n");
+         sb.append("*2\r\n$3\r\nget\r\n$").append(key.length()).append("\r\n").append(key).append("\r\n");
+      }
+      requests = Unpooled.unreleasableBuffer(
+            Unpooled.directBuffer().writeBytes(sb.toString().getBytes(StandardCharsets.US_ASCII)));
+
+      respDecoderChannel = new EmbeddedChannel(new RespDecoder(new RespRequestHandler() {
+         @Override
+         public RespRequestHandler handleRequest(ChannelHandlerContext ctx, RespCommand command, List<byte[]> arguments,
+                                                RespResponse response) {
+            dispatched += command.ordinal() + arguments.size();
+            response.complete();
+            return this;
+         }
+      }));
+      lettuceChannel = new EmbeddedChannel(new LettuceDecoder());
+   }
+
+   @TearDown
+   public void tearDown() {
+      respDecoderChannel.finishAndReleaseAll();
+      lettuceChannel.finishAndReleaseAll();
+   }
+
+   @Benchmark
+   @OperationsPerInvocation(REQUESTS)
+   public long respDecoder() {
+      respDecoderChannel.writeInbound(requests.duplicate());
+      return dispatched;
+   }
+
+   @Benchmark
+   @OperationsPerInvocation(REQUESTS)
+   public long lettuceStateMachine() {
+      lettuceChannel.writeInbound(requests.duplicate());
+      return dispatched;
+   }
+
+   /**
+    * Decodes the requests as the server did before the {@link RespDecoder}, with a new output and a copy of every
+    * argument per request and the command dispatched by its upper case name.
+    */
+   private class LettuceDecoder extends ByteToMessageDecoder {
+      private final RedisStateMachine stateMachine = new RedisStateMachine(ByteBufAllocator.DEFAULT);
+
+      @Override
+      protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+         PushOutput<byte[], byte[]> pushOutput = new PushOutput<>(ByteArrayCodec.INSTANCE);
+         if (stateMachine.decode(in, pushOutput)) {
+            RespCommand command = RespCommand.valueOf(pushOutput.getType().toUpperCase());
+            List<?> content = pushOutput.getContent();
+            dispatched += command.ordinal() + content.size() - 1;
+         }
+      }
+   }
+}
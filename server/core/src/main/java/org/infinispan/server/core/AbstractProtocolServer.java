@@ -1,7 +1,10 @@
 package org.infinispan.server.core;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
@@ -46,6 +49,7 @@
    private ExecutorService executor;
    private ManageableThreadPoolExecutorService manageableThreadPoolExecutorService;
    private ObjectName executorObjName;
+   private final List<ObjectName> componentObjNames = new ArrayList<>();
    private CacheManagerMetricsRegistration metricsRegistration;
    private Set<Object> metricIds;
    private ProtocolServer<?> enclosingProtocolServer;
@@ -162,6 +166,9 @@ protected void registerServerMBeans() {
             if (manageableThreadPoolExecutorService != null) {
                executorObjName = jmxRegistration.registerExternalMBean(manageableThreadPoolExecutorService, groupName);
             }
+            for (Object component : getManagedComponents()) {
+               componentObjNames.add(jmxRegistration.registerExternalMBean(component, groupName));
+            }
          } catch (Exception e) {
             throw new RuntimeException(e);
          }
@@ -175,6 +182,10 @@ protected void unregisterServerMBeans() throws Exception {
       if (executorObjName != null) {
          jmxRegistration.unregisterMBean(executorObjName);
       }
+      for (ObjectName componentObjName : componentObjNames) {
+         jmxRegistration.unregisterMBean(componentObjName);
+      }
+      componentObjNames.clear();
    }
 
    protected void registerMetrics() {
@@ -188,9 +199,20 @@ protected void registerMetrics() {
          if (manageableThreadPoolExecutorService != null) {
             metricIds.addAll(metricsRegistration.registerExternalMetrics(manageableThreadPoolExecutorService, protocol));
          }
+         for (Object component : getManagedComponents()) {
+            metricIds.addAll(metricsRegistration.registerExternalMetrics(component, protocol));
+         }
       }
    }
 
+   /**
+    * Returns additional components of the server that are registered as MBeans and metrics, like the transport.
+    * The components must be annotated with {@link org.infinispan.jmx.annotations.MBean}.
+    */
+   protected Collection<Object> getManagedComponents() {
+      return Collections.emptyList();
+   }
+
    protected void unregisterMetrics() {
       if (metricIds != null) {
          metricsRegistration.unregisterMetrics(metricIds);
@@ -36,5 +36,7 @@ private ExternalizerIds() { }
    public static final int XID_PREDICATE = 1121;
    public static final int CONDITIONAL_MARK_ROLLBACK_FUNCTION = 1122;
    public static final int MULTI_HOMED_SERVER_ADDRESS = 1123;
+   public static final int RESP_READ_COLLECTION_FUNCTION = 1124;
+   public static final int RESP_WRITE_COLLECTION_FUNCTION = 1125;
 
 }
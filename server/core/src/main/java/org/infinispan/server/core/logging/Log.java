@@ -169,4 +169,12 @@ public interface Log extends BasicLogger {
 
    @Message(value = "The supplied configuration for cache '%s' must contain a single cache configuration for it: %s", id = 5053)
    CacheConfigurationException configurationMustContainSingleCache(String name, String configuration);
+
+   @LogMessage(level = INFO)
+   @Message(value = "Native io_uring transport not available, using epoll or NIO instead: %s", id = 5054)
+   void ioUringNotAvailable(String message);
+
+   @LogMessage(level = INFO)
+   @Message(value = "Using the %s transport for %s", id = 5055)
+   void usingTransport(String transport, String name);
 }
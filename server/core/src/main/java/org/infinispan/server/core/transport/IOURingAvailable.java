@@ -0,0 +1,31 @@
+package org.infinispan.server.core.transport;
+
+import org.infinispan.commons.logging.LogFactory;
+import org.infinispan.server.core.logging.Log;
+
+import io.netty.incubator.channel.uring.IOUring;
+
+// This is a separate class for better replacement within Quarkus as it doesn't support native io_uring
+final class IOURingAvailable {
+   static private final Log log = LogFactory.getLog(IOURingAvailable.class, Log.class);
+
+   private static final String USE_IOURING_PROPERTY = "infinispan.server.channel.iouring";
+   private static final boolean IS_LINUX = System.getProperty("os.name").toLowerCase().startsWith("linux");
+   // io_uring is still an incubator transport in Netty, so it must be enabled explicitly
+   private static final boolean IOURING_ENABLED = System.getProperty(USE_IOURING_PROPERTY, "false").equalsIgnoreCase("true");
+
+   // Has to be after other static variables to ensure they are initialized
+   static final boolean USE_NATIVE_IOURING = useNativeIOURing();
+
+   private static boolean useNativeIOURing() {
+      if (!IOURING_ENABLED) {
+         return false;
+      }
+      if (IS_LINUX && IOUring.isAvailable()) {
+         return true;
+      }
+      // Falls back to epoll or NIO
+      log.ioUringNotAvailable(IS_LINUX ? IOUring.unavailabilityCause().toString() : System.getProperty("os.name"));
+      return false;
+   }
+}
@@ -35,6 +35,8 @@
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.ImmediateEventExecutor;
@@ -71,6 +73,7 @@ public class NettyTransport implements Transport {
    private EventLoopGroup ioGroup;
 
    private final NettyTransportConnectionStats connectionStats;
+   private final String threadNamePrefix;
 
    //-1 if not set
    private int nettyPort = -1;
@@ -91,6 +94,7 @@ public NettyTransport(InetSocketAddress address, ProtocolServerConfiguration con
                          EmbeddedCacheManager cacheManager) {
       this.address = address;
       this.configuration = configuration;
+      this.threadNamePrefix = threadNamePrefix;
 
       masterThreadFactory = new DefaultThreadFactory(threadNamePrefix + "-ServerMaster");
       ioThreadFactory = new DefaultThreadFactory(threadNamePrefix + "-ServerIO");
@@ -346,15 +350,39 @@ public CompletionStage<Void> closeChannels(ChannelMatcher channelMatcher) {
    }
 
    private Class<? extends ServerChannel> getServerSocketChannel() {
-      Class<? extends ServerChannel> channel = EPollAvailable.USE_NATIVE_EPOLL ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+      Class<? extends ServerChannel> channel;
+      if (IOURingAvailable.USE_NATIVE_IOURING) {
+         channel = IOUringServerSocketChannel.class;
+      } else if (EPollAvailable.USE_NATIVE_EPOLL) {
+         channel = EpollServerSocketChannel.class;
+      } else {
+         channel = NioServerSocketChannel.class;
+      }
       log.createdSocketChannel(channel.getName(), configuration.toString());
+      log.usingTransport(transportName(), threadNamePrefix);
       return channel;
    }
 
+   /**
+    * Returns the name of the transport used by the server channels and the event loops: io_uring, epoll or nio.
+    */
+   public static String transportName() {
+      if (IOURingAvailable.USE_NATIVE_IOURING) {
+         return "io_uring";
+      }
+      return EPollAvailable.USE_NATIVE_EPOLL ? "epoll" : "nio";
+   }
+
    public static MultithreadEventLoopGroup buildEventLoop(int nThreads, ThreadFactory threadFactory,
          String configuration) {
-      MultithreadEventLoopGroup eventLoop = EPollAvailable.USE_NATIVE_EPOLL ? new EpollEventLoopGroup(nThreads, threadFactory) :
-            new NioEventLoopGroup(nThreads, threadFactory);
+      MultithreadEventLoopGroup eventLoop;
+      if (IOURingAvailable.USE_NATIVE_IOURING) {
+         eventLoop = new IOUringEventLoopGroup(nThreads, threadFactory);
+      } else if (EPollAvailable.USE_NATIVE_EPOLL) {
+         eventLoop = new EpollEventLoopGroup(nThreads, threadFactory);
+      } else {
+         eventLoop = new NioEventLoopGroup(nThreads, threadFactory);
+      }
       log.createdNettyEventLoop(eventLoop.getClass().getName(), configuration);
       return eventLoop;
    }
@@ -0,0 +1,114 @@
+package org.infinispan.server.core.transport;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.MeasurementType;
+
+/**
+ * Statistics of the requests that clients pipeline on a connection, i.e. send before receiving the responses of their
+ * previous requests, and of the flushes of the responses.
+ *
+ * @since 14.0
+ */
+@MBean(objectName = "Pipeline",
+      description = "Statistics of the pipelined requests and of the flushes of their responses.")
+public class PipelineStatistics {
+   private final LongAdder requests = new LongAdder();
+   private final LongAdder pipelinedRequests = new LongAdder();
+   private final LongAdder totalDepth = new LongAdder();
+   private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+   private final LongAdder responses = new LongAdder();
+   private final LongAdder flushes = new LongAdder();
+
+   /**
+    * Records a request received while the given number of responses, including the response of the request, are
+    * pending on its connection.
+    */
+   public void requestReceived(int depth) {
+      requests.increment();
+      totalDepth.add(depth);
+      if (depth > 1) {
+         pipelinedRequests.increment();
+         maxDepth.accumulate(depth);
+      }
+   }
+
+   /**
+    * Records a flush of the given number of responses.
+    */
+   public void flushed(int responseCount) {
+      responses.add(responseCount);
+      flushes.increment();
+   }
+
+   @ManagedAttribute(
+         description = "Returns the number of requests received.",
+         displayName = "Number of requests",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getRequests() {
+      return requests.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Returns the number of requests received while responses to previous requests of the same " +
+               "connection were pending.",
+         displayName = "Number of pipelined requests",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getPipelinedRequests() {
+      return pipelinedRequests.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Returns the average number of pending responses of a connection when a request is received.",
+         displayName = "Average pipeline depth"
+   )
+   public double getAveragePipelineDepth() {
+      long count = requests.sum();
+      return count == 0 ? 0 : (double) totalDepth.sum() / count;
+   }
+
+   @ManagedAttribute(
+         description = "Returns the maximum number of pending responses of a connection when a request is received.",
+         displayName = "Maximum pipeline depth"
+   )
+   public long getMaxPipelineDepth() {
+      return maxDepth.get();
+   }
+
+   @ManagedAttribute(
+         description = "Returns the number of flushes of responses to the clients.",
+         displayName = "Number of flushes",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getFlushes() {
+      return flushes.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Returns the average number of responses written by a flush.",
+         displayName = "Average responses per flush"
+   )
+   public double getAverageResponsesPerFlush() {
+      long count = flushes.sum();
+      return count == 0 ? 0 : (double) responses.sum() / count;
+   }
+
+   @ManagedOperation(
+         description = "Resets the pipeline statistics.",
+         displayName = "Reset statistics"
+   )
+   public void resetStatistics() {
+      requests.reset();
+      pipelinedRequests.reset();
+      totalDepth.reset();
+      maxDepth.reset();
+      responses.reset();
+      flushes.reset();
+   }
+}
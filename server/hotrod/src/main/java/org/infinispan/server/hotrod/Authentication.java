@@ -48,8 +48,8 @@ public class Authentication extends BaseRequestProcessor {
    private SaslServer saslServer;
    private Subject subject = ANONYMOUS;
 
-   public Authentication(Channel channel, Executor executor, HotRodServer server) {
-      super(channel, executor, server);
+   public Authentication(Channel channel, ResponseWriter responseWriter, Executor executor, HotRodServer server) {
+      super(channel, responseWriter, executor, server);
 
       serverConfig = server.getConfiguration();
       authenticationConfig = serverConfig.authentication();
@@ -67,7 +67,7 @@ public void auth(HotRodHeader header, String mech, byte[] response) {
          UnsupportedOperationException cause = log.invalidOperation();
          ByteBuf buf = header.encoder().errorResponse(header, server, channel, cause.toString(), OperationStatus.ServerError);
          int responseBytes = buf.readableBytes();
-         ChannelFuture future = channel.writeAndFlush(buf);
+         ChannelFuture future = responseWriter.write(buf);
          if (header instanceof AccessLoggingHeader) {
             server.accessLogging().logException(future, (AccessLoggingHeader) header, cause.toString(), responseBytes);
          }
@@ -28,6 +28,7 @@ abstract class BaseDecoder extends ByteToMessageDecoder {
    protected final Executor executor;
    protected final HotRodServer server;
 
+   protected ResponseWriter responseWriter;
    protected Authentication auth;
    protected TransactionRequestProcessor cacheProcessor;
    protected CounterRequestProcessor counterProcessor;
@@ -46,11 +47,25 @@ public Executor getExecutor() {
 
    @Override
    public void handlerAdded(ChannelHandlerContext ctx) {
-      auth = new Authentication(ctx.channel(), executor, server);
-      cacheProcessor = new TransactionRequestProcessor(ctx.channel(), executor, server);
-      counterProcessor = new CounterRequestProcessor(ctx.channel(), (EmbeddedCounterManager) EmbeddedCounterManagerFactory.asCounterManager(cacheManager), executor, server);
-      multimapProcessor = new MultimapRequestProcessor(ctx.channel(), executor, server);
-      taskProcessor = new TaskRequestProcessor(ctx.channel(), executor, server);
+      responseWriter = new ResponseWriter(ctx.channel(), server.getPipelineStatistics(), server.getConfiguration().maxFlushDelay());
+      auth = new Authentication(ctx.channel(), responseWriter, executor, server);
+      cacheProcessor = new TransactionRequestProcessor(ctx.channel(), responseWriter, executor, server);
+      counterProcessor = new CounterRequestProcessor(ctx.channel(), responseWriter, (EmbeddedCounterManager) EmbeddedCounterManagerFactory.asCounterManager(cacheManager), executor, server);
+      multimapProcessor = new MultimapRequestProcessor(ctx.channel(), responseWriter, executor, server);
+      taskProcessor = new TaskRequestProcessor(ctx.channel(), responseWriter, executor, server);
+   }
+
+   @Override
+   public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+      // The responses written while decoding the requests are flushed together when the read completes
+      responseWriter.readStarted();
+      super.channelRead(ctx, msg);
+   }
+
+   @Override
+   public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+      responseWriter.readCompleted();
+      super.channelReadComplete(ctx);
    }
 
    @Override
@@ -25,10 +25,12 @@ public class BaseRequestProcessor {
    protected final Channel channel;
    protected final Executor executor;
    protected final HotRodServer server;
+   protected final ResponseWriter responseWriter;
    private final HotRodAccessLogging accessLogging;
 
-   BaseRequestProcessor(Channel channel, Executor executor, HotRodServer server) {
+   BaseRequestProcessor(Channel channel, ResponseWriter responseWriter, Executor executor, HotRodServer server) {
       this.channel = channel;
+      this.responseWriter = responseWriter;
       this.executor = executor;
       this.server = server;
       this.accessLogging = server.accessLogging();
@@ -95,7 +97,7 @@ void writeException(HotRodHeader header, Throwable cause) {
       }
       ByteBuf buf = header.encoder().errorResponse(header, server, channel, msg, status);
       int responseBytes = buf.readableBytes();
-      ChannelFuture future = channel.writeAndFlush(buf);
+      ChannelFuture future = responseWriter.write(buf);
       if (header instanceof AccessLoggingHeader) {
          accessLogging.logException(future, (AccessLoggingHeader) header, cause.toString(), responseBytes);
       }
@@ -131,7 +133,7 @@ void writeNotExist(HotRodHeader header) {
 
    protected void writeResponse(HotRodHeader header, ByteBuf buf) {
       int responseBytes = buf.readableBytes();
-      ChannelFuture future = channel.writeAndFlush(buf);
+      ChannelFuture future = responseWriter.write(buf);
       if (header instanceof AccessLoggingHeader) {
          accessLogging.logOK(future, (AccessLoggingHeader) header, responseBytes);
       }
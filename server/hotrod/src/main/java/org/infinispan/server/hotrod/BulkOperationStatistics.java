@@ -0,0 +1,102 @@
+package org.infinispan.server.hotrod;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.infinispan.jmx.annotations.MBean;
+import org.infinispan.jmx.annotations.ManagedAttribute;
+import org.infinispan.jmx.annotations.ManagedOperation;
+import org.infinispan.jmx.annotations.MeasurementType;
+
+/**
+ * Statistics of the keys requested by the getAll and putAll operations of the clients.
+ *
+ * @since 14.0
+ */
+@MBean(objectName = "BulkOperations",
+      description = "Statistics of the keys requested by the getAll and putAll operations.")
+public class BulkOperationStatistics {
+   private final LongAdder getAllRequests = new LongAdder();
+   private final LongAdder getAllKeys = new LongAdder();
+   private final LongAccumulator maxGetAllKeys = new LongAccumulator(Math::max, 0);
+   private final LongAdder putAllRequests = new LongAdder();
+   private final LongAdder putAllKeys = new LongAdder();
+   private final LongAccumulator maxPutAllKeys = new LongAccumulator(Math::max, 0);
+
+   void getAllReceived(int keys) {
+      getAllRequests.increment();
+      getAllKeys.add(keys);
+      maxGetAllKeys.accumulate(keys);
+   }
+
+   void putAllReceived(int keys) {
+      putAllRequests.increment();
+      putAllKeys.add(keys);
+      maxPutAllKeys.accumulate(keys);
+   }
+
+   @ManagedAttribute(
+         description = "Returns the number of getAll requests received.",
+         displayName = "Number of getAll requests",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getGetAllRequests() {
+      return getAllRequests.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Returns the average number of keys of a getAll request.",
+         displayName = "Average keys per getAll request"
+   )
+   public double getAverageKeysPerGetAll() {
+      long count = getAllRequests.sum();
+      return count == 0 ? 0 : (double) getAllKeys.sum() / count;
+   }
+
+   @ManagedAttribute(
+         description = "Returns the maximum number of keys of a getAll request.",
+         displayName = "Maximum keys per getAll request"
+   )
+   public long getMaxKeysPerGetAll() {
+      return maxGetAllKeys.get();
+   }
+
+   @ManagedAttribute(
+         description = "Returns the number of putAll requests received.",
+         displayName = "Number of putAll requests",
+         measurementType = MeasurementType.TRENDSUP
+   )
+   public long getPutAllRequests() {
+      return putAllRequests.sum();
+   }
+
+   @ManagedAttribute(
+         description = "Returns the average number of entries of a putAll request.",
+         displayName = "Average entries per putAll request"
+   )
+   public double getAverageKeysPerPutAll() {
+      long count = putAllRequests.sum();
+      return count == 0 ? 0 : (double) putAllKeys.sum() / count;
+   }
+
+   @ManagedAttribute(
+         description = "Returns the maximum number of entries of a putAll request.",
+         displayName = "Maximum entries per putAll request"
+   )
+   public long getMaxKeysPerPutAll() {
+      return maxPutAllKeys.get();
+   }
+
+   @ManagedOperation(
+         description = "Resets the bulk operation statistics.",
+         displayName = "Reset statistics"
+   )
+   public void resetStatistics() {
+      getAllRequests.reset();
+      getAllKeys.reset();
+      maxGetAllKeys.reset();
+      putAllRequests.reset();
+      putAllKeys.reset();
+      maxPutAllKeys.reset();
+   }
+}
@@ -41,8 +41,8 @@ class CacheRequestProcessor extends BaseRequestProcessor {
 
    private final ConcurrentMap<String, BloomFilter<byte[]>> bloomFilters = new ConcurrentHashMap<>();
 
-   CacheRequestProcessor(Channel channel, Executor executor, HotRodServer server) {
-      super(channel, executor, server);
+   CacheRequestProcessor(Channel channel, ResponseWriter responseWriter, Executor executor, HotRodServer server) {
+      super(channel, responseWriter, executor, server);
       listenerRegistry = server.getClientListenerRegistry();
    }
 
@@ -459,6 +459,7 @@ private void clearInternal(HotRodHeader header, AdvancedCache<byte[], byte[]> ca
 
    void putAll(HotRodHeader header, Subject subject, Map<byte[], byte[]> entries, Metadata.Builder metadata) {
       Object span = RequestTracer.requestStart(HotRodOperation.PUT_ALL.name());
+      server.getBulkOperationStatistics().putAllReceived(entries.size());
       ExtendedCacheInfo cacheInfo = server.getCacheInfo(header);
       AdvancedCache<byte[], byte[]> cache = server.cache(cacheInfo, header, subject);
       putAllInternal(header, cache, entries, metadata.build(), span);
@@ -479,12 +480,14 @@ private void handlePutAll(HotRodHeader header, Throwable throwable, Object span)
    }
 
    void getAll(HotRodHeader header, Subject subject, Set<?> keys) {
+      server.getBulkOperationStatistics().getAllReceived(keys.size());
       ExtendedCacheInfo cacheInfo = server.getCacheInfo(header);
       AdvancedCache<byte[], byte[]> cache = server.cache(cacheInfo, header, subject);
       getAllInternal(header, cache, keys);
    }
 
    private void getAllInternal(HotRodHeader header, AdvancedCache<byte[], byte[]> cache, Set<?> keys) {
+      // A single command, which the distribution interceptor splits in one remote command per owner
       cache.getAllAsync(keys)
             .whenComplete((map, throwable) -> handleGetAll(header, map, throwable));
    }
@@ -3,9 +3,11 @@
 import static org.infinispan.commons.dataconversion.MediaType.APPLICATION_OBJECT;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -16,6 +18,7 @@
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.infinispan.AdvancedCache;
@@ -46,6 +49,7 @@
 import org.infinispan.notifications.cachelistener.filter.CacheEventFilterConverterFactory;
 import org.infinispan.notifications.cachelistener.filter.CacheEventFilterFactory;
 import org.infinispan.notifications.cachelistener.filter.KeyValueFilterConverterAsCacheEventFilterConverter;
+import org.infinispan.notifications.cachelistener.filter.ShareableInstancesFactory;
 import org.infinispan.server.hotrod.logging.Log;
 import org.infinispan.util.KeyValuePair;
 import org.infinispan.util.concurrent.CompletableFutures;
@@ -68,10 +72,18 @@ class ClientListenerRegistry {
 
    private final static Log log = LogFactory.getLog(ClientListenerRegistry.class, Log.class);
 
+   // Only the key is sent to listeners without filter or converter, so they share the same converter
+   private static final CacheEventConverter<byte[], byte[], byte[]> KEY_ONLY_CONVERTER =
+         new KeyValueFilterConverterAsCacheEventFilterConverter<>(HotRodServer.ToEmptyBytesKeyValueFilterConverter.INSTANCE);
+
    private final ConcurrentMap<WrappedByteArray, Object> eventSenders = new ConcurrentHashMap<>();
    private final ConcurrentMap<String, CacheEventFilterFactory> cacheEventFilterFactories = new ConcurrentHashMap<>(4, 0.9f, 16);
    private final ConcurrentMap<String, CacheEventConverterFactory> cacheEventConverterFactories = new ConcurrentHashMap<>(4, 0.9f, 16);
    private final ConcurrentMap<String, CacheEventFilterConverterFactory> cacheEventFilterConverterFactories = new ConcurrentHashMap<>(4, 0.9f, 16);
+   // The filters and converters created by the same shareable factory with the same parameters are shared by the
+   // listeners, so the cache notifier evaluates them only once per event
+   private final ConcurrentMap<SharedInstanceKey, SharedInstance> sharedInstances = new ConcurrentHashMap<>();
+   private final ConcurrentMap<WrappedByteArray, List<SharedInstanceKey>> listenerSharedInstances = new ConcurrentHashMap<>();
 
    void setEventMarshaller(Optional<Marshaller> eventMarshaller) {
       eventMarshaller.ifPresent(m -> {
@@ -123,54 +135,66 @@ CompletionStage<Void> addClientListener(Channel ch, HotRodHeader h, byte[] liste
       CacheEventFilter<byte[], byte[]> filter;
       CacheEventConverter<byte[], byte[], byte[]> converter;
       ClientEventType eventType;
+      WrappedByteArray wrappedListenerId = new WrappedByteArray(listenerId);
+      List<SharedInstanceKey> sharedKeys = new ArrayList<>(2);
 
-      if (bloomFilter != null) {
-         assert filterFactory == null || filterFactory.isEmpty();
-         assert converterFactory == null || converterFactory.isEmpty();
-         assert !includeState;
-         eventType = ClientEventType.createType(false, useRawData, h.version);
-         filter = null;
-         converter = new KeyValueFilterConverterAsCacheEventFilterConverter<>(HotRodServer.ToEmptyBytesKeyValueFilterConverter.INSTANCE);
-      } else {
-         boolean hasFilter = filterFactory != null && !filterFactory.isEmpty();
-         boolean hasConverter = converterFactory != null && !converterFactory.isEmpty();
-         eventType = ClientEventType.createType(hasConverter, useRawData, h.version);
-
-
-         if (hasFilter) {
-            if (hasConverter) {
-               if (filterFactory.equals(converterFactory)) {
-                  List<byte[]> binaryParams = binaryFilterParams.isEmpty() ? binaryConverterParams : binaryFilterParams;
-                  CacheEventFilterConverter<byte[], byte[], byte[]> filterConverter = getFilterConverter(h.getValueMediaType(),
-                        filterFactory, useRawData, binaryParams);
-                  filter = filterConverter;
-                  converter = filterConverter;
+      BaseClientEventSender clientEventSender;
+      try {
+         if (bloomFilter != null) {
+            assert filterFactory == null || filterFactory.isEmpty();
+            assert converterFactory == null || converterFactory.isEmpty();
+            assert !includeState;
+            eventType = ClientEventType.createType(false, useRawData, h.version);
+            filter = null;
+            converter = KEY_ONLY_CONVERTER;
+         } else {
+            boolean hasFilter = filterFactory != null && !filterFactory.isEmpty();
+            boolean hasConverter = converterFactory != null && !converterFactory.isEmpty();
+            eventType = ClientEventType.createType(hasConverter, useRawData, h.version);
+
+            if (hasFilter) {
+               if (hasConverter) {
+                  if (filterFactory.equals(converterFactory)) {
+                     List<byte[]> binaryParams = binaryFilterParams.isEmpty() ? binaryConverterParams : binaryFilterParams;
+                     CacheEventFilterConverter<byte[], byte[], byte[]> filterConverter = getFilterConverter(h.getValueMediaType(),
+                           filterFactory, useRawData, binaryParams, sharedKeys);
+                     filter = filterConverter;
+                     converter = filterConverter;
+                  } else {
+                     filter = getFilter(h.getValueMediaType(), filterFactory, useRawData, binaryFilterParams, sharedKeys);
+                     converter = getConverter(h.getValueMediaType(), converterFactory, useRawData, binaryConverterParams, sharedKeys);
+                  }
                } else {
-                  filter = getFilter(h.getValueMediaType(), filterFactory, useRawData, binaryFilterParams);
-                  converter = getConverter(h.getValueMediaType(), converterFactory, useRawData, binaryConverterParams);
+                  filter = getFilter(h.getValueMediaType(), filterFactory, useRawData, binaryFilterParams, sharedKeys);
+                  converter = null;
                }
+            } else if (hasConverter) {
+               filter = null;
+               converter = getConverter(h.getValueMediaType(), converterFactory, useRawData, binaryConverterParams, sharedKeys);
             } else {
-               filter = getFilter(h.getValueMediaType(), filterFactory, useRawData, binaryFilterParams);
+               filter = null;
                converter = null;
             }
-         } else if (hasConverter) {
-            filter = null;
-            converter = getConverter(h.getValueMediaType(), converterFactory, useRawData, binaryConverterParams);
-         } else {
-            filter = null;
-            converter = null;
          }
+         clientEventSender = getClientEventSender(includeState, ch, h.encoder(), h.version, cache,
+                                                  listenerId, eventType, h.messageId, bloomFilter);
+      } catch (Throwable t) {
+         // the keys are not stored yet, so the shared instances must be released here
+         releaseSharedInstances(sharedKeys);
+         throw t;
       }
-      BaseClientEventSender clientEventSender = getClientEventSender(includeState, ch, h.encoder(), h.version, cache,
-                                                                     listenerId, eventType, h.messageId, bloomFilter);
 
-      eventSenders.put(new WrappedByteArray(listenerId), clientEventSender);
+      eventSenders.put(wrappedListenerId, clientEventSender);
+      if (!sharedKeys.isEmpty()) {
+         releaseSharedInstances(listenerSharedInstances.put(wrappedListenerId, sharedKeys));
+      }
 
       return addCacheListener(cache, clientEventSender, filter, converter, listenerInterests, useRawData)
             .whenComplete((__, t) -> {
                if (t != null) {
                   // Don't try to remove the listener when
-                  eventSenders.remove(new WrappedByteArray(listenerId));
+                  eventSenders.remove(wrappedListenerId);
+                  releaseSharedInstances(listenerSharedInstances.remove(wrappedListenerId));
                }
             });
    }
@@ -198,7 +222,7 @@ private CompletionStage<Void> addCacheListener(AdvancedCache<byte[], byte[]> cac
       // If no filter or converter are supplied, we can apply a converter so we don't have to return the value - since
       // events will only use the key
       if (converter == null && filter == null) {
-         converter = new KeyValueFilterConverterAsCacheEventFilterConverter<>(HotRodServer.ToEmptyBytesKeyValueFilterConverter.INSTANCE);
+         converter = KEY_ONLY_CONVERTER;
          // We have to use storage format - otherwise passing converer will force it to change to incorrect format
          return cache.addStorageFormatFilteredListenerAsync(clientEventSender, filter, converter, filterAnnotations);
       } else if (useRawData) {
@@ -208,22 +232,59 @@ private CompletionStage<Void> addCacheListener(AdvancedCache<byte[], byte[]> cac
       }
    }
 
-   private CacheEventFilter<byte[], byte[]> getFilter(MediaType requestMedia, String name, Boolean useRawData, List<byte[]> binaryParams) {
+   private CacheEventFilter<byte[], byte[]> getFilter(MediaType requestMedia, String name, Boolean useRawData, List<byte[]> binaryParams,
+                                                      List<SharedInstanceKey> sharedKeys) {
       CacheEventFilterFactory factory = findFactory(name, cacheEventFilterFactories, "key/value filter");
-      List<?> params = unmarshallParams(requestMedia, binaryParams, useRawData);
-      return factory.getFilter(params.toArray());
+      return acquireSharedInstance(factory, requestMedia, useRawData, binaryParams, sharedKeys, () -> {
+         List<?> params = unmarshallParams(requestMedia, binaryParams, useRawData);
+         return factory.getFilter(params.toArray());
+      });
    }
 
-   private CacheEventConverter<byte[], byte[], byte[]> getConverter(MediaType requestMedia, String name, Boolean useRawData, List<byte[]> binaryParams) {
+   private CacheEventConverter<byte[], byte[], byte[]> getConverter(MediaType requestMedia, String name, Boolean useRawData, List<byte[]> binaryParams,
+                                                                    List<SharedInstanceKey> sharedKeys) {
       CacheEventConverterFactory factory = findFactory(name, cacheEventConverterFactories, "converter");
-      List<?> params = unmarshallParams(requestMedia, binaryParams, useRawData);
-      return factory.getConverter(params.toArray());
+      return acquireSharedInstance(factory, requestMedia, useRawData, binaryParams, sharedKeys, () -> {
+         List<?> params = unmarshallParams(requestMedia, binaryParams, useRawData);
+         return factory.getConverter(params.toArray());
+      });
    }
 
-   private CacheEventFilterConverter<byte[], byte[], byte[]> getFilterConverter(MediaType requestMedia, String name, boolean useRawData, List<byte[]> binaryParams) {
+   private CacheEventFilterConverter<byte[], byte[], byte[]> getFilterConverter(MediaType requestMedia, String name, boolean useRawData, List<byte[]> binaryParams,
+                                                                                List<SharedInstanceKey> sharedKeys) {
       CacheEventFilterConverterFactory factory = findFactory(name, cacheEventFilterConverterFactories, "converter");
-      List<?> params = unmarshallParams(requestMedia, binaryParams, useRawData);
-      return factory.getFilterConverter(params.toArray());
+      return acquireSharedInstance(factory, requestMedia, useRawData, binaryParams, sharedKeys, () -> {
+         List<?> params = unmarshallParams(requestMedia, binaryParams, useRawData);
+         return factory.getFilterConverter(params.toArray());
+      });
+   }
+
+   @SuppressWarnings("unchecked")
+   private <T> T acquireSharedInstance(Object factory, MediaType requestMedia, boolean useRawData, List<byte[]> binaryParams,
+                                       List<SharedInstanceKey> sharedKeys, Supplier<T> supplier) {
+      if (!(factory instanceof ShareableInstancesFactory)) {
+         // the factory doesn't guarantee that its instances are stateless, so each listener gets its own instance
+         return supplier.get();
+      }
+      SharedInstanceKey key = new SharedInstanceKey(factory, requestMedia, useRawData, binaryParams);
+      SharedInstance shared = sharedInstances.compute(key, (k, current) -> {
+         if (current == null) {
+            return new SharedInstance(supplier.get());
+         }
+         current.references++;
+         return current;
+      });
+      sharedKeys.add(key);
+      return (T) shared.instance;
+   }
+
+   private void releaseSharedInstances(List<SharedInstanceKey> sharedKeys) {
+      if (sharedKeys == null) {
+         return;
+      }
+      for (SharedInstanceKey key : sharedKeys) {
+         sharedInstances.computeIfPresent(key, (k, shared) -> --shared.references == 0 ? null : shared);
+      }
    }
 
    private <T> T findFactory(String name, ConcurrentMap<String, T> factories, String factoryType) {
@@ -240,7 +301,9 @@ private List<?> unmarshallParams(MediaType requestMedia, List<byte[]> binaryPara
    }
 
    CompletionStage<Boolean> removeClientListener(byte[] listenerId, Cache cache) {
-      Object sender = eventSenders.remove(new WrappedByteArray(listenerId));
+      WrappedByteArray wrappedListenerId = new WrappedByteArray(listenerId);
+      Object sender = eventSenders.remove(wrappedListenerId);
+      releaseSharedInstances(listenerSharedInstances.remove(wrappedListenerId));
       if (sender != null) {
          // No permission check needed: Either the client had the LISTEN permission to add the listener,
          // or the listener was never added and removing it is a no-op
@@ -251,6 +314,8 @@ CompletionStage<Boolean> removeClientListener(byte[] listenerId, Cache cache) {
 
    public void stop() {
       eventSenders.clear();
+      sharedInstances.clear();
+      listenerSharedInstances.clear();
       cacheEventFilterFactories.clear();
       cacheEventConverterFactories.clear();
    }
@@ -546,4 +611,43 @@ static ClientEventType createType(boolean isCustom, boolean useRawData, byte ver
       }
       return PLAIN;
    }
+
+   private static final class SharedInstanceKey {
+      // the factory is part of the key, so an instance is not shared after the factory is replaced
+      private final Object factory;
+      private final MediaType requestMedia;
+      private final boolean useRawData;
+      private final List<WrappedByteArray> params;
+
+      SharedInstanceKey(Object factory, MediaType requestMedia, boolean useRawData, List<byte[]> binaryParams) {
+         this.factory = factory;
+         this.requestMedia = requestMedia;
+         this.useRawData = useRawData;
+         this.params = binaryParams.stream().map(WrappedByteArray::new).collect(Collectors.toList());
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) return true;
+         if (o == null || getClass() != o.getClass()) return false;
+         SharedInstanceKey that = (SharedInstanceKey) o;
+         return factory == that.factory && useRawData == that.useRawData &&
+               Objects.equals(requestMedia, that.requestMedia) && params.equals(that.params);
+      }
+
+      @Override
+      public int hashCode() {
+         return Objects.hash(System.identityHashCode(factory), requestMedia, useRawData, params);
+      }
+   }
+
+   private static final class SharedInstance {
+      final Object instance;
+      // guarded by the map entry
+      int references = 1;
+
+      SharedInstance(Object instance) {
+         this.instance = instance;
+      }
+   }
 }
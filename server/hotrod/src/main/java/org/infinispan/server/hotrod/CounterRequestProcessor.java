@@ -33,8 +33,8 @@ class CounterRequestProcessor extends BaseRequestProcessor {
    private final BiConsumer<HotRodHeader, StrongCounter> handleStrongReset = this::handleResetStrong;
    private final BiConsumer<HotRodHeader, WeakCounter> handleWeakReset = this::handleResetWeak;
 
-   CounterRequestProcessor(Channel channel, EmbeddedCounterManager counterManager, Executor executor, HotRodServer server) {
-      super(channel, executor, server);
+   CounterRequestProcessor(Channel channel, ResponseWriter responseWriter, EmbeddedCounterManager counterManager, Executor executor, HotRodServer server) {
+      super(channel, responseWriter, executor, server);
       this.counterManager = counterManager;
       notificationManager = server.getClientCounterNotificationManager();
    }
@@ -256,6 +256,12 @@ public ByteBuf getStreamResponse(HotRodHeader header, HotRodServer server, Chann
    @Override
    public ByteBuf getAllResponse(HotRodHeader header, HotRodServer server, Channel channel, Map<byte[], byte[]> entries) {
       ByteBuf buf = writeHeader(header, server, channel, OperationStatus.Success);
+      // Reserve the space of all the entries at once instead of growing the buffer repeatedly
+      int size = 5;
+      for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+         size += entry.getKey().length + entry.getValue().length + 10;
+      }
+      buf.ensureWritable(size);
       ExtendedByteBuf.writeUnsignedInt(entries.size(), buf);
       for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
          ExtendedByteBuf.writeRangedBytes(entry.getKey(), buf);
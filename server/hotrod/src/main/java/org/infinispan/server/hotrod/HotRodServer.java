@@ -11,6 +11,8 @@
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.Map;
@@ -74,6 +76,7 @@
 import org.infinispan.server.core.ServerConstants;
 import org.infinispan.server.core.transport.NettyChannelInitializer;
 import org.infinispan.server.core.transport.NettyInitializers;
+import org.infinispan.server.core.transport.PipelineStatistics;
 import org.infinispan.server.hotrod.configuration.HotRodServerConfiguration;
 import org.infinispan.server.hotrod.counter.listener.ClientCounterManagerNotificationManager;
 import org.infinispan.server.hotrod.event.KeyValueWithPreviousEventConverterFactory;
@@ -122,6 +125,8 @@ public class HotRodServer extends AbstractProtocolServer<HotRodServerConfigurati
    private RemoveCacheListener removeCacheListener;
    private ClientCounterManagerNotificationManager clientCounterNotificationManager;
    private HotRodAccessLogging accessLogging = new HotRodAccessLogging();
+   private final PipelineStatistics pipelineStatistics = new PipelineStatistics();
+   private final BulkOperationStatistics bulkOperationStatistics = new BulkOperationStatistics();
    private ScheduledExecutorService scheduledExecutor;
 
    public HotRodServer() {
@@ -536,6 +541,19 @@ public HotRodAccessLogging accessLogging() {
       return accessLogging;
    }
 
+   public PipelineStatistics getPipelineStatistics() {
+      return pipelineStatistics;
+   }
+
+   public BulkOperationStatistics getBulkOperationStatistics() {
+      return bulkOperationStatistics;
+   }
+
+   @Override
+   protected Collection<Object> getManagedComponents() {
+      return Arrays.asList(pipelineStatistics, bulkOperationStatistics);
+   }
+
    public Metadata.Builder buildMetadata2x(long lifespan, TimeUnitValue lifespanUnit, long maxIdle, TimeUnitValue maxIdleUnit) {
       EmbeddedMetadata.Builder metadata = new EmbeddedMetadata.Builder();
       if (lifespan != ServerConstants.EXPIRATION_DEFAULT && lifespanUnit != TimeUnitValue.DEFAULT) {
@@ -2,8 +2,9 @@
 
 import org.infinispan.notifications.cachelistener.filter.CacheEventConverter;
 import org.infinispan.notifications.cachelistener.filter.CacheEventConverterFactory;
+import org.infinispan.notifications.cachelistener.filter.ShareableInstancesFactory;
 
-class KeyValueVersionConverterFactory implements CacheEventConverterFactory {
+class KeyValueVersionConverterFactory implements CacheEventConverterFactory, ShareableInstancesFactory {
    private KeyValueVersionConverterFactory() {
    }
 
@@ -16,8 +16,8 @@
 class MultimapRequestProcessor extends BaseRequestProcessor {
    private static final Log log = LogFactory.getLog(MultimapRequestProcessor.class, Log.class);
 
-   MultimapRequestProcessor(Channel channel, Executor executor, HotRodServer server) {
-      super(channel, executor, server);
+   MultimapRequestProcessor(Channel channel, ResponseWriter responseWriter, Executor executor, HotRodServer server) {
+      super(channel, responseWriter, executor, server);
    }
 
    void get(HotRodHeader header, Subject subject, byte[] key) {
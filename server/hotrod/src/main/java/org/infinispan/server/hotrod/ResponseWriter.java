@@ -0,0 +1,108 @@
+package org.infinispan.server.hotrod;
+
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.server.core.transport.PipelineStatistics;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
+
+/**
+ * Writes the responses of a channel and coalesces their flushes.
+ * <p>
+ * Clients that pipeline requests on a connection would otherwise cause a flush, and so a system call, for each
+ * response. The responses written while the decoder reads requests are flushed once the read completes. The responses
+ * completed asynchronously are flushed immediately when no other request of the channel is waiting for its response,
+ * and otherwise by a flush task that runs at most
+ * {@link org.infinispan.server.hotrod.configuration.HotRodServerConfiguration#maxFlushDelay()} microseconds later.
+ * <p>
+ * The state is only accessed by the event loop of the channel.
+ *
+ * @since 14.0
+ */
+class ResponseWriter {
+   private final Channel channel;
+   private final EventLoop eventLoop;
+   private final PipelineStatistics statistics;
+   private final long maxFlushDelayMicros;
+   private final Runnable flushTask = this::scheduledFlush;
+
+   private boolean reading;
+   private boolean flushScheduled;
+   private int pendingResponses;
+   private int unflushedResponses;
+
+   ResponseWriter(Channel channel, PipelineStatistics statistics, long maxFlushDelayMicros) {
+      this.channel = channel;
+      this.eventLoop = channel.eventLoop();
+      this.statistics = statistics;
+      this.maxFlushDelayMicros = maxFlushDelayMicros;
+   }
+
+   void readStarted() {
+      reading = true;
+   }
+
+   void readCompleted() {
+      reading = false;
+      flush();
+   }
+
+   /**
+    * Invoked by the decoder for every request, which will be answered with a response.
+    */
+   void requestReceived() {
+      pendingResponses++;
+      statistics.requestReceived(pendingResponses);
+   }
+
+   ChannelFuture write(ByteBuf buf) {
+      if (eventLoop.inEventLoop()) {
+         return write(buf, channel.newPromise());
+      }
+      ChannelPromise promise = channel.newPromise();
+      eventLoop.execute(() -> write(buf, promise));
+      return promise;
+   }
+
+   private ChannelFuture write(ByteBuf buf, ChannelPromise promise) {
+      channel.write(buf, promise);
+      // Errors can be reported without a request, e.g. for an invalid magic byte
+      if (pendingResponses > 0) {
+         pendingResponses--;
+      }
+      unflushedResponses++;
+      if (reading) {
+         // Flushed when the read completes
+         return promise;
+      }
+      if (pendingResponses == 0) {
+         // Delaying the flush would only add latency, no other response is expected
+         flush();
+      } else if (!flushScheduled) {
+         flushScheduled = true;
+         if (maxFlushDelayMicros > 0) {
+            eventLoop.schedule(flushTask, maxFlushDelayMicros, TimeUnit.MICROSECONDS);
+         } else {
+            eventLoop.execute(flushTask);
+         }
+      }
+      return promise;
+   }
+
+   private void scheduledFlush() {
+      flushScheduled = false;
+      flush();
+   }
+
+   private void flush() {
+      if (unflushedResponses > 0) {
+         statistics.flushed(unflushedResponses);
+         unflushedResponses = 0;
+         channel.flush();
+      }
+   }
+}
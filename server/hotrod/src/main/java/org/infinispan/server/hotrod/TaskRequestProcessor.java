@@ -20,8 +20,8 @@ public class TaskRequestProcessor extends BaseRequestProcessor {
    private final HotRodServer server;
    private final TaskManager taskManager;
 
-   TaskRequestProcessor(Channel channel, Executor executor, HotRodServer server) {
-      super(channel, executor, server);
+   TaskRequestProcessor(Channel channel, ResponseWriter responseWriter, Executor executor, HotRodServer server) {
+      super(channel, responseWriter, executor, server);
       this.server = server;
       this.taskManager = SecurityActions.getGlobalComponentRegistry(server.getCacheManager()).getComponent(TaskManager.class);
    }
@@ -29,8 +29,8 @@
 class TransactionRequestProcessor extends CacheRequestProcessor {
    private static final Log log = LogFactory.getLog(TransactionRequestProcessor.class, Log.class);
 
-   TransactionRequestProcessor(Channel channel, Executor executor, HotRodServer server) {
-      super(channel, executor, server);
+   TransactionRequestProcessor(Channel channel, ResponseWriter responseWriter, Executor executor, HotRodServer server) {
+      super(channel, responseWriter, executor, server);
    }
 
    private void writeTransactionResponse(HotRodHeader header, int value) {
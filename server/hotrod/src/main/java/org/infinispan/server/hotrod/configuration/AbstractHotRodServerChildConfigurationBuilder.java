@@ -28,6 +28,11 @@ public HotRodServerChildConfigurationBuilder proxyPort(int proxyPort) {
       return builder.proxyPort(proxyPort);
    }
 
+   @Override
+   public HotRodServerChildConfigurationBuilder maxFlushDelay(long maxFlushDelay) {
+      return builder.maxFlushDelay(maxFlushDelay);
+   }
+
    @Override
    public HotRodServerChildConfigurationBuilder topologyLockTimeout(long topologyLockTimeout) {
       return builder.topologyLockTimeout(topologyLockTimeout);
@@ -16,6 +16,7 @@ public enum Attribute {
    HOST_NAME,
    LAZY_RETRIEVAL,
    LOCK_TIMEOUT,
+   MAX_FLUSH_DELAY,
    MECHANISMS,
    NAME,
    NETWORK_PREFIX_OVERRIDE,
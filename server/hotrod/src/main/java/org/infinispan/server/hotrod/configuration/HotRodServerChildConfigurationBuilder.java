@@ -26,6 +26,12 @@ public interface HotRodServerChildConfigurationBuilder {
     */
    HotRodServerChildConfigurationBuilder proxyPort(int proxyPort);
 
+   /**
+    * Sets the maximum delay, in microseconds, of the flush of a response while other requests of the same connection
+    * are waiting for their responses. Defaults to 0
+    */
+   HotRodServerChildConfigurationBuilder maxFlushDelay(long maxFlushDelay);
+
    /**
     * Configures the lock acquisition timeout for the topology cache. See {@link LockingConfigurationBuilder#lockAcquisitionTimeout(long)}.
     * Defaults to 10 seconds
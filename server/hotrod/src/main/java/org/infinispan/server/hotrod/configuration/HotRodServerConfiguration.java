@@ -17,6 +17,7 @@ public class HotRodServerConfiguration extends ProtocolServerConfiguration {
 
    public static final AttributeDefinition<String> PROXY_HOST = AttributeDefinition.builder(Attribute.EXTERNAL_HOST, null, String.class).immutable().build();
    public static final AttributeDefinition<Integer> PROXY_PORT = AttributeDefinition.builder(Attribute.EXTERNAL_PORT, -1).immutable().build();
+   public static final AttributeDefinition<Long> MAX_FLUSH_DELAY = AttributeDefinition.builder(Attribute.MAX_FLUSH_DELAY, 0L).immutable().build();
    // The Hot Rod server has a different default
    public static final AttributeDefinition<Integer> WORKER_THREADS = AttributeDefinition.builder("worker-threads", 160).immutable().build();
 
@@ -26,7 +27,7 @@ public class HotRodServerConfiguration extends ProtocolServerConfiguration {
 
    public static AttributeSet attributeDefinitionSet() {
       return new AttributeSet(HotRodServerConfiguration.class, ProtocolServerConfiguration.attributeDefinitionSet(),
-            WORKER_THREADS, PROXY_HOST, PROXY_PORT);
+            WORKER_THREADS, PROXY_HOST, PROXY_PORT, MAX_FLUSH_DELAY);
    }
 
    HotRodServerConfiguration(AttributeSet attributes,
@@ -55,6 +56,14 @@ public int publicPort() {
       return attributes.attribute(PROXY_PORT).orElse(port());
    }
 
+   /**
+    * @return the maximum delay, in microseconds, of the flush of a response while other requests of the same
+    * connection are waiting for their responses.
+    */
+   public long maxFlushDelay() {
+      return attributes.attribute(MAX_FLUSH_DELAY).get();
+   }
+
    public String topologyCacheName() {
       String name = name();
       return TOPOLOGY_CACHE_NAME_PREFIX + (name.length() > 0 ? "_" + name : name);
@@ -2,6 +2,7 @@
 
 import static org.infinispan.server.core.configuration.ProtocolServerConfiguration.HOST;
 import static org.infinispan.server.core.configuration.ProtocolServerConfiguration.NAME;
+import static org.infinispan.server.hotrod.configuration.HotRodServerConfiguration.MAX_FLUSH_DELAY;
 import static org.infinispan.server.hotrod.configuration.HotRodServerConfiguration.PROXY_HOST;
 import static org.infinispan.server.hotrod.configuration.HotRodServerConfiguration.PROXY_PORT;
 
@@ -66,6 +67,17 @@ public HotRodServerConfigurationBuilder proxyPort(int proxyPort) {
       return this;
    }
 
+   /**
+    * Sets the maximum delay, in microseconds, of the flush of a response while other requests of the same connection
+    * are waiting for their responses. The responses written in the meantime are flushed together. Defaults to 0, which
+    * flushes them once the event loop has processed the tasks already submitted to it.
+    */
+   @Override
+   public HotRodServerConfigurationBuilder maxFlushDelay(long maxFlushDelay) {
+      attributes.attribute(MAX_FLUSH_DELAY).set(maxFlushDelay);
+      return this;
+   }
+
    /**
     * Configures the lock acquisition timeout for the topology cache. See {@link LockingConfigurationBuilder#lockAcquisitionTimeout(long)}.
     * Defaults to 10 seconds
@@ -4,9 +4,10 @@
 import org.infinispan.filter.NamedFactory;
 import org.infinispan.notifications.cachelistener.filter.CacheEventConverter;
 import org.infinispan.notifications.cachelistener.filter.CacheEventConverterFactory;
+import org.infinispan.notifications.cachelistener.filter.ShareableInstancesFactory;
 
 @NamedFactory(name = "key-value-with-previous-converter-factory")
-public class KeyValueWithPreviousEventConverterFactory<K, V> implements CacheEventConverterFactory {
+public class KeyValueWithPreviousEventConverterFactory<K, V> implements CacheEventConverterFactory, ShareableInstancesFactory {
    private final KeyValueWithPreviousEventConverter<K, V> converter = new KeyValueWithPreviousEventConverter<K, V>();
 
    @Override
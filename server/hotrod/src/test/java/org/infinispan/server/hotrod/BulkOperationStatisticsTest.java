@@ -0,0 +1,64 @@
+package org.infinispan.server.hotrod;
+
+import static org.infinispan.server.hotrod.OperationStatus.Success;
+import static org.infinispan.server.hotrod.test.HotRodTestingUtil.assertStatus;
+import static org.infinispan.server.hotrod.test.HotRodTestingUtil.k;
+import static org.infinispan.server.hotrod.test.HotRodTestingUtil.v;
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.infinispan.server.hotrod.test.TestGetAllResponse;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the {@link BulkOperationStatistics} collected for the getAll and putAll requests.
+ *
+ * @since 14.0
+ */
+@Test(groups = "functional", testName = "server.hotrod.BulkOperationStatisticsTest")
+public class BulkOperationStatisticsTest extends HotRodSingleNodeTest {
+
+   public void testGetAllAndPutAll(Method m) {
+      BulkOperationStatistics statistics = server().getBulkOperationStatistics();
+      statistics.resetStatistics();
+
+      assertStatus(client().putAll(entries(m, "a-", 2)), Success);
+      assertStatus(client().putAll(entries(m, "b-", 4)), Success);
+      assertEquals(2, statistics.getPutAllRequests());
+      assertEquals(3.0, statistics.getAverageKeysPerPutAll(), 0.0);
+      assertEquals(4, statistics.getMaxKeysPerPutAll());
+      assertEquals(0, statistics.getGetAllRequests());
+
+      Set<byte[]> keys = new HashSet<>();
+      for (int i = 0; i < 4; ++i) {
+         keys.add(k(m, "b-" + i));
+      }
+      TestGetAllResponse response = client().getAll(keys);
+      assertStatus(response, Success);
+      assertEquals(4, response.entries.size());
+      assertStatus(client().getAll(Set.of(k(m, "a-0"))), Success);
+      assertStatus(client().getAll(Set.of(k(m, "a-0"), k(m, "missing-"))), Success);
+      assertEquals(3, statistics.getGetAllRequests());
+      assertEquals(7.0 / 3, statistics.getAverageKeysPerGetAll(), 0.0001);
+      assertEquals(4, statistics.getMaxKeysPerGetAll());
+
+      statistics.resetStatistics();
+      assertEquals(0, statistics.getGetAllRequests());
+      assertEquals(0, statistics.getPutAllRequests());
+      assertEquals(0.0, statistics.getAverageKeysPerGetAll(), 0.0);
+      assertEquals(0, statistics.getMaxKeysPerPutAll());
+   }
+
+   private static Map<byte[], byte[]> entries(Method m, String prefix, int count) {
+      Map<byte[], byte[]> entries = new HashMap<>();
+      for (int i = 0; i < count; ++i) {
+         entries.put(k(m, prefix + i), v(m, prefix + i));
+      }
+      return entries;
+   }
+}
@@ -0,0 +1,66 @@
+package org.infinispan.server.hotrod;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import org.infinispan.server.core.transport.PipelineStatistics;
+import org.infinispan.test.AbstractInfinispanTest;
+import org.testng.annotations.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Tests the coalescing of the flushes of the responses.
+ *
+ * @since 14.0
+ */
+@Test(groups = "unit", testName = "server.hotrod.ResponseWriterTest")
+public class ResponseWriterTest extends AbstractInfinispanTest {
+
+   public void testResponsesWrittenWhileReadingAreFlushedOnReadComplete() {
+      EmbeddedChannel channel = new EmbeddedChannel();
+      PipelineStatistics statistics = new PipelineStatistics();
+      ResponseWriter writer = new ResponseWriter(channel, statistics, 0);
+      writer.readStarted();
+      for (int i = 0; i < 3; i++) {
+         writer.requestReceived();
+         writer.write(response(i));
+      }
+      assertEquals(0, channel.outboundMessages().size());
+      writer.readCompleted();
+      assertEquals(3, channel.outboundMessages().size());
+      assertEquals(1, statistics.getFlushes());
+      assertEquals(3.0, statistics.getAverageResponsesPerFlush());
+      channel.finishAndReleaseAll();
+   }
+
+   public void testAsyncResponsesFlushedWhenNoRequestIsPending() {
+      EmbeddedChannel channel = new EmbeddedChannel();
+      PipelineStatistics statistics = new PipelineStatistics();
+      ResponseWriter writer = new ResponseWriter(channel, statistics, 0);
+      writer.readStarted();
+      writer.requestReceived();
+      writer.requestReceived();
+      writer.requestReceived();
+      writer.readCompleted();
+
+      // Other responses are pending, so the flush is delayed
+      writer.write(response(0));
+      writer.write(response(1));
+      assertEquals(0, channel.outboundMessages().size());
+      channel.runPendingTasks();
+      assertEquals(2, channel.outboundMessages().size());
+
+      // The last pending response is flushed immediately
+      writer.write(response(2));
+      assertEquals(3, channel.outboundMessages().size());
+      assertEquals(2, statistics.getFlushes());
+      assertEquals(3, statistics.getMaxPipelineDepth());
+      channel.finishAndReleaseAll();
+   }
+
+   private static ByteBuf response(int i) {
+      return Unpooled.buffer(1).writeByte(i);
+   }
+}
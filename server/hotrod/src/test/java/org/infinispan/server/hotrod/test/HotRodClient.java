@@ -405,6 +405,16 @@ public TestBulkGetKeysResponse bulkGetKeys(int scope) {
       return execute(op);
    }
 
+   public TestResponse putAll(Map<byte[], byte[]> entries) {
+      PutAllOp op = new PutAllOp(0xA0, protocolVersion, defaultCacheName, (byte) 1, 0, entries);
+      return execute(op);
+   }
+
+   public TestGetAllResponse getAll(Set<byte[]> keys) {
+      GetAllOp op = new GetAllOp(0xA0, protocolVersion, defaultCacheName, (byte) 1, 0, keys);
+      return execute(op);
+   }
+
    public TestQueryResponse query(byte[] query) {
       QueryOp op = new QueryOp(0xA0, protocolVersion, defaultCacheName, (byte) 1, 0, query);
       return execute(op);
@@ -575,6 +585,25 @@ protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf buffer) {
          RemoveClientListenerOp op = (RemoveClientListenerOp) msg;
          writeHeader(op, buffer);
          writeRangedBytes(op.listenerId, buffer);
+      } else if (msg instanceof PutAllOp) {
+         PutAllOp op = (PutAllOp) msg;
+         writeHeader(op, buffer);
+         if (protocolVersion >= 22) {
+            buffer.writeByte(0x88); // default lifespan and maxIdle
+         } else {
+            writeUnsignedInt(0, buffer); // lifespan
+            writeUnsignedInt(0, buffer); // maxIdle
+         }
+         writeUnsignedInt(op.entries.size(), buffer);
+         op.entries.forEach((key, value) -> {
+            writeRangedBytes(key, buffer);
+            writeRangedBytes(value, buffer);
+         });
+      } else if (msg instanceof GetAllOp) {
+         GetAllOp op = (GetAllOp) msg;
+         writeHeader(op, buffer);
+         writeUnsignedInt(op.keys.size(), buffer);
+         op.keys.forEach(key -> writeRangedBytes(key, buffer));
       } else if (msg instanceof PrepareOp) {
          encodePrepareOp((PrepareOp) msg, buffer);
       } else if (msg instanceof TxOp) {
@@ -812,6 +841,7 @@ protected void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> out)
          case CONTAINS_KEY:
          case CLEAR:
          case PING:
+         case PUT_ALL:
          case ADD_CLIENT_LISTENER:
          case REMOVE_CLIENT_LISTENER:
          case ITERATION_END:
@@ -886,6 +916,15 @@ protected void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> out)
             resp = new TestBulkGetKeysResponse(op.version, id, op.cacheName, op.clientIntel,
                   op.topologyId, topologyChangeResponse, bulkKeys);
             break;
+         case GET_ALL:
+            size = readUnsignedInt(buf);
+            Map<byte[], byte[]> entries = new HashMap<>();
+            for (int i = 0; i < size; ++i) {
+               entries.put(ExtendedByteBuf.readRangedBytes(buf), ExtendedByteBuf.readRangedBytes(buf));
+            }
+            resp = new TestGetAllResponse(op.version, id, op.cacheName, op.clientIntel,
+                  op.topologyId, topologyChangeResponse, entries);
+            break;
          case QUERY:
             byte[] result = ExtendedByteBuf.readRangedBytes(buf);
             resp = new TestQueryResponse(op.version, id, op.cacheName, op.clientIntel,
@@ -1239,6 +1278,23 @@ public BulkGetKeysOp(int magic, byte version, byte code, String cacheName, byte
    }
 }
 
+class PutAllOp extends AbstractOp {
+   final Map<byte[], byte[]> entries;
+
+   public PutAllOp(int magic, byte version, String cacheName, byte clientIntel, int topologyId, Map<byte[], byte[]> entries) {
+      super(magic, version, HotRodConstants.PUT_ALL_REQUEST, cacheName, clientIntel, topologyId);
+      this.entries = entries;
+   }
+}
+
+class GetAllOp extends AbstractOp {
+   final Set<byte[]> keys;
+
+   public GetAllOp(int magic, byte version, String cacheName, byte clientIntel, int topologyId, Set<byte[]> keys) {
+      super(magic, version, HotRodConstants.GET_ALL_REQUEST, cacheName, clientIntel, topologyId);
+      this.keys = keys;
+   }
+}
 
 class QueryOp extends AbstractOp {
    final byte[] query;
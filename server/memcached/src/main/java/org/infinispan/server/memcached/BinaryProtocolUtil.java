@@ -0,0 +1,103 @@
+package org.infinispan.server.memcached;
+
+/**
+ * Memcached binary protocol constants.
+ *
+ * @since 14.0
+ */
+public class BinaryProtocolUtil {
+   private BinaryProtocolUtil() {
+   }
+
+   public static final byte MAGIC_REQUEST = (byte) 0x80;
+   public static final byte MAGIC_RESPONSE = (byte) 0x81;
+   public static final int HEADER_LENGTH = 24;
+   public static final int MAX_KEY_LENGTH = 250;
+
+   // Opcodes
+   public static final byte GET = 0x00;
+   public static final byte SET = 0x01;
+   public static final byte ADD = 0x02;
+   public static final byte REPLACE = 0x03;
+   public static final byte DELETE = 0x04;
+   public static final byte INCREMENT = 0x05;
+   public static final byte DECREMENT = 0x06;
+   public static final byte QUIT = 0x07;
+   public static final byte FLUSH = 0x08;
+   public static final byte GETQ = 0x09;
+   public static final byte NOOP = 0x0a;
+   public static final byte VERSION = 0x0b;
+   public static final byte GETK = 0x0c;
+   public static final byte GETKQ = 0x0d;
+   public static final byte APPEND = 0x0e;
+   public static final byte PREPEND = 0x0f;
+   public static final byte STAT = 0x10;
+   public static final byte SETQ = 0x11;
+   public static final byte ADDQ = 0x12;
+   public static final byte REPLACEQ = 0x13;
+   public static final byte DELETEQ = 0x14;
+   public static final byte INCREMENTQ = 0x15;
+   public static final byte DECREMENTQ = 0x16;
+   public static final byte QUITQ = 0x17;
+   public static final byte FLUSHQ = 0x18;
+   public static final byte APPENDQ = 0x19;
+   public static final byte PREPENDQ = 0x1a;
+   public static final byte VERBOSITY = 0x1b;
+   public static final byte TOUCH = 0x1c;
+   public static final byte GAT = 0x1d;
+   public static final byte GATQ = 0x1e;
+   public static final byte GATK = 0x23;
+   public static final byte GATKQ = 0x24;
+
+   // Response statuses
+   public static final short NO_ERROR = 0x0000;
+   public static final short KEY_NOT_FOUND = 0x0001;
+   public static final short KEY_EXISTS = 0x0002;
+   public static final short VALUE_TOO_LARGE = 0x0003;
+   public static final short INVALID_ARGUMENTS = 0x0004;
+   public static final short ITEM_NOT_STORED = 0x0005;
+   public static final short NON_NUMERIC_VALUE = 0x0006;
+   public static final short UNKNOWN_COMMAND = 0x0081;
+   public static final short OUT_OF_MEMORY = 0x0082;
+   public static final short NOT_SUPPORTED = 0x0083;
+   public static final short INTERNAL_ERROR = 0x0084;
+   public static final short BUSY = 0x0085;
+   public static final short TEMPORARY_FAILURE = 0x0086;
+
+   /**
+    * The expiration of an increment or decrement request that must not create the counter if it does not exist
+    */
+   public static final int NO_INITIAL_VALUE = 0xffffffff;
+
+   /**
+    * Returns whether the response to a successful request with the given opcode is omitted.
+    */
+   public static boolean isQuiet(byte opcode) {
+      switch (opcode) {
+         case GETQ:
+         case GETKQ:
+         case SETQ:
+         case ADDQ:
+         case REPLACEQ:
+         case DELETEQ:
+         case INCREMENTQ:
+         case DECREMENTQ:
+         case QUITQ:
+         case FLUSHQ:
+         case APPENDQ:
+         case PREPENDQ:
+         case GATQ:
+         case GATKQ:
+            return true;
+         default:
+            return false;
+      }
+   }
+
+   /**
+    * Returns whether the response to a request with the given opcode includes the key.
+    */
+   public static boolean returnsKey(byte opcode) {
+      return opcode == GETK || opcode == GETKQ || opcode == GATK || opcode == GATKQ;
+   }
+}
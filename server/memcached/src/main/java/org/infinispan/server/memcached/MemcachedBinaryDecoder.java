@@ -0,0 +1,800 @@
+package org.infinispan.server.memcached;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.infinispan.commons.dataconversion.MediaType.APPLICATION_OCTET_STREAM;
+import static org.infinispan.commons.dataconversion.MediaType.TEXT_PLAIN;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.ADD;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.ADDQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.APPEND;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.APPENDQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.DECREMENT;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.DECREMENTQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.DELETE;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.DELETEQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.FLUSH;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.FLUSHQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.GAT;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.GATK;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.GATKQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.GATQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.GET;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.GETK;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.GETKQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.GETQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.HEADER_LENGTH;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.INCREMENT;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.INCREMENTQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.INTERNAL_ERROR;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.INVALID_ARGUMENTS;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.ITEM_NOT_STORED;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.KEY_EXISTS;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.KEY_NOT_FOUND;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.MAGIC_REQUEST;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.MAGIC_RESPONSE;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.MAX_KEY_LENGTH;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.NON_NUMERIC_VALUE;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.NOOP;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.NO_ERROR;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.NO_INITIAL_VALUE;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.PREPEND;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.PREPENDQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.QUIT;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.QUITQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.REPLACE;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.REPLACEQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.SET;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.SETQ;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.STAT;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.TEMPORARY_FAILURE;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.TOUCH;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.UNKNOWN_COMMAND;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.VALUE_TOO_LARGE;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.VERBOSITY;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.VERSION;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.isQuiet;
+import static org.infinispan.server.memcached.BinaryProtocolUtil.returnsKey;
+import static org.infinispan.server.memcached.MemcachedMetadata.cas;
+import static org.infinispan.server.memcached.MemcachedMetadata.flags;
+import static org.infinispan.server.memcached.TextProtocolUtil.concat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.commons.logging.LogFactory;
+import org.infinispan.commons.marshall.WrappedByteArray;
+import org.infinispan.commons.time.TimeService;
+import org.infinispan.commons.util.Util;
+import org.infinispan.commons.util.Version;
+import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.context.Flag;
+import org.infinispan.metadata.Metadata;
+import org.infinispan.server.core.transport.NettyTransport;
+import org.infinispan.server.core.transport.PipelineStatistics;
+import org.infinispan.server.memcached.logging.Log;
+import org.infinispan.stats.Stats;
+import org.infinispan.util.concurrent.CompletableFutures;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+/**
+ * A decoder of the memcached binary protocol.
+ * <p>
+ * Requests are executed asynchronously, and their responses are written in the order of the requests, so clients can
+ * pipeline requests on a connection. The responses are flushed once all the requests read from the channel have been
+ * dispatched, or by a single task for the responses completed later, instead of once per response. The responses to
+ * successful quiet requests are omitted.
+ * <p>
+ * Consecutive gets, like the quiet gets followed by a no-op that clients send for a multi-get, are executed with a
+ * single {@link AdvancedCache#getAllCacheEntriesAsync(Set)}. Values are written wrapping the {@code byte[]} stored in
+ * the cache, without copying them.
+ * <p>
+ * Requests with values larger than the configured maximum are rejected, and their values discarded as they are
+ * received instead of being buffered. The channel stops reading while {@link #MAX_PENDING_RESPONSES} responses are
+ * pending, and resumes once half of them have been written.
+ *
+ * @since 14.0
+ */
+public class MemcachedBinaryDecoder extends ByteToMessageDecoder {
+   private static final Log log = LogFactory.getLog(MemcachedBinaryDecoder.class, Log.class);
+   static final int MAX_PENDING_RESPONSES = 1024;
+
+   private final AdvancedCache<byte[], byte[]> cache;
+   private final AdvancedCache<byte[], byte[]> ignoreReturnValuesCache;
+   private final ScheduledExecutorService scheduler;
+   private final NettyTransport transport;
+   private final Predicate<? super String> ignoreCache;
+   private final TimeService timeService;
+   private final PipelineStatistics statistics;
+   private final int maxValueSize;
+   private final ArrayDeque<Response> responses = new ArrayDeque<>();
+   private final List<GetRequest> pendingGets = new ArrayList<>();
+   private final Runnable flushTask = this::flush;
+
+   private ChannelHandlerContext ctx;
+   private boolean reading;
+   private boolean quit;
+   private boolean closed;
+   private boolean flushScheduled;
+   private boolean unflushedWrites;
+   private int unflushedResponses;
+   private boolean readPaused;
+   // Remaining bytes of a rejected request
+   private long bytesToSkip;
+
+   public MemcachedBinaryDecoder(AdvancedCache<byte[], byte[]> memcachedCache, ScheduledExecutorService scheduler,
+                                 NettyTransport transport, Predicate<? super String> ignoreCache,
+                                 PipelineStatistics statistics, int maxValueSize) {
+      this.cache = memcachedCache.withMediaType(TEXT_PLAIN, APPLICATION_OCTET_STREAM);
+      this.ignoreReturnValuesCache = cache.withFlags(Flag.IGNORE_RETURN_VALUES);
+      this.scheduler = scheduler;
+      this.transport = transport;
+      this.ignoreCache = ignoreCache;
+      this.timeService = memcachedCache.getComponentRegistry().getTimeService();
+      this.statistics = statistics;
+      this.maxValueSize = maxValueSize;
+   }
+
+   @Override
+   public void handlerAdded(ChannelHandlerContext ctx) {
+      this.ctx = ctx;
+   }
+
+   @Override
+   public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+      reading = true;
+      super.channelRead(ctx, msg);
+   }
+
+   @Override
+   public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+      // Gets pipelined in a read batch are executed together
+      executeGets();
+      reading = false;
+      flush();
+      super.channelReadComplete(ctx);
+   }
+
+   @Override
+   public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+      releaseResponses();
+      super.channelInactive(ctx);
+   }
+
+   @Override
+   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      // The request boundaries are unknown after a decoding error
+      log.debug("Exception caught", cause);
+      ctx.close();
+   }
+
+   @Override
+   protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+      while (!quit) {
+         if (bytesToSkip > 0) {
+            int skipped = (int) Math.min(bytesToSkip, in.readableBytes());
+            in.skipBytes(skipped);
+            bytesToSkip -= skipped;
+            if (bytesToSkip > 0) {
+               return;
+            }
+         }
+         if (in.readableBytes() < HEADER_LENGTH) {
+            return;
+         }
+         int start = in.readerIndex();
+         byte magic = in.getByte(start);
+         long bodyLength = in.getUnsignedInt(start + 8);
+         if (magic != MAGIC_REQUEST || bodyLength > Integer.MAX_VALUE - HEADER_LENGTH) {
+            log.debugf("Invalid request header, magic %x and body length %d", magic, bodyLength);
+            in.skipBytes(in.readableBytes());
+            ctx.close();
+            return;
+         }
+         Request request = new Request(in.getByte(start + 1), in.getInt(start + 12), in.getLong(start + 16));
+         int keyLength = in.getUnsignedShort(start + 2);
+         int extrasLength = in.getUnsignedByte(start + 4);
+         if (bodyLength - keyLength - extrasLength > maxValueSize) {
+            log.debugf("Rejecting request with opcode %x and a body of %d bytes", request.opcode, bodyLength);
+            in.skipBytes(HEADER_LENGTH);
+            bytesToSkip = bodyLength;
+            respond(request, CompletableFuture.completedFuture(status(request, VALUE_TOO_LARGE)));
+            continue;
+         }
+         if (in.readableBytes() < HEADER_LENGTH + bodyLength) {
+            return;
+         }
+         in.skipBytes(HEADER_LENGTH);
+         ByteBuf body = in.readSlice((int) bodyLength);
+         if (keyLength + extrasLength > bodyLength || keyLength > MAX_KEY_LENGTH) {
+            respond(request, CompletableFuture.completedFuture(status(request, INVALID_ARGUMENTS)));
+            continue;
+         }
+         ByteBuf extras = body.readSlice(extrasLength);
+         byte[] key = new byte[keyLength];
+         body.readBytes(key);
+         if (log.isTraceEnabled()) log.tracef("Decoded request with opcode %x and key %s", request.opcode, Util.printArray(key));
+         dispatch(request, extras, key, body);
+      }
+   }
+
+   private void dispatch(Request request, ByteBuf extras, byte[] key, ByteBuf value) {
+      switch (request.opcode) {
+         case GET:
+         case GETQ:
+         case GETK:
+         case GETKQ:
+            if (extras.isReadable() || key.length == 0 || value.isReadable()) {
+               break;
+            }
+            if (ignoreCache.test(cache.getName())) {
+               break;
+            }
+            pendingGets.add(new GetRequest(request, key, nextResponse()));
+            return;
+         case QUIT:
+         case QUITQ:
+            executeGets();
+            quit = true;
+            Response response = nextResponse();
+            response.close = true;
+            send(response, request.opcode == QUIT ? status(request, NO_ERROR) : null);
+            return;
+      }
+      // The responses of the previous gets precede the response of this request
+      executeGets();
+      CompletionStage<ByteBuf> stage;
+      try {
+         stage = execute(request, extras, key, value);
+      } catch (Throwable t) {
+         stage = CompletableFutures.completedExceptionFuture(t);
+      }
+      respond(request, stage);
+   }
+
+   private CompletionStage<ByteBuf> execute(Request request, ByteBuf extras, byte[] key, ByteBuf value) {
+      if (ignoreCache.test(cache.getName())) {
+         return CompletableFuture.completedFuture(status(request, TEMPORARY_FAILURE));
+      }
+      switch (request.opcode) {
+         case GET:
+         case GETQ:
+         case GETK:
+         case GETKQ:
+            // Invalid get
+            return invalidArguments(request);
+         case SET:
+         case SETQ:
+         case ADD:
+         case ADDQ:
+         case REPLACE:
+         case REPLACEQ:
+            if (extras.readableBytes() != 8 || key.length == 0) {
+               return invalidArguments(request);
+            }
+            return store(request, key, readValue(value), extras.readUnsignedInt(), extras.readInt());
+         case DELETE:
+         case DELETEQ:
+            if (extras.isReadable() || key.length == 0 || value.isReadable()) {
+               return invalidArguments(request);
+            }
+            return delete(request, key);
+         case INCREMENT:
+         case INCREMENTQ:
+         case DECREMENT:
+         case DECREMENTQ:
+            if (extras.readableBytes() != 20 || key.length == 0 || value.isReadable()) {
+               return invalidArguments(request);
+            }
+            return incrementOrDecrement(request, key, extras.readLong(), extras.readLong(), extras.readInt());
+         case APPEND:
+         case APPENDQ:
+         case PREPEND:
+         case PREPENDQ:
+            if (extras.isReadable() || key.length == 0) {
+               return invalidArguments(request);
+            }
+            return appendOrPrepend(request, key, readValue(value));
+         case TOUCH:
+         case GAT:
+         case GATQ:
+         case GATK:
+         case GATKQ:
+            if (extras.readableBytes() != 4 || key.length == 0 || value.isReadable()) {
+               return invalidArguments(request);
+            }
+            return touch(request, key, extras.readInt());
+         case FLUSH:
+         case FLUSHQ:
+            if ((extras.isReadable() && extras.readableBytes() != 4) || key.length != 0 || value.isReadable()) {
+               return invalidArguments(request);
+            }
+            return flushAll(request, extras.isReadable() ? extras.readInt() : 0);
+         case NOOP:
+         case VERBOSITY:
+            return CompletableFuture.completedFuture(status(request, NO_ERROR));
+         case VERSION:
+            return CompletableFuture.completedFuture(version(request));
+         case STAT:
+            return CompletableFuture.completedFuture(key.length == 0 ? stats(request) : status(request, KEY_NOT_FOUND));
+         default:
+            return CompletableFuture.completedFuture(status(request, UNKNOWN_COMMAND));
+      }
+   }
+
+   private void executeGets() {
+      if (pendingGets.isEmpty()) {
+         return;
+      }
+      List<GetRequest> gets = new ArrayList<>(pendingGets);
+      pendingGets.clear();
+      if (gets.size() == 1) {
+         GetRequest get = gets.get(0);
+         cache.getCacheEntryAsync(get.key).whenComplete((entry, t) -> complete(get, entry, t));
+         return;
+      }
+      Set<byte[]> keys = new HashSet<>(gets.size());
+      for (GetRequest get : gets) {
+         keys.add(get.key);
+      }
+      cache.getAllCacheEntriesAsync(keys).whenComplete((entries, t) -> {
+         Map<WrappedByteArray, CacheEntry<byte[], byte[]>> entriesByKey = null;
+         if (t == null) {
+            entriesByKey = new HashMap<>(entries.size());
+            for (CacheEntry<byte[], byte[]> entry : entries.values()) {
+               entriesByKey.put(new WrappedByteArray(entry.getKey()), entry);
+            }
+         }
+         for (GetRequest get : gets) {
+            complete(get, entriesByKey == null ? null : entriesByKey.get(new WrappedByteArray(get.key)), t);
+         }
+      });
+   }
+
+   private void complete(GetRequest get, CacheEntry<byte[], byte[]> entry, Throwable t) {
+      ByteBuf reply = t == null ? getResponse(get.request, get.key, entry) : error(get.request, t);
+      if (ctx.executor().inEventLoop()) {
+         send(get.response, reply);
+      } else {
+         ctx.executor().execute(() -> send(get.response, reply));
+      }
+   }
+
+   private CompletionStage<ByteBuf> store(Request request, byte[] key, byte[] value, long flags, int expiration) {
+      Metadata metadata = metadata(flags, lifespan(expiration));
+      switch (request.opcode) {
+         case ADD:
+         case ADDQ:
+            return cache.putIfAbsentAsync(key, value, metadata)
+                  .thenApply(prev -> prev == null ? stored(request, metadata) : status(request, KEY_EXISTS));
+         case REPLACE:
+         case REPLACEQ:
+            if (request.cas == 0) {
+               return cache.replaceAsync(key, value, metadata)
+                     .thenApply(prev -> prev != null ? stored(request, metadata) : status(request, KEY_NOT_FOUND));
+            }
+            return replaceIfUnmodified(request, key, value, metadata);
+         default:
+            if (request.cas == 0) {
+               return ignoreReturnValuesCache.putAsync(key, value, metadata).thenApply(ignore -> stored(request, metadata));
+            }
+            return replaceIfUnmodified(request, key, value, metadata);
+      }
+   }
+
+   private CompletionStage<ByteBuf> replaceIfUnmodified(Request request, byte[] key, byte[] value, Metadata metadata) {
+      return cache.getCacheEntryAsync(key).thenCompose(entry -> {
+         if (entry == null) {
+            return CompletableFuture.completedFuture(status(request, KEY_NOT_FOUND));
+         }
+         if (cas(entry.getMetadata()) != request.cas) {
+            return CompletableFuture.completedFuture(status(request, KEY_EXISTS));
+         }
+         return cache.replaceAsync(key, entry.getValue(), value, metadata)
+               .thenApply(replaced -> replaced ? stored(request, metadata) : status(request, KEY_EXISTS));
+      });
+   }
+
+   private CompletionStage<ByteBuf> delete(Request request, byte[] key) {
+      if (request.cas == 0) {
+         return cache.removeAsync(key)
+               .thenApply(prev -> prev != null ? status(request, NO_ERROR) : status(request, KEY_NOT_FOUND));
+      }
+      return cache.getCacheEntryAsync(key).thenCompose(entry -> {
+         if (entry == null) {
+            return CompletableFuture.completedFuture(status(request, KEY_NOT_FOUND));
+         }
+         if (cas(entry.getMetadata()) != request.cas) {
+            return CompletableFuture.completedFuture(status(request, KEY_EXISTS));
+         }
+         return cache.removeAsync(key, entry.getValue())
+               .thenApply(removed -> removed ? status(request, NO_ERROR) : status(request, KEY_EXISTS));
+      });
+   }
+
+   private CompletionStage<ByteBuf> incrementOrDecrement(Request request, byte[] key, long delta, long initial,
+                                                         int expiration) {
+      return cache.getCacheEntryAsync(key).thenCompose(entry -> {
+         if (entry == null) {
+            if (expiration == NO_INITIAL_VALUE) {
+               return CompletableFuture.completedFuture(status(request, KEY_NOT_FOUND));
+            }
+            Metadata metadata = metadata(0, lifespan(expiration));
+            return cache.putIfAbsentAsync(key, counterValue(initial), metadata).thenCompose(prev -> prev == null ?
+                  CompletableFuture.completedFuture(counter(request, initial, metadata)) :
+                  incrementOrDecrement(request, key, delta, initial, expiration));
+         }
+         long counter;
+         try {
+            counter = Long.parseUnsignedLong(new String(entry.getValue(), US_ASCII));
+         } catch (NumberFormatException e) {
+            return CompletableFuture.completedFuture(status(request, NON_NUMERIC_VALUE));
+         }
+         long next;
+         if (request.opcode == INCREMENT || request.opcode == INCREMENTQ) {
+            // Wraps around at 2^64
+            next = counter + delta;
+         } else {
+            // Does not go below 0
+            next = Long.compareUnsigned(counter, delta) < 0 ? 0 : counter - delta;
+         }
+         Metadata metadata = updatedMetadata(entry.getMetadata());
+         return cache.replaceAsync(key, entry.getValue(), counterValue(next), metadata).thenCompose(replaced -> replaced ?
+               CompletableFuture.completedFuture(counter(request, next, metadata)) :
+               incrementOrDecrement(request, key, delta, initial, expiration));
+      });
+   }
+
+   private CompletionStage<ByteBuf> appendOrPrepend(Request request, byte[] key, byte[] value) {
+      return cache.getCacheEntryAsync(key).thenCompose(entry -> {
+         if (entry == null) {
+            return CompletableFuture.completedFuture(status(request, ITEM_NOT_STORED));
+         }
+         if (request.cas != 0 && cas(entry.getMetadata()) != request.cas) {
+            return CompletableFuture.completedFuture(status(request, KEY_EXISTS));
+         }
+         byte[] prev = entry.getValue();
+         byte[] concatenated = request.opcode == APPEND || request.opcode == APPENDQ ? concat(prev, value) : concat(value, prev);
+         Metadata metadata = updatedMetadata(entry.getMetadata());
+         return cache.replaceAsync(key, prev, concatenated, metadata).thenCompose(replaced -> {
+            if (replaced) {
+               return CompletableFuture.completedFuture(stored(request, metadata));
+            } else if (request.cas != 0) {
+               return CompletableFuture.completedFuture(status(request, KEY_EXISTS));
+            } else {
+               return appendOrPrepend(request, key, value);
+            }
+         });
+      });
+   }
+
+   private CompletionStage<ByteBuf> touch(Request request, byte[] key, int expiration) {
+      return cache.getCacheEntryAsync(key).thenCompose(entry -> {
+         if (entry == null) {
+            return CompletableFuture.completedFuture(request.opcode == TOUCH ?
+                  status(request, KEY_NOT_FOUND) : getResponse(request, key, null));
+         }
+         // Touching an entry does not change its version
+         Metadata metadata = new MemcachedMetadata.Builder()
+               .flags(flags(entry.getMetadata()))
+               .version(entry.getMetadata().version())
+               .lifespan(lifespan(expiration))
+               .build();
+         return cache.replaceAsync(key, entry.getValue(), metadata).thenApply(prev -> {
+            if (prev == null) {
+               return request.opcode == TOUCH ? status(request, KEY_NOT_FOUND) : getResponse(request, key, null);
+            }
+            return request.opcode == TOUCH ? status(request, NO_ERROR) : getResponse(request, key, entry);
+         });
+      });
+   }
+
+   private CompletionStage<ByteBuf> flushAll(Request request, int delay) {
+      if (delay == 0) {
+         return cache.clearAsync().thenApply(ignore -> status(request, NO_ERROR));
+      }
+      scheduler.schedule(cache::clear, MemcachedDecoder.toMillis(delay, timeService), TimeUnit.MILLISECONDS);
+      return CompletableFuture.completedFuture(status(request, NO_ERROR));
+   }
+
+   private ByteBuf getResponse(Request request, byte[] key, CacheEntry<byte[], byte[]> entry) {
+      boolean withKey = returnsKey(request.opcode);
+      if (entry == null) {
+         if (isQuiet(request.opcode)) {
+            return null;
+         }
+         ByteBuf buf = header(request, KEY_NOT_FOUND, withKey ? key.length : 0, 0, 0, 0);
+         if (withKey) {
+            buf.writeBytes(key);
+         }
+         return buf;
+      }
+      byte[] value = entry.getValue();
+      Metadata metadata = entry.getMetadata();
+      int keyLength = withKey ? key.length : 0;
+      ByteBuf buf = ctx.alloc().buffer(HEADER_LENGTH + 4 + keyLength);
+      writeHeader(buf, request, NO_ERROR, keyLength, 4, value.length, cas(metadata));
+      buf.writeInt((int) flags(metadata));
+      if (withKey) {
+         buf.writeBytes(key);
+      }
+      // The stored value is not copied
+      return value.length == 0 ? buf : Unpooled.wrappedBuffer(buf, Unpooled.wrappedBuffer(value));
+   }
+
+   private ByteBuf stored(Request request, Metadata metadata) {
+      if (isQuiet(request.opcode)) {
+         return null;
+      }
+      return header(request, NO_ERROR, 0, 0, 0, cas(metadata));
+   }
+
+   private ByteBuf counter(Request request, long value, Metadata metadata) {
+      if (isQuiet(request.opcode)) {
+         return null;
+      }
+      ByteBuf buf = header(request, NO_ERROR, 0, 0, 8, cas(metadata));
+      buf.writeLong(value);
+      return buf;
+   }
+
+   private ByteBuf version(Request request) {
+      byte[] version = Version.getVersion().getBytes(US_ASCII);
+      ByteBuf buf = header(request, NO_ERROR, 0, 0, version.length, 0);
+      buf.writeBytes(version);
+      return buf;
+   }
+
+   private ByteBuf stats(Request request) {
+      Stats stats = cache.getStats();
+      ByteBuf buf = ctx.alloc().buffer();
+      writeStat(buf, request, "pid", 0);
+      writeStat(buf, request, "uptime", stats.getTimeSinceStart());
+      writeStat(buf, request, "time", TimeUnit.MILLISECONDS.toSeconds(timeService.wallClockTime()));
+      writeStat(buf, request, "version", Version.getVersion());
+      writeStat(buf, request, "curr_items", stats.getCurrentNumberOfEntries());
+      writeStat(buf, request, "total_items", stats.getTotalNumberOfEntries());
+      writeStat(buf, request, "cmd_get", stats.getRetrievals());
+      writeStat(buf, request, "cmd_set", stats.getStores());
+      writeStat(buf, request, "get_hits", stats.getHits());
+      writeStat(buf, request, "get_misses", stats.getMisses());
+      writeStat(buf, request, "delete_misses", stats.getRemoveMisses());
+      writeStat(buf, request, "delete_hits", stats.getRemoveHits());
+      writeStat(buf, request, "evictions", stats.getEvictions());
+      writeStat(buf, request, "bytes_read", transport.getTotalBytesRead());
+      writeStat(buf, request, "bytes_written", transport.getTotalBytesWritten());
+      // The last response has no key and no value
+      writeHeader(buf, request, NO_ERROR, 0, 0, 0, 0);
+      return buf;
+   }
+
+   private static void writeStat(ByteBuf buf, Request request, String name, Object value) {
+      byte[] key = name.getBytes(US_ASCII);
+      byte[] bytes = String.valueOf(value).getBytes(US_ASCII);
+      writeHeader(buf, request, NO_ERROR, key.length, 0, bytes.length, 0);
+      buf.writeBytes(key);
+      buf.writeBytes(bytes);
+   }
+
+   private ByteBuf status(Request request, short status) {
+      if (status == NO_ERROR) {
+         return isQuiet(request.opcode) ? null : header(request, status, 0, 0, 0, 0);
+      }
+      return status(request, status, statusMessage(status));
+   }
+
+   private ByteBuf status(Request request, short status, String message) {
+      byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+      ByteBuf buf = header(request, status, 0, 0, bytes.length, 0);
+      buf.writeBytes(bytes);
+      return buf;
+   }
+
+   private ByteBuf error(Request request, Throwable t) {
+      Throwable cause = CompletableFutures.extractException(t);
+      log.debugf(cause, "Error executing request with opcode %x", request.opcode);
+      return status(request, INTERNAL_ERROR, String.valueOf(cause.getMessage()));
+   }
+
+   private CompletionStage<ByteBuf> invalidArguments(Request request) {
+      return CompletableFuture.completedFuture(status(request, INVALID_ARGUMENTS));
+   }
+
+   private static String statusMessage(short status) {
+      switch (status) {
+         case KEY_NOT_FOUND:
+            return "Not found";
+         case KEY_EXISTS:
+            return "Data exists for key.";
+         case VALUE_TOO_LARGE:
+            return "Too large.";
+         case INVALID_ARGUMENTS:
+            return "Invalid arguments";
+         case ITEM_NOT_STORED:
+            return "Not stored.";
+         case NON_NUMERIC_VALUE:
+            return "Non-numeric server-side value for incr or decr";
+         case UNKNOWN_COMMAND:
+            return "Unknown command";
+         case TEMPORARY_FAILURE:
+            return "Temporary failure";
+         default:
+            return "Internal error";
+      }
+   }
+
+   private ByteBuf header(Request request, short status, int keyLength, int extrasLength, int valueLength, long cas) {
+      ByteBuf buf = ctx.alloc().buffer(HEADER_LENGTH + keyLength + extrasLength + valueLength);
+      writeHeader(buf, request, status, keyLength, extrasLength, valueLength, cas);
+      return buf;
+   }
+
+   private static void writeHeader(ByteBuf buf, Request request, short status, int keyLength, int extrasLength,
+                                   int valueLength, long cas) {
+      buf.writeByte(MAGIC_RESPONSE);
+      buf.writeByte(request.opcode);
+      buf.writeShort(keyLength);
+      buf.writeByte(extrasLength);
+      buf.writeByte(0); // Raw bytes data type
+      buf.writeShort(status);
+      buf.writeInt(keyLength + extrasLength + valueLength);
+      buf.writeInt(request.opaque);
+      buf.writeLong(cas);
+   }
+
+   private Metadata metadata(long flags, long lifespan) {
+      return new MemcachedMetadata.Builder()
+            .flags(flags)
+            .version(MemcachedDecoder.generateVersion(cache))
+            .lifespan(lifespan)
+            .build();
+   }
+
+   /**
+    * Returns the metadata of a modified entry, keeping its flags and expiration
+    */
+   private Metadata updatedMetadata(Metadata metadata) {
+      return metadata(flags(metadata), metadata.lifespan());
+   }
+
+   private long lifespan(int expiration) {
+      return expiration != 0 ? MemcachedDecoder.toMillis(expiration, timeService) : -1;
+   }
+
+   private static byte[] counterValue(long counter) {
+      return Long.toUnsignedString(counter).getBytes(US_ASCII);
+   }
+
+   private static byte[] readValue(ByteBuf buf) {
+      byte[] value = new byte[buf.readableBytes()];
+      buf.readBytes(value);
+      return value;
+   }
+
+   private Response nextResponse() {
+      Response response = new Response();
+      responses.add(response);
+      statistics.requestReceived(responses.size());
+      if (!readPaused && responses.size() >= MAX_PENDING_RESPONSES) {
+         readPaused = true;
+         ctx.channel().config().setAutoRead(false);
+      }
+      return response;
+   }
+
+   private void respond(Request request, CompletionStage<ByteBuf> stage) {
+      Response response = nextResponse();
+      stage.whenComplete((reply, t) -> {
+         ByteBuf buf = t == null ? reply : error(request, t);
+         if (ctx.executor().inEventLoop()) {
+            send(response, buf);
+         } else {
+            ctx.executor().execute(() -> send(response, buf));
+         }
+      });
+   }
+
+   private void send(Response response, ByteBuf reply) {
+      if (closed) {
+         if (reply != null) {
+            reply.release();
+         }
+         return;
+      }
+      response.reply = reply;
+      response.complete = true;
+      Response head;
+      while ((head = responses.peekFirst()) != null && head.complete) {
+         responses.pollFirst();
+         if (head.reply != null) {
+            ctx.write(head.reply, ctx.voidPromise());
+            unflushedWrites = true;
+            unflushedResponses++;
+         }
+         if (head.close) {
+            flush();
+            ctx.writeAndFlush(Unpooled.EMPTY_BUFFER).addListener(ChannelFutureListener.CLOSE);
+            releaseResponses();
+            return;
+         }
+      }
+      if (readPaused && responses.size() <= MAX_PENDING_RESPONSES / 2) {
+         readPaused = false;
+         ctx.channel().config().setAutoRead(true);
+      }
+      // The responses written while reading are flushed when the read completes
+      if (unflushedWrites && !reading && !flushScheduled) {
+         flushScheduled = true;
+         ctx.executor().execute(flushTask);
+      }
+   }
+
+   private void flush() {
+      flushScheduled = false;
+      if (unflushedWrites) {
+         statistics.flushed(unflushedResponses);
+         unflushedWrites = false;
+         unflushedResponses = 0;
+         ctx.flush();
+      }
+   }
+
+   /**
+    * Releases the replies that were not written before the channel was closed
+    */
+   private void releaseResponses() {
+      closed = true;
+      Response response;
+      while ((response = responses.pollFirst()) != null) {
+         if (response.reply != null) {
+            response.reply.release();
+         }
+      }
+   }
+
+   private static final class Request {
+      final byte opcode;
+      final int opaque;
+      final long cas;
+
+      Request(byte opcode, int opaque, long cas) {
+         this.opcode = opcode;
+         this.opaque = opaque;
+         this.cas = cas;
+      }
+   }
+
+   private static final class GetRequest {
+      final Request request;
+      final byte[] key;
+      final Response response;
+
+      GetRequest(Request request, byte[] key, Response response) {
+         this.request = request;
+         this.key = key;
+         this.response = response;
+      }
+   }
+
+   // Only accessed by the event loop
+   private static final class Response {
+      ByteBuf reply;
+      boolean complete;
+      boolean close;
+   }
+}
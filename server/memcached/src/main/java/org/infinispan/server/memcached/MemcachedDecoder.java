@@ -13,6 +13,13 @@
 import static org.infinispan.server.memcached.TextProtocolUtil.ERROR;
 import static org.infinispan.server.memcached.TextProtocolUtil.EXISTS;
 import static org.infinispan.server.memcached.TextProtocolUtil.MAX_UNSIGNED_LONG;
+import static org.infinispan.server.memcached.TextProtocolUtil.META_EXISTS;
+import static org.infinispan.server.memcached.TextProtocolUtil.META_MISS;
+import static org.infinispan.server.memcached.TextProtocolUtil.META_NOOP;
+import static org.infinispan.server.memcached.TextProtocolUtil.META_NOT_FOUND;
+import static org.infinispan.server.memcached.TextProtocolUtil.META_NOT_STORED;
+import static org.infinispan.server.memcached.TextProtocolUtil.META_SUCCESS;
+import static org.infinispan.server.memcached.TextProtocolUtil.META_VALUE;
 import static org.infinispan.server.memcached.TextProtocolUtil.MIN_UNSIGNED;
 import static org.infinispan.server.memcached.TextProtocolUtil.NOT_FOUND;
 import static org.infinispan.server.memcached.TextProtocolUtil.NOT_STORED;
@@ -39,10 +46,14 @@
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -50,10 +61,10 @@
 import java.util.stream.Stream;
 
 import org.infinispan.AdvancedCache;
-import org.infinispan.Cache;
 import org.infinispan.commons.CacheException;
 import org.infinispan.commons.dataconversion.MediaType;
 import org.infinispan.commons.logging.LogFactory;
+import org.infinispan.commons.marshall.WrappedByteArray;
 import org.infinispan.commons.time.TimeService;
 import org.infinispan.commons.util.Util;
 import org.infinispan.commons.util.Version;
@@ -74,6 +85,7 @@
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ReplayingDecoder;
 import io.netty.util.CharsetUtil;
@@ -119,6 +131,7 @@ public MemcachedDecoder(AdvancedCache<byte[], byte[]> memcachedCache, ScheduledE
    protected Configuration cacheConfiguration;
 
    protected MemcachedParameters params;
+   private MetaRequest meta;
    private final boolean isStatsEnabled;
    private final AtomicLong incrMisses = new AtomicLong();
    private final AtomicLong incrHits = new AtomicLong();
@@ -130,6 +143,13 @@ public MemcachedDecoder(AdvancedCache<byte[], byte[]> memcachedCache, ScheduledE
    private ByteArrayOutputStream byteBuffer = new ByteArrayOutputStream();
    protected RequestHeader header;
 
+   @Override
+   public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+      // Flush the responses to all the requests of the read at once
+      ctx.flush();
+      super.channelReadComplete(ctx);
+   }
+
    @Override
    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
       try {
@@ -399,9 +419,18 @@ public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
    protected Object get(ByteBuf buffer) throws StreamCorruptedException {
       List<byte[]> keys = readKeys(buffer);
       if (keys.size() > 1) {
+         Set<byte[]> keySet = new HashSet<>(keys.size());
+         for (byte[] key : keys) {
+            keySet.add(checkKeyLength(key, true, buffer));
+         }
+         // Retrieve all the keys with a single command
+         Map<WrappedByteArray, CacheEntry<byte[], byte[]>> entries = new HashMap<>(keys.size());
+         for (CacheEntry<byte[], byte[]> entry : cache.getAllCacheEntries(keySet).values()) {
+            entries.put(new WrappedByteArray(entry.getKey()), entry);
+         }
          Map<byte[], CacheEntry<byte[], byte[]>> map = new LinkedHashMap<>();
          for (byte[] key : keys) {
-            CacheEntry<byte[], byte[]> entry = cache.getCacheEntry(checkKeyLength(key, true, buffer));
+            CacheEntry<byte[], byte[]> entry = entries.get(new WrappedByteArray(key));
             if (entry != null) {
                map.put(key, entry);
             }
@@ -515,8 +544,8 @@ private MemcachedParameters readStorageParameters(List<String> args, ByteBuf b)
       return new MemcachedParameters(length, lifespan, -1, streamVersion, noReply, flags, "", 0);
    }
 
-   private EntryVersion generateVersion(Cache<byte[], byte[]> cache) {
-      ComponentRegistry registry = getCacheRegistry();
+   static EntryVersion generateVersion(AdvancedCache<?, ?> cache) {
+      ComponentRegistry registry = cache.getComponentRegistry();
       VersionGenerator cacheVersionGenerator = registry.getComponent(VersionGenerator.class);
       if (cacheVersionGenerator == null) {
          NumericVersionGenerator newVersionGenerator = new NumericVersionGenerator();
@@ -584,10 +613,6 @@ private Configuration getCacheConfiguration() {
       return cache.getCacheConfiguration();
    }
 
-   private ComponentRegistry getCacheRegistry() {
-      return cache.getComponentRegistry();
-   }
-
    private void customDecodeHeader(ChannelHandlerContext ctx, ByteBuf buffer) throws IOException {
       Channel ch = ctx.channel();
       switch (header.operation) {
@@ -599,8 +624,16 @@ private void customDecodeHeader(ChannelHandlerContext ctx, ByteBuf buffer) throw
             writeResponse(ch, ret);
             break;
          case QuitRequest:
-            ch.close();
+            // Close after writing the responses to the previous requests
+            ch.writeAndFlush(Unpooled.EMPTY_BUFFER).addListener(ChannelFutureListener.CLOSE);
+            break;
+         case MetaNoOpRequest:
+            writeResponse(ch, META_NOOP);
             break;
+         case MetaGetRequest:
+         case MetaSetRequest:
+         case MetaDeleteRequest:
+            throw new StreamCorruptedException("Missing key in meta command");
          default:
             throw new IllegalArgumentException("Operation " + header.operation + " not supported!");
       }
@@ -619,6 +652,21 @@ protected void customDecodeKey(ChannelHandlerContext ctx, ByteBuf buffer) throws
          case FlushAllRequest:
             flushAll(buffer, ch, true); // With params
             break;
+         case MetaGetRequest:
+            metaGet(ch, readMetaRequest(buffer, false));
+            break;
+         case MetaSetRequest:
+            meta = readMetaRequest(buffer, true);
+            rawValue = meta.valueLength == 0 ? Util.EMPTY_BYTE_ARRAY : new byte[meta.valueLength];
+            checkpoint(MemcachedDecoderState.DECODE_VALUE);
+            break;
+         case MetaDeleteRequest:
+            metaDelete(ch, readMetaRequest(buffer, false));
+            break;
+         case MetaNoOpRequest:
+            skipLine(buffer);
+            writeResponse(ch, META_NOOP);
+            break;
          default:
             throw new IllegalArgumentException("Operation " + header.operation + " not supported!");
       }
@@ -658,11 +706,235 @@ protected void customDecodeValue(ChannelHandlerContext ctx, ByteBuf buffer) thro
          case DecrementRequest:
             incrDecr(ch);
             break;
+         case MetaSetRequest:
+            readValue(buffer);
+            writeResponse(ch, metaSet());
+            break;
          default:
             throw new IllegalArgumentException("Operation " + header.operation + " not supported!");
       }
    }
 
+   private MetaRequest readMetaRequest(ByteBuf buffer, boolean withValueLength) throws IOException {
+      List<byte[]> tokens = TextProtocolUtil.extractKeys(buffer);
+      tokens.removeIf(token -> token.length == 0);
+      if (tokens.isEmpty())
+         throw new StreamCorruptedException("Missing key in meta command");
+      MetaRequest request = new MetaRequest(new String(tokens.get(0), UTF_8));
+      int index = 1;
+      if (withValueLength) {
+         if (tokens.size() < 2)
+            throw new EOFException("No bytes passed");
+         request.valueLength = getLength(new String(tokens.get(1), UTF_8));
+         if (request.valueLength < 0)
+            throw new StreamCorruptedException("Negative bytes length provided: " + request.valueLength);
+         index = 2;
+      }
+      for (; index < tokens.size(); index++) {
+         String flag = new String(tokens.get(index), UTF_8);
+         String token = flag.substring(1);
+         switch (flag.charAt(0)) {
+            case 'b':
+               request.base64Key = true;
+               break;
+            case 'c':
+               request.returnCas = true;
+               break;
+            case 'f':
+               request.returnFlags = true;
+               break;
+            case 'k':
+               request.returnKey = true;
+               break;
+            case 'q':
+               request.quiet = true;
+               break;
+            case 's':
+               request.returnSize = true;
+               break;
+            case 't':
+               request.returnTtl = true;
+               break;
+            case 'v':
+               request.returnValue = true;
+               break;
+            case 'C':
+               request.compareCas = getVersion(token);
+               break;
+            case 'F':
+               request.flags = getFlags(token);
+               break;
+            case 'M':
+               if (token.length() != 1 || "EAPRS".indexOf(Character.toUpperCase(token.charAt(0))) < 0)
+                  throw new StreamCorruptedException("Invalid mode for meta command: " + token);
+               request.mode = Character.toUpperCase(token.charAt(0));
+               break;
+            case 'O':
+               request.opaque = token;
+               break;
+            case 'T':
+               request.ttl = getLifespan(token);
+               request.updateTtl = true;
+               break;
+            default:
+               // Flags without effect on a single node, like the stale and win flags, are ignored
+               if (log.isTraceEnabled()) log.tracef("Ignoring meta command flag '%s'", flag);
+         }
+      }
+      byte[] k;
+      if (request.base64Key) {
+         try {
+            k = Base64.getDecoder().decode(request.keyToken);
+         } catch (IllegalArgumentException e) {
+            throw new StreamCorruptedException("Invalid base64 key: " + request.keyToken);
+         }
+      } else {
+         k = tokens.get(0);
+      }
+      request.key = checkKeyLength(k, true, buffer);
+      return request;
+   }
+
+   private void metaGet(Channel ch, MetaRequest request) {
+      CacheEntry<byte[], byte[]> entry = cache.getCacheEntry(request.key);
+      if (entry == null) {
+         writeResponse(ch, request.quiet ? null : META_MISS);
+         return;
+      }
+      long ttl;
+      if (request.updateTtl) {
+         // Touching an entry does not change its version
+         Metadata metadata = new MemcachedMetadata.Builder()
+               .flags(MemcachedMetadata.flags(entry.getMetadata()))
+               .version(entry.getMetadata().version())
+               .lifespan(request.ttl > 0 ? toMillis(request.ttl) : -1)
+               .build();
+         cache.replace(request.key, entry.getValue(), metadata);
+         ttl = request.ttl > 0 ? TimeUnit.MILLISECONDS.toSeconds(metadata.lifespan()) : -1;
+      } else {
+         ttl = remainingTtl(entry);
+      }
+      if (request.returnValue) {
+         byte[] value = entry.getValue();
+         StringBuilder sb = new StringBuilder(META_VALUE).append(' ').append(value.length);
+         appendMetaFlags(sb, request, entry.getMetadata(), value.length, ttl);
+         // The value is written without copying it
+         writeResponse(ch, Unpooled.wrappedBuffer(sb.toString().getBytes(UTF_8), value, CRLFBytes));
+      } else {
+         StringBuilder sb = new StringBuilder(META_SUCCESS);
+         appendMetaFlags(sb, request, entry.getMetadata(), entry.getValue().length, ttl);
+         writeResponse(ch, sb);
+      }
+   }
+
+   private Object metaSet() {
+      MetaRequest request = meta;
+      Metadata metadata = new MemcachedMetadata.Builder()
+            .flags(request.flags)
+            .version(generateVersion(cache))
+            .lifespan(request.ttl > 0 ? toMillis(request.ttl) : -1)
+            .build();
+      CacheEntry<byte[], byte[]> entry = null;
+      if (request.compareCas != 0 || request.mode == 'A' || request.mode == 'P') {
+         entry = cache.getCacheEntry(request.key);
+         if (entry == null) {
+            return metaResponse(request.mode == 'A' || request.mode == 'P' ? META_NOT_STORED : META_NOT_FOUND, request, null);
+         }
+         if (request.compareCas != 0 && MemcachedMetadata.cas(entry.getMetadata()) != request.compareCas) {
+            return metaResponse(META_EXISTS, request, null);
+         }
+      }
+      String status;
+      switch (request.mode) {
+         case 'E':
+            status = cache.putIfAbsent(request.key, rawValue, metadata) == null ? META_SUCCESS : META_NOT_STORED;
+            break;
+         case 'A':
+         case 'P':
+            byte[] prev = entry.getValue();
+            // The flags and the expiration of the entry are kept
+            metadata = new MemcachedMetadata.Builder()
+                  .flags(MemcachedMetadata.flags(entry.getMetadata()))
+                  .version(metadata.version())
+                  .lifespan(entry.getLifespan())
+                  .build();
+            byte[] concatenated = request.mode == 'A' ? concat(prev, rawValue) : concat(rawValue, prev);
+            status = cache.replace(request.key, prev, concatenated, metadata) ? META_SUCCESS : META_EXISTS;
+            break;
+         case 'R':
+            if (entry != null) {
+               status = cache.replace(request.key, entry.getValue(), rawValue, metadata) ? META_SUCCESS : META_EXISTS;
+            } else {
+               status = cache.replace(request.key, rawValue, metadata) != null ? META_SUCCESS : META_NOT_STORED;
+            }
+            break;
+         default:
+            if (entry != null) {
+               status = cache.replace(request.key, entry.getValue(), rawValue, metadata) ? META_SUCCESS : META_EXISTS;
+            } else {
+               cache.withFlags(Flag.IGNORE_RETURN_VALUES).put(request.key, rawValue, metadata);
+               status = META_SUCCESS;
+            }
+      }
+      return metaResponse(status, request, META_SUCCESS.equals(status) ? metadata : null);
+   }
+
+   private void metaDelete(Channel ch, MetaRequest request) {
+      String status;
+      if (request.compareCas != 0) {
+         CacheEntry<byte[], byte[]> entry = cache.getCacheEntry(request.key);
+         if (entry == null) {
+            status = META_NOT_FOUND;
+         } else if (MemcachedMetadata.cas(entry.getMetadata()) != request.compareCas) {
+            status = META_EXISTS;
+         } else {
+            status = cache.remove(request.key, entry.getValue()) ? META_SUCCESS : META_EXISTS;
+         }
+      } else {
+         status = cache.remove(request.key) != null ? META_SUCCESS : META_NOT_FOUND;
+      }
+      writeResponse(ch, metaResponse(status, request, null));
+   }
+
+   /**
+    * Returns the response to a meta command, or {@code null} if the command succeeded in quiet mode
+    */
+   private Object metaResponse(String status, MetaRequest request, Metadata metadata) {
+      if (request.quiet && META_SUCCESS.equals(status)) {
+         return null;
+      }
+      StringBuilder sb = new StringBuilder(status);
+      appendMetaFlags(sb, request, metadata, -1, -1);
+      return sb;
+   }
+
+   private void appendMetaFlags(StringBuilder sb, MetaRequest request, Metadata metadata, int size, long ttl) {
+      if (metadata != null) {
+         if (request.returnCas) sb.append(" c").append(MemcachedMetadata.cas(metadata));
+         if (request.returnFlags) sb.append(" f").append(MemcachedMetadata.flags(metadata));
+      }
+      if (size >= 0) {
+         if (request.returnSize) sb.append(" s").append(size);
+         if (request.returnTtl) sb.append(" t").append(ttl);
+      }
+      if (request.returnKey) {
+         sb.append(" k").append(request.keyToken);
+         if (request.base64Key) sb.append(" b");
+      }
+      if (request.opaque != null) sb.append(" O").append(request.opaque);
+      sb.append(CRLF);
+   }
+
+   private long remainingTtl(CacheEntry<byte[], byte[]> entry) {
+      long lifespan = entry.getLifespan();
+      if (lifespan < 0) {
+         return -1;
+      }
+      long created = entry.getCreated();
+      long remaining = created > 0 ? created + lifespan - timeService.wallClockTime() : lifespan;
+      return TimeUnit.MILLISECONDS.toSeconds(Math.max(remaining, 0));
+   }
+
    private void incrDecr(Channel ch) throws StreamCorruptedException {
       byte[] prev = cache.get(key);
       Object ret;
@@ -822,6 +1094,7 @@ private void resetParams() {
       // Reset parameters to avoid leaking previous params
       // into a request that has no params
       params = null;
+      meta = null;
       rawValue = null; // Clear reference to value
       key = null;
    }
@@ -885,6 +1158,10 @@ private StringBuilder logAndCreateErrorMessage(StringBuilder sb, MemcachedExcept
     * now and it's returned in milliseconds unit.
     */
    private long toMillis(int lifespan) {
+      return toMillis(lifespan, timeService);
+   }
+
+   static long toMillis(int lifespan, TimeService timeService) {
       if (lifespan > SecondsInAMonth) {
          long unixTimeExpiry = TimeUnit.SECONDS.toMillis(lifespan) - timeService.wallClockTime();
          return unixTimeExpiry < 0 ? 0 : unixTimeExpiry;
@@ -897,19 +1174,19 @@ protected Object writeResponse(Channel ch, Object response) {
       try {
          if (response != null) {
             if (log.isTraceEnabled()) log.tracef("Write response %s", response);
+            // The responses are flushed when the read completes
             if (response instanceof ByteBuf[]) {
                for (ByteBuf buf : (ByteBuf[]) response) {
                   ch.write(buf, ch.voidPromise());
-                  ch.flush();
                }
             } else if (response instanceof byte[]) {
-               ch.writeAndFlush(wrappedBuffer((byte[]) response), ch.voidPromise());
+               ch.write(wrappedBuffer((byte[]) response), ch.voidPromise());
             } else if (response instanceof CharSequence) {
-               ch.writeAndFlush(Unpooled.copiedBuffer((CharSequence) response, CharsetUtil.UTF_8), ch.voidPromise());
+               ch.write(Unpooled.copiedBuffer((CharSequence) response, CharsetUtil.UTF_8), ch.voidPromise());
             } else if (response instanceof PartialResponse) {
                return response;
             } else {
-               ch.writeAndFlush(response, ch.voidPromise());
+               ch.write(response, ch.voidPromise());
             }
          }
          return null;
@@ -1097,6 +1374,14 @@ private MemcachedOperation toRequest(String commandName, Boolean endOfOp, ByteBu
             return MemcachedOperation.VerbosityRequest;
          case "quit":
             return MemcachedOperation.QuitRequest;
+         case "mg":
+            return MemcachedOperation.MetaGetRequest;
+         case "ms":
+            return MemcachedOperation.MetaSetRequest;
+         case "md":
+            return MemcachedOperation.MetaDeleteRequest;
+         case "mn":
+            return MemcachedOperation.MetaNoOpRequest;
          default:
             if (!endOfOp) {
                String line = readDiscardedLine(buffer); // Read rest of line to clear the operation
@@ -1151,6 +1436,30 @@ public String toString() {
 //   }
 //}
 
+class MetaRequest {
+   final String keyToken;
+   byte[] key;
+   int valueLength;
+   boolean base64Key;
+   boolean quiet;
+   boolean returnCas;
+   boolean returnFlags;
+   boolean returnKey;
+   boolean returnSize;
+   boolean returnTtl;
+   boolean returnValue;
+   long compareCas;
+   long flags;
+   char mode = 'S';
+   String opaque;
+   int ttl;
+   boolean updateTtl;
+
+   MetaRequest(String keyToken) {
+      this.keyToken = keyToken;
+   }
+}
+
 class MemcachedException extends Exception {
    MemcachedException(String message, Throwable cause) {
       super(message, cause);
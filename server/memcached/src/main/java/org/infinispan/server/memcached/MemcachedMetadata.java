@@ -67,6 +67,21 @@ public String toString() {
             '}';
    }
 
+   /**
+    * Returns the flags of an entry with the given metadata, or 0 if the entry was not written by a memcached client
+    */
+   static long flags(Metadata metadata) {
+      return metadata instanceof MemcachedMetadata ? ((MemcachedMetadata) metadata).flags : 0;
+   }
+
+   /**
+    * Returns the version of an entry with the given metadata as a memcached CAS value, or 0 if it has no numeric version
+    */
+   static long cas(Metadata metadata) {
+      return metadata != null && metadata.version() instanceof NumericVersion ?
+            ((NumericVersion) metadata.version()).getVersion() : 0;
+   }
+
    static class Builder extends EmbeddedMetadata.Builder {
 
       private long flags;
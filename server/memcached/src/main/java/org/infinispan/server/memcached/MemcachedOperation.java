@@ -25,6 +25,10 @@ public enum MemcachedOperation {
    FlushAllRequest,
    VersionRequest,
    VerbosityRequest,
-   QuitRequest
+   QuitRequest,
+   MetaGetRequest,
+   MetaSetRequest,
+   MetaDeleteRequest,
+   MetaNoOpRequest
    ;
 }
@@ -0,0 +1,36 @@
+package org.infinispan.server.memcached;
+
+import static org.infinispan.server.memcached.BinaryProtocolUtil.MAGIC_REQUEST;
+
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+/**
+ * Detects whether a client speaks the text or the binary memcached protocol from the first byte it sends, and replaces
+ * itself with the decoder of that protocol. Binary requests start with a magic byte, which is not a valid first byte of
+ * a text command.
+ *
+ * @since 14.0
+ */
+public class MemcachedProtocolDetector extends ByteToMessageDecoder {
+   private final MemcachedServer server;
+
+   public MemcachedProtocolDetector(MemcachedServer server) {
+      this.server = server;
+   }
+
+   @Override
+   protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+      if (!in.isReadable()) {
+         return;
+      }
+      ChannelHandler decoder = in.getByte(in.readerIndex()) == MAGIC_REQUEST ?
+            server.getBinaryDecoder() : server.getTextDecoder();
+      // The bytes read so far are passed on to the new decoder
+      ctx.pipeline().replace(this, ctx.name(), decoder);
+   }
+}
@@ -1,5 +1,7 @@
 package org.infinispan.server.memcached;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -13,6 +15,7 @@
 import org.infinispan.server.core.AbstractProtocolServer;
 import org.infinispan.server.core.transport.NettyChannelInitializer;
 import org.infinispan.server.core.transport.NettyInitializers;
+import org.infinispan.server.core.transport.PipelineStatistics;
 import org.infinispan.server.memcached.configuration.MemcachedServerConfiguration;
 import org.infinispan.server.memcached.logging.Log;
 
@@ -37,6 +40,8 @@ public class MemcachedServer extends AbstractProtocolServer<MemcachedServerConfi
 
    protected final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
 
+   private final PipelineStatistics pipelineStatistics = new PipelineStatistics();
+
    private AdvancedCache<byte[], byte[]> memcachedCache;
 
    public MemcachedServer() {
@@ -71,12 +76,36 @@ public ChannelOutboundHandler getEncoder() {
 
    @Override
    public ChannelInboundHandler getDecoder() {
+      switch (configuration.protocol()) {
+         case TEXT:
+            return getTextDecoder();
+         case BINARY:
+            return getBinaryDecoder();
+         default:
+            return new MemcachedProtocolDetector(this);
+      }
+   }
+
+   /**
+    * Returns a new decoder for a client of the text protocol
+    */
+   public ChannelInboundHandler getTextDecoder() {
       return new MemcachedDecoder(memcachedCache, scheduler, transport, this::isCacheIgnored, configuration.clientEncoding());
    }
 
+   /**
+    * Returns a new decoder for a client of the binary protocol
+    */
+   public ChannelInboundHandler getBinaryDecoder() {
+      return new MemcachedBinaryDecoder(memcachedCache, scheduler, transport, this::isCacheIgnored, pipelineStatistics,
+            configuration.maxValueSize());
+   }
+
    @Override
    public ChannelMatcher getChannelMatcher() {
-      return channel -> channel.pipeline().get(MemcachedDecoder.class) != null;
+      return channel -> channel.pipeline().get(MemcachedDecoder.class) != null
+            || channel.pipeline().get(MemcachedBinaryDecoder.class) != null
+            || channel.pipeline().get(MemcachedProtocolDetector.class) != null;
    }
 
    @Override
@@ -96,4 +125,16 @@ public void stop() {
    public Cache<byte[], byte[]> getCache() {
       return memcachedCache;
    }
+
+   /**
+    * Returns the statistics of the requests pipelined by the clients of the binary protocol
+    */
+   public PipelineStatistics getPipelineStatistics() {
+      return pipelineStatistics;
+   }
+
+   @Override
+   protected Collection<Object> getManagedComponents() {
+      return Collections.singletonList(pipelineStatistics);
+   }
 }
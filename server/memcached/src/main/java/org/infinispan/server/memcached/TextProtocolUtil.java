@@ -45,6 +45,15 @@ private TextProtocolUtil() {
    public static final int VALUE_SIZE = VALUE.length;
    public static final byte[] ZERO = "0".getBytes();
 
+   // Meta commands
+   public static final byte[] META_NOOP = "MN\r\n".getBytes();
+   public static final byte[] META_MISS = "EN\r\n".getBytes();
+   public static final String META_VALUE = "VA";
+   public static final String META_SUCCESS = "HD";
+   public static final String META_NOT_STORED = "NS";
+   public static final String META_EXISTS = "EX";
+   public static final String META_NOT_FOUND = "NF";
+
    public static final int SP = 32;
    public static final int CR = 13;
    public static final int LF = 10;
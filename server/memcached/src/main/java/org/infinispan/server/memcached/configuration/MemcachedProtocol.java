@@ -0,0 +1,21 @@
+package org.infinispan.server.memcached.configuration;
+
+/**
+ * The protocols spoken by the clients of a memcached connector.
+ *
+ * @since 14.0
+ */
+public enum MemcachedProtocol {
+   /**
+    * Detects the protocol of each connection from the first byte sent by the client
+    */
+   AUTO,
+   /**
+    * The text protocol, including the meta commands
+    */
+   TEXT,
+   /**
+    * The binary protocol
+    */
+   BINARY
+}
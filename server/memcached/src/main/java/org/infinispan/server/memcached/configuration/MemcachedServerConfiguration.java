@@ -29,21 +29,35 @@ public class MemcachedServerConfiguration extends ProtocolServerConfiguration<Me
    public static final String DEFAULT_MEMCACHED_CACHE = "memcachedCache";
 
    public static final AttributeDefinition<MediaType> CLIENT_ENCODING = AttributeDefinition.builder("client-encoding", APPLICATION_OCTET_STREAM, MediaType.class).immutable().build();
+   public static final AttributeDefinition<MemcachedProtocol> PROTOCOL = AttributeDefinition.builder("protocol", MemcachedProtocol.AUTO).immutable().build();
+   public static final AttributeDefinition<Integer> MAX_VALUE_SIZE = AttributeDefinition.builder("max-value-size", 1024 * 1024).immutable().build();
    private final Attribute<MediaType> clientEncoding;
+   private final Attribute<MemcachedProtocol> protocol;
+   private final Attribute<Integer> maxValueSize;
 
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(MemcachedServerConfiguration.class, ProtocolServerConfiguration.attributeDefinitionSet(), CLIENT_ENCODING);
+      return new AttributeSet(MemcachedServerConfiguration.class, ProtocolServerConfiguration.attributeDefinitionSet(), CLIENT_ENCODING, PROTOCOL, MAX_VALUE_SIZE);
    }
 
    MemcachedServerConfiguration(AttributeSet attributes, SslConfiguration ssl, IpFilterConfiguration ipRules) {
       super("memcached-connector", attributes, ssl, ipRules);
       clientEncoding = attributes.attribute(CLIENT_ENCODING);
+      protocol = attributes.attribute(PROTOCOL);
+      maxValueSize = attributes.attribute(MAX_VALUE_SIZE);
    }
 
    public MediaType clientEncoding() {
       return clientEncoding.get();
    }
 
+   public MemcachedProtocol protocol() {
+      return protocol.get();
+   }
+
+   public int maxValueSize() {
+      return maxValueSize.get();
+   }
+
    @Override
    public String toString() {
       return "MemcachedServerConfiguration [" + attributes + "]";
@@ -51,6 +51,24 @@ public MemcachedServerConfigurationBuilder clientEncoding(MediaType payloadType)
       return this;
    }
 
+   /**
+    * The protocol spoken by the clients. By default, the protocol of each connection is detected from the first byte
+    * the client sends, as binary requests start with a magic byte that is never the first byte of a text command.
+    */
+   public MemcachedServerConfigurationBuilder protocol(MemcachedProtocol protocol) {
+      attributes.attribute(MemcachedServerConfiguration.PROTOCOL).set(protocol);
+      return this;
+   }
+
+   /**
+    * The maximum size in bytes of the values stored by the clients of the binary protocol. Larger values are rejected
+    * without buffering them. Defaults to 1 MiB, like the memcached server.
+    */
+   public MemcachedServerConfigurationBuilder maxValueSize(int maxValueSize) {
+      attributes.attribute(MemcachedServerConfiguration.MAX_VALUE_SIZE).set(maxValueSize);
+      return this;
+   }
+
    @Override
    public MemcachedServerConfiguration create() {
       return new MemcachedServerConfiguration(attributes.protect(), ssl.create(), ipFilter.create());
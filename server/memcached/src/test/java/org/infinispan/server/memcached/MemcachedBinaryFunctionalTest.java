@@ -0,0 +1,136 @@
+package org.infinispan.server.memcached;
+
+import static org.infinispan.server.memcached.test.MemcachedTestingUtil.createMemcachedBinaryClient;
+import static org.infinispan.test.TestingUtil.k;
+import static org.infinispan.test.TestingUtil.v;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.testng.annotations.Test;
+
+import net.spy.memcached.CASResponse;
+import net.spy.memcached.CASValue;
+import net.spy.memcached.MemcachedClient;
+import net.spy.memcached.internal.OperationFuture;
+
+/**
+ * Tests the binary memcached protocol against the Infinispan Memcached server, which detects the protocol of each
+ * connection.
+ *
+ * @since 14.0
+ */
+@Test(groups = "functional", testName = "server.memcached.MemcachedBinaryFunctionalTest")
+public class MemcachedBinaryFunctionalTest extends MemcachedSingleNodeTest {
+
+   @Override
+   protected MemcachedClient createClient(int port) throws IOException {
+      return createMemcachedBinaryClient(60000, port);
+   }
+
+   public void testSetBasic(Method m) throws InterruptedException, ExecutionException, TimeoutException {
+      OperationFuture<Boolean> f = client.set(k(m), 0, v(m));
+      assertTrue(f.get(timeout, TimeUnit.SECONDS));
+      assertEquals(v(m), client.get(k(m)));
+   }
+
+   public void testValueTooLarge(Method m) throws InterruptedException, ExecutionException, TimeoutException {
+      // Random bytes, so the client can't compress them below the limit
+      byte[] value = new byte[2 * 1024 * 1024];
+      ThreadLocalRandom.current().nextBytes(value);
+      assertFalse(client.set(k(m), 0, value).get(timeout, TimeUnit.SECONDS));
+      assertNull(client.get(k(m)));
+
+      // The rejected value was discarded, so the following requests are decoded
+      assertTrue(client.set(k(m), 0, v(m)).get(timeout, TimeUnit.SECONDS));
+      assertEquals(v(m), client.get(k(m)));
+   }
+
+   public void testGetMultipleKeys(Method m) throws InterruptedException, ExecutionException, TimeoutException {
+      OperationFuture<Boolean> f1 = client.set(k(m, "k1-"), 0, v(m, "v1-"));
+      OperationFuture<Boolean> f2 = client.set(k(m, "k2-"), 0, v(m, "v2-"));
+      assertTrue(f1.get(timeout, TimeUnit.SECONDS));
+      assertTrue(f2.get(timeout, TimeUnit.SECONDS));
+      Map<String, Object> ret = client.getBulk(Arrays.asList(k(m, "k1-"), k(m, "k2-"), k(m, "k3-")));
+      assertEquals(2, ret.size());
+      assertEquals(v(m, "v1-"), ret.get(k(m, "k1-")));
+      assertEquals(v(m, "v2-"), ret.get(k(m, "k2-")));
+      assertNull(ret.get(k(m, "k3-")));
+   }
+
+   public void testAdd(Method m) throws InterruptedException, ExecutionException, TimeoutException {
+      assertTrue(client.add(k(m), 0, v(m)).get(timeout, TimeUnit.SECONDS));
+      assertFalse(client.add(k(m), 0, v(m, "v1-")).get(timeout, TimeUnit.SECONDS));
+      assertEquals(v(m), client.get(k(m)));
+   }
+
+   public void testReplace(Method m) throws InterruptedException, ExecutionException, TimeoutException {
+      assertFalse(client.replace(k(m), 0, v(m)).get(timeout, TimeUnit.SECONDS));
+      assertTrue(client.set(k(m), 0, v(m)).get(timeout, TimeUnit.SECONDS));
+      assertTrue(client.replace(k(m), 0, v(m, "v1-")).get(timeout, TimeUnit.SECONDS));
+      assertEquals(v(m, "v1-"), client.get(k(m)));
+   }
+
+   public void testCas(Method m) throws InterruptedException, ExecutionException, TimeoutException {
+      assertTrue(client.set(k(m), 0, v(m)).get(timeout, TimeUnit.SECONDS));
+      CASValue<Object> value = client.gets(k(m));
+      assertEquals(v(m), value.getValue());
+      assertEquals(CASResponse.OK, client.cas(k(m), value.getCas(), v(m, "v1-")));
+      assertEquals(CASResponse.EXISTS, client.cas(k(m), value.getCas(), v(m, "v2-")));
+      assertEquals(CASResponse.NOT_FOUND, client.cas(k(m, "k1-"), value.getCas(), v(m, "v2-")));
+      assertEquals(v(m, "v1-"), client.get(k(m)));
+   }
+
+   public void testIncrementDecrement(Method m) throws InterruptedException, ExecutionException, TimeoutException {
+      assertEquals(-1, client.incr(k(m), 1));
+      assertEquals(10, client.incr(k(m), 1, 10));
+      assertEquals(15, client.incr(k(m), 5));
+      assertEquals(12, client.decr(k(m), 3));
+      assertEquals(0, client.decr(k(m), 20));
+   }
+
+   public void testAppendPrepend(Method m) throws InterruptedException, ExecutionException, TimeoutException {
+      assertFalse(client.append(0, k(m), "b").get(timeout, TimeUnit.SECONDS));
+      assertTrue(client.set(k(m), 0, "b").get(timeout, TimeUnit.SECONDS));
+      assertTrue(client.append(0, k(m), "c").get(timeout, TimeUnit.SECONDS));
+      assertTrue(client.prepend(0, k(m), "a").get(timeout, TimeUnit.SECONDS));
+      assertEquals("abc", client.get(k(m)));
+   }
+
+   public void testDelete(Method m) throws InterruptedException, ExecutionException, TimeoutException {
+      assertTrue(client.set(k(m), 0, v(m)).get(timeout, TimeUnit.SECONDS));
+      assertTrue(client.delete(k(m)).get(timeout, TimeUnit.SECONDS));
+      assertFalse(client.delete(k(m)).get(timeout, TimeUnit.SECONDS));
+      assertNull(client.get(k(m)));
+   }
+
+   public void testTouch(Method m) throws InterruptedException, ExecutionException, TimeoutException {
+      assertTrue(client.set(k(m), 0, v(m)).get(timeout, TimeUnit.SECONDS));
+      assertTrue(client.touch(k(m), 1).get(timeout, TimeUnit.SECONDS));
+      assertFalse(client.touch(k(m, "k1-"), 1).get(timeout, TimeUnit.SECONDS));
+      timeService.advance(1100);
+      assertNull(client.get(k(m)));
+   }
+
+   public void testGetAndTouch(Method m) throws InterruptedException, ExecutionException, TimeoutException {
+      assertTrue(client.set(k(m), 0, v(m)).get(timeout, TimeUnit.SECONDS));
+      CASValue<Object> value = client.getAndTouch(k(m), 1);
+      assertEquals(v(m), value.getValue());
+      timeService.advance(1100);
+      assertNull(client.get(k(m)));
+   }
+
+   public void testVersion() {
+      assertFalse(client.getVersions().isEmpty());
+   }
+}
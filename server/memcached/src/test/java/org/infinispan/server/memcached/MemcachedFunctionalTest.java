@@ -352,6 +352,74 @@ public void testPipelinedGetAfterInvalidCas() throws IOException {
       assertTrue("Instead response was: " + responses.get(1), responses.get(1).equals("END"));
    }
 
+   public void testMetaNoOp() throws IOException {
+      assertEquals(send("mn\r\n"), "MN");
+   }
+
+   public void testMetaSetGetDelete(Method m) throws IOException {
+      String key = k(m);
+      List<String> responses = sendMulti(String.format(
+            "ms %s 2 F5 T0\r\nv1\r\nmg %s v f s k Oabc\r\nmd %s q\r\nmg %s v\r\nmd %s\r\nmn\r\n",
+            key, key, key, key, key), 6, true);
+      assertEquals(responses.size(), 6);
+      assertEquals(responses.get(0), "HD");
+      assertEquals(responses.get(1), "VA 2 f5 s2 k" + key + " Oabc");
+      assertEquals(responses.get(2), "v1");
+      // The quiet delete does not reply on success
+      assertEquals(responses.get(3), "EN");
+      assertEquals(responses.get(4), "NF");
+      assertEquals(responses.get(5), "MN");
+   }
+
+   public void testMetaSetModes(Method m) throws IOException {
+      String key = k(m);
+      List<String> responses = sendMulti(String.format(
+            "ms %s 1 MA\r\na\r\nms %s 1 ME\r\nb\r\nms %s 1 ME\r\nc\r\nms %s 1 MA\r\nd\r\nms %s 1 MP\r\na\r\nmg %s v\r\n",
+            key, key, key, key, key, key), 7, true);
+      assertEquals(responses.size(), 7);
+      assertEquals(responses.get(0), "NS");
+      assertEquals(responses.get(1), "HD");
+      assertEquals(responses.get(2), "NS");
+      assertEquals(responses.get(3), "HD");
+      assertEquals(responses.get(4), "HD");
+      assertEquals(responses.get(5), "VA 3");
+      assertEquals(responses.get(6), "abd");
+   }
+
+   public void testMetaCompareAndSwap(Method m) throws IOException {
+      String key = k(m);
+      List<String> responses = sendMulti(String.format("ms %s 1 c\r\na\r\n", key), 1, true);
+      String cas = responses.get(0).substring("HD c".length());
+      responses = sendMulti(String.format(
+            "ms %s 1 C%s\r\nb\r\nms %s 1 C%s\r\nc\r\nmd %s C%s\r\nmg %s v\r\n", key, cas, key, cas, key, cas, key), 5, true);
+      assertEquals(responses.size(), 5);
+      assertEquals(responses.get(0), "HD");
+      assertEquals(responses.get(1), "EX");
+      assertEquals(responses.get(2), "EX");
+      assertEquals(responses.get(3), "VA 1");
+      assertEquals(responses.get(4), "b");
+   }
+
+   public void testMetaBase64Key() throws IOException {
+      List<String> responses = sendMulti("ms Zm9v 3 b\r\nbar\r\nmg Zm9v b k v\r\n", 3, true);
+      assertEquals(responses.get(0), "HD");
+      assertEquals(responses.get(1), "VA 3 kZm9v b");
+      assertEquals(responses.get(2), "bar");
+      assertEquals(client.get("foo"), "bar");
+   }
+
+   public void testPipelinedMultiGet(Method m) throws IOException {
+      List<String> responses = sendMulti(String.format("set %s 0 0 1\r\na\r\nset %s 0 0 1\r\nb\r\nget %s %s %s\r\n",
+            k(m, "1"), k(m, "3"), k(m, "1"), k(m, "2"), k(m, "3")), 7, true);
+      assertEquals(responses.get(0), "STORED");
+      assertEquals(responses.get(1), "STORED");
+      assertEquals(responses.get(2), "VALUE " + k(m, "1") + " 0 1");
+      assertEquals(responses.get(3), "a");
+      assertEquals(responses.get(4), "VALUE " + k(m, "3") + " 0 1");
+      assertEquals(responses.get(5), "b");
+      assertEquals(responses.get(6), "END");
+   }
+
    public void testIncrementBasic(Method m) throws InterruptedException, ExecutionException, TimeoutException {
       OperationFuture<Boolean> f = client.set(k(m), 0, "1");
       assertTrue(f.get(timeout, TimeUnit.SECONDS));
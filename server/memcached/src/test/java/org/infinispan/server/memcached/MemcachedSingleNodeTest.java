@@ -45,11 +45,15 @@ protected EmbeddedCacheManager createCacheManager() throws Exception {
       cacheManager.getGlobalComponentRegistry().registerComponent(new DummyServerStateManager(), ServerStateManager.class);
       TestingUtil.replaceComponent(cacheManager, TimeService.class, timeService, true);
       server = startMemcachedTextServer(cacheManager);
-      client = createMemcachedClient(60000, server.getPort());
+      client = createClient(server.getPort());
       cache = cacheManager.getCache(server.getConfiguration().defaultCacheName());
       return cacheManager;
    }
 
+   protected MemcachedClient createClient(int port) throws IOException {
+      return createMemcachedClient(60000, port);
+   }
+
    protected EmbeddedCacheManager createTestCacheManager() {
       return TestCacheManagerFactory.createCacheManager(true);
    }
@@ -0,0 +1,38 @@
+package org.infinispan.server.resp;
+
+import static org.infinispan.server.core.ExternalizerIds.RESP_READ_COLLECTION_FUNCTION;
+import static org.infinispan.server.core.ExternalizerIds.RESP_WRITE_COLLECTION_FUNCTION;
+
+import java.util.Map;
+
+import org.infinispan.commons.marshall.AdvancedExternalizer;
+import org.infinispan.configuration.global.GlobalConfiguration;
+import org.infinispan.factories.GlobalComponentRegistry;
+import org.infinispan.factories.annotations.InfinispanModule;
+import org.infinispan.lifecycle.ModuleLifecycle;
+import org.infinispan.marshall.protostream.impl.SerializationContextRegistry;
+import org.infinispan.server.resp.collections.CollectionValue;
+import org.infinispan.server.resp.collections.ReadCollectionFunction;
+import org.infinispan.server.resp.collections.WriteCollectionFunction;
+
+/**
+ * Module lifecycle callbacks implementation that registers the {@link AdvancedExternalizer} implementations of the
+ * functions executing the RESP collection commands, and the marshaller of the {@link CollectionValue} stored in the
+ * cache.
+ *
+ * @since 14.0
+ */
+@InfinispanModule(name = "server-resp", requiredModules = "core")
+public class LifecycleCallbacks implements ModuleLifecycle {
+   @Override
+   public void cacheManagerStarting(GlobalComponentRegistry gcr, GlobalConfiguration globalCfg) {
+      Map<Integer, AdvancedExternalizer<?>> externalizers = globalCfg.serialization().advancedExternalizers();
+      externalizers.put(RESP_READ_COLLECTION_FUNCTION, ReadCollectionFunction.EXTERNALIZER);
+      externalizers.put(RESP_WRITE_COLLECTION_FUNCTION, WriteCollectionFunction.EXTERNALIZER);
+
+      SerializationContextRegistry ctxRegistry = gcr.getComponent(SerializationContextRegistry.class);
+      PersistenceContextInitializerImpl sci = new PersistenceContextInitializerImpl();
+      ctxRegistry.addContextInitializer(SerializationContextRegistry.MarshallerType.PERSISTENCE, sci);
+      ctxRegistry.addContextInitializer(SerializationContextRegistry.MarshallerType.GLOBAL, sci);
+   }
+}
@@ -0,0 +1,22 @@
+package org.infinispan.server.resp;
+
+import org.infinispan.marshall.persistence.impl.PersistenceMarshallerImpl;
+import org.infinispan.protostream.SerializationContextInitializer;
+import org.infinispan.protostream.annotations.AutoProtoSchemaBuilder;
+import org.infinispan.server.resp.collections.CollectionValue;
+
+/**
+ * Interface used to initialise the {@link PersistenceMarshallerImpl}'s {@link org.infinispan.protostream.SerializationContext}
+ * with the values stored by the RESP server.
+ *
+ * @since 14.0
+ */
+@AutoProtoSchemaBuilder(
+      includeClasses = CollectionValue.class,
+      schemaFileName = "persistence.resp.proto",
+      schemaFilePath = "proto/generated",
+      schemaPackageName = "org.infinispan.persistence.resp",
+      service = false
+)
+interface PersistenceContextInitializer extends SerializationContextInitializer {
+}
@@ -2,9 +2,11 @@
 
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
@@ -16,8 +18,20 @@
 import org.infinispan.Cache;
 import org.infinispan.commons.logging.LogFactory;
 import org.infinispan.commons.util.Version;
+import org.infinispan.functional.FunctionalMap;
+import org.infinispan.functional.impl.FunctionalMapImpl;
+import org.infinispan.functional.impl.ReadOnlyMapImpl;
+import org.infinispan.functional.impl.ReadWriteMapImpl;
 import org.infinispan.server.core.logging.Log;
+import org.infinispan.server.resp.collections.CollectionException;
+import org.infinispan.server.resp.collections.CollectionOperation;
+import org.infinispan.server.resp.collections.CollectionType;
+import org.infinispan.server.resp.collections.PackedCollection;
+import org.infinispan.server.resp.collections.ReadCollectionFunction;
+import org.infinispan.server.resp.collections.WriteCollectionFunction;
+import org.infinispan.server.resp.hashing.CRC16;
 import org.infinispan.util.concurrent.AggregateCompletionStage;
+import org.infinispan.util.concurrent.CompletableFutures;
 import org.infinispan.util.concurrent.CompletionStages;
 
 import io.netty.buffer.ByteBuf;
@@ -29,11 +43,24 @@ public class Resp3Handler implements RespRequestHandler {
    private static final Log log = LogFactory.getLog(MethodHandles.lookup().lookupClass(), Log.class);
    private static final ByteBuf OK = RespRequestHandler.stringToByteBuf("+OK\r\n", ByteBufAllocator.DEFAULT);
    private final RespServer respServer;
-   private AdvancedCache<byte[], byte[]> cache;
+   // Only set when requests for keys owned by other nodes are redirected
+   private final RespClusterTopology redirectTopology;
+   // Strings are stored as byte[] and collections as CollectionValue
+   private AdvancedCache<byte[], Object> cache;
+   private FunctionalMap.ReadOnlyMap<byte[], Object> readOnlyMap;
+   private FunctionalMap.ReadWriteMap<byte[], Object> readWriteMap;
 
    Resp3Handler(RespServer respServer) {
       this.respServer = respServer;
-      this.cache = respServer.getCache();
+      this.redirectTopology = respServer.getConfiguration().clusterRedirects() ? respServer.getClusterTopology() : null;
+      setCache(respServer.getCache());
+   }
+
+   private void setCache(AdvancedCache<byte[], Object> cache) {
+      this.cache = cache;
+      FunctionalMapImpl<byte[], Object> functionalMap = FunctionalMapImpl.create(cache);
+      this.readOnlyMap = ReadOnlyMapImpl.create(functionalMap);
+      this.readWriteMap = ReadWriteMapImpl.create(functionalMap);
    }
 
    // Returns a cached OK status that is retained for multiple uses
@@ -42,75 +69,86 @@ static ByteBuf statusOK() {
    }
 
    @Override
-   public RespRequestHandler handleRequest(ChannelHandlerContext ctx, String type,
-         List<byte[]> arguments) {
-      switch (type) {
-         case "HELLO":
+   public RespRequestHandler handleRequest(ChannelHandlerContext ctx, RespCommand command,
+         List<byte[]> arguments, RespResponse response) {
+      if (redirectTopology != null && command.isSingleKey() && !arguments.isEmpty()) {
+         ByteBuf moved = redirectTopology.redirect(arguments.get(0), ctx.alloc());
+         if (moved != null) {
+            response.send(moved);
+            return this;
+         }
+      }
+      switch (command) {
+         case HELLO:
             byte[] respProtocolBytes = arguments.get(0);
             String version = new String(respProtocolBytes, CharsetUtil.UTF_8);
             if (!version.equals("3")) {
-               ctx.writeAndFlush(RespRequestHandler.stringToByteBuf("-NOPROTO sorry this protocol version is not supported\r\n", ctx.alloc()));
+               response.send(RespRequestHandler.stringToByteBuf("-NOPROTO sorry this protocol version is not supported\r\n", ctx.alloc()));
                break;
             }
             if (arguments.size() == 4) {
                performAuth(arguments.get(2), arguments.get(3)).whenComplete((subject, t) -> {
                   if (t == null) {
-                     cache = cache.withSubject(subject);
-                     helloResponse(ctx);
+                     setCache(cache.withSubject(subject));
+                     helloResponse(ctx, response);
                   } else {
-                     handleThrowable(ctx, t);
+                     handleThrowable(ctx, response, t);
                   }
                });
             } else {
-               helloResponse(ctx);
+               helloResponse(ctx, response);
             }
             break;
-         case "AUTH":
+         case AUTH:
             performAuth(arguments.get(0), arguments.get(1)).whenComplete((subject, t) -> {
                if (t == null) {
-                  cache = cache.withSubject(subject);
-                  ctx.writeAndFlush(statusOK());
+                  setCache(cache.withSubject(subject));
+                  response.send(statusOK());
                } else {
-                  handleThrowable(ctx, t);
+                  handleThrowable(ctx, response, t);
                }
             });
             break;
-         case "PING":
+         case PING:
             if (arguments.size() == 0) {
-               ctx.writeAndFlush(RespRequestHandler.stringToByteBuf("$4\r\nPONG\r\n", ctx.alloc()));
+               response.send(RespRequestHandler.stringToByteBuf("$4\r\nPONG\r\n", ctx.alloc()));
                break;
             }
             // falls-through
-         case "ECHO":
+         case ECHO:
             byte[] argument = arguments.get(0);
             ByteBuf bufferToWrite = RespRequestHandler.stringToByteBufWithExtra("$" + argument.length + "\r\n", ctx.alloc(), argument.length + 2);
             bufferToWrite.writeBytes(argument);
             bufferToWrite.writeByte('\r').writeByte('\n');
-            ctx.writeAndFlush(bufferToWrite);
+            response.send(bufferToWrite);
             break;
-         case "SET":
-            performSet(ctx, cache, arguments.get(0), arguments.get(1), -1, type, statusOK());
+         case SET:
+            performSet(ctx, response, cache, arguments.get(0), arguments.get(1), -1,
+                  command, statusOK());
             break;
-         case "GET":
+         case GET:
             byte[] keyBytes = arguments.get(0);
 
             cache.getAsync(keyBytes)
-                  .whenComplete((innerValueBytes, t) -> {
+                  .whenComplete((innerValue, t) -> {
                      if (t != null) {
                         log.trace("Exception encountered while performing GET", t);
-                        handleThrowable(ctx, t);
-                     } else if (innerValueBytes != null) {
-                        int length = innerValueBytes.length;
+                        handleThrowable(ctx, response, t);
+                     } else if (PackedCollection.typeOf(innerValue) != null) {
+                        response.send(wrongType(ctx.alloc()));
+                     } else if (innerValue != null) {
+                        byte[] string = (byte[]) innerValue;
+                        int length = string.length;
                         ByteBuf buf = RespRequestHandler.stringToByteBufWithExtra("$" + length + "\r\n", ctx.alloc(), length + 2);
-                        buf.writeBytes(innerValueBytes);
+                        buf.writeBytes(string);
                         buf.writeByte('\r').writeByte('\n');
-                        ctx.writeAndFlush(buf);
+                        response.send(buf);
                      } else {
-                        ctx.writeAndFlush(RespRequestHandler.stringToByteBuf("_\r\n", ctx.alloc()));
+                        response.send(RespRequestHandler.stringToByteBuf("_\r\n", ctx.alloc()));
                      }
                   });
             break;
-         case "DEL":
+         case DEL:
             int keysToRemove = arguments.size();
             if (keysToRemove == 1) {
                keyBytes = arguments.get(0);
@@ -118,15 +156,15 @@ public RespRequestHandler handleRequest(ChannelHandlerContext ctx, String type,
                      .whenComplete((prev, t) -> {
                         if (t != null) {
                            log.trace("Exception encountered while performing DEL", t);
-                           handleThrowable(ctx, t);
+                           handleThrowable(ctx, response, t);
                            return;
                         }
-                        ctx.writeAndFlush(RespRequestHandler.stringToByteBuf(":" + (prev == null ? "0" : "1") +
+                        response.send(RespRequestHandler.stringToByteBuf(":" + (prev == null ? "0" : "1") +
                               "\r\n", ctx.alloc()));
                      });
             } else if (keysToRemove == 0) {
                // TODO: is this an error?
-               ctx.writeAndFlush(RespRequestHandler.stringToByteBuf(":0\r\n", ctx.alloc()));
+               response.send(RespRequestHandler.stringToByteBuf(":0\r\n", ctx.alloc()));
             } else {
                AtomicInteger removes = new AtomicInteger();
                AggregateCompletionStage<AtomicInteger> deleteStages = CompletionStages.aggregateCompletionStage(removes);
@@ -142,17 +180,17 @@ public RespRequestHandler handleRequest(ChannelHandlerContext ctx, String type,
                      .whenComplete((removals, t) -> {
                         if (t != null) {
                            log.trace("Exception encountered while performing multiple DEL", t);
-                           handleThrowable(ctx, t);
+                           handleThrowable(ctx, response, t);
                            return;
                         }
-                        ctx.writeAndFlush(RespRequestHandler.stringToByteBuf(":" + removals.get() + "\r\n", ctx.alloc()));
+                        response.send(RespRequestHandler.stringToByteBuf(":" + removals.get() + "\r\n", ctx.alloc()));
                      });
             }
             break;
-         case "MGET":
+         case MGET:
             int keysToRetrieve = arguments.size();
             if (keysToRetrieve == 0) {
-               ctx.writeAndFlush(RespRequestHandler.stringToByteBuf("*0\r\n", ctx.alloc()));
+               response.send(RespRequestHandler.stringToByteBuf("*0\r\n", ctx.alloc()));
                break;
             }
             List<byte[]> results = Collections.synchronizedList(Arrays.asList(
@@ -163,8 +201,10 @@ public RespRequestHandler handleRequest(ChannelHandlerContext ctx, String type,
                int innerCount = i;
                keyBytes = arguments.get(i);
                getStage.dependsOn(cache.getAsync(keyBytes)
-                     .whenComplete((returnValue, t) -> {
-                        if (returnValue != null) {
+                     .whenComplete((value, t) -> {
+                        // Keys holding collections are returned as nil
+                        if (value != null && PackedCollection.typeOf(value) == null) {
+                           byte[] returnValue = (byte[]) value;
                            results.set(innerCount, returnValue);
                            int length = returnValue.length;
                            if (length > 0) {
@@ -186,7 +226,7 @@ public RespRequestHandler handleRequest(ChannelHandlerContext ctx, String type,
                   .whenComplete((ignore, t) -> {
                      if (t != null) {
                         log.trace("Exception encountered while performing multiple DEL", t);
-                        handleThrowable(ctx, t);
+                        handleThrowable(ctx, response, t);
                         return;
                      }
                      int elements = results.size();
@@ -208,14 +248,14 @@ public RespRequestHandler handleRequest(ChannelHandlerContext ctx, String type,
                         byteBuf.writeByte('\r');
                         byteBuf.writeByte('\n');
                      }
-                     ctx.writeAndFlush(byteBuf);
+                     response.send(byteBuf);
                   });
             break;
-         case "MSET":
+         case MSET:
             int keyValuePairCount = arguments.size();
             if ((keyValuePairCount & 1) == 1) {
                log.tracef("Received: %s count for keys and values combined, should be even for MSET", keyValuePairCount);
-               ctx.writeAndFlush(RespRequestHandler.stringToByteBuf("-ERR Missing a value for a key" + "\r\n", ctx.alloc()));
+               response.send(RespRequestHandler.stringToByteBuf("-ERR Missing a value for a key" + "\r\n", ctx.alloc()));
                break;
             }
             AggregateCompletionStage<Void> setStage = CompletionStages.aggregateCompletionStage();
@@ -227,72 +267,209 @@ public RespRequestHandler handleRequest(ChannelHandlerContext ctx, String type,
             setStage.freeze().whenComplete((ignore, t) -> {
                if (t != null) {
                   log.trace("Exception encountered while performing MSET", t);
-                  handleThrowable(ctx, t);
+                  handleThrowable(ctx, response, t);
                } else {
-                  ctx.writeAndFlush(statusOK());
+                  response.send(statusOK());
                }
             });
             break;
-         case "INCR":
+         case INCR:
             counterIncOrDec(cache, arguments.get(0), true)
-                  .thenAccept(longValue -> handleLongResult(ctx, longValue));
+                  .whenComplete((longValue, t) -> handleLongResult(ctx, response, longValue, t));
             break;
-         case "DECR":
+         case DECR:
             counterIncOrDec(cache, arguments.get(0), false)
-                  .thenAccept(longValue -> handleLongResult(ctx, longValue));
+                  .whenComplete((longValue, t) -> handleLongResult(ctx, response, longValue, t));
             break;
-         case "INFO":
-            ctx.writeAndFlush(RespRequestHandler.stringToByteBuf("-ERR not implemented yet\r\n", ctx.alloc()));
+         case INFO:
+            response.send(RespRequestHandler.stringToByteBuf("-ERR not implemented yet\r\n", ctx.alloc()));
             break;
-         case "PUBLISH":
+         case PUBLISH:
             // TODO: should we return the # of subscribers on this node?
             // We use expiration to remove the event values eventually while preventing them during high periods of
             // updates
-            performSet(ctx, cache, SubscriberHandler.keyToChannel(arguments.get(0)),
-                  arguments.get(1), 3, type, RespRequestHandler.stringToByteBuf(":0\r\n", ctx.alloc()));
+            performSet(ctx, response, cache, SubscriberHandler.keyToChannel(arguments.get(0)),
+                  arguments.get(1), 3, command, RespRequestHandler.stringToByteBuf(":0\r\n", ctx.alloc()));
             break;
-         case "SUBSCRIBE":
+         case SUBSCRIBE:
             SubscriberHandler subscriberHandler = new SubscriberHandler(respServer, this);
-            return subscriberHandler.handleRequest(ctx, type, arguments);
-         case "SELECT":
-            ctx.writeAndFlush(RespRequestHandler.stringToByteBuf("-ERR Select not supported in cluster mode\r\n", ctx.alloc()));
+            return subscriberHandler.handleRequest(ctx, command, arguments, response);
+         case SELECT:
+            response.send(RespRequestHandler.stringToByteBuf("-ERR Select not supported in cluster mode\r\n", ctx.alloc()));
             break;
-         case "READWRITE":
-         case "READONLY":
+         case READWRITE:
+         case READONLY:
             // We are always in read write allowing read from backups
-            ctx.writeAndFlush(statusOK());
+            response.send(statusOK());
             break;
-         case "RESET":
+         case RESET:
             // TODO: do we need to reset anything in this case?
-            ctx.writeAndFlush(RespRequestHandler.stringToByteBuf("+RESET\r\n", ctx.alloc()));
+            response.send(RespRequestHandler.stringToByteBuf("+RESET\r\n", ctx.alloc()));
             break;
-         case "QUIT":
+         case QUIT:
             // TODO: need to close connection
-            ctx.flush();
+            response.complete();
+            break;
+         case CLUSTER:
+            performCluster(ctx, response, arguments);
+            break;
+         case TYPE:
+            if (arguments.size() != 1) {
+               response.send(RespRequestHandler.stringToByteBuf("-ERR wrong number of arguments for 'type' command\r\n", ctx.alloc()));
+               break;
+            }
+            cache.getAsync(arguments.get(0))
+                  .whenComplete((value, t) -> {
+                     if (t != null) {
+                        log.trace("Exception encountered while performing TYPE", t);
+                        handleThrowable(ctx, response, t);
+                        return;
+                     }
+                     CollectionType type = PackedCollection.typeOf(value);
+                     String typeName = value == null ? "none" : type == null ? "string" : type.typeName();
+                     response.send(RespRequestHandler.stringToByteBuf("+" + typeName + "\r\n", ctx.alloc()));
+                  });
             break;
          default:
-            return RespRequestHandler.super.handleRequest(ctx, type, arguments);
+            CollectionOperation operation = CollectionOperation.fromCommand(command);
+            if (operation != null) {
+               performCollectionOperation(ctx, response, operation, arguments);
+               break;
+            }
+            return RespRequestHandler.super.handleRequest(ctx, command, arguments, response);
       }
       return this;
    }
 
-   private static void handleLongResult(ChannelHandlerContext ctx, Long result) {
-      ctx.writeAndFlush(RespRequestHandler.stringToByteBuf(":" + result + "\r\n", ctx.alloc()));
+   private void performCollectionOperation(ChannelHandlerContext ctx, RespResponse response,
+         CollectionOperation operation, List<byte[]> arguments) {
+      String error = operation.validate(arguments);
+      if (error != null) {
+         response.send(RespRequestHandler.stringToByteBuf("-" + error + "\r\n", ctx.alloc()));
+         return;
+      }
+      byte[] key = arguments.get(0);
+      // The arguments list is reused by the decoder
+      List<byte[]> operationArguments = new ArrayList<>(arguments.subList(1, arguments.size()));
+      CompletableFuture<Object> stage = operation.isWrite() ?
+            readWriteMap.eval(key, new WriteCollectionFunction(operation, operationArguments)) :
+            readOnlyMap.eval(key, new ReadCollectionFunction(operation, operationArguments));
+      stage.whenComplete((result, t) -> {
+         if (t != null) {
+            CollectionException collectionException = CollectionException.find(t);
+            if (collectionException != null) {
+               response.send(RespRequestHandler.stringToByteBuf("-" + collectionException.getMessage() + "\r\n", ctx.alloc()));
+            } else {
+               log.trace("Exception encountered while performing " + operation, t);
+               handleThrowable(ctx, response, t);
+            }
+         } else {
+            response.send(collectionResult(ctx.alloc(), result));
+         }
+      });
+   }
+
+   private void performCluster(ChannelHandlerContext ctx, RespResponse response, List<byte[]> arguments) {
+      RespClusterTopology topology = respServer.getClusterTopology();
+      if (topology == null) {
+         response.send(RespRequestHandler.stringToByteBuf("-ERR This instance has cluster support disabled\r\n", ctx.alloc()));
+         return;
+      }
+      String subcommand = arguments.isEmpty() ? "" :
+            new String(arguments.get(0), StandardCharsets.UTF_8).toUpperCase(Locale.ROOT);
+      switch (subcommand) {
+         case "SLOTS":
+            response.send(topology.slots(ctx.alloc()));
+            break;
+         case "SHARDS":
+            response.send(topology.shards(ctx.alloc()));
+            break;
+         case "NODES":
+            response.send(topology.nodes(ctx.alloc()));
+            break;
+         case "MYID":
+            String id = topology.localNodeId();
+            response.send(RespRequestHandler.stringToByteBuf("$" + id.length() + "\r\n" + id + "\r\n", ctx.alloc()));
+            break;
+         case "KEYSLOT":
+            if (arguments.size() == 2) {
+               response.send(RespRequestHandler.stringToByteBuf(":" + CRC16.slot(arguments.get(1)) + "\r\n", ctx.alloc()));
+               break;
+            }
+            // falls-through
+         default:
+            response.send(RespRequestHandler.stringToByteBuf("-ERR Unknown subcommand or wrong number of arguments for '" +
+                  subcommand + "'. Try CLUSTER HELP.\r\n", ctx.alloc()));
+      }
+   }
+
+   private static ByteBuf wrongType(ByteBufAllocator allocator) {
+      return RespRequestHandler.stringToByteBuf("-" + CollectionException.WRONG_TYPE + "\r\n", allocator);
    }
 
-   private static void handleThrowable(ChannelHandlerContext ctx, Throwable t) {
-      ctx.writeAndFlush(RespRequestHandler.stringToByteBuf("-ERR" + t.getMessage() + "\r\n", ctx.alloc()));
+   /**
+    * Encodes the result of a {@link CollectionOperation}
+    */
+   private static ByteBuf collectionResult(ByteBufAllocator allocator, Object result) {
+      if (result instanceof Long) {
+         return RespRequestHandler.stringToByteBuf(":" + result + "\r\n", allocator);
+      }
+      if (result instanceof byte[]) {
+         ByteBuf buf = allocator.buffer();
+         writeBulkString(buf, (byte[]) result);
+         return buf;
+      }
+      if (result instanceof List) {
+         List<?> elements = (List<?>) result;
+         ByteBuf buf = allocator.buffer();
+         buf.writeCharSequence("*" + elements.size() + "\r\n", CharsetUtil.UTF_8);
+         for (Object element : elements) {
+            writeBulkString(buf, (byte[]) element);
+         }
+         return buf;
+      }
+      return RespRequestHandler.stringToByteBuf("_\r\n", allocator);
+   }
+
+   private static void writeBulkString(ByteBuf buf, byte[] value) {
+      if (value == null) {
+         buf.writeCharSequence("_\r\n", CharsetUtil.UTF_8);
+         return;
+      }
+      buf.writeCharSequence("$" + value.length + "\r\n", CharsetUtil.UTF_8);
+      buf.writeBytes(value);
+      buf.writeByte('\r').writeByte('\n');
+   }
+
+   private static void handleLongResult(ChannelHandlerContext ctx, RespResponse response, Long result, Throwable t) {
+      if (t != null) {
+         if (CollectionException.find(t) != null) {
+            response.send(wrongType(ctx.alloc()));
+            return;
+         }
+         log.trace("Exception encountered while updating counter", t);
+         handleThrowable(ctx, response, t);
+         return;
+      }
+      response.send(RespRequestHandler.stringToByteBuf(":" + result + "\r\n", ctx.alloc()));
    }
 
-   private static CompletionStage<Long> counterIncOrDec(Cache<byte[], byte[]> cache, byte[] key, boolean increment) {
+   private static void handleThrowable(ChannelHandlerContext ctx, RespResponse response, Throwable t) {
+      response.send(RespRequestHandler.stringToByteBuf("-ERR" + t.getMessage() + "\r\n", ctx.alloc()));
+   }
+
+   private static CompletionStage<Long> counterIncOrDec(Cache<byte[], Object> cache, byte[] key, boolean increment) {
       return cache.getAsync(key)
-            .thenCompose(currentValueBytes -> {
-               if (currentValueBytes != null) {
-                  String prevValue = new String(currentValueBytes, CharsetUtil.UTF_8);
+            .thenCompose(currentValue -> {
+               if (PackedCollection.typeOf(currentValue) != null) {
+                  return CompletableFutures.completedExceptionFuture(CollectionException.wrongType());
+               }
+               if (currentValue != null) {
+                  String prevValue = new String((byte[]) currentValue, CharsetUtil.UTF_8);
                   long prevIntValue = Long.parseLong(prevValue) + (increment ? 1 : -1);
                   String newValueString = String.valueOf(prevIntValue);
                   byte[] newValueBytes = newValueString.getBytes(CharsetUtil.UTF_8);
-                  return cache.replaceAsync(key, currentValueBytes, newValueBytes)
+                  return cache.replaceAsync(key, currentValue, newValueBytes)
                         .thenCompose(replaced -> {
                            if (replaced) {
                               return CompletableFuture.completedFuture(prevIntValue);
@@ -312,15 +489,15 @@ private static CompletionStage<Long> counterIncOrDec(Cache<byte[], byte[]> cache
             });
    }
 
-   private void performSet(ChannelHandlerContext ctx, Cache<byte[], byte[]> cache, byte[] key, byte[] value,
-         long lifespan, String type, ByteBuf messageOnSuccess) {
+   private void performSet(ChannelHandlerContext ctx, RespResponse response, Cache<byte[], Object> cache, byte[] key,
+         byte[] value, long lifespan, RespCommand command, ByteBuf messageOnSuccess) {
       cache.putAsync(key, value, lifespan, TimeUnit.SECONDS)
             .whenComplete((ignore, t) -> {
                if (t != null) {
-                  log.trace("Exception encountered while performing " + type, t);
-                  handleThrowable(ctx, t);
+                  log.trace("Exception encountered while performing " + command, t);
+                  handleThrowable(ctx, response, t);
                } else {
-                  ctx.writeAndFlush(messageOnSuccess);
+                  response.send(messageOnSuccess);
                }
             });
    }
@@ -333,9 +510,9 @@ private CompletionStage<Subject> performAuth(byte[] username, byte[] password) {
             );
    }
 
-   private static void helloResponse(ChannelHandlerContext ctx) {
+   private static void helloResponse(ChannelHandlerContext ctx, RespResponse response) {
       String versionString = Version.getBrandVersion();
-      ctx.writeAndFlush(RespRequestHandler.stringToByteBuf("%7\r\n" +
+      response.send(RespRequestHandler.stringToByteBuf("%7\r\n" +
             "$6\r\nserver\r\n$15\r\nInfinispan RESP\r\n" +
             "$7\r\nversion\r\n$" + versionString.length() + "\r\n" + versionString + "\r\n" +
             "$5\r\nproto\r\n:3\r\n" +
@@ -26,6 +26,6 @@ public RespChannelInitializer(RespServer respServer) {
    @Override
    public void initializeChannel(Channel ch) {
       ChannelPipeline pipeline = ch.pipeline();
-      pipeline.addLast(new RespLettuceHandler(respServer));
+      pipeline.addLast(new RespDecoder(respServer));
    }
 }
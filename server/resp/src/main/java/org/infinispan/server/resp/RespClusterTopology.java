@@ -0,0 +1,385 @@
+package org.infinispan.server.resp;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.commons.CacheException;
+import org.infinispan.commons.util.Util;
+import org.infinispan.context.Flag;
+import org.infinispan.distribution.DistributionInfo;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryRemoved;
+import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.notifications.cachemanagerlistener.annotation.ViewChanged;
+import org.infinispan.notifications.cachemanagerlistener.event.ViewChangedEvent;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.server.resp.hashing.CRC16;
+import org.infinispan.server.resp.hashing.RespHashFunctionPartitioner;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.util.CharsetUtil;
+
+/**
+ * Describes the topology of a clustered RESP cache in the terms of Redis Cluster.
+ * <p>
+ * The cache maps keys to segments with a {@link RespHashFunctionPartitioner}, so each segment covers a contiguous range
+ * of hash slots. A slot range is served by the RESP endpoint of the primary owner of its segment, and the remaining
+ * read owners are reported as replicas. The endpoint of each member is published in the replicated topology cache by
+ * its {@link RespServer}, and kept in memory with the id of the member by a listener, so the requests never read the
+ * cache or compute an id on the event loop. The endpoints of the members that left the cluster are removed.
+ * <p>
+ * The slot ranges are computed once per cache topology and per change of the endpoints, so clients refreshing them
+ * after a {@code MOVED} redirection see the owners after the latest rebalance.
+ *
+ * @since 14.0
+ */
+public class RespClusterTopology {
+   private final DistributionManager distributionManager;
+   private final RespHashFunctionPartitioner partitioner;
+   private final AdvancedCache<Address, String> endpoints;
+   private final ConcurrentMap<Address, Owner> owners = new ConcurrentHashMap<>();
+   // Incremented on every change of the owners, to discard the slot ranges computed with the previous ones
+   private final AtomicInteger ownersVersion = new AtomicInteger();
+   private final EndpointListener endpointListener = new EndpointListener();
+   private final MemberListener memberListener = new MemberListener();
+   private final String localNodeId;
+   private volatile SlotRanges slotRanges;
+
+   RespClusterTopology(DistributionManager distributionManager, RespHashFunctionPartitioner partitioner,
+         AdvancedCache<Address, String> endpoints) {
+      this.distributionManager = distributionManager;
+      this.partitioner = partitioner;
+      // Every node has a copy of the endpoints
+      this.endpoints = endpoints.withFlags(Flag.CACHE_MODE_LOCAL, Flag.SKIP_CACHE_LOAD);
+      this.localNodeId = nodeId(distributionManager.getCacheTopology().getLocalAddress());
+   }
+
+   /**
+    * Starts tracking the endpoints published in the topology cache and the members leaving the cluster
+    */
+   void start() {
+      endpoints.addListener(endpointListener);
+      endpoints.getCacheManager().addListener(memberListener);
+      endpoints.forEach(this::updateOwner);
+   }
+
+   void stop() {
+      endpoints.getCacheManager().removeListener(memberListener);
+      endpoints.removeListener(endpointListener);
+      owners.clear();
+      slotRanges = null;
+   }
+
+   /**
+    * Returns the {@code MOVED} error redirecting the client to the primary owner of the key, or {@code null} if the
+    * local node is the primary owner or the endpoint of the primary owner is not known yet.
+    */
+   ByteBuf redirect(byte[] key, ByteBufAllocator allocator) {
+      int slot = CRC16.slot(key);
+      DistributionInfo distribution = distributionManager.getCacheTopology()
+            .getSegmentDistribution(partitioner.getSegmentForSlot(slot));
+      if (distribution.isPrimary()) {
+         return null;
+      }
+      Owner primary = owner(distribution.primary());
+      if (primary == null) {
+         return null;
+      }
+      return RespRequestHandler.stringToByteBuf("-MOVED " + slot + " " + primary.endpoint + "\r\n", allocator);
+   }
+
+   /**
+    * Encodes the reply of {@code CLUSTER SLOTS}: for each slot range, its first and last slot followed by the host, port
+    * and id of the primary and of the replicas.
+    */
+   ByteBuf slots(ByteBufAllocator allocator) {
+      List<SlotRange> ranges = slotRanges(distributionManager.getCacheTopology());
+      ByteBuf buf = allocator.buffer();
+      writeArrayHeader(buf, ranges.size());
+      for (SlotRange range : ranges) {
+         writeArrayHeader(buf, 2 + range.owners.size());
+         writeInteger(buf, range.start);
+         writeInteger(buf, range.end);
+         for (Owner owner : range.owners) {
+            writeArrayHeader(buf, 3);
+            writeBulkString(buf, owner.host);
+            writeInteger(buf, owner.port);
+            writeBulkString(buf, owner.id);
+         }
+      }
+      return buf;
+   }
+
+   /**
+    * Encodes the reply of {@code CLUSTER SHARDS}, with one shard for each group of slot ranges with the same owners.
+    */
+   ByteBuf shards(ByteBufAllocator allocator) {
+      Map<List<Owner>, List<SlotRange>> shards = new LinkedHashMap<>();
+      for (SlotRange range : slotRanges(distributionManager.getCacheTopology())) {
+         shards.computeIfAbsent(range.owners, k -> new ArrayList<>()).add(range);
+      }
+      ByteBuf buf = allocator.buffer();
+      writeArrayHeader(buf, shards.size());
+      for (Map.Entry<List<Owner>, List<SlotRange>> shard : shards.entrySet()) {
+         buf.writeCharSequence("%2\r\n", CharsetUtil.US_ASCII);
+         writeBulkString(buf, "slots");
+         writeArrayHeader(buf, 2 * shard.getValue().size());
+         for (SlotRange range : shard.getValue()) {
+            writeInteger(buf, range.start);
+            writeInteger(buf, range.end);
+         }
+         writeBulkString(buf, "nodes");
+         List<Owner> owners = shard.getKey();
+         writeArrayHeader(buf, owners.size());
+         for (int i = 0; i < owners.size(); ++i) {
+            Owner owner = owners.get(i);
+            buf.writeCharSequence("%7\r\n", CharsetUtil.US_ASCII);
+            writeBulkString(buf, "id");
+            writeBulkString(buf, owner.id);
+            writeBulkString(buf, "port");
+            writeInteger(buf, owner.port);
+            writeBulkString(buf, "ip");
+            writeBulkString(buf, owner.host);
+            writeBulkString(buf, "endpoint");
+            writeBulkString(buf, owner.host);
+            writeBulkString(buf, "role");
+            writeBulkString(buf, i == 0 ? "master" : "replica");
+            writeBulkString(buf, "replication-offset");
+            writeInteger(buf, 0);
+            writeBulkString(buf, "health");
+            writeBulkString(buf, "online");
+         }
+      }
+      return buf;
+   }
+
+   /**
+    * Encodes the reply of {@code CLUSTER NODES}. Every member is described as a master serving the slots of the
+    * segments it is the primary owner of, as a member is a backup owner of other segments at the same time.
+    */
+   ByteBuf nodes(ByteBufAllocator allocator) {
+      LocalizedCacheTopology topology = distributionManager.getCacheTopology();
+      Map<Owner, StringBuilder> nodes = new LinkedHashMap<>();
+      for (Address member : topology.getMembers()) {
+         Owner owner = owner(member);
+         if (owner != null) {
+            StringBuilder line = new StringBuilder();
+            line.append(owner.id).append(' ').append(owner.host).append(':').append(owner.port)
+                  .append('@').append(owner.port).append(' ')
+                  .append(member.equals(topology.getLocalAddress()) ? "myself,master" : "master")
+                  .append(" - 0 0 ").append(topology.getTopologyId()).append(" connected");
+            nodes.put(owner, line);
+         }
+      }
+      for (SlotRange range : slotRanges(topology)) {
+         StringBuilder line = nodes.get(range.owners.get(0));
+         if (line == null) {
+            continue;
+         }
+         line.append(' ').append(range.start);
+         if (range.end != range.start) {
+            line.append('-').append(range.end);
+         }
+      }
+      StringBuilder reply = new StringBuilder();
+      for (StringBuilder line : nodes.values()) {
+         reply.append(line).append('\n');
+      }
+      ByteBuf buf = allocator.buffer();
+      writeBulkString(buf, reply.toString());
+      return buf;
+   }
+
+   /**
+    * Returns the id of the local node, as reported by {@code CLUSTER MYID}
+    */
+   String localNodeId() {
+      return localNodeId;
+   }
+
+   private List<SlotRange> slotRanges(LocalizedCacheTopology topology) {
+      SlotRanges current = slotRanges;
+      int version = ownersVersion.get();
+      if (current != null && current.topologyId == topology.getTopologyId() && current.ownersVersion == version) {
+         return current.ranges;
+      }
+      List<SlotRange> ranges = Collections.unmodifiableList(computeSlotRanges(topology));
+      slotRanges = new SlotRanges(topology.getTopologyId(), version, ranges);
+      return ranges;
+   }
+
+   private List<SlotRange> computeSlotRanges(LocalizedCacheTopology topology) {
+      List<SlotRange> ranges = new ArrayList<>();
+      SlotRange last = null;
+      int numSegments = partitioner.getNumSegments();
+      for (int segment = 0; segment < numSegments; ++segment) {
+         int start = partitioner.getFirstSlot(segment);
+         int end = partitioner.getFirstSlot(segment + 1) - 1;
+         if (end < start) {
+            // More segments than slots
+            continue;
+         }
+         DistributionInfo distribution = topology.getSegmentDistribution(segment);
+         Owner primary = owner(distribution.primary());
+         if (primary == null) {
+            // The primary owner didn't publish its endpoint yet
+            last = null;
+            continue;
+         }
+         List<Owner> segmentOwners = new ArrayList<>(distribution.readOwners().size());
+         segmentOwners.add(primary);
+         for (Address address : distribution.readOwners()) {
+            if (!address.equals(distribution.primary())) {
+               Owner replica = owner(address);
+               if (replica != null) {
+                  segmentOwners.add(replica);
+               }
+            }
+         }
+         if (last != null && last.end == start - 1 && last.owners.equals(segmentOwners)) {
+            last.end = end;
+         } else {
+            last = new SlotRange(start, end, segmentOwners);
+            ranges.add(last);
+         }
+      }
+      return ranges;
+   }
+
+   private Owner owner(Address address) {
+      return address == null ? null : owners.get(address);
+   }
+
+   private void updateOwner(Address address, String endpoint) {
+      if (endpoint == null) {
+         owners.remove(address);
+      } else {
+         int separator = endpoint.lastIndexOf(':');
+         owners.put(address, new Owner(nodeId(address), endpoint, endpoint.substring(0, separator),
+               Integer.parseInt(endpoint.substring(separator + 1))));
+      }
+      ownersVersion.incrementAndGet();
+   }
+
+   /**
+    * Returns a stable id for the node with the given address, with the 40 hexadecimal characters of a Redis node id
+    */
+   static String nodeId(Address address) {
+      try {
+         MessageDigest digest = MessageDigest.getInstance("SHA-1");
+         byte[] hash = digest.digest(address.toString().getBytes(StandardCharsets.UTF_8));
+         return Util.toHexString(hash).toLowerCase(Locale.ROOT);
+      } catch (NoSuchAlgorithmException e) {
+         throw new CacheException(e);
+      }
+   }
+
+   private static void writeArrayHeader(ByteBuf buf, int size) {
+      buf.writeCharSequence("*" + size + "\r\n", CharsetUtil.US_ASCII);
+   }
+
+   private static void writeInteger(ByteBuf buf, long value) {
+      buf.writeCharSequence(":" + value + "\r\n", CharsetUtil.US_ASCII);
+   }
+
+   private static void writeBulkString(ByteBuf buf, String value) {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      buf.writeCharSequence("$" + bytes.length + "\r\n", CharsetUtil.US_ASCII);
+      buf.writeBytes(bytes);
+      buf.writeByte('\r').writeByte('\n');
+   }
+
+   @Listener(observation = Listener.Observation.POST)
+   public class EndpointListener {
+      @CacheEntryCreated
+      @CacheEntryModified
+      @CacheEntryRemoved
+      public void endpointUpdated(CacheEntryEvent<Address, String> event) {
+         updateOwner(event.getKey(), event.getValue());
+      }
+   }
+
+   // Use a separate thread to avoid blocking the view handler thread
+   @Listener(sync = false)
+   public class MemberListener {
+      @ViewChanged
+      public void viewChanged(ViewChangedEvent event) {
+         for (Address member : event.getOldMembers()) {
+            if (!event.getNewMembers().contains(member)) {
+               // Every node removes the endpoint from its own copy
+               endpoints.remove(member);
+            }
+         }
+      }
+   }
+
+   private static final class SlotRanges {
+      final int topologyId;
+      final int ownersVersion;
+      final List<SlotRange> ranges;
+
+      SlotRanges(int topologyId, int ownersVersion, List<SlotRange> ranges) {
+         this.topologyId = topologyId;
+         this.ownersVersion = ownersVersion;
+         this.ranges = ranges;
+      }
+   }
+
+   private static final class SlotRange {
+      final int start;
+      int end;
+      final List<Owner> owners;
+
+      SlotRange(int start, int end, List<Owner> owners) {
+         this.start = start;
+         this.end = end;
+         this.owners = owners;
+      }
+   }
+
+   private static final class Owner {
+      final String id;
+      final String endpoint;
+      final String host;
+      final int port;
+
+      Owner(String id, String endpoint, String host, int port) {
+         this.id = id;
+         this.endpoint = endpoint;
+         this.host = host;
+         this.port = port;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o)
+            return true;
+         if (o == null || getClass() != o.getClass())
+            return false;
+         Owner owner = (Owner) o;
+         return port == owner.port && id.equals(owner.id) && host.equals(owner.host);
+      }
+
+      @Override
+      public int hashCode() {
+         return Objects.hash(id, host, port);
+      }
+   }
+}
@@ -0,0 +1,153 @@
+package org.infinispan.server.resp;
+
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * The commands supported by the RESP server.
+ * <p>
+ * Commands are resolved directly from the bytes of the request with {@link #fromByteBuf(ByteBuf, int, int)}, which
+ * looks up the candidates by their first letter and compares the remaining bytes ignoring case, so no {@code String}
+ * is created for the command name.
+ *
+ * @since 14.0
+ */
+public enum RespCommand {
+   HELLO,
+   AUTH,
+   PING,
+   ECHO,
+   SET(true),
+   GET(true),
+   DEL,
+   MGET,
+   MSET,
+   INCR(true),
+   DECR(true),
+   INFO,
+   PUBLISH,
+   SUBSCRIBE,
+   UNSUBSCRIBE,
+   PSUBSCRIBE,
+   PUNSUBSCRIBE,
+   SELECT,
+   READWRITE,
+   READONLY,
+   RESET,
+   QUIT,
+   CLUSTER,
+   TYPE(true),
+   HSET(true),
+   HGET(true),
+   HMGET(true),
+   HDEL(true),
+   HGETALL(true),
+   HKEYS(true),
+   HVALS(true),
+   HLEN(true),
+   HEXISTS(true),
+   HINCRBY(true),
+   LPUSH(true),
+   RPUSH(true),
+   LPOP(true),
+   RPOP(true),
+   LLEN(true),
+   LINDEX(true),
+   LRANGE(true),
+   SADD(true),
+   SREM(true),
+   SMEMBERS(true),
+   SISMEMBER(true),
+   SCARD(true),
+   ZADD(true),
+   ZINCRBY(true),
+   ZREM(true),
+   ZSCORE(true),
+   ZCARD(true),
+   ZRANK(true),
+   ZRANGE(true);
+
+   // Clears the lower case bit of ASCII letters
+   private static final int UPPER_CASE_MASK = 0xDF;
+   private static final RespCommand[][] COMMANDS_BY_LETTER = new RespCommand[26][];
+
+   static {
+      RespCommand[] commands = values();
+      for (RespCommand command : commands) {
+         int letter = command.name[0] - 'A';
+         RespCommand[] sameLetter = COMMANDS_BY_LETTER[letter];
+         if (sameLetter == null) {
+            sameLetter = new RespCommand[]{command};
+         } else {
+            RespCommand[] copy = new RespCommand[sameLetter.length + 1];
+            System.arraycopy(sameLetter, 0, copy, 0, sameLetter.length);
+            copy[sameLetter.length] = command;
+            sameLetter = copy;
+         }
+         COMMANDS_BY_LETTER[letter] = sameLetter;
+      }
+   }
+
+   private final byte[] name;
+   private final boolean singleKey;
+
+   RespCommand() {
+      this(false);
+   }
+
+   RespCommand(boolean singleKey) {
+      this.name = name().getBytes(StandardCharsets.US_ASCII);
+      this.singleKey = singleKey;
+   }
+
+   /**
+    * Returns whether the first argument of the command is the only key it accesses, so that the request can be
+    * redirected to the owner of that key
+    */
+   public boolean isSingleKey() {
+      return singleKey;
+   }
+
+   /**
+    * Resolves the command whose name is stored in the given buffer, ignoring case. The reader index of the buffer is
+    * not modified.
+    *
+    * @param buf the buffer containing the command name
+    * @param offset the index of the first byte of the name
+    * @param length the number of bytes of the name
+    * @return the command, or {@code null} if the name doesn't match any command
+    */
+   public static RespCommand fromByteBuf(ByteBuf buf, int offset, int length) {
+      if (length == 0) {
+         return null;
+      }
+      int letter = (buf.getByte(offset) & UPPER_CASE_MASK) - 'A';
+      if (letter < 0 || letter >= COMMANDS_BY_LETTER.length) {
+         return null;
+      }
+      RespCommand[] candidates = COMMANDS_BY_LETTER[letter];
+      if (candidates == null) {
+         return null;
+      }
+      for (RespCommand candidate : candidates) {
+         if (candidate.matches(buf, offset, length)) {
+            return candidate;
+         }
+      }
+      return null;
+   }
+
+   private boolean matches(ByteBuf buf, int offset, int length) {
+      if (name.length != length) {
+         return false;
+      }
+      // The first letter was already compared by the lookup
+      for (int i = 1; i < length; ++i) {
+         if ((buf.getByte(offset + i) & UPPER_CASE_MASK) != name[i]) {
+            return false;
+         }
+      }
+      return true;
+   }
+}
@@ -0,0 +1,242 @@
+package org.infinispan.server.resp;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.infinispan.commons.logging.LogFactory;
+import org.infinispan.server.core.transport.PipelineStatistics;
+import org.infinispan.server.resp.logging.Log;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+/**
+ * Decodes RESP requests directly from the channel buffer and dispatches them to the current
+ * {@link RespRequestHandler}.
+ * <p>
+ * A request is an array of bulk strings. The command name is resolved in place with
+ * {@link RespCommand#fromByteBuf(ByteBuf, int, int)} and only the arguments are copied, into a list that is reused for
+ * every request of the channel. The decoding state is kept between reads, so a request may be split across multiple
+ * buffers.
+ * <p>
+ * The responses are written in the order of the requests by a {@link RespResponseSequencer}, which flushes them once
+ * all the requests of a read have been dispatched. A request whose handler fails gets an error reply, and errors that
+ * close the channel are also written after the responses of the previous requests.
+ *
+ * @since 14.0
+ */
+public class RespDecoder extends ByteToMessageDecoder {
+   private static final Log log = LogFactory.getLog(MethodHandles.lookup().lookupClass(), Log.class);
+
+   // Same limits as the Redis server
+   private static final int MAX_ARGUMENTS = 1024 * 1024;
+   private static final int MAX_BULK_STRING_LENGTH = 512 * 1024 * 1024;
+   // Prefix, the digits of the largest length and the line terminator
+   private static final int MAX_LENGTH_LINE = 1 + 10 + 2;
+   private static final int INCOMPLETE = -1;
+   private static final int INVALID = -2;
+
+   private enum State {
+      ARRAY_LENGTH,
+      BULK_STRING_LENGTH,
+      BULK_STRING,
+      DISCARD
+   }
+
+   private final List<byte[]> arguments = new ArrayList<>();
+   private final PipelineStatistics statistics;
+   private RespResponseSequencer sequencer;
+   private RespRequestHandler requestHandler;
+   private State state = State.ARRAY_LENGTH;
+   private int remainingBulkStrings;
+   private int bulkStringLength;
+   private boolean commandRead;
+   private RespCommand command;
+
+   public RespDecoder(RespServer respServer) {
+      this(respServer.newHandler(), respServer.getPipelineStatistics());
+   }
+
+   public RespDecoder(RespRequestHandler requestHandler) {
+      this(requestHandler, new PipelineStatistics());
+   }
+
+   public RespDecoder(RespRequestHandler requestHandler, PipelineStatistics statistics) {
+      this.requestHandler = requestHandler;
+      this.statistics = statistics;
+   }
+
+   @Override
+   public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+      super.handlerAdded(ctx);
+      sequencer = new RespResponseSequencer(ctx, statistics);
+   }
+
+   @Override
+   public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+      sequencer.readStarted();
+      super.channelRead(ctx, msg);
+   }
+
+   @Override
+   public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+      super.channelReadComplete(ctx);
+      sequencer.readCompleted();
+   }
+
+   @Override
+   public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+      sequencer.close();
+      super.channelInactive(ctx);
+   }
+
+   @Override
+   protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+      for (;;) {
+         switch (state) {
+            case ARRAY_LENGTH:
+               int arrayLength = readLength(in, (byte) '*');
+               if (arrayLength == INCOMPLETE) {
+                  return;
+               }
+               if (arrayLength == INVALID || arrayLength > MAX_ARGUMENTS) {
+                  protocolError(ctx, in, "invalid multibulk length");
+                  return;
+               }
+               // Empty arrays are ignored
+               if (arrayLength > 0) {
+                  remainingBulkStrings = arrayLength;
+                  state = State.BULK_STRING_LENGTH;
+               }
+               break;
+            case BULK_STRING_LENGTH:
+               int length = readLength(in, (byte) '$');
+               if (length == INCOMPLETE) {
+                  return;
+               }
+               if (length == INVALID || length > MAX_BULK_STRING_LENGTH) {
+                  protocolError(ctx, in, "invalid bulk length");
+                  return;
+               }
+               bulkStringLength = length;
+               state = State.BULK_STRING;
+               break;
+            case BULK_STRING:
+               if (in.readableBytes() < bulkStringLength + 2) {
+                  return;
+               }
+               readBulkString(in);
+               if (--remainingBulkStrings == 0) {
+                  state = State.ARRAY_LENGTH;
+                  dispatch(ctx);
+               } else {
+                  state = State.BULK_STRING_LENGTH;
+               }
+               break;
+            case DISCARD:
+               in.skipBytes(in.readableBytes());
+               return;
+            default:
+               throw new IllegalStateException("Unknown state " + state);
+         }
+      }
+   }
+
+   private void readBulkString(ByteBuf in) {
+      int readerIndex = in.readerIndex();
+      if (!commandRead) {
+         command = RespCommand.fromByteBuf(in, readerIndex, bulkStringLength);
+         commandRead = true;
+      } else if (command != null) {
+         // Arguments are kept by the handlers, e.g. as cache keys, so they are copied
+         byte[] argument = new byte[bulkStringLength];
+         in.getBytes(readerIndex, argument);
+         arguments.add(argument);
+      }
+      in.readerIndex(readerIndex + bulkStringLength + 2);
+   }
+
+   private void dispatch(ChannelHandlerContext ctx) {
+      RespResponse response = sequencer.nextResponse();
+      try {
+         if (command == null) {
+            response.send(RespRequestHandler.stringToByteBuf("-ERR unknown command\r\n", ctx.alloc()));
+         } else {
+            requestHandler = requestHandler.handleRequest(ctx, command, arguments, response);
+         }
+      } catch (Throwable t) {
+         // The next responses are only written after this one, so it is completed with the error
+         if (log.isDebugEnabled()) {
+            log.debugf(t, "Error handling %s request on channel %s", command, ctx.channel());
+         }
+         if (!response.isComplete()) {
+            response.send(RespRequestHandler.stringToByteBuf(errorReply(command, t), ctx.alloc()));
+         }
+      } finally {
+         arguments.clear();
+         commandRead = false;
+         command = null;
+      }
+   }
+
+   private static String errorReply(RespCommand command, Throwable t) {
+      // The handlers read the arguments without checking their number first
+      if (t instanceof IndexOutOfBoundsException) {
+         return "-ERR wrong number of arguments for '" + command.name().toLowerCase() + "' command\r\n";
+      }
+      return "-ERR Server Error Encountered: " + t.getMessage() + "\r\n";
+   }
+
+   /**
+    * Reads a line with the given prefix followed by a non negative number.
+    *
+    * @return the number, {@link #INCOMPLETE} if the line was not fully received or {@link #INVALID} if it is malformed
+    */
+   private static int readLength(ByteBuf in, byte prefix) {
+      int readerIndex = in.readerIndex();
+      int toSearch = Math.min(in.readableBytes(), MAX_LENGTH_LINE);
+      int lineFeed = in.indexOf(readerIndex, readerIndex + toSearch, (byte) '\n');
+      if (lineFeed < 0) {
+         return toSearch == MAX_LENGTH_LINE ? INVALID : INCOMPLETE;
+      }
+      int carriageReturn = lineFeed - 1;
+      if (in.getByte(readerIndex) != prefix || carriageReturn <= readerIndex + 1 ||
+            in.getByte(carriageReturn) != '\r') {
+         return INVALID;
+      }
+      long value = 0;
+      for (int i = readerIndex + 1; i < carriageReturn; ++i) {
+         byte digit = in.getByte(i);
+         if (digit < '0' || digit > '9') {
+            return INVALID;
+         }
+         value = value * 10 + (digit - '0');
+      }
+      if (value > Integer.MAX_VALUE) {
+         return INVALID;
+      }
+      in.readerIndex(lineFeed + 1);
+      return (int) value;
+   }
+
+   private void protocolError(ChannelHandlerContext ctx, ByteBuf in, String message) {
+      if (log.isTraceEnabled()) {
+         log.tracef("Closing channel %s after protocol error: %s", ctx.channel(), message);
+      }
+      state = State.DISCARD;
+      in.skipBytes(in.readableBytes());
+      // The responses of the previous requests are written before the error
+      sequencer.closeAfterResponses(RespRequestHandler.stringToByteBuf("-ERR Protocol error: " + message + "\r\n",
+            ctx.alloc()));
+   }
+
+   @Override
+   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      log.unexpectedException(cause);
+      state = State.DISCARD;
+      sequencer.closeAfterResponses(RespRequestHandler.stringToByteBuf("-ERR Server Error Encountered: " +
+            cause.getMessage() + "\r\n", ctx.alloc()));
+   }
+}
@@ -8,8 +8,18 @@
 import io.netty.channel.ChannelHandlerContext;
 
 public interface RespRequestHandler {
-   default RespRequestHandler handleRequest(ChannelHandlerContext ctx, String type, List<byte[]> arguments) {
-      ctx.writeAndFlush(stringToByteBuf("-ERR unknown command\r\n", ctx.alloc()));
+   /**
+    * Handles a request, the arguments list is reused by the {@link RespDecoder} so it must not be referenced after
+    * this method returns, but the arguments it contains may be retained.
+    * <p>
+    * The replies must be written with the given response, which must always be completed, as the responses of the
+    * next requests are only written after it.
+    *
+    * @return the handler for the next requests of the channel
+    */
+   default RespRequestHandler handleRequest(ChannelHandlerContext ctx, RespCommand command, List<byte[]> arguments,
+         RespResponse response) {
+      response.send(stringToByteBuf("-ERR unknown command\r\n", ctx.alloc()));
       return this;
    }
 
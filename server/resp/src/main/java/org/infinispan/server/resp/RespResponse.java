@@ -0,0 +1,117 @@
+package org.infinispan.server.resp;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * The response to a single request, written to the channel by the {@link RespResponseSequencer} after the responses
+ * of the previous requests.
+ * <p>
+ * Most requests have a single reply, sent with {@link #send(ByteBuf)}. Requests with multiple replies, like
+ * {@code SUBSCRIBE}, {@link #write(ByteBuf)} each of them and then {@link #complete()} the response. The methods may
+ * be invoked from any thread.
+ *
+ * @since 14.0
+ */
+public class RespResponse {
+   private final RespResponseSequencer sequencer;
+   // Only accessed by the event loop
+   private List<ByteBuf> parts;
+   private boolean complete;
+
+   RespResponse(RespResponseSequencer sequencer) {
+      this.sequencer = sequencer;
+   }
+
+   /**
+    * Writes the only reply to the request, completing the response.
+    */
+   public void send(ByteBuf reply) {
+      EventExecutor executor = sequencer.executor();
+      if (executor.inEventLoop()) {
+         add(reply, true);
+      } else {
+         executor.execute(() -> add(reply, true));
+      }
+   }
+
+   /**
+    * Writes a reply to the request, the response must be completed with {@link #complete()} after the last reply.
+    */
+   public void write(ByteBuf reply) {
+      EventExecutor executor = sequencer.executor();
+      if (executor.inEventLoop()) {
+         add(reply, false);
+      } else {
+         executor.execute(() -> add(reply, false));
+      }
+   }
+
+   /**
+    * Completes the response, so the responses of the next requests can be written.
+    */
+   public void complete() {
+      EventExecutor executor = sequencer.executor();
+      if (executor.inEventLoop()) {
+         add(null, true);
+      } else {
+         executor.execute(() -> add(null, true));
+      }
+   }
+
+   private void add(ByteBuf reply, boolean complete) {
+      if (sequencer.isClosed()) {
+         if (reply != null) {
+            reply.release();
+         }
+         return;
+      }
+      if (this.complete) {
+         if (reply != null) {
+            reply.release();
+         }
+         throw new IllegalStateException("Response already completed");
+      }
+      if (reply != null) {
+         if (parts == null) {
+            parts = new ArrayList<>(2);
+         }
+         parts.add(reply);
+      }
+      this.complete = complete;
+      sequencer.responseUpdated(this);
+   }
+
+   boolean isComplete() {
+      return complete;
+   }
+
+   /**
+    * Writes the replies added since the previous invocation, without flushing them
+    *
+    * @return whether any reply was written
+    */
+   boolean writeTo(ChannelHandlerContext ctx) {
+      if (parts == null || parts.isEmpty()) {
+         return false;
+      }
+      for (ByteBuf part : parts) {
+         ctx.write(part, ctx.voidPromise());
+      }
+      parts.clear();
+      return true;
+   }
+
+   void release() {
+      if (parts != null) {
+         for (ByteBuf part : parts) {
+            part.release();
+         }
+         parts.clear();
+      }
+   }
+}
@@ -0,0 +1,161 @@
+package org.infinispan.server.resp;
+
+import java.util.ArrayDeque;
+
+import org.infinispan.server.core.transport.PipelineStatistics;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Writes the responses of a channel in the order of their requests, while the requests are processed concurrently.
+ * <p>
+ * Every request decoded by the {@link RespDecoder} gets a {@link RespResponse} in a queue, and only the responses at
+ * the head of the queue are written to the channel, so a response that completes before the responses of previous
+ * requests waits for them. The responses are flushed once the decoder has read all the requests available in the
+ * channel, or by a single task for the responses completed asynchronously, instead of once per response.
+ * <p>
+ * The channel stops reading while {@link #MAX_PENDING_RESPONSES} responses are pending, and resumes once half of them
+ * have been written, so a client pipelining requests faster than they are processed doesn't grow the queue without
+ * bounds.
+ * <p>
+ * The sequencer is only used by the event loop of the channel, {@link RespResponse} submits the updates from other
+ * threads to it.
+ *
+ * @since 14.0
+ */
+class RespResponseSequencer {
+   static final int MAX_PENDING_RESPONSES = 1024;
+
+   private final ChannelHandlerContext ctx;
+   private final PipelineStatistics statistics;
+   private final ArrayDeque<RespResponse> responses = new ArrayDeque<>();
+   private final Runnable flushTask = this::flush;
+
+   private boolean closed;
+   private boolean reading;
+   private boolean flushScheduled;
+   private int unflushedResponses;
+   private boolean unflushedWrites;
+   private boolean readPaused;
+   private ByteBuf closingReply;
+
+   RespResponseSequencer(ChannelHandlerContext ctx, PipelineStatistics statistics) {
+      this.ctx = ctx;
+      this.statistics = statistics;
+   }
+
+   /**
+    * Creates the response of the next request, which is written after the responses of all the previous requests.
+    */
+   RespResponse nextResponse() {
+      RespResponse response = new RespResponse(this);
+      responses.add(response);
+      statistics.requestReceived(responses.size());
+      if (!readPaused && responses.size() >= MAX_PENDING_RESPONSES) {
+         readPaused = true;
+         ctx.channel().config().setAutoRead(false);
+      }
+      return response;
+   }
+
+   /**
+    * Writes the reply after the responses of all the previous requests and then closes the channel. Used for the
+    * errors that don't belong to a request, after which no more requests are dispatched.
+    */
+   void closeAfterResponses(ByteBuf reply) {
+      if (closed || closingReply != null) {
+         reply.release();
+         return;
+      }
+      closingReply = reply;
+      writeClosingReply();
+   }
+
+   void readStarted() {
+      reading = true;
+   }
+
+   void readCompleted() {
+      reading = false;
+      flush();
+   }
+
+   EventExecutor executor() {
+      return ctx.executor();
+   }
+
+   boolean isClosed() {
+      return closed;
+   }
+
+   /**
+    * Releases the replies that were not written before the channel was closed
+    */
+   void close() {
+      closed = true;
+      if (closingReply != null) {
+         closingReply.release();
+         closingReply = null;
+      }
+      RespResponse response;
+      while ((response = responses.pollFirst()) != null) {
+         response.release();
+      }
+   }
+
+   /**
+    * Invoked by a response whenever it has new content or is completed
+    */
+   void responseUpdated(RespResponse response) {
+      if (responses.peekFirst() != response) {
+         // Written when the previous responses are complete
+         return;
+      }
+      RespResponse head;
+      while ((head = responses.peekFirst()) != null) {
+         unflushedWrites |= head.writeTo(ctx);
+         if (!head.isComplete()) {
+            break;
+         }
+         responses.pollFirst();
+         unflushedResponses++;
+      }
+      if (readPaused && responses.size() <= MAX_PENDING_RESPONSES / 2) {
+         readPaused = false;
+         ctx.channel().config().setAutoRead(true);
+      }
+      if (writeClosingReply()) {
+         return;
+      }
+      // The responses written while reading are flushed when the read completes
+      if (unflushedWrites && !reading && !flushScheduled) {
+         flushScheduled = true;
+         ctx.executor().execute(flushTask);
+      }
+   }
+
+   private boolean writeClosingReply() {
+      if (closingReply == null || !responses.isEmpty()) {
+         return false;
+      }
+      flush();
+      ByteBuf reply = closingReply;
+      closingReply = null;
+      closed = true;
+      ctx.writeAndFlush(reply).addListener(ChannelFutureListener.CLOSE);
+      return true;
+   }
+
+   private void flush() {
+      flushScheduled = false;
+      if (unflushedWrites) {
+         statistics.flushed(unflushedResponses);
+         unflushedWrites = false;
+         unflushedResponses = 0;
+         ctx.flush();
+      }
+   }
+}
@@ -2,16 +2,29 @@
 
 import static org.infinispan.commons.logging.Log.CONFIG;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+
 import org.infinispan.AdvancedCache;
+import org.infinispan.commons.CacheException;
 import org.infinispan.commons.logging.LogFactory;
 import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.configuration.cache.ConfigurationBuilder;
 import org.infinispan.configuration.cache.ExpirationConfiguration;
+import org.infinispan.context.Flag;
+import org.infinispan.distribution.ch.KeyPartitioner;
+import org.infinispan.registry.InternalCacheRegistry;
+import org.infinispan.remoting.transport.Address;
 import org.infinispan.server.core.AbstractProtocolServer;
 import org.infinispan.server.core.transport.NettyChannelInitializer;
 import org.infinispan.server.core.transport.NettyInitializers;
+import org.infinispan.server.core.transport.PipelineStatistics;
 import org.infinispan.server.resp.configuration.RespServerConfiguration;
+import org.infinispan.server.resp.hashing.RespHashFunctionPartitioner;
 import org.infinispan.server.resp.logging.Log;
 
 import io.netty.channel.Channel;
@@ -28,7 +41,10 @@
  */
 public class RespServer extends AbstractProtocolServer<RespServerConfiguration> {
    public static final String RESP_SERVER_FEATURE = "resp-server";
+   public static final String TOPOLOGY_CACHE_NAME_PREFIX = "___respTopologyCache";
    private final static Log log = LogFactory.getLog(RespServer.class, Log.class);
+   private final PipelineStatistics pipelineStatistics = new PipelineStatistics();
+   private RespClusterTopology clusterTopology;
 
    public RespServer() {
       super("Resp");
@@ -47,12 +63,59 @@ protected void startInternal() {
          } else if (cacheManager.getCacheManagerConfiguration().isClustered()) { // We are running in clustered mode
             builder.clustering().cacheMode(CacheMode.REPL_SYNC);
          }
+         if (builder.clustering().cacheMode().isClustered()) {
+            // Segments cover contiguous ranges of hash slots, so that Redis Cluster clients can find the owners
+            builder.clustering().hash().keyPartitioner(new RespHashFunctionPartitioner());
+         }
          cacheManager.defineConfiguration(configuration.defaultCacheName(), builder.build());
       }
       ExpirationConfiguration expConfig = cacheManager.getCacheConfiguration(configuration.defaultCacheName()).expiration();
       if (expConfig.lifespan() >= 0 || expConfig.maxIdle() >= 0)
         throw log.invalidExpiration(configuration.defaultCacheName());
       super.startInternal();
+
+      // Publish the endpoint once the server is started, so that clients are not redirected to it earlier
+      if (cacheManager.getCacheManagerConfiguration().isClustered()) {
+         AdvancedCache<Address, String> endpoints = startTopologyCache();
+         AdvancedCache<byte[], Object> cache = getCache();
+         Configuration cacheConfiguration = SecurityActions.getCacheConfiguration(cache);
+         KeyPartitioner partitioner = cacheConfiguration.clustering().hash().keyPartitioner();
+         if (cacheConfiguration.clustering().cacheMode().isClustered() &&
+               partitioner instanceof RespHashFunctionPartitioner) {
+            clusterTopology = new RespClusterTopology(SecurityActions.getDistributionManager(cache),
+                  (RespHashFunctionPartitioner) partitioner, endpoints);
+            clusterTopology.start();
+         }
+      }
+   }
+
+   private AdvancedCache<Address, String> startTopologyCache() {
+      ConfigurationBuilder builder = new ConfigurationBuilder();
+      builder.clustering().cacheMode(CacheMode.REPL_SYNC)
+            .expiration().lifespan(-1).maxIdle(-1);
+      InternalCacheRegistry internalCacheRegistry = SecurityActions.getGlobalComponentRegistry(cacheManager)
+            .getComponent(InternalCacheRegistry.class);
+      internalCacheRegistry.registerInternalCache(topologyCacheName(), builder.build(),
+            EnumSet.of(InternalCacheRegistry.Flag.EXCLUSIVE));
+      AdvancedCache<Address, String> endpoints = cacheManager.<Address, String>getCache(topologyCacheName()).getAdvancedCache();
+      String endpoint = publicHost() + ":" + getPort();
+      log.debugf("Map %s cluster address with %s RESP endpoint in topology cache", cacheManager.getAddress(), endpoint);
+      endpoints.withFlags(Flag.IGNORE_RETURN_VALUES).put(cacheManager.getAddress(), endpoint);
+      return endpoints;
+   }
+
+   private String publicHost() {
+      try {
+         InetAddress address = InetAddress.getByName(configuration.host());
+         return address.isAnyLocalAddress() ? InetAddress.getLocalHost().getHostAddress() : configuration.host();
+      } catch (UnknownHostException e) {
+         throw new CacheException(e);
+      }
+   }
+
+   String topologyCacheName() {
+      String name = configuration.name();
+      return TOPOLOGY_CACHE_NAME_PREFIX + (name.length() > 0 ? "_" + name : name);
    }
 
    @Override
@@ -73,22 +136,52 @@ public ChannelInitializer<Channel> getInitializer() {
 
    @Override
    public ChannelMatcher getChannelMatcher() {
-      return channel -> channel.pipeline().get(RespLettuceHandler.class) != null;
+      return channel -> channel.pipeline().get(RespDecoder.class) != null;
    }
 
    @Override
    public void stop() {
+      if (clusterTopology != null) {
+         clusterTopology.stop();
+      }
       super.stop();
+      if (cacheManager != null && cacheManager.getCacheManagerConfiguration().isClustered()) {
+         InternalCacheRegistry internalCacheRegistry = SecurityActions.getGlobalComponentRegistry(cacheManager)
+               .getComponent(InternalCacheRegistry.class);
+         if (internalCacheRegistry != null)
+            internalCacheRegistry.unregisterInternalCache(topologyCacheName());
+      }
+      clusterTopology = null;
    }
 
    /**
     * Returns the cache being used by the Resp server
     */
-   public AdvancedCache<byte[], byte[]> getCache() {
-      return cacheManager.<byte[], byte[]>getCache(configuration.defaultCacheName()).getAdvancedCache();
+   public AdvancedCache<byte[], Object> getCache() {
+      return cacheManager.<byte[], Object>getCache(configuration.defaultCacheName()).getAdvancedCache();
+   }
+
+   /**
+    * Returns the topology reported to Redis Cluster clients, or {@code null} if the cache is not clustered or doesn't
+    * map keys to segments with a {@link RespHashFunctionPartitioner}
+    */
+   public RespClusterTopology getClusterTopology() {
+      return clusterTopology;
    }
 
    public Resp3Handler newHandler() {
       return new Resp3Handler(this);
    }
+
+   /**
+    * Returns the statistics of the requests pipelined by the clients
+    */
+   public PipelineStatistics getPipelineStatistics() {
+      return pipelineStatistics;
+   }
+
+   @Override
+   protected Collection<Object> getManagedComponents() {
+      return Collections.singletonList(pipelineStatistics);
+   }
 }
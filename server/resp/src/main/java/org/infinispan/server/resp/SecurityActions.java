@@ -0,0 +1,45 @@
+package org.infinispan.server.resp;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.configuration.cache.Configuration;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.factories.GlobalComponentRegistry;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.security.Security;
+import org.infinispan.security.actions.GetCacheConfigurationAction;
+import org.infinispan.security.actions.GetGlobalComponentRegistryAction;
+
+/**
+ * SecurityActions for the org.infinispan.server.resp package.
+ * <p>
+ * Do not move. Do not change class and method visibility to avoid being called from other {@link
+ * java.security.CodeSource}s, thus granting privilege escalation to external code.
+ *
+ * @since 14.0
+ */
+final class SecurityActions {
+   private static <T> T doPrivileged(PrivilegedAction<T> action) {
+      if (System.getSecurityManager() != null) {
+         return AccessController.doPrivileged(action);
+      } else {
+         return Security.doPrivileged(action);
+      }
+   }
+
+   static Configuration getCacheConfiguration(final AdvancedCache<?, ?> cache) {
+      GetCacheConfigurationAction action = new GetCacheConfigurationAction(cache);
+      return doPrivileged(action);
+   }
+
+   static DistributionManager getDistributionManager(AdvancedCache<?, ?> cache) {
+      return doPrivileged(cache::getDistributionManager);
+   }
+
+   static GlobalComponentRegistry getGlobalComponentRegistry(final EmbeddedCacheManager cacheManager) {
+      GetGlobalComponentRegistryAction action = new GetGlobalComponentRegistryAction(cacheManager);
+      return doPrivileged(action);
+   }
+}
@@ -16,7 +16,9 @@
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
 import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
 import org.infinispan.server.resp.logging.Log;
+import org.infinispan.util.concurrent.AggregateCompletionStage;
 import org.infinispan.util.concurrent.CompletableFutures;
+import org.infinispan.util.concurrent.CompletionStages;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
@@ -78,11 +80,12 @@ public CompletionStage<Void> onEvent(CacheEntryEvent<byte[], byte[]> entryEvent)
    Map<WrappedByteArray, PubSubListener> specificChannelSubscribers = new HashMap<>();
 
    @Override
-   public RespRequestHandler handleRequest(ChannelHandlerContext ctx, String type,
-                                       List<byte[]> arguments) {
+   public RespRequestHandler handleRequest(ChannelHandlerContext ctx, RespCommand command,
+                                       List<byte[]> arguments, RespResponse response) {
 
-      switch (type) {
-         case "SUBSCRIBE":
+      switch (command) {
+         case SUBSCRIBE:
+            AggregateCompletionStage<Void> subscribeStage = CompletionStages.aggregateCompletionStage();
             for (byte[] keyChannel : arguments) {
                if (log.isTraceEnabled()) {
                   log.tracef("Subscriber for channel: " + CharsetUtil.UTF_8.decode(ByteBuffer.wrap(keyChannel)));
@@ -92,83 +95,90 @@ public RespRequestHandler handleRequest(ChannelHandlerContext ctx, String type,
                   PubSubListener pubSubListener = new PubSubListener(ctx.channel());
                   specificChannelSubscribers.put(wrappedByteArray, pubSubListener);
                   byte[] channel = keyToChannel(keyChannel);
-                  respServer.getCache().addListenerAsync(pubSubListener, (key, prevValue, prevMetadata, value, metadata, eventType) ->
+                  subscribeStage.dependsOn(respServer.getCache().addListenerAsync(pubSubListener, (key, prevValue, prevMetadata, value, metadata, eventType) ->
                               Arrays.equals(key, channel), null)
                         .whenComplete((ignore, t) -> {
                            if (t != null) {
                               log.exceptionWhileRegisteringListener(t, CharsetUtil.UTF_8.decode(ByteBuffer.wrap(channel)));
-                              ctx.writeAndFlush("-ERR Failure adding client listener");
+                              response.write(RespRequestHandler.stringToByteBuf("-ERR Failure adding client listener\r\n", ctx.alloc()));
                            } else {
                               ByteBuf subscribeBuffer = ctx.alloc().buffer(20 + (int) Math.log10(keyChannel.length) + 1 + keyChannel.length + 2);
                               subscribeBuffer.writeCharSequence("*2\r\n$9\r\nsubscribe\r\n$" + keyChannel.length + "\r\n", CharsetUtil.UTF_8);
                               subscribeBuffer.writeBytes(keyChannel);
                               subscribeBuffer.writeCharSequence("\r\n", CharsetUtil.UTF_8);
-                              ctx.writeAndFlush(subscribeBuffer);
+                              response.write(subscribeBuffer);
                            }
-                        });
+                        }));
                }
             }
+            // The failures were already replied to
+            subscribeStage.freeze().whenComplete((ignore, t) -> response.complete());
             break;
-         case "UNSUBSCRIBE":
+         case UNSUBSCRIBE:
             if (arguments.size() == 0) {
                for (Iterator<Map.Entry<WrappedByteArray, PubSubListener>> iterator = specificChannelSubscribers.entrySet().iterator(); iterator.hasNext(); ) {
                   Map.Entry<WrappedByteArray, PubSubListener> entry = iterator.next();
                   PubSubListener listener = entry.getValue();
                   respServer.getCache().removeListenerAsync(listener);
                   iterator.remove();
-                  sendUnsubscribe(ctx, entry.getKey().getBytes());
+                  sendUnsubscribe(ctx, response, entry.getKey().getBytes());
                }
+               response.complete();
             } else {
+               AggregateCompletionStage<Void> unsubscribeStage = CompletionStages.aggregateCompletionStage();
                for (byte[] keyChannel : arguments) {
                   WrappedByteArray wrappedByteArray = new WrappedByteArray(keyChannel);
                   PubSubListener listener = specificChannelSubscribers.remove(wrappedByteArray);
                   if (listener != null) {
-                     respServer.getCache().removeListenerAsync(listener)
+                     unsubscribeStage.dependsOn(respServer.getCache().removeListenerAsync(listener)
                            .whenComplete((ignore, t) -> {
                               if (t != null) {
                                  log.exceptionWhileRemovingListener(t, CharsetUtil.UTF_8.decode(ByteBuffer.wrap(keyChannel)));
-                                 ctx.writeAndFlush("-ERR Failure unsubscribing client listener");
+                                 response.write(RespRequestHandler.stringToByteBuf("-ERR Failure unsubscribing client listener\r\n", ctx.alloc()));
                               } else {
-                                 sendUnsubscribe(ctx, keyChannel);
+                                 sendUnsubscribe(ctx, response, keyChannel);
                               }
-                           });
+                           }));
                   } else {
-                     sendUnsubscribe(ctx, keyChannel);
+                     sendUnsubscribe(ctx, response, keyChannel);
                   }
                }
+               // The failures were already replied to
+               unsubscribeStage.freeze().whenComplete((ignore, t) -> response.complete());
             }
             break;
-         case "PING":
+         case PING:
             // Note we don't return the handler and just use it to handle the ping
-            handler.handleRequest(ctx, type, arguments);
+            handler.handleRequest(ctx, command, arguments, response);
             break;
-         case "RESET":
+         case RESET:
             for (Iterator<Map.Entry<WrappedByteArray, PubSubListener>> iterator = specificChannelSubscribers.entrySet().iterator(); iterator.hasNext(); ) {
                Map.Entry<WrappedByteArray, PubSubListener> entry = iterator.next();
                PubSubListener listener = entry.getValue();
                respServer.getCache().removeListenerAsync(listener);
                iterator.remove();
-               sendUnsubscribe(ctx, entry.getKey().getBytes());
+               sendUnsubscribe(ctx, response, entry.getKey().getBytes());
             }
-            return handler.handleRequest(ctx, type, arguments);
-         case "QUIT":
+            return handler.handleRequest(ctx, command, arguments, response);
+         case QUIT:
+            response.complete();
             ctx.close();
             break;
-         case "PSUBSCRIBE":
-         case "PUNSUBSCRIBE":
-            ctx.writeAndFlush(RespRequestHandler.stringToByteBuf("-ERR not implemented yet\r\n", ctx.alloc()));
+         case PSUBSCRIBE:
+         case PUNSUBSCRIBE:
+            response.send(RespRequestHandler.stringToByteBuf("-ERR not implemented yet\r\n", ctx.alloc()));
             break;
          default:
-            return RespRequestHandler.super.handleRequest(ctx, type, arguments);
+            return RespRequestHandler.super.handleRequest(ctx, command, arguments, response);
       }
       return this;
    }
 
-   private void sendUnsubscribe(ChannelHandlerContext ctx, byte[] keyChannel) {
+   private static void sendUnsubscribe(ChannelHandlerContext ctx, RespResponse response, byte[] keyChannel) {
       ByteBuf subscribeBuffer = ctx.alloc().buffer(22 + (int) Math.log10(keyChannel.length) + 1 + keyChannel.length + 2);
       subscribeBuffer.writeCharSequence("*2\r\n$11\r\nunsubscribe\r\n$" + keyChannel.length + "\r\n", CharsetUtil.UTF_8);
       subscribeBuffer.writeBytes(keyChannel);
       subscribeBuffer.writeCharSequence("\r\n", CharsetUtil.UTF_8);
-      ctx.writeAndFlush(subscribeBuffer);
+      response.write(subscribeBuffer);
    }
 }
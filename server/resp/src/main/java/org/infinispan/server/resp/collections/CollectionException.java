@@ -0,0 +1,41 @@
+package org.infinispan.server.resp.collections;
+
+import org.infinispan.commons.CacheException;
+
+/**
+ * An error raised by a {@link CollectionOperation}, whose message is the RESP error sent to the client, e.g.
+ * {@code WRONGTYPE Operation against a key holding the wrong kind of value}.
+ * <p>
+ * The exception is rebuilt by its class name when it is thrown by a remote node, so it must keep its public
+ * constructors.
+ *
+ * @since 14.0
+ */
+public class CollectionException extends CacheException {
+   public static final String WRONG_TYPE = "WRONGTYPE Operation against a key holding the wrong kind of value";
+
+   public CollectionException(String message) {
+      super(message);
+   }
+
+   public CollectionException(String message, Throwable cause) {
+      super(message, cause);
+   }
+
+   public static CollectionException wrongType() {
+      return new CollectionException(WRONG_TYPE);
+   }
+
+   /**
+    * Returns the {@link CollectionException} that caused the given exception, if any.
+    */
+   public static CollectionException find(Throwable t) {
+      while (t != null) {
+         if (t instanceof CollectionException) {
+            return (CollectionException) t;
+         }
+         t = t.getCause();
+      }
+      return null;
+   }
+}
@@ -0,0 +1,517 @@
+package org.infinispan.server.resp.collections;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.infinispan.server.resp.RespCommand;
+
+/**
+ * The commands on hashes, lists, sets and sorted sets.
+ * <p>
+ * Each operation reads or updates a {@link PackedCollection} and is executed on the owner of the key by a
+ * {@link ReadCollectionFunction} or a {@link WriteCollectionFunction}, so only the arguments and the result are sent
+ * between the nodes. The arguments of the command are validated by {@link #validate(List)} before the operation is
+ * executed, which only receives the arguments after the key.
+ * <p>
+ * The results are {@link Long} for integer replies, {@code byte[]} for bulk strings, {@code List<byte[]>} for arrays
+ * and {@code null} for the null reply.
+ *
+ * @since 14.0
+ */
+public enum CollectionOperation {
+   HSET(CollectionType.HASH, true, 2, -1, 2) {
+      @Override
+      Object execute(PackedCollection hash, List<byte[]> arguments) {
+         long added = 0;
+         for (int i = 0; i < arguments.size(); i += 2) {
+            if (hash.put(arguments.get(i), arguments.get(i + 1))) {
+               added++;
+            }
+         }
+         return added;
+      }
+   },
+   HGET(CollectionType.HASH, false, 1, 1, 1) {
+      @Override
+      Object execute(PackedCollection hash, List<byte[]> arguments) {
+         PackedCollection.Element element = hash.find(arguments.get(0));
+         return element != null ? element.value : null;
+      }
+   },
+   HMGET(CollectionType.HASH, false, 1, -1, 1) {
+      @Override
+      Object execute(PackedCollection hash, List<byte[]> arguments) {
+         List<byte[]> values = new ArrayList<>(arguments.size());
+         for (byte[] field : arguments) {
+            PackedCollection.Element element = hash.find(field);
+            values.add(element != null ? element.value : null);
+         }
+         return values;
+      }
+   },
+   HDEL(CollectionType.HASH, true, 1, -1, 1) {
+      @Override
+      Object execute(PackedCollection hash, List<byte[]> arguments) {
+         long removed = 0;
+         for (byte[] field : arguments) {
+            if (hash.remove(field)) {
+               removed++;
+            }
+         }
+         return removed;
+      }
+   },
+   HGETALL(CollectionType.HASH, false, 0, 0, 1) {
+      @Override
+      Object execute(PackedCollection hash, List<byte[]> arguments) {
+         List<byte[]> fieldsAndValues = new ArrayList<>(hash.size() * 2);
+         for (PackedCollection.Element element : hash.elements()) {
+            fieldsAndValues.add(element.key);
+            fieldsAndValues.add(element.value);
+         }
+         return fieldsAndValues;
+      }
+   },
+   HKEYS(CollectionType.HASH, false, 0, 0, 1) {
+      @Override
+      Object execute(PackedCollection hash, List<byte[]> arguments) {
+         return keys(hash.elements());
+      }
+   },
+   HVALS(CollectionType.HASH, false, 0, 0, 1) {
+      @Override
+      Object execute(PackedCollection hash, List<byte[]> arguments) {
+         List<PackedCollection.Element> elements = hash.elements();
+         List<byte[]> values = new ArrayList<>(elements.size());
+         for (PackedCollection.Element element : elements) {
+            values.add(element.value);
+         }
+         return values;
+      }
+   },
+   HLEN(CollectionType.HASH, false, 0, 0, 1) {
+      @Override
+      Object execute(PackedCollection hash, List<byte[]> arguments) {
+         return (long) hash.size();
+      }
+   },
+   HEXISTS(CollectionType.HASH, false, 1, 1, 1) {
+      @Override
+      Object execute(PackedCollection hash, List<byte[]> arguments) {
+         return hash.find(arguments.get(0)) != null ? 1L : 0L;
+      }
+   },
+   HINCRBY(CollectionType.HASH, true, 2, 2, 1) {
+      @Override
+      String validateArguments(List<byte[]> arguments) {
+         return parseLong(arguments.get(1)) == null ? NOT_AN_INTEGER : null;
+      }
+
+      @Override
+      Object execute(PackedCollection hash, List<byte[]> arguments) {
+         byte[] field = arguments.get(0);
+         long increment = parseLong(arguments.get(1));
+         PackedCollection.Element element = hash.find(field);
+         long value = 0;
+         if (element != null) {
+            Long current = parseLong(element.value);
+            if (current == null) {
+               throw new CollectionException("ERR hash value is not an integer");
+            }
+            value = current;
+         }
+         if (increment > 0 ? value > Long.MAX_VALUE - increment : value < Long.MIN_VALUE - increment) {
+            throw new CollectionException("ERR increment or decrement would overflow");
+         }
+         value += increment;
+         hash.put(field, Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+         return value;
+      }
+   },
+   LPUSH(CollectionType.LIST, true, 1, -1, 1) {
+      @Override
+      Object execute(PackedCollection list, List<byte[]> arguments) {
+         for (byte[] element : arguments) {
+            list.push(element, true);
+         }
+         return (long) list.size();
+      }
+   },
+   RPUSH(CollectionType.LIST, true, 1, -1, 1) {
+      @Override
+      Object execute(PackedCollection list, List<byte[]> arguments) {
+         for (byte[] element : arguments) {
+            list.push(element, false);
+         }
+         return (long) list.size();
+      }
+   },
+   LPOP(CollectionType.LIST, true, 0, 1, 1) {
+      @Override
+      String validateArguments(List<byte[]> arguments) {
+         return validatePopCount(arguments);
+      }
+
+      @Override
+      Object execute(PackedCollection list, List<byte[]> arguments) {
+         return pop(list, arguments, true);
+      }
+   },
+   RPOP(CollectionType.LIST, true, 0, 1, 1) {
+      @Override
+      String validateArguments(List<byte[]> arguments) {
+         return validatePopCount(arguments);
+      }
+
+      @Override
+      Object execute(PackedCollection list, List<byte[]> arguments) {
+         return pop(list, arguments, false);
+      }
+   },
+   LLEN(CollectionType.LIST, false, 0, 0, 1) {
+      @Override
+      Object execute(PackedCollection list, List<byte[]> arguments) {
+         return (long) list.size();
+      }
+   },
+   LINDEX(CollectionType.LIST, false, 1, 1, 1) {
+      @Override
+      String validateArguments(List<byte[]> arguments) {
+         return parseLong(arguments.get(0)) == null ? NOT_AN_INTEGER : null;
+      }
+
+      @Override
+      Object execute(PackedCollection list, List<byte[]> arguments) {
+         long index = parseLong(arguments.get(0));
+         if (index < 0) {
+            index += list.size();
+         }
+         PackedCollection.Element element = index >= 0 && index < list.size() ? list.get((int) index) : null;
+         return element != null ? element.key : null;
+      }
+   },
+   LRANGE(CollectionType.LIST, false, 2, 2, 1) {
+      @Override
+      String validateArguments(List<byte[]> arguments) {
+         return validateRange(arguments);
+      }
+
+      @Override
+      Object execute(PackedCollection list, List<byte[]> arguments) {
+         return keys(range(list, arguments));
+      }
+   },
+   SADD(CollectionType.SET, true, 1, -1, 1) {
+      @Override
+      Object execute(PackedCollection set, List<byte[]> arguments) {
+         long added = 0;
+         for (byte[] member : arguments) {
+            if (set.put(member, null)) {
+               added++;
+            }
+         }
+         return added;
+      }
+   },
+   SREM(CollectionType.SET, true, 1, -1, 1) {
+      @Override
+      Object execute(PackedCollection set, List<byte[]> arguments) {
+         long removed = 0;
+         for (byte[] member : arguments) {
+            if (set.remove(member)) {
+               removed++;
+            }
+         }
+         return removed;
+      }
+   },
+   SMEMBERS(CollectionType.SET, false, 0, 0, 1) {
+      @Override
+      Object execute(PackedCollection set, List<byte[]> arguments) {
+         return keys(set.elements());
+      }
+   },
+   SISMEMBER(CollectionType.SET, false, 1, 1, 1) {
+      @Override
+      Object execute(PackedCollection set, List<byte[]> arguments) {
+         return set.find(arguments.get(0)) != null ? 1L : 0L;
+      }
+   },
+   SCARD(CollectionType.SET, false, 0, 0, 1) {
+      @Override
+      Object execute(PackedCollection set, List<byte[]> arguments) {
+         return (long) set.size();
+      }
+   },
+   ZADD(CollectionType.ZSET, true, 2, -1, 2) {
+      @Override
+      String validateArguments(List<byte[]> arguments) {
+         for (int i = 0; i < arguments.size(); i += 2) {
+            if (parseScore(arguments.get(i)) == null) {
+               return NOT_A_FLOAT;
+            }
+         }
+         return null;
+      }
+
+      @Override
+      Object execute(PackedCollection zset, List<byte[]> arguments) {
+         long added = 0;
+         for (int i = 0; i < arguments.size(); i += 2) {
+            if (zset.add(arguments.get(i + 1), parseScore(arguments.get(i)))) {
+               added++;
+            }
+         }
+         return added;
+      }
+   },
+   ZINCRBY(CollectionType.ZSET, true, 2, 2, 1) {
+      @Override
+      String validateArguments(List<byte[]> arguments) {
+         return parseScore(arguments.get(0)) == null ? NOT_A_FLOAT : null;
+      }
+
+      @Override
+      Object execute(PackedCollection zset, List<byte[]> arguments) {
+         byte[] member = arguments.get(1);
+         PackedCollection.Element element = zset.findMember(member);
+         double score = parseScore(arguments.get(0)) + (element != null ? element.score : 0);
+         if (Double.isNaN(score)) {
+            throw new CollectionException("ERR resulting score is not a number (NaN)");
+         }
+         zset.add(member, score);
+         return formatScore(score);
+      }
+   },
+   ZREM(CollectionType.ZSET, true, 1, -1, 1) {
+      @Override
+      Object execute(PackedCollection zset, List<byte[]> arguments) {
+         long removed = 0;
+         for (byte[] member : arguments) {
+            if (zset.removeMember(member)) {
+               removed++;
+            }
+         }
+         return removed;
+      }
+   },
+   ZSCORE(CollectionType.ZSET, false, 1, 1, 1) {
+      @Override
+      Object execute(PackedCollection zset, List<byte[]> arguments) {
+         PackedCollection.Element element = zset.findMember(arguments.get(0));
+         return element != null ? formatScore(element.score) : null;
+      }
+   },
+   ZCARD(CollectionType.ZSET, false, 0, 0, 1) {
+      @Override
+      Object execute(PackedCollection zset, List<byte[]> arguments) {
+         return (long) zset.size();
+      }
+   },
+   ZRANK(CollectionType.ZSET, false, 1, 1, 1) {
+      @Override
+      Object execute(PackedCollection zset, List<byte[]> arguments) {
+         int rank = zset.rank(arguments.get(0));
+         return rank >= 0 ? (long) rank : null;
+      }
+   },
+   ZRANGE(CollectionType.ZSET, false, 2, 3, 1) {
+      @Override
+      String validateArguments(List<byte[]> arguments) {
+         if (arguments.size() == 3 && !"WITHSCORES".equalsIgnoreCase(new String(arguments.get(2), StandardCharsets.US_ASCII))) {
+            return "ERR syntax error";
+         }
+         return validateRange(arguments);
+      }
+
+      @Override
+      Object execute(PackedCollection zset, List<byte[]> arguments) {
+         List<PackedCollection.Element> range = range(zset, arguments);
+         if (arguments.size() == 2) {
+            return keys(range);
+         }
+         List<byte[]> membersAndScores = new ArrayList<>(range.size() * 2);
+         for (PackedCollection.Element element : range) {
+            membersAndScores.add(element.key);
+            membersAndScores.add(formatScore(element.score));
+         }
+         return membersAndScores;
+      }
+   };
+
+   private static final String NOT_AN_INTEGER = "ERR value is not an integer or out of range";
+   private static final String NOT_A_FLOAT = "ERR value is not a valid float";
+   private static final CollectionOperation[] VALUES = values();
+   private static final Map<RespCommand, CollectionOperation> BY_COMMAND = new EnumMap<>(RespCommand.class);
+
+   static {
+      for (CollectionOperation operation : VALUES) {
+         BY_COMMAND.put(RespCommand.valueOf(operation.name()), operation);
+      }
+   }
+
+   private final CollectionType type;
+   private final boolean write;
+   private final int minArguments;
+   private final int maxArguments;
+   private final int argumentStep;
+   private final String arityError;
+
+   CollectionOperation(CollectionType type, boolean write, int minArguments, int maxArguments, int argumentStep) {
+      this.type = type;
+      this.write = write;
+      this.minArguments = minArguments;
+      this.maxArguments = maxArguments;
+      this.argumentStep = argumentStep;
+      this.arityError = "ERR wrong number of arguments for '" + name().toLowerCase(Locale.ROOT) + "' command";
+   }
+
+   /**
+    * Returns the operation of the given command, or {@code null} if the command is not a collection command
+    */
+   public static CollectionOperation fromCommand(RespCommand command) {
+      return BY_COMMAND.get(command);
+   }
+
+   static CollectionOperation fromOrdinal(int ordinal) {
+      return VALUES[ordinal];
+   }
+
+   public CollectionType type() {
+      return type;
+   }
+
+   /**
+    * Returns whether the operation modifies the collection, and so must be executed with a
+    * {@link WriteCollectionFunction}
+    */
+   public boolean isWrite() {
+      return write;
+   }
+
+   /**
+    * Validates the arguments of the command, starting with the key
+    *
+    * @return the RESP error to send to the client, or {@code null} if the arguments are valid
+    */
+   public String validate(List<byte[]> arguments) {
+      int count = arguments.size() - 1;
+      if (count < minArguments || (maxArguments >= 0 && count > maxArguments) ||
+            (count - minArguments) % argumentStep != 0) {
+         return arityError;
+      }
+      return validateArguments(arguments.subList(1, arguments.size()));
+   }
+
+   String validateArguments(List<byte[]> arguments) {
+      return null;
+   }
+
+   /**
+    * Executes the operation on the collection, which is empty if the key doesn't exist
+    */
+   abstract Object execute(PackedCollection collection, List<byte[]> arguments);
+
+   private static List<byte[]> keys(List<PackedCollection.Element> elements) {
+      List<byte[]> keys = new ArrayList<>(elements.size());
+      for (PackedCollection.Element element : elements) {
+         keys.add(element.key);
+      }
+      return keys;
+   }
+
+   private static String validatePopCount(List<byte[]> arguments) {
+      if (arguments.isEmpty()) {
+         return null;
+      }
+      Long count = parseLong(arguments.get(0));
+      return count == null || count < 0 ? "ERR value is out of range, must be positive" : null;
+   }
+
+   private static Object pop(PackedCollection list, List<byte[]> arguments, boolean head) {
+      if (arguments.isEmpty()) {
+         PackedCollection.Element element = list.pop(head);
+         return element != null ? element.key : null;
+      }
+      if (list.isEmpty()) {
+         return null;
+      }
+      long count = Math.min(parseLong(arguments.get(0)), list.size());
+      List<byte[]> popped = new ArrayList<>((int) count);
+      for (int i = 0; i < count; ++i) {
+         popped.add(list.pop(head).key);
+      }
+      return popped;
+   }
+
+   private static String validateRange(List<byte[]> arguments) {
+      return parseLong(arguments.get(0)) == null || parseLong(arguments.get(1)) == null ? NOT_AN_INTEGER : null;
+   }
+
+   /**
+    * Returns the elements between the start and stop arguments, which can be negative to count from the end
+    */
+   private static List<PackedCollection.Element> range(PackedCollection collection, List<byte[]> arguments) {
+      long size = collection.size();
+      long start = parseLong(arguments.get(0));
+      long stop = parseLong(arguments.get(1));
+      if (start < 0) {
+         start = Math.max(start + size, 0);
+      }
+      if (stop < 0) {
+         stop += size;
+      }
+      stop = Math.min(stop, size - 1);
+      if (start > stop) {
+         return Collections.emptyList();
+      }
+      return collection.range((int) start, (int) stop);
+   }
+
+   static Long parseLong(byte[] bytes) {
+      try {
+         return Long.parseLong(new String(bytes, StandardCharsets.US_ASCII));
+      } catch (NumberFormatException e) {
+         return null;
+      }
+   }
+
+   static Double parseScore(byte[] bytes) {
+      String score = new String(bytes, StandardCharsets.US_ASCII);
+      switch (score.toLowerCase(Locale.ROOT)) {
+         case "inf":
+         case "+inf":
+            return Double.POSITIVE_INFINITY;
+         case "-inf":
+            return Double.NEGATIVE_INFINITY;
+      }
+      try {
+         double value = Double.parseDouble(score);
+         // Java also accepts NaN, Infinity and a trailing type suffix
+         char last = score.charAt(score.length() - 1);
+         if (Double.isNaN(value) || Double.isInfinite(value) || (!Character.isDigit(last) && last != '.')) {
+            return null;
+         }
+         return value;
+      } catch (NumberFormatException e) {
+         return null;
+      }
+   }
+
+   static byte[] formatScore(double score) {
+      String formatted;
+      if (Double.isInfinite(score)) {
+         formatted = score > 0 ? "inf" : "-inf";
+      } else if (score == Math.rint(score) && Math.abs(score) < 1e17) {
+         formatted = Long.toString((long) score);
+      } else {
+         formatted = Double.toString(score);
+      }
+      return formatted.getBytes(StandardCharsets.US_ASCII);
+   }
+}
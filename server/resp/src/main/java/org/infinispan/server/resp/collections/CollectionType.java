@@ -0,0 +1,37 @@
+package org.infinispan.server.resp.collections;
+
+/**
+ * The data structures that can be stored in a RESP key besides strings.
+ *
+ * @since 14.0
+ */
+public enum CollectionType {
+   HASH("hash"),
+   LIST("list"),
+   SET("set"),
+   ZSET("zset");
+
+   private static final CollectionType[] VALUES = values();
+
+   private final String typeName;
+
+   CollectionType(String typeName) {
+      this.typeName = typeName;
+   }
+
+   /**
+    * Returns the name of the type as reported by the {@code TYPE} command
+    */
+   public String typeName() {
+      return typeName;
+   }
+
+   byte id() {
+      return (byte) (ordinal() + 1);
+   }
+
+   static CollectionType fromId(byte id) {
+      int index = id - 1;
+      return index >= 0 && index < VALUES.length ? VALUES[index] : null;
+   }
+}
@@ -0,0 +1,74 @@
+package org.infinispan.server.resp.collections;
+
+import java.util.Arrays;
+
+import org.infinispan.commons.marshall.ProtoStreamTypeIds;
+import org.infinispan.protostream.annotations.ProtoFactory;
+import org.infinispan.protostream.annotations.ProtoField;
+import org.infinispan.protostream.annotations.ProtoTypeId;
+
+/**
+ * The value of a key that stores a {@link PackedCollection}.
+ * <p>
+ * Strings are stored as the {@code byte[]} sent by the client, so the values written by the other endpoints are read
+ * as they are, and collections are told apart by this type instead of by the content of the bytes.
+ *
+ * @since 14.0
+ */
+@ProtoTypeId(ProtoStreamTypeIds.RESP_COLLECTION_VALUE)
+public final class CollectionValue {
+   private final CollectionType type;
+   private final byte[] bytes;
+
+   CollectionValue(CollectionType type, byte[] bytes) {
+      this.type = type;
+      this.bytes = bytes;
+   }
+
+   @ProtoFactory
+   CollectionValue(int typeId, byte[] bytes) {
+      this(CollectionType.fromId((byte) typeId), bytes);
+   }
+
+   @ProtoField(number = 1, defaultValue = "0")
+   int getTypeId() {
+      return type.id();
+   }
+
+   @ProtoField(2)
+   byte[] getBytes() {
+      return bytes;
+   }
+
+   public CollectionType type() {
+      return type;
+   }
+
+   /**
+    * Returns the encoded elements of the collection, which must not be modified
+    */
+   public byte[] bytes() {
+      return bytes;
+   }
+
+   @Override
+   public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      CollectionValue that = (CollectionValue) o;
+      return type == that.type && Arrays.equals(bytes, that.bytes);
+   }
+
+   @Override
+   public int hashCode() {
+      return 31 * type.hashCode() + Arrays.hashCode(bytes);
+   }
+
+   @Override
+   public String toString() {
+      return "CollectionValue{" +
+            "type=" + type +
+            ", length=" + bytes.length +
+            '}';
+   }
+}
@@ -0,0 +1,610 @@
+package org.infinispan.server.resp.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A hash, list, set or sorted set stored as a single {@link CollectionValue} of the RESP cache.
+ * <p>
+ * The value holds the {@link CollectionType} and a byte array with the number of elements, followed by the elements
+ * packed in segments, each with its encoded length and number of elements, so small collections are a single packed
+ * segment. When a segment grows past
+ * {@link #MAX_SEGMENT_ENTRIES} elements or {@link #MAX_SEGMENT_BYTES} bytes it is split, so that an operation only
+ * decodes the segments it reads or modifies and copies the others as they are.
+ * <p>
+ * List elements are kept in their position, hash fields and set members sorted by their bytes and sorted set members
+ * by score and then by their bytes. A segment is located by comparing with its first element, so looking up a field
+ * or inserting in order decodes a single segment.
+ * <p>
+ * Lengths are written as unsigned variable length integers and scores as the 8 bytes of the double.
+ * <p>
+ * Instances are not thread safe, they are created by the {@link CollectionOperation} functions to read or update a
+ * single value.
+ *
+ * @since 14.0
+ */
+public final class PackedCollection {
+   static final int MAX_SEGMENT_ENTRIES = 128;
+   static final int MAX_SEGMENT_BYTES = 8 * 1024;
+
+   // Number of elements
+   private static final int HEADER_LENGTH = 4;
+   // Encoded length and number of elements
+   private static final int SEGMENT_HEADER_LENGTH = 4 + 4;
+
+   private static final Comparator<Element> KEY_ORDER = (e1, e2) -> compare(e1.key, e2.key);
+   private static final Comparator<Element> SCORE_ORDER = (e1, e2) -> {
+      int result = Double.compare(e1.score, e2.score);
+      return result != 0 ? result : compare(e1.key, e2.key);
+   };
+
+   private final CollectionType type;
+   private final List<Segment> segments;
+   private int size;
+   private boolean modified;
+
+   private PackedCollection(CollectionType type, List<Segment> segments, int size) {
+      this.type = type;
+      this.segments = segments;
+      this.size = size;
+   }
+
+   /**
+    * Creates an empty collection of the given type
+    */
+   public static PackedCollection create(CollectionType type) {
+      return new PackedCollection(type, new ArrayList<>(1), 0);
+   }
+
+   /**
+    * Returns the type of the collection stored in the given value, or {@code null} if the value is a string
+    */
+   public static CollectionType typeOf(Object value) {
+      return value instanceof CollectionValue ? ((CollectionValue) value).type() : null;
+   }
+
+   /**
+    * Reads the collection stored in the given value. Only the segment boundaries are read, the elements are decoded
+    * when they are accessed.
+    *
+    * @param value the value of the key, or {@code null} if the key doesn't exist
+    * @param type  the expected type
+    * @return the collection, empty if the value is {@code null}
+    * @throws CollectionException if the value is a string or a collection of another type
+    */
+   public static PackedCollection read(Object value, CollectionType type) {
+      if (value == null) {
+         return create(type);
+      }
+      if (typeOf(value) != type) {
+         throw CollectionException.wrongType();
+      }
+      byte[] bytes = ((CollectionValue) value).bytes();
+      int size = readInt(bytes, 0);
+      List<Segment> segments = new ArrayList<>(size / MAX_SEGMENT_ENTRIES + 1);
+      int pos = HEADER_LENGTH;
+      while (pos < bytes.length) {
+         int length = readInt(bytes, pos);
+         int count = readInt(bytes, pos + 4);
+         segments.add(new Segment(bytes, pos + SEGMENT_HEADER_LENGTH, length, count));
+         pos += SEGMENT_HEADER_LENGTH + length;
+      }
+      return new PackedCollection(type, segments, size);
+   }
+
+   public CollectionType type() {
+      return type;
+   }
+
+   public int size() {
+      return size;
+   }
+
+   public boolean isEmpty() {
+      return size == 0;
+   }
+
+   /**
+    * Returns whether the collection was modified since it was read
+    */
+   public boolean isModified() {
+      return modified;
+   }
+
+   /**
+    * Encodes the collection, copying the segments that were not modified
+    */
+   public CollectionValue toValue() {
+      int length = HEADER_LENGTH;
+      int[] segmentLengths = new int[segments.size()];
+      for (int i = 0; i < segments.size(); ++i) {
+         segmentLengths[i] = segments.get(i).encodedLength(type);
+         length += SEGMENT_HEADER_LENGTH + segmentLengths[i];
+      }
+      byte[] bytes = new byte[length];
+      writeInt(bytes, 0, size);
+      int pos = HEADER_LENGTH;
+      for (int i = 0; i < segments.size(); ++i) {
+         Segment segment = segments.get(i);
+         writeInt(bytes, pos, segmentLengths[i]);
+         writeInt(bytes, pos + 4, segment.count());
+         pos = segment.encode(type, bytes, pos + SEGMENT_HEADER_LENGTH);
+      }
+      return new CollectionValue(type, bytes);
+   }
+
+   /**
+    * Returns all the elements in order
+    */
+   public List<Element> elements() {
+      List<Element> elements = new ArrayList<>(size);
+      for (Segment segment : segments) {
+         elements.addAll(segment.elements(type));
+      }
+      return elements;
+   }
+
+   /**
+    * Returns the elements between the given positions, both inclusive, which must be valid positions.
+    */
+   public List<Element> range(int from, int to) {
+      List<Element> range = new ArrayList<>(to - from + 1);
+      int segmentStart = 0;
+      for (Segment segment : segments) {
+         int count = segment.count();
+         int segmentEnd = segmentStart + count;
+         if (segmentEnd > from) {
+            List<Element> elements = segment.elements(type);
+            int start = Math.max(from - segmentStart, 0);
+            int end = Math.min(to - segmentStart + 1, count);
+            range.addAll(elements.subList(start, end));
+            if (to < segmentEnd) {
+               break;
+            }
+         }
+         segmentStart = segmentEnd;
+      }
+      return range;
+   }
+
+   /**
+    * Returns the element at the given position, or {@code null} if the position is out of bounds
+    */
+   public Element get(int index) {
+      if (index < 0 || index >= size) {
+         return null;
+      }
+      for (Segment segment : segments) {
+         int count = segment.count();
+         if (index < count) {
+            return segment.elements(type).get(index);
+         }
+         index -= count;
+      }
+      return null;
+   }
+
+   /**
+    * Inserts a list element at the head or at the tail
+    */
+   public void push(byte[] value, boolean head) {
+      Element element = new Element(value, null, 0);
+      if (segments.isEmpty()) {
+         segments.add(new Segment(new ArrayList<>()));
+      }
+      int segmentIndex = head ? 0 : segments.size() - 1;
+      Segment segment = segments.get(segmentIndex);
+      List<Element> elements = segment.modifiableElements(type);
+      elements.add(head ? 0 : elements.size(), element);
+      elementAdded(segmentIndex);
+   }
+
+   /**
+    * Removes the list element at the head or at the tail
+    *
+    * @return the removed element, or {@code null} if the list is empty
+    */
+   public Element pop(boolean head) {
+      if (segments.isEmpty()) {
+         return null;
+      }
+      int segmentIndex = head ? 0 : segments.size() - 1;
+      List<Element> elements = segments.get(segmentIndex).modifiableElements(type);
+      Element element = elements.remove(head ? 0 : elements.size() - 1);
+      elementRemoved(segmentIndex);
+      return element;
+   }
+
+   /**
+    * Finds a hash field or a set member
+    *
+    * @return the element, or {@code null} if the collection doesn't contain it
+    */
+   public Element find(byte[] key) {
+      if (segments.isEmpty()) {
+         return null;
+      }
+      Element probe = new Element(key, null, 0);
+      List<Element> elements = segments.get(segmentFor(probe, KEY_ORDER)).elements(type);
+      int index = Collections.binarySearch(elements, probe, KEY_ORDER);
+      return index >= 0 ? elements.get(index) : null;
+   }
+
+   /**
+    * Adds or replaces a hash field or a set member
+    *
+    * @param value the value of the hash field, {@code null} for sets
+    * @return {@code true} if the element was added, {@code false} if it replaced an existing one
+    */
+   public boolean put(byte[] key, byte[] value) {
+      Element element = new Element(key, value, 0);
+      if (segments.isEmpty()) {
+         segments.add(new Segment(new ArrayList<>()));
+      }
+      int segmentIndex = segmentFor(element, KEY_ORDER);
+      List<Element> elements = segments.get(segmentIndex).elements(type);
+      int index = Collections.binarySearch(elements, element, KEY_ORDER);
+      if (index >= 0) {
+         if (value == null || Arrays.equals(elements.get(index).value, value)) {
+            return false;
+         }
+         segments.get(segmentIndex).modifiableElements(type).set(index, element);
+         modified = true;
+         return false;
+      }
+      segments.get(segmentIndex).modifiableElements(type).add(-index - 1, element);
+      elementAdded(segmentIndex);
+      return true;
+   }
+
+   /**
+    * Removes a hash field or a set member
+    *
+    * @return whether the collection contained the element
+    */
+   public boolean remove(byte[] key) {
+      if (segments.isEmpty()) {
+         return false;
+      }
+      Element probe = new Element(key, null, 0);
+      return remove(probe, KEY_ORDER);
+   }
+
+   /**
+    * Finds a sorted set member, which requires decoding the segments until the member is found
+    *
+    * @return the element, or {@code null} if the sorted set doesn't contain the member
+    */
+   public Element findMember(byte[] member) {
+      for (Segment segment : segments) {
+         for (Element element : segment.elements(type)) {
+            if (Arrays.equals(element.key, member)) {
+               return element;
+            }
+         }
+      }
+      return null;
+   }
+
+   /**
+    * Returns the position of a sorted set member, or -1 if the sorted set doesn't contain it
+    */
+   public int rank(byte[] member) {
+      int rank = 0;
+      for (Segment segment : segments) {
+         List<Element> elements = segment.elements(type);
+         for (int i = 0; i < elements.size(); ++i) {
+            if (Arrays.equals(elements.get(i).key, member)) {
+               return rank + i;
+            }
+         }
+         rank += elements.size();
+      }
+      return -1;
+   }
+
+   /**
+    * Adds a sorted set member or updates its score
+    *
+    * @return {@code true} if the member was added
+    */
+   public boolean add(byte[] member, double score) {
+      Element existing = findMember(member);
+      if (existing != null) {
+         if (Double.compare(existing.score, score) == 0) {
+            return false;
+         }
+         remove(existing, SCORE_ORDER);
+      }
+      Element element = new Element(member, null, score);
+      if (segments.isEmpty()) {
+         segments.add(new Segment(new ArrayList<>()));
+      }
+      int segmentIndex = segmentFor(element, SCORE_ORDER);
+      List<Element> elements = segments.get(segmentIndex).modifiableElements(type);
+      int index = Collections.binarySearch(elements, element, SCORE_ORDER);
+      elements.add(-index - 1, element);
+      elementAdded(segmentIndex);
+      return existing == null;
+   }
+
+   /**
+    * Removes a sorted set member
+    *
+    * @return whether the sorted set contained the member
+    */
+   public boolean removeMember(byte[] member) {
+      Element existing = findMember(member);
+      return existing != null && remove(existing, SCORE_ORDER);
+   }
+
+   private boolean remove(Element probe, Comparator<Element> order) {
+      int segmentIndex = segmentFor(probe, order);
+      List<Element> elements = segments.get(segmentIndex).elements(type);
+      int index = Collections.binarySearch(elements, probe, order);
+      if (index < 0) {
+         return false;
+      }
+      segments.get(segmentIndex).modifiableElements(type).remove(index);
+      elementRemoved(segmentIndex);
+      return true;
+   }
+
+   /**
+    * Returns the last segment whose first element is not greater than the given element
+    */
+   private int segmentFor(Element element, Comparator<Element> order) {
+      int low = 1;
+      int high = segments.size() - 1;
+      int result = 0;
+      while (low <= high) {
+         int mid = (low + high) >>> 1;
+         if (order.compare(segments.get(mid).first(type), element) <= 0) {
+            result = mid;
+            low = mid + 1;
+         } else {
+            high = mid - 1;
+         }
+      }
+      return result;
+   }
+
+   private void elementAdded(int segmentIndex) {
+      size++;
+      modified = true;
+      Segment segment = segments.get(segmentIndex);
+      int count = segment.count();
+      if (count > MAX_SEGMENT_ENTRIES || (count > 1 && segment.encodedLength(type) > MAX_SEGMENT_BYTES)) {
+         List<Element> elements = segment.elements;
+         int half = count / 2;
+         segments.set(segmentIndex, new Segment(new ArrayList<>(elements.subList(0, half))));
+         segments.add(segmentIndex + 1, new Segment(new ArrayList<>(elements.subList(half, count))));
+      }
+   }
+
+   private void elementRemoved(int segmentIndex) {
+      size--;
+      modified = true;
+      if (segments.get(segmentIndex).count() == 0) {
+         segments.remove(segmentIndex);
+      }
+   }
+
+   /**
+    * An element of a collection: a list element, a set member, a hash field and its value or a sorted set member and
+    * its score.
+    */
+   public static final class Element {
+      final byte[] key;
+      final byte[] value;
+      final double score;
+
+      Element(byte[] key, byte[] value, double score) {
+         this.key = key;
+         this.value = value;
+         this.score = score;
+      }
+
+      /**
+       * Returns the list element, the set or sorted set member, or the hash field
+       */
+      public byte[] key() {
+         return key;
+      }
+
+      /**
+       * Returns the value of the hash field
+       */
+      public byte[] value() {
+         return value;
+      }
+
+      /**
+       * Returns the score of the sorted set member
+       */
+      public double score() {
+         return score;
+      }
+   }
+
+   private static final class Segment {
+      // The encoded elements, until the segment is decoded
+      private final byte[] bytes;
+      private final int offset;
+      private final int length;
+      private final int encodedCount;
+      private List<Element> elements;
+      private boolean modified;
+
+      Segment(byte[] bytes, int offset, int length, int count) {
+         this.bytes = bytes;
+         this.offset = offset;
+         this.length = length;
+         this.encodedCount = count;
+      }
+
+      Segment(List<Element> elements) {
+         this(null, 0, 0, 0);
+         this.elements = elements;
+         this.modified = true;
+      }
+
+      int count() {
+         return elements != null ? elements.size() : encodedCount;
+      }
+
+      List<Element> elements(CollectionType type) {
+         if (elements == null) {
+            List<Element> decoded = new ArrayList<>(encodedCount);
+            int[] pos = {offset};
+            for (int i = 0; i < encodedCount; ++i) {
+               decoded.add(readElement(type, bytes, pos));
+            }
+            elements = decoded;
+         }
+         return elements;
+      }
+
+      List<Element> modifiableElements(CollectionType type) {
+         modified = true;
+         return elements(type);
+      }
+
+      Element first(CollectionType type) {
+         if (elements != null) {
+            return elements.get(0);
+         }
+         return readElement(type, bytes, new int[]{offset});
+      }
+
+      int encodedLength(CollectionType type) {
+         if (!modified) {
+            return length;
+         }
+         int encodedLength = 0;
+         for (Element element : elements) {
+            encodedLength += PackedCollection.encodedLength(type, element);
+         }
+         return encodedLength;
+      }
+
+      int encode(CollectionType type, byte[] target, int pos) {
+         if (!modified) {
+            System.arraycopy(bytes, offset, target, pos, length);
+            return pos + length;
+         }
+         for (Element element : elements) {
+            pos = writeElement(type, element, target, pos);
+         }
+         return pos;
+      }
+   }
+
+   private static Element readElement(CollectionType type, byte[] bytes, int[] pos) {
+      switch (type) {
+         case HASH:
+            byte[] field = readBytes(bytes, pos);
+            return new Element(field, readBytes(bytes, pos), 0);
+         case ZSET:
+            double score = Double.longBitsToDouble(readLong(bytes, pos[0]));
+            pos[0] += 8;
+            return new Element(readBytes(bytes, pos), null, score);
+         default:
+            return new Element(readBytes(bytes, pos), null, 0);
+      }
+   }
+
+   private static int encodedLength(CollectionType type, Element element) {
+      int length = varIntLength(element.key.length) + element.key.length;
+      switch (type) {
+         case HASH:
+            return length + varIntLength(element.value.length) + element.value.length;
+         case ZSET:
+            return length + 8;
+         default:
+            return length;
+      }
+   }
+
+   private static int writeElement(CollectionType type, Element element, byte[] target, int pos) {
+      if (type == CollectionType.ZSET) {
+         writeLong(target, pos, Double.doubleToLongBits(element.score));
+         pos += 8;
+      }
+      pos = writeBytes(element.key, target, pos);
+      if (type == CollectionType.HASH) {
+         pos = writeBytes(element.value, target, pos);
+      }
+      return pos;
+   }
+
+   private static byte[] readBytes(byte[] bytes, int[] pos) {
+      int p = pos[0];
+      int length = 0;
+      int shift = 0;
+      byte b;
+      do {
+         b = bytes[p++];
+         length |= (b & 0x7F) << shift;
+         shift += 7;
+      } while (b < 0);
+      byte[] result = Arrays.copyOfRange(bytes, p, p + length);
+      pos[0] = p + length;
+      return result;
+   }
+
+   private static int writeBytes(byte[] value, byte[] target, int pos) {
+      int length = value.length;
+      while ((length & ~0x7F) != 0) {
+         target[pos++] = (byte) ((length & 0x7F) | 0x80);
+         length >>>= 7;
+      }
+      target[pos++] = (byte) length;
+      System.arraycopy(value, 0, target, pos, value.length);
+      return pos + value.length;
+   }
+
+   private static int varIntLength(int value) {
+      int length = 1;
+      while ((value & ~0x7F) != 0) {
+         value >>>= 7;
+         length++;
+      }
+      return length;
+   }
+
+   private static int readInt(byte[] bytes, int pos) {
+      return (bytes[pos] & 0xFF) << 24 | (bytes[pos + 1] & 0xFF) << 16 | (bytes[pos + 2] & 0xFF) << 8 |
+            (bytes[pos + 3] & 0xFF);
+   }
+
+   private static void writeInt(byte[] bytes, int pos, int value) {
+      bytes[pos] = (byte) (value >>> 24);
+      bytes[pos + 1] = (byte) (value >>> 16);
+      bytes[pos + 2] = (byte) (value >>> 8);
+      bytes[pos + 3] = (byte) value;
+   }
+
+   private static long readLong(byte[] bytes, int pos) {
+      return (readInt(bytes, pos) & 0xFFFFFFFFL) << 32 | (readInt(bytes, pos + 4) & 0xFFFFFFFFL);
+   }
+
+   private static void writeLong(byte[] bytes, int pos, long value) {
+      writeInt(bytes, pos, (int) (value >>> 32));
+      writeInt(bytes, pos + 4, (int) value);
+   }
+
+   private static int compare(byte[] a, byte[] b) {
+      int length = Math.min(a.length, b.length);
+      for (int i = 0; i < length; ++i) {
+         int result = (a[i] & 0xFF) - (b[i] & 0xFF);
+         if (result != 0) {
+            return result;
+         }
+      }
+      return a.length - b.length;
+   }
+}
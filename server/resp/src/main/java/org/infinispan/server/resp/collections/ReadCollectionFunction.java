@@ -0,0 +1,86 @@
+package org.infinispan.server.resp.collections;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.infinispan.commons.io.UnsignedNumeric;
+import org.infinispan.commons.marshall.AdvancedExternalizer;
+import org.infinispan.commons.marshall.MarshallUtil;
+import org.infinispan.functional.EntryView;
+import org.infinispan.server.core.ExternalizerIds;
+import org.infinispan.util.function.SerializableFunction;
+
+/**
+ * Executes a read only {@link CollectionOperation} on the collection stored in a key.
+ *
+ * @since 14.0
+ */
+public final class ReadCollectionFunction implements SerializableFunction<EntryView.ReadEntryView<byte[], Object>, Object> {
+
+   public static final AdvancedExternalizer<ReadCollectionFunction> EXTERNALIZER = new Externalizer();
+
+   private final CollectionOperation operation;
+   private final List<byte[]> arguments;
+
+   /**
+    * @param operation the operation, which must not be a write
+    * @param arguments the arguments of the command without the key, which must not be modified afterwards
+    */
+   public ReadCollectionFunction(CollectionOperation operation, List<byte[]> arguments) {
+      assert !operation.isWrite();
+      this.operation = operation;
+      this.arguments = arguments;
+   }
+
+   @Override
+   public Object apply(EntryView.ReadEntryView<byte[], Object> view) {
+      PackedCollection collection = PackedCollection.read(view.find().orElse(null), operation.type());
+      return operation.execute(collection, arguments);
+   }
+
+   static void writeArguments(ObjectOutput output, CollectionOperation operation, List<byte[]> arguments) throws IOException {
+      UnsignedNumeric.writeUnsignedInt(output, operation.ordinal());
+      UnsignedNumeric.writeUnsignedInt(output, arguments.size());
+      for (byte[] argument : arguments) {
+         MarshallUtil.marshallByteArray(argument, output);
+      }
+   }
+
+   static List<byte[]> readArguments(ObjectInput input) throws IOException {
+      int size = UnsignedNumeric.readUnsignedInt(input);
+      List<byte[]> arguments = new ArrayList<>(size);
+      for (int i = 0; i < size; ++i) {
+         arguments.add(MarshallUtil.unmarshallByteArray(input));
+      }
+      return arguments;
+   }
+
+   private static class Externalizer implements AdvancedExternalizer<ReadCollectionFunction> {
+
+      @Override
+      public Set<Class<? extends ReadCollectionFunction>> getTypeClasses() {
+         return Collections.singleton(ReadCollectionFunction.class);
+      }
+
+      @Override
+      public Integer getId() {
+         return ExternalizerIds.RESP_READ_COLLECTION_FUNCTION;
+      }
+
+      @Override
+      public void writeObject(ObjectOutput output, ReadCollectionFunction object) throws IOException {
+         writeArguments(output, object.operation, object.arguments);
+      }
+
+      @Override
+      public ReadCollectionFunction readObject(ObjectInput input) throws IOException {
+         CollectionOperation operation = CollectionOperation.fromOrdinal(UnsignedNumeric.readUnsignedInt(input));
+         return new ReadCollectionFunction(operation, readArguments(input));
+      }
+   }
+}
@@ -0,0 +1,79 @@
+package org.infinispan.server.resp.collections;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.infinispan.commons.io.UnsignedNumeric;
+import org.infinispan.commons.marshall.AdvancedExternalizer;
+import org.infinispan.functional.EntryView;
+import org.infinispan.server.core.ExternalizerIds;
+import org.infinispan.util.function.SerializableFunction;
+
+/**
+ * Executes a {@link CollectionOperation} that modifies the collection stored in a key.
+ * <p>
+ * The collection is updated on the owners of the key, so only the operation and its arguments are sent instead of
+ * reading and writing the whole collection. Only the segments modified by the operation are encoded again, and the key
+ * is removed when the collection becomes empty.
+ *
+ * @since 14.0
+ */
+public final class WriteCollectionFunction implements SerializableFunction<EntryView.ReadWriteEntryView<byte[], Object>, Object> {
+
+   public static final AdvancedExternalizer<WriteCollectionFunction> EXTERNALIZER = new Externalizer();
+
+   private final CollectionOperation operation;
+   private final List<byte[]> arguments;
+
+   /**
+    * @param operation the operation, which must be a write
+    * @param arguments the arguments of the command without the key, which must not be modified afterwards
+    */
+   public WriteCollectionFunction(CollectionOperation operation, List<byte[]> arguments) {
+      assert operation.isWrite();
+      this.operation = operation;
+      this.arguments = arguments;
+   }
+
+   @Override
+   public Object apply(EntryView.ReadWriteEntryView<byte[], Object> view) {
+      PackedCollection collection = PackedCollection.read(view.find().orElse(null), operation.type());
+      Object result = operation.execute(collection, arguments);
+      if (collection.isModified()) {
+         if (collection.isEmpty()) {
+            view.remove();
+         } else {
+            view.set(collection.toValue());
+         }
+      }
+      return result;
+   }
+
+   private static class Externalizer implements AdvancedExternalizer<WriteCollectionFunction> {
+
+      @Override
+      public Set<Class<? extends WriteCollectionFunction>> getTypeClasses() {
+         return Collections.singleton(WriteCollectionFunction.class);
+      }
+
+      @Override
+      public Integer getId() {
+         return ExternalizerIds.RESP_WRITE_COLLECTION_FUNCTION;
+      }
+
+      @Override
+      public void writeObject(ObjectOutput output, WriteCollectionFunction object) throws IOException {
+         ReadCollectionFunction.writeArguments(output, object.operation, object.arguments);
+      }
+
+      @Override
+      public WriteCollectionFunction readObject(ObjectInput input) throws IOException {
+         CollectionOperation operation = CollectionOperation.fromOrdinal(UnsignedNumeric.readUnsignedInt(input));
+         return new WriteCollectionFunction(operation, ReadCollectionFunction.readArguments(input));
+      }
+   }
+}
@@ -2,6 +2,7 @@
 
 import org.infinispan.commons.configuration.BuiltBy;
 import org.infinispan.commons.configuration.ConfigurationFor;
+import org.infinispan.commons.configuration.attributes.AttributeDefinition;
 import org.infinispan.commons.configuration.attributes.AttributeSet;
 import org.infinispan.server.core.configuration.EncryptionConfiguration;
 import org.infinispan.server.core.configuration.IpFilterConfiguration;
@@ -22,8 +23,11 @@ public class RespServerConfiguration extends ProtocolServerConfiguration<RespSer
    public static final int DEFAULT_RESP_PORT = 6379;
    public static final String DEFAULT_RESP_CACHE = "respCache";
 
+   public static final AttributeDefinition<Boolean> CLUSTER_REDIRECTS = AttributeDefinition.builder("cluster-redirects", false).immutable().build();
+
    public static AttributeSet attributeDefinitionSet() {
-      return new AttributeSet(RespServerConfiguration.class, ProtocolServerConfiguration.attributeDefinitionSet());
+      return new AttributeSet(RespServerConfiguration.class, ProtocolServerConfiguration.attributeDefinitionSet(),
+            CLUSTER_REDIRECTS);
    }
 
    private final AuthenticationConfiguration authentication;
@@ -36,6 +40,13 @@ public static AttributeSet attributeDefinitionSet() {
       this.encryption = encryption;
    }
 
+   /**
+    * Whether requests for keys owned by other nodes are answered with a {@code MOVED} redirection to the primary owner
+    */
+   public boolean clusterRedirects() {
+      return attributes.attribute(CLUSTER_REDIRECTS).get();
+   }
+
    public AuthenticationConfiguration authentication() {
       return authentication;
    }
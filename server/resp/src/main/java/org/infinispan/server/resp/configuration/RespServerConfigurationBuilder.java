@@ -45,6 +45,16 @@ public RespServerConfigurationBuilder adminOperationsHandler(AdminOperationsHand
       return this;
    }
 
+   /**
+    * Replies to requests for keys whose primary owner is another node with a {@code MOVED} redirection, as a Redis
+    * Cluster node would. Only clients supporting Redis Cluster follow the redirections, so they are disabled by
+    * default and requests are served by any node.
+    */
+   public RespServerConfigurationBuilder clusterRedirects(boolean clusterRedirects) {
+      attributes.attribute(RespServerConfiguration.CLUSTER_REDIRECTS).set(clusterRedirects);
+      return this;
+   }
+
    public AuthenticationConfigurationBuilder authentication() {
       return authentication;
    }
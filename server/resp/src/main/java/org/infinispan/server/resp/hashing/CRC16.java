@@ -0,0 +1,96 @@
+package org.infinispan.server.resp.hashing;
+
+import org.infinispan.commons.hash.Hash;
+import org.infinispan.commons.marshall.WrappedBytes;
+
+/**
+ * The CRC16 (XMODEM) function used by Redis Cluster to map keys to hash slots.
+ * <p>
+ * Only the {@code {hashtag}} of a key is hashed when present, so that clients can force related keys into the same
+ * slot.
+ *
+ * @since 14.0
+ */
+public class CRC16 implements Hash {
+   public static final int SLOTS = 16384;
+
+   private static final CRC16 INSTANCE = new CRC16();
+   private static final int[] TABLE = new int[256];
+
+   static {
+      for (int i = 0; i < TABLE.length; ++i) {
+         int crc = i << 8;
+         for (int bit = 0; bit < 8; ++bit) {
+            crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+         }
+         TABLE[i] = crc & 0xFFFF;
+      }
+   }
+
+   public static CRC16 getInstance() {
+      return INSTANCE;
+   }
+
+   private CRC16() {
+   }
+
+   /**
+    * Returns the Redis hash slot of the given key bytes
+    */
+   public static int slot(byte[] key) {
+      return slot(key, 0, key.length);
+   }
+
+   public static int slot(byte[] key, int offset, int length) {
+      int end = offset + length;
+      for (int i = offset; i < end; ++i) {
+         if (key[i] == '{') {
+            for (int j = i + 1; j < end; ++j) {
+               if (key[j] == '}') {
+                  // An empty tag hashes the whole key
+                  if (j > i + 1) {
+                     return crc(key, i + 1, j) & (SLOTS - 1);
+                  }
+                  break;
+               }
+            }
+            break;
+         }
+      }
+      return crc(key, offset, end) & (SLOTS - 1);
+   }
+
+   private static int crc(byte[] bytes, int from, int to) {
+      int crc = 0;
+      for (int i = from; i < to; ++i) {
+         crc = ((crc << 8) ^ TABLE[((crc >>> 8) ^ bytes[i]) & 0xFF]) & 0xFFFF;
+      }
+      return crc;
+   }
+
+   @Override
+   public int hash(byte[] payload) {
+      return crc(payload, 0, payload.length);
+   }
+
+   @Override
+   public int hash(int hashcode) {
+      return hashcode & 0xFFFF;
+   }
+
+   @Override
+   public int hash(Object o) {
+      if (o instanceof byte[]) {
+         return hash((byte[]) o);
+      } else if (o instanceof WrappedBytes) {
+         WrappedBytes bytes = (WrappedBytes) o;
+         return crc(bytes.getBytes(), bytes.backArrayOffset(), bytes.backArrayOffset() + bytes.getLength());
+      }
+      return hash(o.hashCode());
+   }
+
+   @Override
+   public String toString() {
+      return "CRC16";
+   }
+}
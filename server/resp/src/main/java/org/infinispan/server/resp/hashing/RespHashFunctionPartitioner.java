@@ -0,0 +1,104 @@
+package org.infinispan.server.resp.hashing;
+
+import java.util.Objects;
+
+import org.infinispan.commons.marshall.WrappedBytes;
+import org.infinispan.configuration.cache.HashConfiguration;
+import org.infinispan.distribution.ch.KeyPartitioner;
+
+/**
+ * Key partitioner that maps keys to segments through the Redis Cluster hash slots.
+ * <p>
+ * The {@link CRC16#SLOTS} slots are split in contiguous ranges, one for each segment, so that the owners of a slot
+ * can be reported to clients with {@code CLUSTER SLOTS} and clients computing the slot of a key locally route the
+ * request to the primary owner of its segment.
+ *
+ * @since 14.0
+ */
+public class RespHashFunctionPartitioner implements KeyPartitioner {
+   private int numSegments;
+
+   public RespHashFunctionPartitioner() {
+   }
+
+   // Should only be used by tests
+   public RespHashFunctionPartitioner(int numSegments) {
+      init(numSegments);
+   }
+
+   @Override
+   public void init(HashConfiguration configuration) {
+      Objects.requireNonNull(configuration);
+      init(configuration.numSegments());
+   }
+
+   @Override
+   public void init(KeyPartitioner other) {
+      if (other instanceof RespHashFunctionPartitioner) {
+         RespHashFunctionPartitioner o = (RespHashFunctionPartitioner) other;
+         if (o.numSegments > 0) {
+            init(o.numSegments);
+         }
+      }
+   }
+
+   private void init(int numSegments) {
+      if (numSegments <= 0) {
+         throw new IllegalArgumentException("numSegments must be strictly positive");
+      }
+      this.numSegments = numSegments;
+   }
+
+   @Override
+   public int getSegment(Object key) {
+      return getSegmentForSlot(slot(key));
+   }
+
+   /**
+    * Returns the hash slot of a key, either a {@code byte[]} or its {@link WrappedBytes} storage form
+    */
+   public static int slot(Object key) {
+      if (key instanceof byte[]) {
+         return CRC16.slot((byte[]) key);
+      } else if (key instanceof WrappedBytes) {
+         WrappedBytes bytes = (WrappedBytes) key;
+         return CRC16.slot(bytes.getBytes(), bytes.backArrayOffset(), bytes.getLength());
+      }
+      return CRC16.getInstance().hash(key) & (CRC16.SLOTS - 1);
+   }
+
+   public int getSegmentForSlot(int slot) {
+      return (int) ((long) slot * numSegments / CRC16.SLOTS);
+   }
+
+   /**
+    * Returns the first slot mapped to the given segment. The slots of the segment end before the first slot of the
+    * next segment, and a segment has no slots when there are more segments than slots.
+    */
+   public int getFirstSlot(int segment) {
+      return (int) (((long) segment * CRC16.SLOTS + numSegments - 1) / numSegments);
+   }
+
+   public int getNumSegments() {
+      return numSegments;
+   }
+
+   @Override
+   public boolean equals(Object o) {
+      if (this == o)
+         return true;
+      if (o == null || getClass() != o.getClass())
+         return false;
+      return numSegments == ((RespHashFunctionPartitioner) o).numSegments;
+   }
+
+   @Override
+   public int hashCode() {
+      return numSegments;
+   }
+
+   @Override
+   public String toString() {
+      return "RespHashFunctionPartitioner{ns=" + numSegments + '}';
+   }
+}
@@ -0,0 +1,155 @@
+package org.infinispan.server.resp;
+
+import static org.infinispan.server.resp.test.RespTestingUtil.createClient;
+import static org.infinispan.server.resp.test.RespTestingUtil.killClient;
+import static org.infinispan.server.resp.test.RespTestingUtil.killServer;
+import static org.infinispan.server.resp.test.RespTestingUtil.serverPort;
+import static org.infinispan.server.resp.test.RespTestingUtil.startServer;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+import static org.testng.AssertJUnit.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.server.resp.configuration.RespServerConfiguration;
+import org.infinispan.server.resp.configuration.RespServerConfigurationBuilder;
+import org.infinispan.server.resp.hashing.CRC16;
+import org.infinispan.server.resp.hashing.RespHashFunctionPartitioner;
+import org.infinispan.test.MultipleCacheManagersTest;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * Tests the Redis Cluster commands of RESP servers exposing a distributed cache.
+ *
+ * @since 14.0
+ */
+@Test(groups = "functional", testName = "server.resp.RespClusterTest")
+public class RespClusterTest extends MultipleCacheManagersTest {
+   private static final int NUM_NODES = 3;
+   private static final String CACHE_NAME = RespServerConfiguration.DEFAULT_RESP_CACHE;
+
+   private final List<RespServer> servers = new ArrayList<>(NUM_NODES);
+   private RedisClient client;
+   private StatefulRedisConnection<String, String> redisConnection;
+
+   @Override
+   protected void createCacheManagers() {
+      ConfigurationBuilder builder = getDefaultClusteredCacheConfig(CacheMode.DIST_SYNC);
+      for (int i = 0; i < NUM_NODES; ++i) {
+         addClusterEnabledCacheManager(builder);
+      }
+      int port = serverPort();
+      for (int i = 0; i < NUM_NODES; ++i) {
+         servers.add(startServer(manager(i), port + i, new RespServerConfigurationBuilder().clusterRedirects(true)));
+      }
+      waitForClusterToForm(CACHE_NAME);
+      client = createClient(30000, servers.get(0).getPort());
+      redisConnection = client.connect();
+   }
+
+   @AfterClass(alwaysRun = true)
+   @Override
+   protected void destroy() {
+      killClient(client);
+      servers.forEach(server -> killServer(server));
+      super.destroy();
+   }
+
+   public void testPartitioner() {
+      assertTrue(cache(0, CACHE_NAME).getCacheConfiguration().clustering().hash().keyPartitioner()
+            instanceof RespHashFunctionPartitioner);
+   }
+
+   public void testKeySlot() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      for (String key : new String[]{"foo", "bar", "{user1000}.following", "k1"}) {
+         assertEquals(SlotHash.getSlot(key), redis.clusterKeyslot(key).intValue());
+      }
+   }
+
+   public void testClusterSlots() {
+      Set<Long> ports = new HashSet<>();
+      servers.forEach(server -> ports.add(server.getPort().longValue()));
+
+      List<Object> slots = redisConnection.sync().clusterSlots();
+      long nextSlot = 0;
+      for (Object element : slots) {
+         List<?> range = (List<?>) element;
+         assertEquals(nextSlot, range.get(0));
+         nextSlot = (Long) range.get(1) + 1;
+         // The primary owner and one backup
+         assertEquals(4, range.size());
+         for (Object node : range.subList(2, range.size())) {
+            assertTrue(ports.contains(((List<?>) node).get(1)));
+         }
+      }
+      assertEquals(CRC16.SLOTS, nextSlot);
+   }
+
+   public void testClusterNodes() {
+      String nodes = redisConnection.sync().clusterNodes();
+      String[] lines = nodes.split("\n");
+      assertEquals(NUM_NODES, lines.length);
+      for (String line : lines) {
+         assertTrue(line, line.contains(" connected "));
+      }
+   }
+
+   public void testMovedRedirection() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      String key = keyNotOwnedByFirstNode();
+      int slot = SlotHash.getSlot(key);
+      try {
+         redis.set(key, "value");
+         fail("The request should have been redirected");
+      } catch (RedisCommandExecutionException e) {
+         assertTrue(e.getMessage(), e.getMessage().startsWith("MOVED " + slot + " 127.0.0.1:"));
+      }
+   }
+
+   @Test(dependsOnMethods = {"testPartitioner", "testKeySlot", "testClusterSlots", "testClusterNodes",
+         "testMovedRedirection"})
+   public void testDepartedMemberRemoved() {
+      RespServer server = servers.remove(NUM_NODES - 1);
+      Address departed = manager(NUM_NODES - 1).getAddress();
+      killServer(server);
+      killMember(NUM_NODES - 1, CACHE_NAME);
+
+      Cache<Address, String> endpoints = manager(0).getCache(servers.get(0).topologyCacheName());
+      eventually(() -> !endpoints.containsKey(departed));
+      eventuallyEquals(NUM_NODES - 1, () -> redisConnection.sync().clusterNodes().split("\n").length);
+      for (Object element : redisConnection.sync().clusterSlots()) {
+         // The primary owner and the remaining backup
+         assertEquals(4, ((List<?>) element).size());
+      }
+   }
+
+   private String keyNotOwnedByFirstNode() {
+      LocalizedCacheTopology topology = cache(0, CACHE_NAME).getAdvancedCache().getDistributionManager().getCacheTopology();
+      RespHashFunctionPartitioner partitioner = (RespHashFunctionPartitioner) cache(0, CACHE_NAME)
+            .getCacheConfiguration().clustering().hash().keyPartitioner();
+      for (int i = 0; ; ++i) {
+         String key = "key" + i;
+         int segment = partitioner.getSegment(key.getBytes(StandardCharsets.UTF_8));
+         if (!topology.getSegmentDistribution(segment).isPrimary()) {
+            return key;
+         }
+      }
+   }
+}
@@ -0,0 +1,221 @@
+package org.infinispan.server.resp;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Tests the decoding of requests by the {@link RespDecoder}.
+ *
+ * @since 14.0
+ */
+@Test(groups = "unit", testName = "server.resp.RespDecoderTest")
+public class RespDecoderTest {
+
+   private static final String REQUESTS = "*3\r\n$3\r\nset\r\n$2\r\nk1\r\n$5\r\nhello\r\n" +
+         "*2\r\n$3\r\nGeT\r\n$2\r\nk1\r\n" +
+         "*0\r\n" +
+         "*1\r\n$4\r\nPING\r\n" +
+         "*2\r\n$4\r\nECHO\r\n$0\r\n\r\n";
+
+   public void testPipelinedRequests() {
+      RecordingHandler handler = new RecordingHandler();
+      EmbeddedChannel channel = new EmbeddedChannel(new RespDecoder(handler));
+      channel.writeInbound(toByteBuf(REQUESTS));
+
+      assertEquals(Arrays.asList("SET k1 hello", "GET k1", "PING", "ECHO "), handler.requests);
+      channel.finishAndReleaseAll();
+   }
+
+   public void testRequestsSplitAcrossReads() {
+      RecordingHandler handler = new RecordingHandler();
+      EmbeddedChannel channel = new EmbeddedChannel(new RespDecoder(handler));
+      for (byte b : REQUESTS.getBytes(StandardCharsets.US_ASCII)) {
+         channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{b}));
+      }
+
+      assertEquals(Arrays.asList("SET k1 hello", "GET k1", "PING", "ECHO "), handler.requests);
+      channel.finishAndReleaseAll();
+   }
+
+   public void testUnknownCommand() {
+      RecordingHandler handler = new RecordingHandler();
+      EmbeddedChannel channel = new EmbeddedChannel(new RespDecoder(handler));
+      channel.writeInbound(toByteBuf("*2\r\n$4\r\nGETS\r\n$2\r\nk1\r\n*1\r\n$4\r\nping\r\n"));
+
+      assertEquals("-ERR unknown command\r\n", readOutbound(channel));
+      assertEquals(Arrays.asList("PING"), handler.requests);
+      channel.finishAndReleaseAll();
+   }
+
+   public void testProtocolError() {
+      RecordingHandler handler = new RecordingHandler();
+      EmbeddedChannel channel = new EmbeddedChannel(new RespDecoder(handler));
+      channel.writeInbound(toByteBuf("*1\r\n:4\r\n*1\r\n$4\r\nPING\r\n"));
+
+      assertEquals("-ERR Protocol error: invalid bulk length\r\n", readOutbound(channel));
+      assertEquals(0, handler.requests.size());
+      assertFalse(channel.isOpen());
+      channel.finishAndReleaseAll();
+   }
+
+   public void testProtocolErrorAfterPendingResponse() {
+      DeferringHandler handler = new DeferringHandler();
+      EmbeddedChannel channel = new EmbeddedChannel(new RespDecoder(handler));
+      channel.writeInbound(toByteBuf("*1\r\n$4\r\nPING\r\n*1\r\n:4\r\n"));
+      assertEquals(1, handler.responses.size());
+
+      // The error waits for the response of the previous request
+      assertNull(channel.readOutbound());
+      assertTrue(channel.isOpen());
+
+      handler.responses.get(0).send(toByteBuf("+PONG\r\n"));
+      channel.runPendingTasks();
+      assertEquals("+PONG\r\n", readOutbound(channel));
+      assertEquals("-ERR Protocol error: invalid bulk length\r\n", readOutbound(channel));
+      assertFalse(channel.isOpen());
+      channel.finishAndReleaseAll();
+   }
+
+   public void testHandlerFailure() {
+      RecordingHandler handler = new RecordingHandler();
+      EmbeddedChannel channel = new EmbeddedChannel(new RespDecoder(handler));
+      channel.writeInbound(toByteBuf("*1\r\n$3\r\nGET\r\n*1\r\n$4\r\nPING\r\n"));
+
+      // The failed request gets an error and the next requests are still handled
+      assertEquals("-ERR wrong number of arguments for 'get' command\r\n", readOutbound(channel));
+      assertEquals(Arrays.asList("PING"), handler.requests);
+      assertTrue(channel.isOpen());
+      channel.finishAndReleaseAll();
+   }
+
+   public void testReadPausedWhileResponsesPending() {
+      DeferringHandler handler = new DeferringHandler();
+      EmbeddedChannel channel = new EmbeddedChannel(new RespDecoder(handler));
+      StringBuilder requests = new StringBuilder();
+      for (int i = 0; i < RespResponseSequencer.MAX_PENDING_RESPONSES; ++i) {
+         requests.append("*1\r\n$4\r\nPING\r\n");
+      }
+      channel.writeInbound(toByteBuf(requests.toString()));
+      assertEquals(RespResponseSequencer.MAX_PENDING_RESPONSES, handler.responses.size());
+      assertFalse(channel.config().isAutoRead());
+
+      int half = RespResponseSequencer.MAX_PENDING_RESPONSES / 2;
+      for (int i = 0; i < half - 1; ++i) {
+         handler.responses.get(i).complete();
+      }
+      channel.runPendingTasks();
+      assertFalse(channel.config().isAutoRead());
+
+      handler.responses.get(half - 1).complete();
+      channel.runPendingTasks();
+      assertTrue(channel.config().isAutoRead());
+      channel.finishAndReleaseAll();
+   }
+
+   public void testResponsesWrittenInRequestOrder() {
+      DeferringHandler handler = new DeferringHandler();
+      EmbeddedChannel channel = new EmbeddedChannel(new RespDecoder(handler));
+      channel.writeInbound(toByteBuf("*1\r\n$4\r\nPING\r\n*2\r\n$4\r\nECHO\r\n$1\r\na\r\n*2\r\n$4\r\nECHO\r\n$1\r\nb\r\n"));
+      assertEquals(3, handler.responses.size());
+
+      // The later responses wait for the first one
+      handler.responses.get(2).send(toByteBuf("$1\r\nb\r\n"));
+      handler.responses.get(1).send(toByteBuf("$1\r\na\r\n"));
+      channel.runPendingTasks();
+      assertNull(channel.readOutbound());
+
+      handler.responses.get(0).send(toByteBuf("+PONG\r\n"));
+      channel.runPendingTasks();
+      assertEquals("+PONG\r\n", readOutbound(channel));
+      assertEquals("$1\r\na\r\n", readOutbound(channel));
+      assertEquals("$1\r\nb\r\n", readOutbound(channel));
+      channel.finishAndReleaseAll();
+   }
+
+   public void testMultipleReplies() {
+      DeferringHandler handler = new DeferringHandler();
+      EmbeddedChannel channel = new EmbeddedChannel(new RespDecoder(handler));
+      channel.writeInbound(toByteBuf("*1\r\n$4\r\nPING\r\n*1\r\n$4\r\nPING\r\n"));
+
+      handler.responses.get(1).send(toByteBuf("+PONG2\r\n"));
+      handler.responses.get(0).write(toByteBuf("+PART1\r\n"));
+      channel.runPendingTasks();
+      assertEquals("+PART1\r\n", readOutbound(channel));
+      assertNull(channel.readOutbound());
+
+      handler.responses.get(0).write(toByteBuf("+PART2\r\n"));
+      handler.responses.get(0).complete();
+      channel.runPendingTasks();
+      assertEquals("+PART2\r\n", readOutbound(channel));
+      assertEquals("+PONG2\r\n", readOutbound(channel));
+      channel.finishAndReleaseAll();
+   }
+
+   public void testCommandLookup() {
+      for (RespCommand command : RespCommand.values()) {
+         byte[] name = command.name().toLowerCase().getBytes(StandardCharsets.US_ASCII);
+         assertEquals(command, RespCommand.fromByteBuf(Unpooled.wrappedBuffer(name), 0, name.length));
+      }
+      assertNull(RespCommand.fromByteBuf(toByteBuf("GETX"), 0, 4));
+      assertNull(RespCommand.fromByteBuf(toByteBuf("[ET"), 0, 3));
+      assertEquals(RespCommand.GET, RespCommand.fromByteBuf(toByteBuf("xGETx"), 1, 3));
+   }
+
+   private static ByteBuf toByteBuf(String string) {
+      return Unpooled.wrappedBuffer(string.getBytes(StandardCharsets.US_ASCII));
+   }
+
+   private static String readOutbound(EmbeddedChannel channel) {
+      ByteBuf buf = channel.readOutbound();
+      try {
+         return buf.toString(StandardCharsets.US_ASCII);
+      } finally {
+         buf.release();
+      }
+   }
+
+   private static class RecordingHandler implements RespRequestHandler {
+      final List<String> requests = new ArrayList<>();
+
+      @Override
+      public RespRequestHandler handleRequest(ChannelHandlerContext ctx, RespCommand command, List<byte[]> arguments,
+                                              RespResponse response) {
+         if (command == RespCommand.GET) {
+            // Fails like the handlers that don't check the number of arguments
+            arguments.get(0);
+         }
+         StringBuilder sb = new StringBuilder(command.name());
+         for (byte[] argument : arguments) {
+            sb.append(' ').append(new String(argument, StandardCharsets.US_ASCII));
+         }
+         requests.add(sb.toString());
+         response.complete();
+         return this;
+      }
+   }
+
+   private static class DeferringHandler implements RespRequestHandler {
+      final List<RespResponse> responses = new ArrayList<>();
+
+      @Override
+      public RespRequestHandler handleRequest(ChannelHandlerContext ctx, RespCommand command, List<byte[]> arguments,
+                                              RespResponse response) {
+         responses.add(response);
+         return this;
+      }
+   }
+}
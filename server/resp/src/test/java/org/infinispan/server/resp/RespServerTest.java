@@ -1,6 +1,8 @@
 package org.infinispan.server.resp;
 
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertTrue;
 import static org.testng.AssertJUnit.fail;
 
 import org.infinispan.commons.CacheConfigurationException;
@@ -11,6 +13,7 @@
 import org.infinispan.server.core.test.Stoppable;
 import org.infinispan.server.resp.configuration.RespServerConfiguration;
 import org.infinispan.server.resp.configuration.RespServerConfigurationBuilder;
+import org.infinispan.server.resp.hashing.RespHashFunctionPartitioner;
 import org.infinispan.test.AbstractInfinispanTest;
 import org.infinispan.test.fwk.TestCacheManagerFactory;
 import org.testng.annotations.Test;
@@ -60,6 +63,8 @@ public void testNoDefaultConfigurationClustered() {
             Stoppable.useServer(new RespServer(), ms -> {
                ms.start(new RespServerConfigurationBuilder().build(), cm);
                assertEquals(CacheMode.REPL_SYNC, ms.getCache().getCacheConfiguration().clustering().cacheMode());
+               assertTrue(ms.getCache().getCacheConfiguration().clustering().hash().keyPartitioner() instanceof RespHashFunctionPartitioner);
+               assertNotNull(ms.getClusterTopology());
             }));
    }
 }
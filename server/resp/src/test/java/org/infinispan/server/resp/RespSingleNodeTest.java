@@ -5,12 +5,17 @@
 import static org.infinispan.server.resp.test.RespTestingUtil.killServer;
 import static org.infinispan.server.resp.test.RespTestingUtil.startServer;
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertNotNull;
 import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
 import static org.testng.AssertJUnit.fail;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
@@ -18,6 +23,8 @@
 import java.util.concurrent.TimeUnit;
 
 import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.server.resp.collections.CollectionType;
+import org.infinispan.server.resp.collections.PackedCollection;
 import org.infinispan.test.SingleCacheManagerTest;
 import org.infinispan.test.fwk.TestCacheManagerFactory;
 import org.testng.annotations.AfterClass;
@@ -26,8 +33,14 @@
 
 import io.lettuce.core.KeyValue;
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.ScoredValue;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.pubsub.RedisPubSubAdapter;
 import io.lettuce.core.pubsub.api.sync.RedisPubSubCommands;
 
@@ -112,6 +125,42 @@ public void testSetGetDelete() {
       assertNull(redis.get("k1"));
    }
 
+   public void testSetGetCollectionBytes() {
+      StatefulRedisConnection<byte[], byte[]> binaryConnection = client.connect(ByteArrayCodec.INSTANCE);
+      try {
+         RedisCommands<byte[], byte[]> redis = binaryConnection.sync();
+         // The bytes of a hash with one element
+         PackedCollection hash = PackedCollection.create(CollectionType.HASH);
+         hash.put("f".getBytes(StandardCharsets.UTF_8), "v".getBytes(StandardCharsets.UTF_8));
+         byte[] value = hash.toValue().bytes();
+         byte[] key = "binary".getBytes(StandardCharsets.UTF_8);
+         redis.set(key, value);
+         assertTrue(Arrays.equals(value, redis.get(key)));
+         assertEquals("string", redis.type(key));
+         assertTrue(Arrays.equals(value, redis.mget(key).get(0).getValue()));
+         // Strings are stored as they are, so they are shared with the other endpoints
+         assertTrue(Arrays.equals(value, (byte[]) cache.get(key)));
+         byte[] other = {(byte) 0xC0, (byte) 0xC1, 1, 'v'};
+         cache.put(key, other);
+         assertTrue(Arrays.equals(other, redis.get(key)));
+         assertEquals("string", redis.type(key));
+      } finally {
+         binaryConnection.close();
+      }
+   }
+
+   public void testGetWithoutKey() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      try {
+         redis.dispatch(CommandType.GET, new StatusOutput<>(StringCodec.UTF8));
+         fail("Expected an error");
+      } catch (RedisCommandExecutionException e) {
+         assertTrue(e.getMessage(), e.getMessage().startsWith("ERR wrong number of arguments"));
+      }
+      // The connection is still usable
+      assertEquals("PONG", redis.ping());
+   }
+
    public void testPingNoArg() {
       RedisCommands<String, String> redis = redisConnection.sync();
       assertEquals("PONG", redis.ping());
@@ -254,4 +303,110 @@ public void testDecrPresent() {
       Long nextValue = redis.decr(key);
       assertEquals(10L, nextValue.longValue());
    }
+
+   public void testHash() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      String key = "hash";
+      assertEquals(2L, redis.hset(key, map("f1", "v1", "f2", "v2")).longValue());
+      assertFalse(redis.hset(key, "f1", "v1.1"));
+      assertEquals("v1.1", redis.hget(key, "f1"));
+      assertNull(redis.hget(key, "f3"));
+      assertEquals(map("f1", "v1.1", "f2", "v2"), redis.hgetall(key));
+      assertEquals(2L, redis.hlen(key).longValue());
+      assertTrue(redis.hexists(key, "f2"));
+      assertEquals(5L, redis.hincrby(key, "counter", 5).longValue());
+      assertEquals(Arrays.asList("counter", "f1", "f2"), redis.hkeys(key));
+      assertEquals(2L, redis.hdel(key, "f1", "f2", "f3").longValue());
+      assertEquals(1L, redis.hdel(key, "counter").longValue());
+      // Empty collections are removed
+      assertEquals("none", redis.type(key));
+   }
+
+   public void testLargeHash() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      String key = "large-hash";
+      Map<String, String> expected = new HashMap<>();
+      for (int i = 0; i < 1000; ++i) {
+         expected.put("f" + i, "v" + i);
+         redis.hset(key, "f" + i, "v" + i);
+      }
+      assertEquals(expected, redis.hgetall(key));
+      for (int i = 0; i < 1000; i += 2) {
+         assertEquals("v" + i, redis.hget(key, "f" + i));
+         assertEquals(1L, redis.hdel(key, "f" + i).longValue());
+      }
+      assertEquals(500L, redis.hlen(key).longValue());
+   }
+
+   public void testList() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      String key = "list";
+      assertEquals(2L, redis.rpush(key, "b", "c").longValue());
+      assertEquals(3L, redis.lpush(key, "a").longValue());
+      assertEquals(Arrays.asList("a", "b", "c"), redis.lrange(key, 0, -1));
+      assertEquals(Arrays.asList("b", "c"), redis.lrange(key, -2, 10));
+      assertEquals("c", redis.lindex(key, -1));
+      assertEquals(3L, redis.llen(key).longValue());
+      assertEquals("a", redis.lpop(key));
+      assertEquals(Arrays.asList("c", "b"), redis.rpop(key, 5));
+      assertNull(redis.lpop(key));
+      assertEquals(0L, redis.llen(key).longValue());
+   }
+
+   public void testSet() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      String key = "set";
+      assertEquals(2L, redis.sadd(key, "m1", "m2", "m1").longValue());
+      assertTrue(redis.sismember(key, "m1"));
+      assertFalse(redis.sismember(key, "m3"));
+      assertEquals(new HashSet<>(Arrays.asList("m1", "m2")), redis.smembers(key));
+      assertEquals(1L, redis.srem(key, "m1", "m3").longValue());
+      assertEquals(1L, redis.scard(key).longValue());
+   }
+
+   public void testSortedSet() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      String key = "zset";
+      assertEquals(3L, redis.zadd(key, 3, "c", 1, "a", 2, "b").longValue());
+      assertEquals(0L, redis.zadd(key, 0.5, "c").longValue());
+      assertEquals(Arrays.asList("c", "a", "b"), redis.zrange(key, 0, -1));
+      assertEquals(0.5, redis.zscore(key, "c"));
+      assertEquals(2L, redis.zrank(key, "b").longValue());
+      assertEquals(4.5, redis.zincrby(key, 2.5, "b"));
+      List<ScoredValue<String>> withScores = redis.zrangeWithScores(key, 1, 2);
+      assertEquals(Arrays.asList(ScoredValue.just(1, "a"), ScoredValue.just(4.5, "b")), withScores);
+      assertEquals(1L, redis.zrem(key, "a").longValue());
+      assertEquals(2L, redis.zcard(key).longValue());
+   }
+
+   public void testWrongType() {
+      RedisCommands<String, String> redis = redisConnection.sync();
+      redis.set("string", "value");
+      redis.sadd("members", "m1");
+      assertEquals("string", redis.type("string"));
+      assertEquals("set", redis.type("members"));
+      assertWrongType(() -> redis.hget("string", "f1"));
+      assertWrongType(() -> redis.lpush("members", "e1"));
+      assertWrongType(() -> redis.get("members"));
+      // Overwriting a collection with a string is allowed
+      redis.set("members", "value");
+      assertEquals("value", redis.get("members"));
+   }
+
+   private static void assertWrongType(Runnable command) {
+      try {
+         command.run();
+         fail("Expected WRONGTYPE error");
+      } catch (RedisCommandExecutionException e) {
+         assertTrue(e.getMessage(), e.getMessage().startsWith("WRONGTYPE"));
+      }
+   }
+
+   private static Map<String, String> map(String... keysAndValues) {
+      Map<String, String> map = new HashMap<>();
+      for (int i = 0; i < keysAndValues.length; i += 2) {
+         map.put(keysAndValues[i], keysAndValues[i + 1]);
+      }
+      return map;
+   }
 }
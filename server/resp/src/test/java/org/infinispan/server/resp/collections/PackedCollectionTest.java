@@ -0,0 +1,203 @@
+package org.infinispan.server.resp.collections;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+import static org.testng.AssertJUnit.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the encoding of the {@link PackedCollection} and the {@link CollectionOperation}s executed on it.
+ *
+ * @since 14.0
+ */
+@Test(groups = "unit", testName = "server.resp.collections.PackedCollectionTest")
+public class PackedCollectionTest {
+
+   public void testTypeOf() {
+      assertNull(PackedCollection.typeOf(null));
+      assertNull(PackedCollection.typeOf(bytes("value")));
+      for (CollectionType type : CollectionType.values()) {
+         PackedCollection collection = PackedCollection.create(type);
+         add(collection, "e1");
+         assertEquals(type, PackedCollection.typeOf(collection.toValue()));
+      }
+   }
+
+   public void testStringWithCollectionBytes() {
+      for (CollectionType type : CollectionType.values()) {
+         PackedCollection collection = PackedCollection.create(type);
+         add(collection, "e1");
+         // The type is kept out of the bytes, so a string with the bytes of a collection is still a string
+         byte[] string = collection.toValue().bytes();
+         assertNull(PackedCollection.typeOf(string));
+         try {
+            PackedCollection.read(string, type);
+            fail("Expected WRONGTYPE error");
+         } catch (CollectionException e) {
+            assertEquals(CollectionException.WRONG_TYPE, e.getMessage());
+         }
+      }
+   }
+
+   @Test(expectedExceptions = CollectionException.class)
+   public void testWrongType() {
+      PackedCollection set = PackedCollection.create(CollectionType.SET);
+      set.put(bytes("m1"), null);
+      PackedCollection.read(set.toValue(), CollectionType.HASH);
+   }
+
+   public void testHashSegments() {
+      int fields = PackedCollection.MAX_SEGMENT_ENTRIES * 10;
+      PackedCollection hash = PackedCollection.create(CollectionType.HASH);
+      for (int i = 0; i < fields; ++i) {
+         assertTrue(hash.put(bytes("f" + i), bytes("v" + i)));
+      }
+      CollectionValue encoded = hash.toValue();
+
+      PackedCollection read = PackedCollection.read(encoded, CollectionType.HASH);
+      assertEquals(fields, read.size());
+      for (int i = 0; i < fields; ++i) {
+         assertEquals("v" + i, string(read.find(bytes("f" + i)).value()));
+      }
+      assertNull(read.find(bytes("f")));
+      assertFalse(read.isModified());
+
+      // Only the modified segment is encoded again
+      assertFalse(read.put(bytes("f7"), bytes("v7.1")));
+      assertTrue(read.isModified());
+      CollectionValue updated = read.toValue();
+      assertEquals(encoded.bytes().length + 2, updated.bytes().length);
+      read = PackedCollection.read(updated, CollectionType.HASH);
+      assertEquals("v7.1", string(read.find(bytes("f7")).value()));
+
+      for (int i = 0; i < fields; ++i) {
+         assertTrue(read.remove(bytes("f" + i)));
+      }
+      assertTrue(read.isEmpty());
+   }
+
+   public void testLargeValuesSplitSegments() {
+      byte[] value = new byte[PackedCollection.MAX_SEGMENT_BYTES];
+      PackedCollection list = PackedCollection.create(CollectionType.LIST);
+      list.push(value, false);
+      list.push(value, false);
+      list.push(bytes("last"), false);
+      PackedCollection read = PackedCollection.read(list.toValue(), CollectionType.LIST);
+      assertEquals(3, read.size());
+      assertEquals("last", string(read.get(2).key()));
+   }
+
+   public void testListOperations() {
+      PackedCollection list = PackedCollection.create(CollectionType.LIST);
+      int elements = PackedCollection.MAX_SEGMENT_ENTRIES * 3;
+      List<String> expected = new ArrayList<>();
+      for (int i = 0; i < elements; ++i) {
+         execute(list, CollectionOperation.RPUSH, "r" + i);
+         execute(list, CollectionOperation.LPUSH, "l" + i);
+         expected.add("r" + i);
+         expected.add(0, "l" + i);
+      }
+      list = PackedCollection.read(list.toValue(), CollectionType.LIST);
+      assertEquals(expected, strings(execute(list, CollectionOperation.LRANGE, "0", "-1")));
+      assertEquals(expected.subList(200, 301), strings(execute(list, CollectionOperation.LRANGE, "200", "300")));
+      assertEquals(expected.get(expected.size() - 2), string((byte[]) execute(list, CollectionOperation.LINDEX, "-2")));
+      assertEquals(expected.get(0), string((byte[]) execute(list, CollectionOperation.LPOP)));
+      assertEquals(Arrays.asList(expected.get(expected.size() - 1), expected.get(expected.size() - 2)),
+            strings(execute(list, CollectionOperation.RPOP, "2")));
+      assertEquals((long) expected.size() - 3, execute(list, CollectionOperation.LLEN));
+   }
+
+   public void testSortedSetOperations() {
+      PackedCollection zset = PackedCollection.create(CollectionType.ZSET);
+      int members = PackedCollection.MAX_SEGMENT_ENTRIES * 3;
+      for (int i = 0; i < members; ++i) {
+         // Inserted in reverse order of score
+         assertEquals(1L, execute(zset, CollectionOperation.ZADD, String.valueOf(members - i), "m" + i));
+      }
+      zset = PackedCollection.read(zset.toValue(), CollectionType.ZSET);
+      assertEquals(Arrays.asList("m" + (members - 1), "m" + (members - 2)),
+            strings(execute(zset, CollectionOperation.ZRANGE, "0", "1")));
+      assertEquals(0L, execute(zset, CollectionOperation.ZADD, "-inf", "m0"));
+      assertEquals(Arrays.asList("m0", "-inf"), strings(execute(zset, CollectionOperation.ZRANGE, "0", "0", "withscores")));
+      assertEquals(1L, execute(zset, CollectionOperation.ZRANK, "m" + (members - 1)));
+      assertEquals("2.5", string((byte[]) execute(zset, CollectionOperation.ZINCRBY, "1.5", "m" + (members - 1))));
+      assertEquals(1L, execute(zset, CollectionOperation.ZREM, "m0", "missing"));
+      assertNull(execute(zset, CollectionOperation.ZSCORE, "m0"));
+      assertEquals((long) members - 1, execute(zset, CollectionOperation.ZCARD));
+   }
+
+   public void testValidation() {
+      assertEquals("ERR wrong number of arguments for 'hset' command",
+            CollectionOperation.HSET.validate(byteList("key", "f1", "v1", "f2")));
+      assertNull(CollectionOperation.HSET.validate(byteList("key", "f1", "v1", "f2", "v2")));
+      assertEquals("ERR wrong number of arguments for 'hlen' command", CollectionOperation.HLEN.validate(byteList()));
+      assertEquals("ERR value is not an integer or out of range",
+            CollectionOperation.LRANGE.validate(byteList("key", "0", "x")));
+      assertEquals("ERR value is not a valid float", CollectionOperation.ZADD.validate(byteList("key", "NaN", "m1")));
+      assertEquals("ERR syntax error", CollectionOperation.ZRANGE.validate(byteList("key", "0", "1", "scores")));
+   }
+
+   @Test(expectedExceptions = CollectionException.class)
+   public void testIncrementNonInteger() {
+      PackedCollection hash = PackedCollection.create(CollectionType.HASH);
+      execute(hash, CollectionOperation.HSET, "f1", "v1");
+      execute(hash, CollectionOperation.HINCRBY, "f1", "1");
+   }
+
+   private static void add(PackedCollection collection, String element) {
+      switch (collection.type()) {
+         case HASH:
+            collection.put(bytes(element), bytes(element));
+            break;
+         case LIST:
+            collection.push(bytes(element), false);
+            break;
+         case SET:
+            collection.put(bytes(element), null);
+            break;
+         case ZSET:
+            collection.add(bytes(element), 1);
+            break;
+      }
+   }
+
+   private static Object execute(PackedCollection collection, CollectionOperation operation, String... arguments) {
+      List<byte[]> commandArguments = byteList(arguments);
+      commandArguments.add(0, bytes("key"));
+      assertNull(operation.validate(commandArguments));
+      return operation.execute(collection, byteList(arguments));
+   }
+
+   private static List<byte[]> byteList(String... strings) {
+      List<byte[]> list = new ArrayList<>(strings.length);
+      for (String string : strings) {
+         list.add(bytes(string));
+      }
+      return list;
+   }
+
+   @SuppressWarnings("unchecked")
+   private static List<String> strings(Object result) {
+      List<String> strings = new ArrayList<>();
+      for (byte[] bytes : (List<byte[]>) result) {
+         strings.add(string(bytes));
+      }
+      return strings;
+   }
+
+   private static byte[] bytes(String string) {
+      return string.getBytes(StandardCharsets.UTF_8);
+   }
+
+   private static String string(byte[] bytes) {
+      return new String(bytes, StandardCharsets.UTF_8);
+   }
+}
@@ -0,0 +1,70 @@
+package org.infinispan.server.resp.hashing;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.infinispan.commons.marshall.WrappedByteArray;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the mapping of keys to Redis hash slots and of hash slots to segments.
+ *
+ * @since 14.0
+ */
+@Test(groups = "unit", testName = "server.resp.hashing.RespHashFunctionPartitionerTest")
+public class RespHashFunctionPartitionerTest {
+
+   public void testSlots() {
+      assertEquals(0x31C3, CRC16.getInstance().hash(bytes("123456789")));
+      // Values returned by CLUSTER KEYSLOT
+      assertEquals(12182, CRC16.slot(bytes("foo")));
+      assertEquals(5061, CRC16.slot(bytes("bar")));
+      assertEquals(866, CRC16.slot(bytes("hello")));
+   }
+
+   public void testHashTags() {
+      assertEquals(CRC16.slot(bytes("user1000")), CRC16.slot(bytes("{user1000}.following")));
+      assertEquals(CRC16.slot(bytes("{user1000}.following")), CRC16.slot(bytes("{user1000}.followers")));
+      assertEquals(CRC16.slot(bytes("bar")), CRC16.slot(bytes("foo{bar}{zap}")));
+      assertEquals(CRC16.slot(bytes("{bar")), CRC16.slot(bytes("foo{{bar}}zap")));
+      // Empty and unterminated tags hash the whole key
+      assertEquals(CRC16.getInstance().hash(bytes("foo{}{bar}")) & (CRC16.SLOTS - 1), CRC16.slot(bytes("foo{}{bar}")));
+      assertEquals(CRC16.getInstance().hash(bytes("foo{bar")) & (CRC16.SLOTS - 1), CRC16.slot(bytes("foo{bar")));
+   }
+
+   public void testWrappedKeys() {
+      byte[] key = bytes("{user1000}.following");
+      assertEquals(CRC16.slot(key), RespHashFunctionPartitioner.slot(key));
+      assertEquals(CRC16.slot(key), RespHashFunctionPartitioner.slot(new WrappedByteArray(key)));
+   }
+
+   public void testSegmentSlotRanges() {
+      RespHashFunctionPartitioner partitioner = new RespHashFunctionPartitioner(256);
+      assertEquals(0, partitioner.getFirstSlot(0));
+      assertEquals(64, partitioner.getFirstSlot(1));
+      assertEquals(CRC16.SLOTS, partitioner.getFirstSlot(256));
+      assertEquals(255, partitioner.getSegmentForSlot(CRC16.SLOTS - 1));
+      assertEquals(partitioner.getSegmentForSlot(CRC16.slot(bytes("foo"))), partitioner.getSegment(bytes("foo")));
+
+      for (int numSegments : new int[]{1, 3, 7, 256, 1000, CRC16.SLOTS, 20000}) {
+         partitioner = new RespHashFunctionPartitioner(numSegments);
+         int slot = 0;
+         for (int segment = 0; segment < numSegments; ++segment) {
+            int first = partitioner.getFirstSlot(segment);
+            assertEquals(slot, first);
+            int next = partitioner.getFirstSlot(segment + 1);
+            assertTrue(next >= first);
+            for (; slot < next; ++slot) {
+               assertEquals(segment, partitioner.getSegmentForSlot(slot));
+            }
+         }
+         assertEquals(CRC16.SLOTS, slot);
+      }
+   }
+
+   private static byte[] bytes(String string) {
+      return string.getBytes(StandardCharsets.UTF_8);
+   }
+}
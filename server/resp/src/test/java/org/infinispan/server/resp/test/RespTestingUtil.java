@@ -35,11 +35,13 @@ public static RespServer startServer(EmbeddedCacheManager cacheManager) {
    }
 
    public static RespServer startServer(EmbeddedCacheManager cacheManager, int port) {
+      return startServer(cacheManager, port, new RespServerConfigurationBuilder());
+   }
+
+   public static RespServer startServer(EmbeddedCacheManager cacheManager, int port, RespServerConfigurationBuilder builder) {
       RespServer server = new RespServer();
       String serverName = TestResourceTracker.getCurrentTestShortName();
-      server.start(new RespServerConfigurationBuilder().name(serverName).host(host).port(port)
-                  .build(),
-            cacheManager);
+      server.start(builder.name(serverName).host(host).port(port).build(), cacheManager);
       return server;
    }
 
@@ -64,6 +66,10 @@ protected void startCaches() {
       return server;
    }
 
+   public static int serverPort() {
+      return UniquePortThreadLocal.INSTANCE.get();
+   }
+
    public static void killClient(RedisClient client) {
       try {
          if (client != null) client.shutdown();
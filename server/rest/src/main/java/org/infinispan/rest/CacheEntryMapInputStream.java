@@ -0,0 +1,130 @@
+package org.infinispan.rest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.infinispan.commons.dataconversion.internal.Json;
+
+/**
+ * An {@link InputStream} that produces the JSON output of the entries of a {@link Map}, one entry at a time. The
+ * entries are written either as a JSON array:
+ * <p>
+ * [{"key":"k1","value":"v1"},{"key":"k2","value":"v2"}]
+ * <p>
+ * or as newline delimited JSON (NDJSON), with one object per line.
+ *
+ * @since 14.0
+ */
+public class CacheEntryMapInputStream extends InputStream {
+   private static final byte[] EMPTY = new byte[0];
+   private static final byte[] KEY_LABEL = "{\"key\":".getBytes(UTF_8);
+   private static final byte[] VALUE_LABEL = ",\"value\":".getBytes(UTF_8);
+
+   private static final char OPEN_CHAR = '[';
+   private static final char SEPARATOR = ',';
+   private static final char CLOSE_ITEM_CHAR = '}';
+   private static final char CLOSE_CHAR = ']';
+   private static final char NEW_LINE = '\n';
+
+   private final Iterator<? extends Map.Entry<?, ?>> iterator;
+   private final boolean keysAreJson;
+   private final boolean valuesAreJson;
+   private final boolean ndjson;
+
+   private byte[] current = EMPTY;
+   private int cursor;
+   private boolean first = true;
+   private boolean eof;
+
+   public CacheEntryMapInputStream(Map<?, ?> entries, boolean keysAreJson, boolean valuesAreJson, boolean ndjson) {
+      this.iterator = entries.entrySet().iterator();
+      this.keysAreJson = keysAreJson;
+      this.valuesAreJson = valuesAreJson;
+      this.ndjson = ndjson;
+   }
+
+   @Override
+   public int available() {
+      return current.length - cursor;
+   }
+
+   @Override
+   public synchronized int read() {
+      if (cursor == current.length && !nextChunk()) {
+         return -1;
+      }
+      return current[cursor++] & 0xff;
+   }
+
+   @Override
+   public synchronized int read(byte[] b, int off, int len) {
+      if (len == 0) {
+         return 0;
+      }
+      int read = 0;
+      while (read < len) {
+         if (cursor == current.length && !nextChunk()) {
+            break;
+         }
+         int count = Math.min(len - read, current.length - cursor);
+         System.arraycopy(current, cursor, b, off + read, count);
+         cursor += count;
+         read += count;
+      }
+      return read == 0 ? -1 : read;
+   }
+
+   private boolean nextChunk() {
+      if (eof) {
+         return false;
+      }
+      cursor = 0;
+      if (iterator.hasNext()) {
+         current = item(iterator.next());
+      } else {
+         eof = true;
+         if (ndjson) {
+            current = EMPTY;
+            return false;
+         }
+         current = first ? new byte[]{OPEN_CHAR, CLOSE_CHAR} : new byte[]{CLOSE_CHAR};
+      }
+      return true;
+   }
+
+   private byte[] item(Map.Entry<?, ?> entry) {
+      byte[] key = escape(entry.getKey(), keysAreJson);
+      byte[] value = escape(entry.getValue(), valuesAreJson);
+      // JSON items are preceded by the open char or a separator, NDJSON items are followed by a new line
+      byte[] item = new byte[KEY_LABEL.length + key.length + VALUE_LABEL.length + value.length + 2];
+      int pos = 0;
+      if (!ndjson) {
+         item[pos++] = (byte) (first ? OPEN_CHAR : SEPARATOR);
+      }
+      first = false;
+      System.arraycopy(KEY_LABEL, 0, item, pos, KEY_LABEL.length);
+      pos += KEY_LABEL.length;
+      System.arraycopy(key, 0, item, pos, key.length);
+      pos += key.length;
+      System.arraycopy(VALUE_LABEL, 0, item, pos, VALUE_LABEL.length);
+      pos += VALUE_LABEL.length;
+      System.arraycopy(value, 0, item, pos, value.length);
+      pos += value.length;
+      item[pos++] = CLOSE_ITEM_CHAR;
+      if (ndjson) {
+         item[pos] = NEW_LINE;
+      }
+      return item;
+   }
+
+   private static byte[] escape(Object content, boolean json) {
+      byte[] asUTF = content instanceof byte[] ? (byte[]) content : content.toString().getBytes(UTF_8);
+
+      if (json) return asUTF;
+
+      return ("\"" + Json.help.escape(new String(asUTF, UTF_8)) + "\"").getBytes(UTF_8);
+   }
+}
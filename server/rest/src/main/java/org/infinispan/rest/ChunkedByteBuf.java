@@ -0,0 +1,58 @@
+package org.infinispan.rest;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.stream.ChunkedInput;
+
+/**
+ * A {@link ChunkedInput} that fetches the content of a {@link ByteBuf} in chunks. The chunks are slices of the buffer,
+ * so the content is never copied.
+ *
+ * @since 14.0
+ */
+class ChunkedByteBuf implements ChunkedInput<ByteBuf> {
+   private final ByteBuf buffer;
+   private final int chunkSize;
+   private final long length;
+
+   ChunkedByteBuf(ByteBuf buffer, int chunkSize) {
+      this.buffer = buffer;
+      this.chunkSize = chunkSize;
+      this.length = buffer.readableBytes();
+   }
+
+   @Override
+   public boolean isEndOfInput() {
+      return !buffer.isReadable();
+   }
+
+   @Override
+   public void close() {
+      buffer.release();
+   }
+
+   @Deprecated
+   @Override
+   public ByteBuf readChunk(ChannelHandlerContext ctx) {
+      return readChunk(ctx.alloc());
+   }
+
+   @Override
+   public ByteBuf readChunk(ByteBufAllocator allocator) {
+      if (isEndOfInput()) {
+         return null;
+      }
+      return buffer.readRetainedSlice(Math.min(chunkSize, buffer.readableBytes()));
+   }
+
+   @Override
+   public long length() {
+      return length;
+   }
+
+   @Override
+   public long progress() {
+      return length - buffer.readableBytes();
+   }
+}
@@ -19,8 +19,6 @@
 import static org.infinispan.rest.ResponseHeader.TIME_TO_LIVE_HEADER;
 import static org.infinispan.rest.ResponseHeader.WWW_AUTHENTICATE_HEADER;
 
-import java.io.File;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -32,6 +30,7 @@
 import org.infinispan.rest.framework.RestResponse;
 import org.infinispan.rest.framework.impl.RestResponseBuilder;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpResponse;
@@ -74,8 +73,12 @@ public static class Builder implements RestResponseBuilder<Builder> {
       @Override
       public NettyRestResponse build() {
          HttpResponse response;
-         if (entity instanceof File || entity instanceof InputStream || entity instanceof EventStream) {
+         ResponseWriter writer = ResponseWriter.forContent(entity);
+         if (writer != ResponseWriter.FULL && writer != ResponseWriter.EMPTY) {
             response = new DefaultHttpResponse(HTTP_1_1, OK);
+         } else if (entity instanceof byte[] || entity instanceof ByteBuf) {
+            // Binary values are sent without copying them
+            response = new DefaultFullHttpResponse(HTTP_1_1, OK, ResponseWriter.asByteBuf(entity));
          } else {
             response = new DefaultFullHttpResponse(HTTP_1_1, OK, Unpooled.buffer());
          }
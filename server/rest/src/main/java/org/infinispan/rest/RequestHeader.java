@@ -16,10 +16,12 @@ public enum RequestHeader {
    FLAGS_HEADER("flags"),
    IF_MODIFIED_SINCE("If-Modified-Since"),
    IF_NONE_MATCH("If-None-Match"),
+   IF_RANGE("If-Range"),
    IF_UNMODIFIED_SINCE("If-UnModified-Since"),
    KEY_CONTENT_TYPE_HEADER("key-content-type"),
    LAST_USED_HEADER("lastUsed"),
    MAX_TIME_IDLE_HEADER("maxIdleTimeSeconds"),
+   RANGE("Range"),
    TTL_SECONDS_HEADER("timeToLiveSeconds");
 
    private static final CharSequence[] ALL_VALUES = Arrays.stream(values()).map(RequestHeader::getValue).toArray(String[]::new);
@@ -6,12 +6,14 @@
  * @since 11.0
  */
 public enum ResponseHeader {
+   ACCEPT_RANGES("Accept-Ranges"),
    CACHE_CONTROL_HEADER("Cache-Control"),
    CLUSTER_PRIMARY_OWNER_HEADER("Cluster-Primary-Owner"),
    CLUSTER_BACKUP_OWNERS_HEADER("Cluster-Backup-Owners"),
    CLUSTER_NODE_NAME_HEADER("Cluster-Node-Name"),
    CLUSTER_SERVER_ADDRESS_HEADER("Cluster-Server-Address"),
    CONTENT_LENGTH_HEADER("Content-Length"),
+   CONTENT_RANGE("Content-Range"),
    CONTENT_TYPE_HEADER("Content-Type"),
    CREATED_HEADER("created"),
    DATE_HEADER("Date"),
@@ -17,6 +17,7 @@
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
@@ -48,11 +49,10 @@ void writeResponse(ChannelHandlerContext ctx, FullHttpRequest request, NettyRest
          HttpResponse res = response.getResponse();
          ByteBuf responseContent = ((FullHttpResponse) res).content();
          Object entity = response.getEntity();
-         if (entity instanceof byte[]) {
-            responseContent.writeBytes((byte[]) entity);
-         } else if (entity instanceof ByteArrayOutputStream) {
+         // byte[] and ByteBuf entities are already the content of the response
+         if (entity instanceof ByteArrayOutputStream) {
             responseContent.writeBytes(((ByteArrayOutputStream)entity).toByteArray());
-         } else {
+         } else if (!(entity instanceof byte[]) && !(entity instanceof ByteBuf)) {
             ByteBufUtil.writeUtf8(responseContent, entity.toString());
          }
          HttpUtil.setContentLength(res, responseContent.readableBytes());
@@ -77,6 +77,18 @@ void writeResponse(ChannelHandlerContext ctx, FullHttpRequest request, NettyRest
          }
       }
    },
+   CHUNKED_BUFFER {
+      @Override
+      void writeResponse(ChannelHandlerContext ctx, FullHttpRequest request, NettyRestResponse response) {
+         HttpResponse res = response.getResponse();
+         ByteBuf content = asByteBuf(response.getEntity());
+         HttpUtil.setContentLength(res, content.readableBytes());
+         log(ctx, request, res);
+         ctx.write(res);
+         // Large values are written in slices, so the channel does not buffer the whole value at once
+         ctx.writeAndFlush(new HttpChunkedInput(new ChunkedByteBuf(content, BUFFER_CHUNK_SIZE)), ctx.newProgressivePromise());
+      }
+   },
    CHUNKED_STREAM {
       @Override
       void writeResponse(ChannelHandlerContext ctx, FullHttpRequest request, NettyRestResponse response) {
@@ -111,6 +123,12 @@ void log(ChannelHandlerContext ctx,  FullHttpRequest req, HttpResponse rsp) {
       }
    }
 
+   /**
+    * Values larger than this are written in chunks of {@link #BUFFER_CHUNK_SIZE} bytes.
+    */
+   static final int CHUNKED_BUFFER_THRESHOLD = 256 * 1024;
+   static final int BUFFER_CHUNK_SIZE = 64 * 1024;
+
    final static Log logger = LogFactory.getLog(ResponseWriter.class, Log.class);
    final RestAccessLoggingHandler accessLog = new RestAccessLoggingHandler();
 
@@ -121,6 +139,12 @@ static ResponseWriter forContent(Object content) {
       if (content instanceof File) return CHUNKED_FILE;
       if (content instanceof InputStream) return CHUNKED_STREAM;
       if (content instanceof EventStream) return EVENT_STREAM;
+      if (content instanceof byte[] && ((byte[]) content).length > CHUNKED_BUFFER_THRESHOLD) return CHUNKED_BUFFER;
+      if (content instanceof ByteBuf && ((ByteBuf) content).readableBytes() > CHUNKED_BUFFER_THRESHOLD) return CHUNKED_BUFFER;
       return FULL;
    }
+
+   static ByteBuf asByteBuf(Object content) {
+      return content instanceof byte[] ? Unpooled.wrappedBuffer((byte[]) content) : (ByteBuf) content;
+   }
 }
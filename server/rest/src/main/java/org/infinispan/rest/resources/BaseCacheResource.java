@@ -2,6 +2,10 @@
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.infinispan.rest.RequestHeader.EXTENDED_HEADER;
+import static org.infinispan.rest.RequestHeader.IF_RANGE;
+import static org.infinispan.rest.RequestHeader.RANGE;
+import static org.infinispan.rest.ResponseHeader.ACCEPT_RANGES;
+import static org.infinispan.rest.ResponseHeader.CONTENT_RANGE;
 import static org.infinispan.rest.framework.Method.GET;
 import static org.infinispan.rest.framework.Method.POST;
 import static org.infinispan.rest.resources.MediaTypeUtils.negotiateMediaType;
@@ -33,6 +37,7 @@
 import org.infinispan.rest.operations.exceptions.NoDataFoundException;
 import org.infinispan.rest.operations.exceptions.NoKeyException;
 
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpResponseStatus;
 
 /**
@@ -43,6 +48,7 @@
 public class BaseCacheResource {
 
    private static final MurmurHash3 hashFunc = MurmurHash3.getInstance();
+   private static final String BYTES_UNIT = "bytes=";
 
    final CacheResourceQueryAction queryAction;
    final InvocationHelper invocationHelper;
@@ -196,6 +202,12 @@ CompletionStage<RestResponse> getCacheValue(RestRequest request) throws RestResp
                         .clusterNodeName(restCacheManager.getNodeName())
                         .clusterServerAddress(restCacheManager.getServerAddress());
                }
+               if (value instanceof byte[]) {
+                  responseBuilder.header(ACCEPT_RANGES.getValue(), "bytes");
+                  if (returnBody) {
+                     writeRange(request, (byte[]) value, etag, responseBuilder);
+                  }
+               }
             }
          }
          return responseBuilder.build();
@@ -228,6 +240,54 @@ private void writeValue(Object value, MediaType requested, MediaType configuredM
       if (returnBody) responseBuilder.entity(value);
    }
 
+   /**
+    * Replaces the entity with a single byte range of the value, if requested. Multiple ranges and ranges that cannot
+    * be parsed are ignored, and the whole value is returned.
+    */
+   private static void writeRange(RestRequest request, byte[] value, String etag, NettyRestResponse.Builder responseBuilder) {
+      String range = request.header(RANGE.getValue());
+      if (range == null || !range.startsWith(BYTES_UNIT) || range.indexOf(',') >= 0) return;
+      String ifRange = request.header(IF_RANGE.getValue());
+      if (ifRange != null && !ifRange.equals(etag)) return;
+
+      int dash = range.indexOf('-');
+      if (dash < 0) return;
+      String first = range.substring(BYTES_UNIT.length(), dash).trim();
+      String last = range.substring(dash + 1).trim();
+      int length = value.length;
+      long start;
+      long end;
+      try {
+         if (first.isEmpty()) {
+            // A suffix range with the number of bytes at the end of the value
+            if (last.isEmpty()) return;
+            long suffix = Long.parseLong(last);
+            start = suffix == 0 ? length : Math.max(0, length - suffix);
+            end = length - 1;
+         } else {
+            start = Long.parseLong(first);
+            if (last.isEmpty()) {
+               end = length - 1;
+            } else {
+               end = Long.parseLong(last);
+               if (end < start) return;
+               end = Math.min(end, length - 1);
+            }
+         }
+      } catch (NumberFormatException e) {
+         return;
+      }
+      if (start >= length) {
+         responseBuilder.status(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+               .header(CONTENT_RANGE.getValue(), "bytes */" + length)
+               .entity(null);
+         return;
+      }
+      responseBuilder.status(HttpResponseStatus.PARTIAL_CONTENT)
+            .header(CONTENT_RANGE.getValue(), "bytes " + start + "-" + end + "/" + length)
+            .entity(Unpooled.wrappedBuffer(value, (int) start, (int) (end - start + 1)));
+   }
+
    private <V> String calcETAG(V value) {
       return String.valueOf(hashFunc.hash(value));
    }
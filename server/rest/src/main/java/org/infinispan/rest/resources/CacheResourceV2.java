@@ -31,12 +31,17 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.infinispan.AdvancedCache;
@@ -57,10 +62,12 @@
 import org.infinispan.configuration.global.GlobalConfiguration;
 import org.infinispan.configuration.parsing.ConfigurationBuilderHolder;
 import org.infinispan.configuration.parsing.ParserRegistry;
+import org.infinispan.context.Flag;
 import org.infinispan.distribution.DistributionManager;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.manager.EmbeddedCacheManagerAdmin;
 import org.infinispan.marshall.core.EncoderRegistry;
+import org.infinispan.metadata.Metadata;
 import org.infinispan.notifications.Listener;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryExpired;
@@ -76,6 +83,7 @@
 import org.infinispan.query.core.stats.IndexStatistics;
 import org.infinispan.query.core.stats.SearchStatistics;
 import org.infinispan.rest.CacheEntryInputStream;
+import org.infinispan.rest.CacheEntryMapInputStream;
 import org.infinispan.rest.CacheKeyInputStream;
 import org.infinispan.rest.EventStream;
 import org.infinispan.rest.InvocationHelper;
@@ -90,11 +98,14 @@
 import org.infinispan.rest.framework.RestResponse;
 import org.infinispan.rest.framework.impl.Invocations;
 import org.infinispan.rest.logging.Log;
+import org.infinispan.rest.operations.CacheOperationsHelper;
 import org.infinispan.security.AuditContext;
 import org.infinispan.security.AuthorizationPermission;
 import org.infinispan.stats.Stats;
 import org.infinispan.topology.LocalTopologyManager;
 import org.infinispan.upgrade.RollingUpgradeManager;
+import org.infinispan.util.concurrent.AggregateCompletionStage;
+import org.infinispan.util.concurrent.CompletionStages;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 
@@ -107,6 +118,8 @@ public class CacheResourceV2 extends BaseCacheResource implements ResourceHandle
 
    private static final int STREAM_BATCH_SIZE = 1000;
    private static final String MIGRATOR_NAME = "hotrod";
+   private static final int BULK_MAX_KEYS = 10_000;
+   private static final MediaType APPLICATION_NDJSON = MediaType.fromString("application/x-ndjson");
 
    private ParserRegistry parserRegistry = new ParserRegistry();
 
@@ -124,6 +137,9 @@ public Invocations getInvocations() {
             .invocation().methods(GET).path("/v2/caches/{cacheName}").withAction("keys").handleWith(this::streamKeys)
             .invocation().methods(GET).path("/v2/caches/{cacheName}").withAction("entries").handleWith(this::streamEntries)
             .invocation().methods(GET).path("/v2/caches/{cacheName}").withAction("listen").handleWith(this::cacheListen)
+            .invocation().methods(POST).path("/v2/caches/{cacheName}").withAction("get-many").handleWith(this::getMany)
+            .invocation().methods(POST).path("/v2/caches/{cacheName}").withAction("put-many").handleWith(this::putMany)
+            .invocation().methods(POST).path("/v2/caches/{cacheName}").withAction("delete-many").handleWith(this::deleteMany)
 
             // Config and statistics
             .invocation().methods(GET, HEAD).path("/v2/caches/{cacheName}").withAction("config").handleWith(this::getCacheConfig)
@@ -413,6 +429,135 @@ private CompletionStage<RestResponse> streamEntries(RestRequest request) {
       }, invocationHelper.getExecutor());
    }
 
+   private CompletionStage<RestResponse> getMany(RestRequest request) {
+      String cacheName = request.variables().get("cacheName");
+      MediaType accept = negotiateMediaType(request, APPLICATION_JSON, APPLICATION_NDJSON);
+      // The negotiated type can be a wildcard such as application/*, which is answered with a JSON array
+      boolean ndjson = isNdjson(accept);
+
+      AdvancedCache<Object, Object> cache = invocationHelper.getRestCacheManager().getCache(cacheName, TEXT_PLAIN, TEXT_PLAIN, request);
+      if (cache == null)
+         return notFoundResponseFuture();
+
+      List<Json> items;
+      try {
+         items = readBulkItems(request);
+      } catch (Json.MalformedJsonException e) {
+         return badRequestResponseFuture(e.getMessage());
+      }
+      if (items.size() > BULK_MAX_KEYS)
+         return badRequestResponseFuture(String.format("A bulk request cannot contain more than %d keys", BULK_MAX_KEYS));
+
+      Set<Object> keys = new HashSet<>(items.size());
+      for (Json item : items) {
+         keys.add(bulkBytes(item));
+      }
+      return cache.getAllAsync(keys).thenApply(entries -> {
+         NettyRestResponse.Builder responseBuilder = new NettyRestResponse.Builder();
+         responseBuilder.entity(new CacheEntryMapInputStream(entries, false, false, ndjson));
+         responseBuilder.contentType(ndjson ? APPLICATION_NDJSON : APPLICATION_JSON);
+         responseBuilder.header(ResponseHeader.KEY_CONTENT_TYPE_HEADER.getValue(), TEXT_PLAIN.toString());
+         responseBuilder.header(ResponseHeader.VALUE_CONTENT_TYPE_HEADER.getValue(), TEXT_PLAIN.toString());
+         return responseBuilder.build();
+      });
+   }
+
+   private CompletionStage<RestResponse> putMany(RestRequest request) {
+      String cacheName = request.variables().get("cacheName");
+
+      AdvancedCache<Object, Object> cache = invocationHelper.getRestCacheManager().getCache(cacheName, TEXT_PLAIN, TEXT_PLAIN, request);
+      if (cache == null)
+         return notFoundResponseFuture();
+
+      List<Json> items;
+      try {
+         items = readBulkItems(request);
+      } catch (Json.MalformedJsonException e) {
+         return badRequestResponseFuture(e.getMessage());
+      }
+      if (items.size() > BULK_MAX_KEYS)
+         return badRequestResponseFuture(String.format("A bulk request cannot contain more than %d keys", BULK_MAX_KEYS));
+
+      Map<Object, Object> entries = new HashMap<>(items.size());
+      for (Json item : items) {
+         if (!item.isObject() || !item.has("key") || !item.has("value"))
+            return badRequestResponseFuture("Each entry must be an object with a 'key' and a 'value'");
+         entries.put(bulkBytes(item.at("key")), bulkBytes(item.at("value")));
+      }
+
+      Configuration config = SecurityActions.getCacheConfiguration(cache);
+      Metadata metadata = CacheOperationsHelper.createMetadata(config, request.getTimeToLiveSecondsHeader(), request.getMaxIdleTimeSecondsHeader());
+      CompletionStage<Void> stage;
+      // Indexing is still blocking
+      if (config.indexing().enabled()) {
+         stage = CompletableFuture.supplyAsync(() -> cache.putAllAsync(entries, metadata), invocationHelper.getExecutor())
+               .thenCompose(Function.identity());
+      } else {
+         stage = cache.putAllAsync(entries, metadata);
+      }
+      return stage.thenApply(v -> new NettyRestResponse.Builder().status(NO_CONTENT).build());
+   }
+
+   private CompletionStage<RestResponse> deleteMany(RestRequest request) {
+      String cacheName = request.variables().get("cacheName");
+
+      AdvancedCache<Object, Object> cache = invocationHelper.getRestCacheManager().getCache(cacheName, TEXT_PLAIN, MediaType.MATCH_ALL, request);
+      if (cache == null)
+         return notFoundResponseFuture();
+
+      List<Json> items;
+      try {
+         items = readBulkItems(request);
+      } catch (Json.MalformedJsonException e) {
+         return badRequestResponseFuture(e.getMessage());
+      }
+      if (items.size() > BULK_MAX_KEYS)
+         return badRequestResponseFuture(String.format("A bulk request cannot contain more than %d keys", BULK_MAX_KEYS));
+
+      // The return values are not needed
+      AdvancedCache<Object, Object> removeCache = cache.withFlags(Flag.IGNORE_RETURN_VALUES);
+      AggregateCompletionStage<Void> removals = CompletionStages.aggregateCompletionStage();
+      for (Json item : items) {
+         removals.dependsOn(removeCache.removeAsync(bulkBytes(item)));
+      }
+      return removals.freeze().thenApply(v -> new NettyRestResponse.Builder().status(NO_CONTENT).build());
+   }
+
+   /**
+    * Reads the items of a bulk request, which are sent either as a JSON array or, when the content type is exactly
+    * {@code application/x-ndjson}, as newline delimited JSON.
+    */
+   private static List<Json> readBulkItems(RestRequest request) {
+      ContentSource contents = request.contents();
+      String body = contents == null ? null : contents.asString();
+      if (body == null || body.trim().isEmpty()) {
+         return Collections.emptyList();
+      }
+      // A request without a content type has the wildcard type, which must not be read as NDJSON
+      if (isNdjson(request.contentType())) {
+         List<Json> items = new ArrayList<>();
+         for (String line : body.split("\n")) {
+            if (!line.trim().isEmpty()) {
+               items.add(Json.read(line));
+            }
+         }
+         return items;
+      }
+      Json json = Json.read(body);
+      if (!json.isArray()) {
+         throw new Json.MalformedJsonException("Expected a JSON array");
+      }
+      return json.asJsonList();
+   }
+
+   private static boolean isNdjson(MediaType mediaType) {
+      return mediaType != null && APPLICATION_NDJSON.getTypeSubtype().equals(mediaType.getTypeSubtype());
+   }
+
+   private static byte[] bulkBytes(Json json) {
+      return (json.isString() ? json.asString() : json.toString()).getBytes(UTF_8);
+   }
+
    private CompletionStage<RestResponse> cacheListen(RestRequest request) {
       MediaType accept = negotiateMediaType(request, APPLICATION_JSON, TEXT_PLAIN);
       String cacheName = request.variables().get("cacheName");
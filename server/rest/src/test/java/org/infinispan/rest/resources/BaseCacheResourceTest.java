@@ -13,7 +13,11 @@
 import static org.infinispan.commons.dataconversion.MediaType.TEXT_PLAIN_TYPE;
 import static org.infinispan.rest.RequestHeader.ACCEPT_HEADER;
 import static org.infinispan.rest.RequestHeader.IF_NONE_MATCH;
+import static org.infinispan.rest.RequestHeader.IF_RANGE;
 import static org.infinispan.rest.RequestHeader.KEY_CONTENT_TYPE_HEADER;
+import static org.infinispan.rest.RequestHeader.RANGE;
+import static org.infinispan.rest.ResponseHeader.ACCEPT_RANGES;
+import static org.infinispan.rest.ResponseHeader.CONTENT_RANGE;
 import static org.infinispan.rest.ResponseHeader.MAX_IDLE_TIME_HEADER;
 import static org.infinispan.rest.ResponseHeader.TIME_TO_LIVE_HEADER;
 import static org.infinispan.util.concurrent.CompletionStages.join;
@@ -25,6 +29,7 @@
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 import java.net.URLEncoder;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
@@ -638,6 +643,41 @@ public void shouldPutLargeObject() {
       Assertions.assertThat(getResponse.getBodyAsByteArray().length).isEqualTo(1_000_000);
    }
 
+   @Test
+   public void shouldReturnRangesOfBinaryValues() {
+      byte[] payload = new byte[100];
+      for (int i = 0; i < payload.length; i++) {
+         payload[i] = (byte) i;
+      }
+      final RestCacheClient binaryCache = client.cache("binary");
+      ResponseAssertion.assertThat(binaryCache.put("test", RestEntity.create(APPLICATION_OCTET_STREAM, payload))).isOk();
+
+      RestResponse response = join(binaryCache.get("test", createHeaders(RANGE, "bytes=10-19")));
+      Assertions.assertThat(response.getStatus()).isEqualTo(206);
+      Assertions.assertThat(response.getHeader(CONTENT_RANGE.getValue())).isEqualTo("bytes 10-19/100");
+      ResponseAssertion.assertThat(response).hasReturnedBytes(Arrays.copyOfRange(payload, 10, 20));
+
+      response = join(binaryCache.get("test", createHeaders(RANGE, "bytes=-5")));
+      Assertions.assertThat(response.getStatus()).isEqualTo(206);
+      ResponseAssertion.assertThat(response).hasReturnedBytes(Arrays.copyOfRange(payload, 95, 100));
+
+      response = join(binaryCache.get("test", createHeaders(RANGE, "bytes=90-200")));
+      Assertions.assertThat(response.getStatus()).isEqualTo(206);
+      Assertions.assertThat(response.getHeader(CONTENT_RANGE.getValue())).isEqualTo("bytes 90-99/100");
+
+      response = join(binaryCache.get("test", createHeaders(RANGE, "bytes=100-")));
+      Assertions.assertThat(response.getStatus()).isEqualTo(416);
+      Assertions.assertThat(response.getHeader(CONTENT_RANGE.getValue())).isEqualTo("bytes */100");
+
+      // The whole value is returned when it was modified
+      Map<String, String> headers = createHeaders(RANGE, "bytes=10-19");
+      headers.put(IF_RANGE.getValue(), "Invalid-etag");
+      response = join(binaryCache.get("test", headers));
+      ResponseAssertion.assertThat(response).isOk();
+      ResponseAssertion.assertThat(response).hasReturnedBytes(payload);
+      Assertions.assertThat(response.getHeader(ACCEPT_RANGES.getValue())).isEqualTo("bytes");
+   }
+
    @Test
    public void shouldFailTooLargeObject() {
       //when
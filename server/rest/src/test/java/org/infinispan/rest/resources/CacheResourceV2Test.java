@@ -652,6 +652,52 @@ public void testStreamEntries() {
       assertThat(entry).doesNotContain("expireTime");
    }
 
+   @Test
+   public void testBulkOperations() {
+      RestRawClient rawClient = client.raw();
+      String entries = "[{\"key\":\"k1\",\"value\":\"v1\"},{\"key\":\"k2\",\"value\":\"v2\"},{\"key\":\"k3\",\"value\":\"v3\"}]";
+      CompletionStage<RestResponse> response = rawClient.post("/rest/v2/caches/default?action=put-many", entries, APPLICATION_JSON_TYPE);
+      assertThat(response).isOk();
+      assertEquals("3", join(client.cache("default").size()).getBody());
+
+      response = rawClient.post("/rest/v2/caches/default?action=get-many", "[\"k1\",\"k3\",\"k4\"]", APPLICATION_JSON_TYPE);
+      assertThat(response).isOk();
+      Map<String, String> values = entriesAsMap(join(response));
+      assertEquals(2, values.size());
+      assertEquals("v1", values.get("k1"));
+      assertEquals("v3", values.get("k3"));
+
+      response = rawClient.post("/rest/v2/caches/default?action=get-many", Collections.singletonMap("Accept", "application/x-ndjson"), "\"k1\"\n\"k2\"\n", "application/x-ndjson");
+      assertThat(response).isOk();
+      String[] lines = join(response).getBody().split("\n");
+      assertEquals(2, lines.length);
+      for (String line : lines) {
+         Json entry = Json.read(line);
+         assertEquals(entry.at("key").asString().replace('k', 'v'), entry.at("value").asString());
+      }
+
+      // Without a content type the body is a JSON array, and a wildcard accept gets a JSON array back
+      response = rawClient.post("/rest/v2/caches/default?action=get-many", Collections.singletonMap("Accept", "application/*"), "[\"k1\",\"k2\"]", null);
+      assertThat(response).isOk();
+      assertThat(response).hasContentType(APPLICATION_JSON_TYPE);
+      values = entriesAsMap(join(response));
+      assertEquals(2, values.size());
+      assertEquals("v1", values.get("k1"));
+      assertEquals("v2", values.get("k2"));
+
+      response = rawClient.post("/rest/v2/caches/default?action=delete-many", "[\"k1\",\"k2\"]", APPLICATION_JSON_TYPE);
+      assertThat(response).isOk();
+      assertEquals("1", join(client.cache("default").size()).getBody());
+
+      response = rawClient.post("/rest/v2/caches/default?action=put-many", "[\"k1\"]", APPLICATION_JSON_TYPE);
+      assertThat(response).isBadRequest();
+      response = rawClient.post("/rest/v2/caches/default?action=get-many", "{\"k1\"", APPLICATION_JSON_TYPE);
+      assertThat(response).isBadRequest();
+      String tooMany = IntStream.range(0, 10_001).mapToObj(i -> "\"k" + i + "\"").collect(Collectors.joining(",", "[", "]"));
+      response = rawClient.post("/rest/v2/caches/default?action=get-many", tooMany, APPLICATION_JSON_TYPE);
+      assertThat(response).isBadRequest();
+   }
+
    private String asString(Json json) {
       return json.isObject() ? json.toString() : json.asString();
    }
@@ -80,6 +80,10 @@ private void parseHotRodConnector(ConfigurationReader reader, ServerConfiguratio
                builder.proxyPort(Integer.parseInt(value));
                break;
             }
+            case MAX_FLUSH_DELAY: {
+               builder.maxFlushDelay(Long.parseLong(value));
+               break;
+            }
             case NAME: {
                builder.name(value);
                break;
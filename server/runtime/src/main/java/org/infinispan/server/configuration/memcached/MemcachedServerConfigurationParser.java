@@ -10,6 +10,7 @@
 import org.infinispan.configuration.parsing.ParseUtils;
 import org.infinispan.server.configuration.ServerConfigurationBuilder;
 import org.infinispan.server.configuration.ServerConfigurationParser;
+import org.infinispan.server.memcached.configuration.MemcachedProtocol;
 import org.infinispan.server.memcached.configuration.MemcachedServerConfigurationBuilder;
 import org.kohsuke.MetaInfServices;
 
@@ -85,10 +86,18 @@ private void parseMemcached(ConfigurationReader reader, ServerConfigurationBuild
                builder.ioThreads(Integer.parseInt(value));
                break;
             }
+            case MAX_VALUE_SIZE: {
+               builder.maxValueSize(Integer.parseInt(value));
+               break;
+            }
             case NAME: {
                builder.name(value);
                break;
             }
+            case PROTOCOL: {
+               builder.protocol(MemcachedProtocol.valueOf(value));
+               break;
+            }
             case SOCKET_BINDING:
                // already seen
                break;
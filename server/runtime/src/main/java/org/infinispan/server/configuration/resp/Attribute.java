@@ -11,6 +11,7 @@ public enum Attribute {
    UNKNOWN(null), // must be first
 
    CACHE,
+   CLUSTER_REDIRECTS,
    NAME,
    SECURITY_REALM,
    SOCKET_BINDING;
@@ -78,6 +78,10 @@ private void parseResp(ConfigurationReader reader, ServerConfigurationBuilder se
                builder.defaultCacheName(value);
                break;
             }
+            case CLUSTER_REDIRECTS: {
+               builder.clusterRedirects(Boolean.parseBoolean(value));
+               break;
+            }
             case NAME: {
                builder.name(value);
                break;